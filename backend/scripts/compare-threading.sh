@@ -0,0 +1,30 @@
+#!/bin/bash
+# Compares throughput of the platform-thread and virtual-thread request modes at high concurrency.
+#
+# Start the backend once per mode against the same database, then run this script for each:
+#   SPRING_PROFILES_ACTIVE=prod          java -jar target/application-0.0.1-SNAPSHOT.jar
+#   SPRING_PROFILES_ACTIVE=prod,virtual  java -Djdk.tracePinnedThreads=short -jar target/application-0.0.1-SNAPSHOT.jar
+#
+# Usage: TOKEN=<jwt> USER_ID=<id> ./scripts/compare-threading.sh <label> [base-url] [concurrency] [duration]
+# Requires 'hey' (https://github.com/rakyll/hey).
+
+set -euo pipefail
+
+LABEL=${1:?label required, e.g. platform or virtual}
+BASE_URL=${2:-http://localhost:8080}
+CONCURRENCY=${3:-200}
+DURATION=${4:-60s}
+: "${TOKEN:?TOKEN must hold a valid JWT}"
+: "${USER_ID:?USER_ID must hold the user id behind TOKEN}"
+
+OUT_DIR="loadtest-results/$(date +%Y%m%d-%H%M%S)-${LABEL}"
+mkdir -p "$OUT_DIR"
+
+for endpoint in "v1/bank/accounts/landing/${USER_ID}" "v1/bank/accounts/analytics/${USER_ID}?timeFilter=year"; do
+  name=$(echo "$endpoint" | cut -d'?' -f1 | tr '/' '_')
+  echo "==> ${LABEL}: ${endpoint} (c=${CONCURRENCY}, z=${DURATION})"
+  hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/${endpoint}" \
+    | tee "${OUT_DIR}/${name}.txt" | grep -E "Requests/sec|Average|99%|Status code|\[[0-9]+\]"
+done
+
+echo "Results written to ${OUT_DIR}"
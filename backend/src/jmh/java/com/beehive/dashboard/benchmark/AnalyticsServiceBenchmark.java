@@ -0,0 +1,42 @@
+package com.beehive.dashboard.benchmark;
+
+import com.beehive.dashboard.dto.bank.AnalyticsStatistics;
+import com.beehive.dashboard.service.bank.AnalyticsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link AnalyticsService#calculateAnalytics} chart and breakdown generation
+ * over synthetic movement histories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class AnalyticsServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int movementCount;
+
+    @Param({"week", "month", "year"})
+    private String timeFilter;
+
+    private AnalyticsService analyticsService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        analyticsService = new AnalyticsService();
+        ReflectionTestUtils.setField(analyticsService, "movementRepository",
+                SyntheticData.movementRepository(SyntheticData.movements(movementCount, 42L)));
+        ReflectionTestUtils.setField(analyticsService, "rowLoadMetrics", SyntheticData.rowLoadMetrics());
+    }
+
+    @Benchmark
+    public AnalyticsStatistics calculateAnalytics() {
+        return analyticsService.calculateAnalytics(1L, timeFilter);
+    }
+}
@@ -0,0 +1,41 @@
+package com.beehive.dashboard.benchmark;
+
+import com.beehive.dashboard.dto.bank.BalanceTrendPoint;
+import com.beehive.dashboard.service.bank.BankStatisticsService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link BankStatisticsService#calculateBalanceTrend} over synthetic movement histories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class BankStatisticsServiceBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int movementCount;
+
+    private BankStatisticsService statisticsService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        statisticsService = new BankStatisticsService();
+        ReflectionTestUtils.setField(statisticsService, "movementRepository",
+                SyntheticData.movementRepository(SyntheticData.movements(movementCount, 42L)));
+        ReflectionTestUtils.setField(statisticsService, "plannedRepository",
+                SyntheticData.plannedRepository(SyntheticData.planned(Math.max(10, movementCount / 100), 7L)));
+        ReflectionTestUtils.setField(statisticsService, "rowLoadMetrics", SyntheticData.rowLoadMetrics());
+    }
+
+    @Benchmark
+    public List<BalanceTrendPoint> calculateBalanceTrend() {
+        return statisticsService.calculateBalanceTrend(1L, 1_000_000L);
+    }
+}
@@ -0,0 +1,149 @@
+package com.beehive.dashboard.benchmark;
+
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.entity.bank.Planned;
+import com.beehive.dashboard.metrics.RowLoadMetrics;
+import com.beehive.dashboard.repository.bank.MovementRepository;
+import com.beehive.dashboard.repository.bank.PlannedRepository;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementRecurrence;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Synthetic datasets and in-memory repository stand-ins for service benchmarks.
+ * Data is generated with a fixed seed and kept sorted by date, so the date-range
+ * repository queries are answered with a binary search and a list view, keeping
+ * the measured cost inside the service code rather than the stub.
+ */
+final class SyntheticData {
+
+    private static final MovementCategory[] CATEGORIES = MovementCategory.values();
+
+    private SyntheticData() {
+    }
+
+    /**
+     * Generates movements spread over the last two years plus two weeks ahead, sorted by date.
+     */
+    static List<Movement> movements(int count, long seed) {
+        Random random = new Random(seed);
+        LocalDate today = LocalDate.now();
+        LocalDate start = today.minusYears(2);
+        int spanDays = (int) (today.plusDays(14).toEpochDay() - start.toEpochDay());
+
+        List<Movement> movements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            MovementType type = random.nextInt(4) == 0 ? MovementType.INCOME : MovementType.EXPENSE;
+            MovementStatus status = random.nextInt(20) == 0 ? MovementStatus.PENDING : MovementStatus.CONFIRMED;
+            Movement movement = new Movement(
+                    (long) (1 + random.nextInt(4)),
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    type,
+                    100 + random.nextInt(50_000),
+                    "Synthetic movement " + i,
+                    start.plusDays(random.nextInt(spanDays + 1)),
+                    status);
+            movement.setId((long) i + 1);
+            movements.add(movement);
+        }
+        movements.sort(Comparator.comparing(Movement::getDate));
+        return movements;
+    }
+
+    /**
+     * Generates planned movements over the next month, sorted by next execution date.
+     */
+    static List<Planned> planned(int count, long seed) {
+        Random random = new Random(seed);
+        LocalDate today = LocalDate.now();
+
+        List<Planned> planned = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Planned item = new Planned(
+                    (long) (1 + random.nextInt(4)),
+                    CATEGORIES[random.nextInt(CATEGORIES.length)],
+                    random.nextInt(4) == 0 ? MovementType.INCOME : MovementType.EXPENSE,
+                    100 + random.nextInt(50_000),
+                    "Synthetic planned " + i,
+                    MovementRecurrence.MONTHLY,
+                    "0 0 1 * *",
+                    today.plusDays(random.nextInt(31)),
+                    null,
+                    MovementStatus.PENDING);
+            item.setId((long) i + 1);
+            planned.add(item);
+        }
+        planned.sort(Comparator.comparing(Planned::getNextExecution));
+        return planned;
+    }
+
+    /**
+     * Creates a {@link MovementRepository} answering the per-user date-range query from the dataset.
+     */
+    static MovementRepository movementRepository(List<Movement> sortedByDate) {
+        return repository(MovementRepository.class, "getAllUsersMovementsByGivenDate", sortedByDate, Movement::getDate);
+    }
+
+    /**
+     * Creates a {@link PlannedRepository} answering the per-user date-range query from the dataset.
+     */
+    static PlannedRepository plannedRepository(List<Planned> sortedByDate) {
+        return repository(PlannedRepository.class, "getAllUsersPlannedMovementsByGivenDate", sortedByDate, Planned::getNextExecution);
+    }
+
+    /**
+     * Row metrics backed by an in-memory registry, so recording cost is part of the measurement.
+     */
+    static RowLoadMetrics rowLoadMetrics() {
+        RowLoadMetrics metrics = new RowLoadMetrics();
+        ReflectionTestUtils.setField(metrics, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(metrics, "tagUser", true);
+        return metrics;
+    }
+
+    private static <R, T> R repository(Class<R> type, String rangeMethod, List<T> sorted, Function<T, LocalDate> dateOf) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            if (method.getName().equals(rangeMethod)) {
+                LocalDate startDate = (LocalDate) args[1];
+                LocalDate endDate = (LocalDate) args[2];
+                int from = firstIndexOnOrAfter(sorted, dateOf, startDate);
+                int to = firstIndexOnOrAfter(sorted, dateOf, endDate.plusDays(1));
+                return sorted.subList(from, to);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "equals" -> self == args[0];
+                    default -> "Synthetic" + type.getSimpleName();
+                };
+            }
+            throw new UnsupportedOperationException(method.getName() + " is not available in benchmarks");
+        });
+        return type.cast(proxy);
+    }
+
+    private static <T> int firstIndexOnOrAfter(List<T> sorted, Function<T, LocalDate> dateOf, LocalDate date) {
+        int low = 0;
+        int high = sorted.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (dateOf.apply(sorted.get(mid)).isBefore(date)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
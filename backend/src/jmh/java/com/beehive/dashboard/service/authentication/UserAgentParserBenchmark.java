@@ -0,0 +1,53 @@
+package com.beehive.dashboard.service.authentication;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark for {@link UserAgentParser} over a mix of common browser user agents.
+ * Compares the cached path used on session creation with raw rule-table parsing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserAgentParserBenchmark {
+
+    private static final String[] USER_AGENTS = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/129.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/129.0.0.0 Safari/537.36 Edg/129.0.0.0",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.6 Safari/605.1.15",
+            "Mozilla/5.0 (X11; Linux x86_64; rv:131.0) Gecko/20100101 Firefox/131.0",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_6 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.6 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (iPad; CPU OS 17_6 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.6 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (Linux; Android 14; Pixel 8) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/129.0.0.0 Mobile Safari/537.36",
+            "curl/8.7.1"
+    };
+
+    private UserAgentParser parser;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        parser = new UserAgentParser(1024);
+    }
+
+    private String nextUserAgent() {
+        String userAgent = USER_AGENTS[next];
+        next = (next + 1) % USER_AGENTS.length;
+        return userAgent;
+    }
+
+    @Benchmark
+    public UserAgentParser.ParsedUserAgent cached() {
+        return parser.parse(nextUserAgent());
+    }
+
+    @Benchmark
+    public UserAgentParser.ParsedUserAgent uncached() {
+        return parser.parseUncached(nextUserAgent());
+    }
+}
@@ -0,0 +1,241 @@
+package com.beehive.dashboard.loadtest;
+
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementRecurrence;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds a local PostgreSQL database with synthetic users, accounts, movements and planned items.
+ * Writes straight through JDBC batches so large datasets load in seconds. Previously seeded
+ * load test data (usernames starting with {@value #USERNAME_PREFIX}) is removed first, so runs
+ * are repeatable. The backend must have started once against the database to create the schema.
+ */
+final class DataSeeder {
+
+    static final String USERNAME_PREFIX = "loadtest_user_";
+    static final String PASSWORD = "loadtest-password";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int MOVEMENT_HISTORY_DAYS = 730;
+    private static final int MOVEMENT_FUTURE_DAYS = 14;
+    private static final MovementCategory[] CATEGORIES = MovementCategory.values();
+
+    private final LoadTestConfig config;
+    private final Random random;
+
+    DataSeeder(LoadTestConfig config) {
+        this.config = config;
+        this.random = new Random(config.randomSeed);
+    }
+
+    /**
+     * Seeds the configured dataset, or only reads back existing load test users when seeding is disabled.
+     *
+     * @return the seeded users with their account ids
+     */
+    List<SeededUser> seed() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(config.jdbcUrl, config.dbUser, config.dbPassword)) {
+            connection.setAutoCommit(false);
+
+            if (!config.seed) {
+                return readExisting(connection);
+            }
+
+            long startedAt = System.nanoTime();
+            deleteExisting(connection);
+
+            ensureMovementPartitions(connection);
+            String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+            List<SeededUser> users = new ArrayList<>(config.users);
+            long movementRows = 0;
+            long plannedRows = 0;
+
+            for (int u = 0; u < config.users; u++) {
+                String username = USERNAME_PREFIX + u;
+                long userId = insertUser(connection, username, passwordHash);
+
+                List<Long> accountIds = new ArrayList<>(config.accountsPerUser);
+                for (int a = 0; a < config.accountsPerUser; a++) {
+                    accountIds.add(insertAccount(connection, userId, u, a));
+                }
+                movementRows += insertMovements(connection, userId, accountIds);
+                plannedRows += insertPlanned(connection, userId, accountIds);
+                connection.commit();
+
+                users.add(new SeededUser(userId, username, accountIds));
+            }
+
+            System.out.printf("Seeded %d users, %d accounts, %d movements, %d planned in %d ms%n",
+                    users.size(), users.size() * config.accountsPerUser, movementRows, plannedRows,
+                    (System.nanoTime() - startedAt) / 1_000_000);
+            return users;
+        }
+    }
+
+    private void deleteExisting(Connection connection) throws SQLException {
+        String accounts = "SELECT a.id FROM bank_account a JOIN users u ON u.id = a.user_id WHERE u.username LIKE ?";
+        String pattern = USERNAME_PREFIX + "%";
+        for (String sql : new String[]{
+                "DELETE FROM bank_movements WHERE account_id IN (" + accounts + ")",
+                "DELETE FROM bank_planned WHERE account_id IN (" + accounts + ")",
+                "DELETE FROM bank_account WHERE id IN (" + accounts + ")",
+                "DELETE FROM user_sessions WHERE user_id IN (SELECT id FROM users WHERE username LIKE ?)",
+                "DELETE FROM users WHERE username LIKE ?"}) {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setString(1, pattern);
+                statement.executeUpdate();
+            }
+        }
+        connection.commit();
+    }
+
+    private List<SeededUser> readExisting(Connection connection) throws SQLException {
+        List<SeededUser> users = new ArrayList<>();
+        String sql = "SELECT u.id, u.username, a.id FROM users u JOIN bank_account a ON a.user_id = u.id "
+                + "WHERE u.username LIKE ? ORDER BY u.id, a.id";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, USERNAME_PREFIX + "%");
+            try (ResultSet rs = statement.executeQuery()) {
+                SeededUser current = null;
+                while (rs.next()) {
+                    long userId = rs.getLong(1);
+                    if (current == null || current.userId != userId) {
+                        current = new SeededUser(userId, rs.getString(2), new ArrayList<>());
+                        users.add(current);
+                    }
+                    current.accountIds.add(rs.getLong(3));
+                }
+            }
+        }
+        System.out.printf("Using %d existing load test users%n", users.size());
+        return users;
+    }
+
+    private void ensureMovementPartitions(Connection connection) throws SQLException {
+        LocalDate today = LocalDate.now();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT ensure_bank_movements_partitions(?, ?)")) {
+            statement.setObject(1, today.minusDays(MOVEMENT_HISTORY_DAYS));
+            statement.setObject(2, today.plusDays(MOVEMENT_FUTURE_DAYS));
+            statement.executeQuery().close();
+        }
+        connection.commit();
+    }
+
+    private long insertUser(Connection connection, String username, String passwordHash) throws SQLException {
+        String sql = "INSERT INTO users (username, email, password, first_name, last_name, role, created_at, "
+                + "is_enabled, is_account_non_expired, is_account_non_locked, is_credentials_non_expired) "
+                + "VALUES (?, ?, ?, 'Load', 'Test', 'USER', ?, true, true, true, true)";
+        try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            statement.setString(1, username);
+            statement.setString(2, username + "@loadtest.local");
+            statement.setString(3, passwordHash);
+            statement.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+            statement.executeUpdate();
+            return generatedId(statement);
+        }
+    }
+
+    private long insertAccount(Connection connection, long userId, int userIndex, int accountIndex) throws SQLException {
+        String sql = "INSERT INTO bank_account (user_id, account_name, iban, balance_cents, type, priority) "
+                + "VALUES (?, ?, ?, ?, 'CURRENT', ?)";
+        try (PreparedStatement statement = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            statement.setLong(1, userId);
+            statement.setString(2, "Load test account " + accountIndex);
+            statement.setString(3, String.format("LOADTEST%017d", (long) userIndex * 100 + accountIndex));
+            statement.setLong(4, 100_000_000L);
+            statement.setLong(5, accountIndex);
+            statement.executeUpdate();
+            return generatedId(statement);
+        }
+    }
+
+    private long insertMovements(Connection connection, long userId, List<Long> accountIds) throws SQLException {
+        String sql = "INSERT INTO bank_movements (account_id, category, type, amount_cents, description, date, status, user_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        LocalDate today = LocalDate.now();
+        long rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long accountId : accountIds) {
+                for (int i = 0; i < config.movementsPerAccount; i++) {
+                    boolean income = random.nextInt(5) == 0;
+                    statement.setLong(1, accountId);
+                    statement.setString(2, income ? MovementCategory.SALARY.name() : CATEGORIES[random.nextInt(CATEGORIES.length)].name());
+                    statement.setString(3, income ? MovementType.INCOME.name() : MovementType.EXPENSE.name());
+                    statement.setLong(4, 100 + random.nextInt(50_000));
+                    statement.setString(5, "Load test movement " + i);
+                    statement.setObject(6, today.minusDays(random.nextInt(MOVEMENT_HISTORY_DAYS)).plusDays(MOVEMENT_FUTURE_DAYS));
+                    statement.setString(7, random.nextInt(20) == 0 ? MovementStatus.PENDING.name() : MovementStatus.CONFIRMED.name());
+                    statement.setLong(8, userId);
+                    statement.addBatch();
+                    if (++rows % BATCH_SIZE == 0) {
+                        statement.executeBatch();
+                    }
+                }
+            }
+            statement.executeBatch();
+        }
+        return rows;
+    }
+
+    private long insertPlanned(Connection connection, long userId, List<Long> accountIds) throws SQLException {
+        String sql = "INSERT INTO bank_planned (account_id, category, type, amount_cents, description, recurrence, cron, "
+                + "next_execution, end_date, status, user_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        LocalDate today = LocalDate.now();
+        long rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (long accountId : accountIds) {
+                for (int i = 0; i < config.plannedPerAccount; i++) {
+                    LocalDate nextExecution = today.plusDays(random.nextInt(45));
+                    statement.setLong(1, accountId);
+                    statement.setString(2, CATEGORIES[random.nextInt(CATEGORIES.length)].name());
+                    statement.setString(3, MovementType.EXPENSE.name());
+                    statement.setLong(4, 100 + random.nextInt(20_000));
+                    statement.setString(5, "Load test planned " + i);
+                    statement.setString(6, MovementRecurrence.MONTHLY.name());
+                    statement.setString(7, "0 0 " + nextExecution.getDayOfMonth() + " * *");
+                    statement.setObject(8, nextExecution);
+                    statement.setObject(9, nextExecution.plusYears(1));
+                    statement.setString(10, MovementStatus.PENDING.name());
+                    statement.setLong(11, userId);
+                    statement.addBatch();
+                    rows++;
+                }
+            }
+            statement.executeBatch();
+        }
+        return rows;
+    }
+
+    private static long generatedId(Statement statement) throws SQLException {
+        try (ResultSet keys = statement.getGeneratedKeys()) {
+            if (!keys.next()) {
+                throw new SQLException("No generated key returned");
+            }
+            return keys.getLong("id");
+        }
+    }
+
+    /**
+     * A seeded user and the ids of its accounts.
+     */
+    static final class SeededUser {
+        final long userId;
+        final String username;
+        final List<Long> accountIds;
+
+        SeededUser(long userId, String username, List<Long> accountIds) {
+            this.userId = userId;
+            this.username = username;
+            this.accountIds = accountIds;
+        }
+    }
+}
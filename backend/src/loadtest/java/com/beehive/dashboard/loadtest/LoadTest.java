@@ -0,0 +1,296 @@
+package com.beehive.dashboard.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop HTTP load test for the BeeHive backend.
+ * Seeds a local database, logs every seeded user in, then issues a weighted mix of dashboard,
+ * analytics, movement CRUD and login calls at a fixed target rate. Latency is measured from each
+ * request's intended start time, so queueing inside the client is not hidden (coordinated
+ * omission), and recorded per endpoint in HdrHistograms.
+ *
+ * <p>Run the backend with {@code --security.rate-limit.enabled=false} unless the limiter itself is under test,
+ * since all requests originate from one address.</p>
+ */
+public final class LoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private List<VirtualUser> users;
+
+    private LoadTest(LoadTestConfig config) {
+        this.config = config;
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors()), runnable -> {
+                    Thread thread = new Thread(runnable, "loadtest-http");
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .build();
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = new LoadTestConfig();
+        System.out.println("Load test configuration: " + config);
+
+        LoadTest loadTest = new LoadTest(config);
+        loadTest.prepare(new DataSeeder(config).seed());
+        loadTest.run();
+        loadTest.report();
+    }
+
+    /**
+     * Logs every seeded user in once to obtain the tokens used by the traffic mix.
+     */
+    private void prepare(List<DataSeeder.SeededUser> seededUsers) throws IOException, InterruptedException {
+        if (seededUsers.isEmpty()) {
+            throw new IllegalStateException("No load test users available, run with -Dloadtest.seed=true");
+        }
+
+        users = new ArrayList<>(seededUsers.size());
+        for (DataSeeder.SeededUser seeded : seededUsers) {
+            HttpResponse<String> response = client.send(loginRequest(seeded.username), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Login failed for " + seeded.username + " with status " + response.statusCode());
+            }
+            users.add(new VirtualUser(seeded, MAPPER.readTree(response.body()).get("token").asText()));
+        }
+        System.out.printf("Logged in %d users%n", users.size());
+    }
+
+    /**
+     * Issues requests at the configured rate until the duration elapses, then waits for in-flight requests.
+     */
+    private void run() throws InterruptedException {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / config.rate);
+        long startNanos = System.nanoTime();
+        long warmupEndNanos = startNanos + TimeUnit.SECONDS.toNanos(config.warmupSeconds);
+        long endNanos = warmupEndNanos + TimeUnit.SECONDS.toNanos(config.durationSeconds);
+        Random random = new Random(config.randomSeed);
+
+        System.out.printf("Running %ds warmup + %ds measurement at %.1f req/s%n",
+                config.warmupSeconds, config.durationSeconds, config.rate);
+
+        for (long i = 0; ; i++) {
+            long intendedStart = startNanos + i * intervalNanos;
+            if (intendedStart >= endNanos) {
+                break;
+            }
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            if (inFlight.get() >= config.maxInFlight) {
+                dropped.increment();
+                continue;
+            }
+
+            VirtualUser user = users.get(random.nextInt(users.size()));
+            Operation operation = Operation.pick(random.nextInt(100));
+            boolean measured = intendedStart >= warmupEndNanos;
+            dispatch(user, operation, intendedStart, measured, random);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.requestTimeoutSeconds);
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    private void dispatch(VirtualUser user, Operation operation, long intendedStart, boolean measured, Random random) {
+        HttpRequest request = buildRequest(user, operation, random);
+        Operation recordedAs = request == null ? Operation.MOVEMENT_CREATE : operation;
+        if (request == null) {
+            request = createMovementRequest(user, random);
+        }
+
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, failure) -> {
+                    inFlight.decrementAndGet();
+                    long latencyMicros = (System.nanoTime() - intendedStart) / 1000;
+
+                    boolean ok = failure == null && response.statusCode() < 400;
+                    if (ok) {
+                        onSuccess(user, recordedAs, response);
+                    }
+                    if (measured) {
+                        histograms.get(recordedAs).recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+                        if (!ok) {
+                            errors.get(recordedAs).increment();
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Builds the request for an operation, or returns null when an update/delete has no harness-created
+     * movement to work on yet, in which case a create is issued instead.
+     */
+    private HttpRequest buildRequest(VirtualUser user, Operation operation, Random random) {
+        long accountId = user.seeded.accountIds.get(random.nextInt(user.seeded.accountIds.size()));
+        switch (operation) {
+            case LANDING:
+                return authorized(user, "/v1/bank/accounts/landing/" + user.seeded.userId).GET().build();
+            case ANALYTICS:
+                String[] filters = {"week", "month", "year"};
+                return authorized(user, "/v1/bank/accounts/analytics/" + user.seeded.userId
+                        + "?timeFilter=" + filters[random.nextInt(filters.length)]).GET().build();
+            case MOVEMENTS_BY_ACCOUNT:
+                return authorized(user, "/v1/bank/movements/account/" + accountId).GET().build();
+            case MOVEMENT_CREATE:
+                return createMovementRequest(user, random);
+            case MOVEMENT_UPDATE: {
+                CreatedMovement created = user.createdMovements.peek();
+                if (created == null) {
+                    return null;
+                }
+                return authorized(user, "/v1/bank/movements/" + created.id)
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(movementJson(created.accountId, random)))
+                        .build();
+            }
+            case MOVEMENT_DELETE: {
+                CreatedMovement created = user.createdMovements.poll();
+                if (created == null) {
+                    return null;
+                }
+                return authorized(user, "/v1/bank/movements/" + created.id).DELETE().build();
+            }
+            case LOGIN:
+                return loginRequest(user.seeded.username);
+            default:
+                throw new IllegalArgumentException("Unknown operation " + operation);
+        }
+    }
+
+    private void onSuccess(VirtualUser user, Operation operation, HttpResponse<String> response) {
+        try {
+            if (operation == Operation.MOVEMENT_CREATE) {
+                JsonNode body = MAPPER.readTree(response.body());
+                user.createdMovements.offer(new CreatedMovement(body.get("id").asLong(), body.get("accountId").asLong()));
+            }
+        } catch (IOException e) {
+            // The latency sample is still valid; the movement just will not be reused for update/delete
+        }
+    }
+
+    private HttpRequest createMovementRequest(VirtualUser user, Random random) {
+        long accountId = user.seeded.accountIds.get(random.nextInt(user.seeded.accountIds.size()));
+        return authorized(user, "/v1/bank/movements")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(movementJson(accountId, random)))
+                .build();
+    }
+
+    private String movementJson(long accountId, Random random) {
+        return String.format(Locale.ROOT,
+                "{\"accountId\":%d,\"category\":\"GROCERIES\",\"type\":\"EXPENSE\",\"amount\":%.2f,"
+                        + "\"description\":\"Load test purchase\",\"date\":\"%s\",\"status\":\"CONFIRMED\"}",
+                accountId, 1 + random.nextInt(5_000) / 100.0, LocalDate.now());
+    }
+
+    private HttpRequest loginRequest(String username) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl + "/v1/auth/login"))
+                .timeout(Duration.ofSeconds(config.requestTimeoutSeconds))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + username + "\",\"password\":\"" + DataSeeder.PASSWORD + "\"}"))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(VirtualUser user, String path) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl + path))
+                .timeout(Duration.ofSeconds(config.requestTimeoutSeconds))
+                .header("Authorization", "Bearer " + user.token);
+    }
+
+    /**
+     * Prints a per-endpoint latency summary and writes full percentile distributions (.hgrm, in ms).
+     */
+    private void report() throws IOException {
+        Path outputDir = Path.of(config.outputDir,
+                LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Files.createDirectories(outputDir);
+
+        System.out.printf("%n%-22s %9s %7s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            long count = histogram.getTotalCount();
+            System.out.printf("%-22s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    operation, count, errors.get(operation).sum(), (double) count / config.durationSeconds,
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0);
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(outputDir.resolve(operation.name().toLowerCase() + ".hgrm")))) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        System.out.printf("%nDropped (client saturated at %d in flight): %d%n", config.maxInFlight, dropped.sum());
+        System.out.println("Histograms written to " + outputDir.toAbsolutePath());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * A logged-in seeded user and the movements the harness created for it.
+     */
+    private static final class VirtualUser {
+        final DataSeeder.SeededUser seeded;
+        final String token;
+        final Queue<CreatedMovement> createdMovements = new ConcurrentLinkedQueue<>();
+
+        VirtualUser(DataSeeder.SeededUser seeded, String token) {
+            this.seeded = seeded;
+            this.token = token;
+        }
+    }
+
+    private static final class CreatedMovement {
+        final long id;
+        final long accountId;
+
+        CreatedMovement(long id, long accountId) {
+            this.id = id;
+            this.accountId = accountId;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.beehive.dashboard.loadtest;
+
+/**
+ * Load test settings, read from {@code -Dloadtest.*} system properties.
+ */
+final class LoadTestConfig {
+
+    final String baseUrl = property("loadtest.baseUrl", "http://localhost:8080");
+    final String jdbcUrl = property("loadtest.jdbcUrl", "jdbc:postgresql://localhost:5432/beehive?reWriteBatchedInserts=true");
+    final String dbUser = property("loadtest.dbUser", "postgres");
+    final String dbPassword = property("loadtest.dbPassword", "postgres");
+
+    final boolean seed = Boolean.parseBoolean(property("loadtest.seed", "true"));
+    final int users = intProperty("loadtest.users", 50);
+    final int accountsPerUser = intProperty("loadtest.accountsPerUser", 3);
+    final int movementsPerAccount = intProperty("loadtest.movementsPerAccount", 2000);
+    final int plannedPerAccount = intProperty("loadtest.plannedPerAccount", 20);
+    final long randomSeed = Long.parseLong(property("loadtest.randomSeed", "42"));
+
+    final double rate = Double.parseDouble(property("loadtest.rate", "50"));
+    final int durationSeconds = intProperty("loadtest.durationSeconds", 120);
+    final int warmupSeconds = intProperty("loadtest.warmupSeconds", 10);
+    final int maxInFlight = intProperty("loadtest.maxInFlight", 500);
+    final int requestTimeoutSeconds = intProperty("loadtest.requestTimeoutSeconds", 30);
+
+    final String outputDir = property("loadtest.outputDir", "loadtest-results");
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(name, defaultValue);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(property(name, String.valueOf(defaultValue)));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("baseUrl=%s users=%d accounts/user=%d movements/account=%d planned/account=%d "
+                        + "rate=%.1f/s duration=%ds warmup=%ds maxInFlight=%d",
+                baseUrl, users, accountsPerUser, movementsPerAccount, plannedPerAccount,
+                rate, durationSeconds, warmupSeconds, maxInFlight);
+    }
+}
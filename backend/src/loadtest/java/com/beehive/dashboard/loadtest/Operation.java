@@ -0,0 +1,43 @@
+package com.beehive.dashboard.loadtest;
+
+/**
+ * Request types replayed by the load test and their share of the traffic mix.
+ */
+enum Operation {
+    LANDING(35),
+    ANALYTICS(20),
+    MOVEMENTS_BY_ACCOUNT(15),
+    MOVEMENT_CREATE(10),
+    MOVEMENT_UPDATE(5),
+    MOVEMENT_DELETE(5),
+    LOGIN(10);
+
+    final int weight;
+
+    Operation(int weight) {
+        this.weight = weight;
+    }
+
+    private static final Operation[] TABLE = buildTable();
+
+    /**
+     * Picks an operation for a uniformly distributed value in [0, 100).
+     */
+    static Operation pick(int percentile) {
+        return TABLE[percentile];
+    }
+
+    private static Operation[] buildTable() {
+        Operation[] table = new Operation[100];
+        int index = 0;
+        for (Operation operation : values()) {
+            for (int i = 0; i < operation.weight; i++) {
+                table[index++] = operation;
+            }
+        }
+        if (index != table.length) {
+            throw new IllegalStateException("Operation weights must add up to 100, got " + index);
+        }
+        return table;
+    }
+}
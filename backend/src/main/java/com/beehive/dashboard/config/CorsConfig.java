@@ -1,5 +1,7 @@
 package com.beehive.dashboard.config;
 
+import com.beehive.dashboard.controller.bank.MovementController;
+import com.beehive.dashboard.metrics.QueryStatsResponseHeaderAdvice;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.cors.CorsConfiguration;
@@ -41,6 +43,13 @@ public class CorsConfig implements WebMvcConfigurer {
         ));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(Arrays.asList(
+            QueryStatsResponseHeaderAdvice.STATEMENTS_HEADER,
+            QueryStatsResponseHeaderAdvice.ROWS_HEADER,
+            QueryStatsResponseHeaderAdvice.JDBC_TIME_HEADER,
+            MovementController.HAS_NEXT_HEADER,
+            MovementController.SKIPPED_DUPLICATES_HEADER
+        ));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
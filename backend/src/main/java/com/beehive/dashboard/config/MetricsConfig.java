@@ -0,0 +1,78 @@
+package com.beehive.dashboard.config;
+
+import com.beehive.dashboard.service.authentication.LoginRateLimiter;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for Micrometer metrics exported through the Prometheus actuator endpoint.
+ * Enables {@code @Timed} on Spring beans and publishes the password hashing pool and
+ * login rate limiter counters.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Aspect that records a timer for every method annotated with {@code @Timed}.
+     *
+     * @param registry the application {@link MeterRegistry}
+     * @return the {@link TimedAspect}
+     */
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+    /**
+     * Publishes queue depth, active workers and rejections of the BCrypt executor.
+     *
+     * @param passwordEncoder the bounded password encoder
+     * @return the {@link MeterBinder} registering the meters
+     */
+    @Bean
+    public MeterBinder passwordEncoderMetrics(BoundedPasswordEncoder passwordEncoder) {
+        return registry -> {
+            Gauge.builder("beehive.auth.password.queue.size", passwordEncoder, BoundedPasswordEncoder::getQueueSize)
+                    .description("Password hashing tasks waiting for a worker")
+                    .register(registry);
+            Gauge.builder("beehive.auth.password.active", passwordEncoder, BoundedPasswordEncoder::getActiveCount)
+                    .description("Password hashing tasks currently running")
+                    .register(registry);
+            FunctionCounter.builder("beehive.auth.password.rejected", passwordEncoder, BoundedPasswordEncoder::getRejectedCount)
+                    .description("Password hashing tasks rejected because the queue was full")
+                    .register(registry);
+            FunctionCounter.builder("beehive.auth.password.timeouts", passwordEncoder, BoundedPasswordEncoder::getTimeoutCount)
+                    .description("Password hashing tasks that exceeded the wait timeout")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Publishes the login rate limiter rejections, tagged by endpoint and limit key.
+     *
+     * @param rateLimiter the login rate limiter
+     * @return the {@link MeterBinder} registering the meters
+     */
+    @Bean
+    public MeterBinder rateLimiterMetrics(LoginRateLimiter rateLimiter) {
+        return registry -> {
+            FunctionCounter.builder("beehive.auth.rate_limit.rejected", rateLimiter, LoginRateLimiter::getLoginRejectedByUsername)
+                    .tags("endpoint", "login", "key", "username")
+                    .description("Requests rejected by the authentication rate limiter")
+                    .register(registry);
+            FunctionCounter.builder("beehive.auth.rate_limit.rejected", rateLimiter, LoginRateLimiter::getLoginRejectedByIp)
+                    .tags("endpoint", "login", "key", "ip")
+                    .description("Requests rejected by the authentication rate limiter")
+                    .register(registry);
+            FunctionCounter.builder("beehive.auth.rate_limit.rejected", rateLimiter, LoginRateLimiter::getRegisterRejectedByIp)
+                    .tags("endpoint", "register", "key", "ip")
+                    .description("Requests rejected by the authentication rate limiter")
+                    .register(registry);
+        };
+    }
+}
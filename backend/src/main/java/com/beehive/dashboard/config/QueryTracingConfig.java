@@ -0,0 +1,52 @@
+package com.beehive.dashboard.config;
+
+import com.beehive.dashboard.metrics.QueryTracingListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application {@link DataSource} with datasource-proxy so every statement is
+ * attributed to the current HTTP request.
+ * Counting result-set rows proxies every ResultSet call, so it is only done for diagnostics
+ * with {@code metrics.query-tracing.rows=true}.
+ * Disable with {@code metrics.query-tracing.enabled=false} to remove the proxy entirely.
+ */
+@Configuration
+@ConditionalOnProperty(name = "metrics.query-tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryTracingConfig {
+
+    /**
+     * Post-processor replacing the data source with a tracing proxy.
+     * Declared static so it is registered before the data source bean is created.
+     *
+     * @param environment Environment to read {@code metrics.query-tracing.rows} from
+     * @return the {@link BeanPostProcessor}
+     */
+    @Bean
+    public static BeanPostProcessor queryTracingDataSourcePostProcessor(Environment environment) {
+        boolean traceRows = environment.getProperty("metrics.query-tracing.rows", Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    QueryTracingListener listener = new QueryTracingListener();
+                    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener);
+                    if (traceRows) {
+                        builder.methodListener(listener).proxyResultSet();
+                    }
+                    return builder.build();
+                }
+                return bean;
+            }
+        };
+    }
+}
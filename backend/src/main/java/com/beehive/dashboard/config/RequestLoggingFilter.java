@@ -0,0 +1,64 @@
+package com.beehive.dashboard.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter that writes one access log line for a sample of HTTP requests.
+ * Slow requests and server errors are always logged; everything else is logged with the
+ * configured probability, so the log keeps a representative picture of traffic without
+ * paying for a line per request.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestLoggingFilter.class);
+
+    @Value("${logging.request.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Value("${logging.request.slow-threshold-ms:1000}")
+    private long slowThresholdMs;
+
+    /**
+     * Times the request and logs it if it is sampled, slow or failed.
+     *
+     * @param request      the incoming {@link HttpServletRequest}
+     * @param response     the outgoing {@link HttpServletResponse}
+     * @param filterChain  the {@link FilterChain} to pass the request/response to the next filter
+     * @throws ServletException if a servlet error occurs
+     * @throws IOException      if an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            int status = response.getStatus();
+
+            if (status >= 500 || durationMs >= slowThresholdMs) {
+                logger.warn("{} {} -> {} in {} ms", request.getMethod(), request.getRequestURI(), status, durationMs);
+            } else if (logger.isInfoEnabled() && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                logger.info("{} {} -> {} in {} ms (sampled)", request.getMethod(), request.getRequestURI(), status, durationMs);
+            }
+        }
+    }
+}
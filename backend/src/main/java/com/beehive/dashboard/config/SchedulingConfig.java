@@ -0,0 +1,13 @@
+package com.beehive.dashboard.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's scheduled task execution.
+ * Required for background jobs such as the hourly expired-session cleanup.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -2,6 +2,7 @@ package com.beehive.dashboard.config;
 
 import com.beehive.dashboard.service.authentication.CustomUserDetailsService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -13,8 +14,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -37,10 +36,23 @@ public class SecurityConfig {
     @Autowired
     private CorsConfigurationSource corsConfigurationSource;
 
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${security.password.executor.threads:2}")
+    private int passwordHashThreads;
+
+    @Value("${security.password.executor.queue-capacity:50}")
+    private int passwordHashQueueCapacity;
+
+    @Value("${security.password.executor.timeout-ms:5000}")
+    private long passwordHashTimeoutMs;
+
     /**
      * Configures the security filter chain for HTTP requests.
      * Disables CSRF, sets up endpoint authorization, stateless session management,
-     * and adds the JWT authentication filter.
+     * and adds the JWT authentication filter. Actuator endpoints other than health and info
+     * expose metrics and are restricted to administrators.
      *
      * @param http the {@link HttpSecurity} to modify
      * @return the configured {@link SecurityFilterChain}
@@ -54,7 +66,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/v1/auth/**").permitAll()
                         .requestMatchers("/v1/public/**").permitAll()
-                        .requestMatchers("/api/auth/**", "/actuator/**", "/", "/health").permitAll()
+                        .requestMatchers("/api/auth/**", "/actuator/health", "/actuator/info", "/", "/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMINISTRATOR")
                         .anyRequest().authenticated()
                 )
                 .sessionManagement(session -> session
@@ -67,12 +80,14 @@ public class SecurityConfig {
     }
 
     /**
-     * Provides a password encoder bean using BCrypt.
-     * @return a {@link PasswordEncoder} instance
+     * Provides a password encoder bean using BCrypt, executed on a dedicated bounded pool
+     * so hashing never runs on the request thread pool.
+     * @return a {@link BoundedPasswordEncoder} instance
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder() {
+        return new BoundedPasswordEncoder(bcryptStrength, passwordHashThreads,
+                passwordHashQueueCapacity, passwordHashTimeoutMs);
     }
 
     /**
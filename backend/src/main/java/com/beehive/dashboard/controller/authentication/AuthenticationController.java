@@ -4,6 +4,7 @@ import com.beehive.dashboard.dto.authentication.AuthenticationResponse;
 import com.beehive.dashboard.entity.authentication.LoginRequest;
 import com.beehive.dashboard.entity.authentication.RegisterRequest;
 import com.beehive.dashboard.service.authentication.AuthenticationService;
+import com.beehive.dashboard.service.authentication.LoginRateLimiter;
 import com.beehive.dashboard.service.authentication.SessionService;
 import com.beehive.dashboard.entity.authentication.User;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,8 +12,15 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Set;
 
 /**
  * REST controller for handling user authentication operations.
@@ -30,6 +38,15 @@ public class AuthenticationController {
     @Autowired
     private SessionService sessionService;
 
+    @Autowired
+    private LoginRateLimiter loginRateLimiter;
+
+    /**
+     * Addresses of the reverse proxies whose forwarding headers are trusted; empty when clients connect directly.
+     */
+    @Value("${security.trusted-proxies:}")
+    private Set<String> trustedProxies;
+
     /**
      * Registers a new user account in the system.
      *
@@ -38,7 +55,12 @@ public class AuthenticationController {
      */
     @PostMapping("/register")
     public ResponseEntity<AuthenticationResponse> register(@Valid @RequestBody RegisterRequest request, HttpServletRequest httpRequest) {
-        logger.info("Registration attempt for username: {} and email: {}", request.getUsername(), request.getEmail());
+        logger.debug("Registration attempt for username: {} and email: {}", request.getUsername(), request.getEmail());
+
+        String ipAddress = getClientIpAddress(httpRequest);
+        if (!loginRateLimiter.tryAcquireRegister(ipAddress)) {
+            return tooManyRequests();
+        }
 
         try {
             User user = new User(request.getUsername(),
@@ -50,7 +72,6 @@ public class AuthenticationController {
             logger.info("User registration successful for username: {}", request.getUsername());
 
             String userAgent = httpRequest.getHeader("User-Agent");
-            String ipAddress = getClientIpAddress(httpRequest);
             sessionService.createSession(user.getId(), token, userAgent, ipAddress);
 
             AuthenticationResponse response = new AuthenticationResponse(
@@ -60,6 +81,9 @@ public class AuthenticationController {
 
             logger.debug("Returning authentication response for newly registered user: {}", user.getUsername());
             return ResponseEntity.ok(response);
+        } catch (ResponseStatusException e) {
+            logger.warn("Registration rejected for username: {} - Status: {}", request.getUsername(), e.getStatusCode());
+            throw e;
         } catch (RuntimeException e) {
             logger.error("Registration failed for username: {} - Error: {}", request.getUsername(), e.getMessage());
             return ResponseEntity.badRequest().body(null);
@@ -74,7 +98,12 @@ public class AuthenticationController {
      */
     @PostMapping("/login")
     public ResponseEntity<AuthenticationResponse> login(@Valid @RequestBody LoginRequest request, HttpServletRequest httpRequest) {
-        logger.info("Login attempt for username: {}", request.getUsername());
+        logger.debug("Login attempt for username: {}", request.getUsername());
+
+        String ipAddress = getClientIpAddress(httpRequest);
+        if (!loginRateLimiter.tryAcquireLogin(request.getUsername(), ipAddress)) {
+            return tooManyRequests();
+        }
 
         try {
             String token = authenticationService.authenticate(request.getUsername(), request.getPassword());
@@ -82,9 +111,9 @@ public class AuthenticationController {
 
             User user = authenticationService.getCurrentUser(token);
             logger.info("Login successful for username: {}", request.getUsername());
+            loginRateLimiter.recordLoginSuccess(request.getUsername());
 
             String userAgent = httpRequest.getHeader("User-Agent");
-            String ipAddress = getClientIpAddress(httpRequest);
             sessionService.createSession(user.getId(), token, userAgent, ipAddress);
 
             AuthenticationResponse response = new AuthenticationResponse(
@@ -94,6 +123,13 @@ public class AuthenticationController {
 
             logger.debug("Returning authentication response for logged in user: {}", user.getUsername());
             return ResponseEntity.ok(response);
+        } catch (ResponseStatusException e) {
+            logger.warn("Login rejected for username: {} - Status: {}", request.getUsername(), e.getStatusCode());
+            throw e;
+        } catch (AuthenticationException e) {
+            loginRateLimiter.recordLoginFailure(request.getUsername());
+            logger.error("Login failed for username: {} - Error: {}", request.getUsername(), e.getMessage());
+            return ResponseEntity.badRequest().body(null);
         } catch (RuntimeException e) {
             logger.error("Login failed for username: {} - Error: {}", request.getUsername(), e.getMessage());
             return ResponseEntity.badRequest().body(null);
@@ -108,14 +144,14 @@ public class AuthenticationController {
      */
     @GetMapping("/me")
     public ResponseEntity<AuthenticationResponse> getCurrentUser(@RequestHeader("Authorization") String authHeader) {
-        logger.info("Request to get current user information from token");
+        logger.debug("Request to get current user information from token");
 
         try {
             String token = authHeader.substring(7);
             logger.debug("Extracting user information from JWT token");
 
             User user = authenticationService.getCurrentUser(token);
-            logger.info("Successfully retrieved current user: {}", user.getUsername());
+            logger.debug("Successfully retrieved current user: {}", user.getUsername());
 
             sessionService.updateLastActive(token);
 
@@ -133,17 +169,39 @@ public class AuthenticationController {
     }
 
     /**
-     * Gets the client IP address from the request, considering proxies.
+     * Builds the response for an attempt rejected by the rate limiter.
+     */
+    private ResponseEntity<AuthenticationResponse> tooManyRequests() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(loginRateLimiter.getWindowSeconds()))
+                .build();
+    }
+
+    /**
+     * Gets the client IP address from the request. Forwarding headers are only read when the
+     * connection comes from a trusted proxy; X-Forwarded-For is walked from the right, skipping
+     * trusted proxies, since the entries to their left are whatever the client sent.
      */
     private String getClientIpAddress(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!trustedProxies.contains(remoteAddr)) {
+            return remoteAddr;
+        }
+
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
+            String[] hops = xForwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (!hop.isEmpty() && !trustedProxies.contains(hop)) {
+                    return hop;
+                }
+            }
         }
         String xRealIp = request.getHeader("X-Real-IP");
         if (xRealIp != null && !xRealIp.isEmpty()) {
             return xRealIp;
         }
-        return request.getRemoteAddr();
+        return remoteAddr;
     }
 }
\ No newline at end of file
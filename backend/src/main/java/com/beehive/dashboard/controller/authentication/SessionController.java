@@ -32,14 +32,14 @@ public class SessionController {
      */
     @GetMapping("/me")
     public ResponseEntity<List<SessionResponse>> getMySessions(@RequestHeader("Authorization") String authHeader) {
-        logger.info("Request to get current user sessions");
+        logger.debug("Request to get current user sessions");
 
         try {
             String token = authHeader.substring(7);
             User user = authenticationService.getCurrentUser(token);
 
             List<SessionResponse> sessions = sessionService.getUserSessions(user.getId(), token);
-            logger.info("Retrieved {} sessions for user: {}", sessions.size(), user.getUsername());
+            logger.debug("Retrieved {} sessions for user: {}", sessions.size(), user.getUsername());
 
             return ResponseEntity.ok(sessions);
         } catch (Exception e) {
@@ -53,7 +53,7 @@ public class SessionController {
      */
     @DeleteMapping("/{sessionId}")
     public ResponseEntity<Void> revokeSession(@PathVariable Long sessionId, @RequestHeader("Authorization") String authHeader) {
-        logger.info("Request to revoke session: {}", sessionId);
+        logger.debug("Request to revoke session: {}", sessionId);
 
         try {
             String token = authHeader.substring(7);
@@ -79,7 +79,7 @@ public class SessionController {
      */
     @DeleteMapping("/others")
     public ResponseEntity<Void> revokeAllOtherSessions(@RequestHeader("Authorization") String authHeader) {
-        logger.info("Request to revoke all other sessions");
+        logger.debug("Request to revoke all other sessions");
 
         try {
             String token = authHeader.substring(7);
@@ -100,7 +100,7 @@ public class SessionController {
      */
     @DeleteMapping("/all")
     public ResponseEntity<Void> revokeAllSessions(@RequestHeader("Authorization") String authHeader) {
-        logger.info("Request to revoke all sessions");
+        logger.debug("Request to revoke all sessions");
 
         try {
             String token = authHeader.substring(7);
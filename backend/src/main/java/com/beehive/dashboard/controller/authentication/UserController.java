@@ -31,10 +31,10 @@ public class UserController {
      */
     @GetMapping
     public ResponseEntity<List<UserResponse>> getAll() {
-        logger.info("Request to retrieve all users");
+        logger.debug("Request to retrieve all users");
 
         List<UserResponse> users = userService.getAll();
-        logger.info("Retrieved {} users from database", users.size());
+        logger.debug("Retrieved {} users from database", users.size());
 
         return ResponseEntity.status(HttpStatus.OK).body(users);
     }
@@ -47,11 +47,11 @@ public class UserController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<UserResponse> getById(@PathVariable Long id) {
-        logger.info("Request to retrieve user with ID: {}", id);
+        logger.debug("Request to retrieve user with ID: {}", id);
 
         try {
             UserResponse user = userService.getById(id);
-            logger.info("Successfully retrieved user with ID: {}", id);
+            logger.debug("Successfully retrieved user with ID: {}", id);
             logger.debug("Account details - Name: {} {}", user.getFirstName(), user.getLastName());
 
             return ResponseEntity.status(HttpStatus.OK).body(user);
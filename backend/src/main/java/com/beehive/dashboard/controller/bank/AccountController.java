@@ -1,5 +1,7 @@
 package com.beehive.dashboard.controller.bank;
 
+import com.beehive.dashboard.dto.bank.AccountItemCounts;
+import com.beehive.dashboard.dto.bank.AccountOverview;
 import com.beehive.dashboard.dto.bank.AnalyticsStatistics;
 import com.beehive.dashboard.dto.bank.LandingStatistics;
 import com.beehive.dashboard.entity.bank.Account;
@@ -26,6 +28,8 @@ public class AccountController {
 
     private static final Logger logger = LoggerFactory.getLogger(AccountController.class);
 
+    private static final int MAX_OVERVIEW_ITEMS = 50;
+
     @Autowired
     private AccountService accountService;
 
@@ -40,7 +44,7 @@ public class AccountController {
      */
     @PostMapping
     public ResponseEntity<?> create(@Valid @RequestBody Account account) {
-        logger.info("Request to create new account with IBAN: {} for user ID: {}", account.getIban(), account.getUserId());
+        logger.debug("Request to create new account with IBAN: {} for user ID: {}", account.getIban(), account.getUserId());
 
         try {
             logger.debug("Validating account data before creation: {}", account.getAccountName());
@@ -61,10 +65,10 @@ public class AccountController {
      */
     @GetMapping
     public ResponseEntity<List<Account>> getAll() {
-        logger.info("Request to retrieve all accounts");
+        logger.debug("Request to retrieve all accounts");
 
         List<Account> accounts = accountService.getAll();
-        logger.info("Retrieved {} accounts from database", accounts.size());
+        logger.debug("Retrieved {} accounts from database", accounts.size());
         logger.debug("Account list size: {}", accounts.size());
 
         return ResponseEntity.status(HttpStatus.OK).body(accounts);
@@ -78,11 +82,11 @@ public class AccountController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<Account> getById(@PathVariable Long id) {
-        logger.info("Request to retrieve account with ID: {}", id);
+        logger.debug("Request to retrieve account with ID: {}", id);
 
         try {
             Account account = accountService.getById(id);
-            logger.info("Successfully retrieved account with ID: {} and IBAN: {}", id, account.getIban());
+            logger.debug("Successfully retrieved account with ID: {} and IBAN: {}", id, account.getIban());
             logger.debug("Account details - Name: {}, Type: {}", account.getAccountName(), account.getType());
 
             return ResponseEntity.status(HttpStatus.OK).body(account);
@@ -100,11 +104,11 @@ public class AccountController {
      */
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<Account>> getByUserId(@PathVariable Long userId) {
-        logger.info("Request to retrieve accounts for user ID: {}", userId);
+        logger.debug("Request to retrieve accounts for user ID: {}", userId);
 
         try {
             List<Account> accounts = accountService.getByUserId(userId);
-            logger.info("Successfully retrieved {} accounts for user ID: {}", accounts.size(), userId);
+            logger.debug("Successfully retrieved {} accounts for user ID: {}", accounts.size(), userId);
             logger.debug("User {} has accounts with IBANs: {}", userId,
                     accounts.stream().map(Account::getIban).toList());
 
@@ -115,6 +119,47 @@ public class AccountController {
         }
     }
 
+    /**
+     * Retrieves the number of movements and planned movements of every account of a user.
+     * Replaces one count request per account on the accounts overview.
+     *
+     * @param userId The unique identifier of the user
+     * @return ResponseEntity containing one entry per account with its movement and planned counts
+     */
+    @GetMapping("/user/{userId}/counts")
+    public ResponseEntity<List<AccountItemCounts>> getItemCountsByUserId(@PathVariable Long userId) {
+        logger.debug("Request to count movements and planned for accounts of user ID: {}", userId);
+
+        List<AccountItemCounts> counts = accountService.getItemCountsByUserId(userId);
+        logger.debug("Returning counts for {} accounts of user ID: {}", counts.size(), userId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(counts);
+    }
+
+    /**
+     * Retrieves every account of a user with its counts, latest movements and next planned movements.
+     * Replaces one account, count, movement and planned request per account on the accounts overview.
+     *
+     * @param userId    The unique identifier of the user
+     * @param movements Number of latest movements per account, capped at 50
+     * @param planned   Number of next planned movements per account, capped at 50
+     * @return ResponseEntity containing one overview entry per account, ordered by priority
+     */
+    @GetMapping("/user/{userId}/overview")
+    public ResponseEntity<List<AccountOverview>> getOverviewByUserId(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "5") int movements,
+            @RequestParam(defaultValue = "5") int planned) {
+        logger.debug("Request to retrieve account overview for user ID: {}", userId);
+
+        List<AccountOverview> overview = accountService.getOverviewByUserId(userId,
+                Math.min(Math.max(movements, 0), MAX_OVERVIEW_ITEMS),
+                Math.min(Math.max(planned, 0), MAX_OVERVIEW_ITEMS));
+        logger.debug("Returning overview of {} accounts for user ID: {}", overview.size(), userId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(overview);
+    }
+
     /**
      * Updates an existing bank account with new information.
      *
@@ -124,11 +169,13 @@ public class AccountController {
      */
     @PutMapping("/{id}")
     public ResponseEntity<?> update(@PathVariable Long id, @Valid @RequestBody Account account) {
-        logger.info("Request to update account with ID: {} - New IBAN: {}", id, account.getIban());
+        logger.debug("Request to update account with ID: {} - New IBAN: {}", id, account.getIban());
 
         try {
-            logger.debug("Updating account ID: {} with new details - Name: {}, Type: {}",
-                    id, account.getAccountName(), account.getType());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Updating account ID: {} with new details - Name: {}, Type: {}",
+                        id, account.getAccountName(), account.getType());
+            }
             Account updatedAccount = accountService.update(id, account);
             logger.info("Account with ID: {} updated successfully", id);
             logger.debug("Updated account details - IBAN: {}, Balance: {}",
@@ -155,7 +202,7 @@ public class AccountController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<?> delete(@PathVariable Long id) {
-        logger.info("Request to delete account with ID: {}", id);
+        logger.debug("Request to delete account with ID: {}", id);
 
         try {
             logger.debug("Attempting to delete account with ID: {}", id);
@@ -176,10 +223,10 @@ public class AccountController {
      */
     @GetMapping("/count")
     public ResponseEntity<Map<String, Long>> count() {
-        logger.info("Request to get total account count");
+        logger.debug("Request to get total account count");
 
         long count = accountService.count();
-        logger.info("Total accounts in system: {}", count);
+        logger.debug("Total accounts in system: {}", count);
         logger.debug("Returning account count: {}", count);
 
         return ResponseEntity.status(HttpStatus.OK).body(Map.of("count", count));
@@ -194,7 +241,7 @@ public class AccountController {
      */
     @GetMapping("/landing/{userId}")
     public ResponseEntity<LandingStatistics> landingStatistics(@PathVariable Long userId) {
-        logger.info("Request to get landing page statistics for user ID: {}", userId);
+        logger.debug("Request to get landing page statistics for user ID: {}", userId);
 
         LandingStatistics landingStatistics = accountService.landingStatistics(userId);
 
@@ -213,11 +260,11 @@ public class AccountController {
     public ResponseEntity<AnalyticsStatistics> analyticsStatistics(
             @PathVariable Long userId,
             @RequestParam(defaultValue = "month") String timeFilter) {
-        logger.info("Request to get analytics statistics for user ID: {} with filter: {}", userId, timeFilter);
+        logger.debug("Request to get analytics statistics for user ID: {} with filter: {}", userId, timeFilter);
 
         try {
             AnalyticsStatistics analyticsStats = analyticsService.calculateAnalytics(userId, timeFilter);
-            logger.info("Successfully calculated analytics for user ID: {} with filter: {}", userId, timeFilter);
+            logger.debug("Successfully calculated analytics for user ID: {} with filter: {}", userId, timeFilter);
             return ResponseEntity.status(HttpStatus.OK).body(analyticsStats);
         } catch (RuntimeException e) {
             logger.error("Failed to calculate analytics for user ID: {} - Error: {}", userId, e.getMessage());
@@ -0,0 +1,128 @@
+package com.beehive.dashboard.controller.bank;
+
+import com.beehive.dashboard.dto.bank.BudgetStatus;
+import com.beehive.dashboard.entity.bank.Budget;
+import com.beehive.dashboard.service.bank.BudgetService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for managing monthly category budgets and comparing them with spend.
+ */
+@RestController
+@RequestMapping("/v1/bank/budgets")
+public class BudgetController {
+
+    private static final Logger logger = LoggerFactory.getLogger(BudgetController.class);
+
+    @Autowired
+    private BudgetService budgetService;
+
+    /**
+     * Creates a new budget.
+     *
+     * @param budget Budget containing the user, category and monthly limit
+     * @return ResponseEntity with created budget, CONFLICT if the category already has one, or error message
+     */
+    @PostMapping
+    public ResponseEntity<?> create(@Valid @RequestBody Budget budget) {
+        logger.debug("Request to create budget for user ID: {}", budget.getUserId());
+
+        try {
+            Budget createdBudget = budgetService.createBudget(budget);
+            logger.info("Budget created successfully with ID: {}", createdBudget.getId());
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdBudget);
+        } catch (ResponseStatusException e) {
+            logger.error("Failed to create budget for user ID: {} - Error: {}", budget.getUserId(), e.getReason());
+            return ResponseEntity.status(e.getStatusCode()).body(Map.of("error", String.valueOf(e.getReason())));
+        }
+    }
+
+    /**
+     * Retrieves the budgets of a user.
+     *
+     * @param userId The unique identifier of the user
+     * @return ResponseEntity containing the user's budgets
+     */
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<List<Budget>> getByUserId(@PathVariable Long userId) {
+        logger.debug("Request to retrieve budgets for user ID: {}", userId);
+
+        List<Budget> budgets = budgetService.getBudgetsByUserId(userId);
+        logger.debug("Retrieved {} budgets for user ID: {}", budgets.size(), userId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(budgets);
+    }
+
+    /**
+     * Changes the monthly limit of a budget.
+     *
+     * @param id     The unique identifier of the budget
+     * @param budget Budget carrying the new limit; other fields are ignored
+     * @return ResponseEntity with updated budget, NOT_FOUND if it does not exist, or BAD_REQUEST for a limit that is not positive
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updateLimit(@PathVariable Long id, @RequestBody Budget budget) {
+        logger.debug("Request to update budget with ID: {}", id);
+
+        try {
+            Budget updatedBudget = budgetService.updateLimit(id, budget.getLimitCents());
+            logger.info("Budget with ID: {} updated successfully", id);
+
+            return ResponseEntity.status(HttpStatus.OK).body(updatedBudget);
+        } catch (ResponseStatusException e) {
+            logger.error("Failed to update budget with ID: {} - Error: {}", id, e.getReason());
+            return ResponseEntity.status(e.getStatusCode()).body(Map.of("error", String.valueOf(e.getReason())));
+        }
+    }
+
+    /**
+     * Deletes a budget.
+     *
+     * @param id The unique identifier of the budget to delete
+     * @return ResponseEntity indicating success or failure of deletion
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> delete(@PathVariable Long id) {
+        logger.debug("Request to delete budget with ID: {}", id);
+
+        try {
+            budgetService.deleteBudget(id);
+            logger.info("Budget with ID: {} deleted successfully", id);
+
+            return ResponseEntity.status(HttpStatus.OK).build();
+        } catch (RuntimeException e) {
+            logger.error("Failed to delete budget with ID: {} - Error: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * Compares the spend of each budgeted category with its limit.
+     *
+     * @param userId The unique identifier of the user
+     * @param month  Month to report on (yyyy-MM), the current month by default
+     * @return ResponseEntity containing one status per budget
+     */
+    @GetMapping("/user/{userId}/status")
+    public ResponseEntity<List<BudgetStatus>> getStatus(@PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        logger.debug("Request to retrieve budget status for user ID: {}", userId);
+
+        List<BudgetStatus> statuses = budgetService.getStatus(userId, month != null ? month : YearMonth.now());
+
+        return ResponseEntity.status(HttpStatus.OK).body(statuses);
+    }
+}
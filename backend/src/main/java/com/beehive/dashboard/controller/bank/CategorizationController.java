@@ -0,0 +1,112 @@
+package com.beehive.dashboard.controller.bank;
+
+import com.beehive.dashboard.entity.bank.CategorizationRule;
+import com.beehive.dashboard.service.bank.CategorizationService;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for managing categorization rules and re-categorizing movement history.
+ */
+@RestController
+@RequestMapping("/v1/bank/categorization")
+public class CategorizationController {
+
+    private static final Logger logger = LoggerFactory.getLogger(CategorizationController.class);
+
+    @Autowired
+    private CategorizationService categorizationService;
+
+    /**
+     * Creates a new categorization rule.
+     *
+     * @param rule Rule containing the keyword, category and optional account and amount bounds
+     * @return ResponseEntity with created rule or error message if creation fails
+     */
+    @PostMapping("/rules")
+    public ResponseEntity<?> createRule(@Valid @RequestBody CategorizationRule rule) {
+        logger.debug("Request to create categorization rule for user ID: {}", rule.getUserId());
+
+        try {
+            CategorizationRule createdRule = categorizationService.createRule(rule);
+            logger.info("Categorization rule created successfully with ID: {}", createdRule.getId());
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(createdRule);
+        } catch (ResponseStatusException e) {
+            logger.error("Failed to create categorization rule for user ID: {} - Error: {}", rule.getUserId(), e.getReason());
+            return ResponseEntity.status(e.getStatusCode()).body(Map.of("error", String.valueOf(e.getReason())));
+        }
+    }
+
+    /**
+     * Retrieves the categorization rules of a user in the order they take precedence.
+     *
+     * @param userId The unique identifier of the user
+     * @return ResponseEntity containing the user's rules
+     */
+    @GetMapping("/rules/user/{userId}")
+    public ResponseEntity<List<CategorizationRule>> getRulesByUserId(@PathVariable Long userId) {
+        logger.debug("Request to retrieve categorization rules for user ID: {}", userId);
+
+        List<CategorizationRule> rules = categorizationService.getRulesByUserId(userId);
+        logger.debug("Retrieved {} categorization rules for user ID: {}", rules.size(), userId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(rules);
+    }
+
+    /**
+     * Deletes a categorization rule.
+     *
+     * @param id The unique identifier of the rule to delete
+     * @return ResponseEntity indicating success or failure of deletion
+     */
+    @DeleteMapping("/rules/{id}")
+    public ResponseEntity<?> deleteRule(@PathVariable Long id) {
+        logger.debug("Request to delete categorization rule with ID: {}", id);
+
+        try {
+            categorizationService.deleteRule(id);
+            logger.info("Categorization rule with ID: {} deleted successfully", id);
+
+            return ResponseEntity.status(HttpStatus.OK).build();
+        } catch (RuntimeException e) {
+            logger.error("Failed to delete categorization rule with ID: {} - Error: {}", id, e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+    }
+
+    /**
+     * Re-applies the rules of a user to their whole movement history, in the background.
+     *
+     * @param userId    The unique identifier of the user
+     * @param overwrite Whether to replace categories that are already set; by default only missing ones are filled
+     * @return ResponseEntity ACCEPTED once queued, or CONFLICT if the user's history is already being re-categorized
+     */
+    @PostMapping("/recategorize/user/{userId}")
+    public ResponseEntity<?> recategorize(@PathVariable Long userId,
+            @RequestParam(defaultValue = "false") boolean overwrite) {
+        logger.debug("Request to re-categorize movements of user ID: {} - Overwrite: {}", userId, overwrite);
+
+        try {
+            if (!categorizationService.recategorizeAsync(userId, overwrite)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", "Movements of user " + userId + " are already being re-categorized"));
+            }
+            logger.info("Re-categorization of user ID: {} queued", userId);
+
+            return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+        } catch (ResponseStatusException e) {
+            logger.error("Failed to queue re-categorization of user ID: {} - Error: {}", userId, e.getReason());
+            return ResponseEntity.status(e.getStatusCode()).body(Map.of("error", String.valueOf(e.getReason())));
+        }
+    }
+}
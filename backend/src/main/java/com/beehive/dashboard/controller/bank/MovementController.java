@@ -1,21 +1,31 @@
 package com.beehive.dashboard.controller.bank;
 
+import com.beehive.dashboard.dto.bank.MovementSearchCriteria;
+import com.beehive.dashboard.dto.bank.MovementView;
 import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.entity.bank.MovementMonthlyRollup;
+import com.beehive.dashboard.service.bank.MovementArchiveService;
 import com.beehive.dashboard.service.bank.MovementService;
 import com.beehive.dashboard.types.bank.MovementStatus;
 import com.beehive.dashboard.types.bank.MovementType;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * REST controller for managing bank movement (transaction) operations.
@@ -28,28 +38,49 @@ public class MovementController {
 
     private static final Logger logger = LoggerFactory.getLogger(MovementController.class);
 
+    public static final String HAS_NEXT_HEADER = "X-Has-Next";
+
+    public static final String SKIPPED_DUPLICATES_HEADER = "X-Skipped-Duplicates";
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
     @Autowired
     private MovementService movementService;
 
+    @Autowired
+    private MovementArchiveService archiveService;
+
+    @Autowired
+    private Validator validator;
+
     /**
      * Creates a new bank movement (transaction) in the system.
      *
      * @param movement Movement entity containing transaction details to be created
-     * @return ResponseEntity with created Movement or error message if creation fails
+     * @param allowDuplicate Whether to create the movement even if it looks like a duplicate of an existing one,
+     *                       with {@code duplicateOf} warning about it; by default it is rejected with CONFLICT
+     * @return ResponseEntity with created Movement, CONFLICT for a likely duplicate that is not allowed, or error message if creation fails
      */
     @PostMapping
-    public ResponseEntity<?> create(@Valid @RequestBody Movement movement) {
-        logger.info("Request to create new movement - Amount: {} for account ID: {}",
+    public ResponseEntity<?> create(@Valid @RequestBody Movement movement,
+            @RequestParam(defaultValue = "false") boolean allowDuplicate) {
+        logger.debug("Request to create new movement - Amount: {} for account ID: {}",
             movement.getAmount(), movement.getAccountId());
 
         try {
             logger.debug("Creating movement with type: {}, description: {}",
                 movement.getType(), movement.getDescription());
-            Movement createdMovement = movementService.create(movement);
+            Movement createdMovement = movementService.create(movement, allowDuplicate);
             logger.info("Movement created successfully with ID: {} - Amount: {}",
                 createdMovement.getId(), createdMovement.getAmount());
 
             return ResponseEntity.status(HttpStatus.CREATED).body(createdMovement);
+        } catch (ResponseStatusException e) {
+            logger.warn("Rejected movement for account ID: {} - Error: {}", movement.getAccountId(), e.getReason());
+            HttpStatus status = e.getStatusCode() == HttpStatus.CONFLICT ? HttpStatus.CONFLICT : HttpStatus.BAD_REQUEST;
+            return ResponseEntity.status(status).body(Map.of("error", String.valueOf(e.getReason())));
         } catch (RuntimeException e) {
             logger.error("Failed to create movement for account ID: {} - Error: {}",
                 movement.getAccountId(), e.getMessage());
@@ -57,17 +88,62 @@ public class MovementController {
         }
     }
 
+    /**
+     * Creates a batch of bank movements, e.g. imported from a bank statement.
+     * Movements without a category are categorized by the user's rules. The batch is all or nothing,
+     * except that likely duplicates are skipped unless allowed; X-Skipped-Duplicates tells how many.
+     * Allowed duplicates are created with {@code duplicateOf} set.
+     *
+     * @param movements Movements to create, at most 1000, each validated like a single movement
+     * @param allowDuplicates Whether to create likely duplicates as well; by default they are skipped
+     * @return ResponseEntity with the created movements, or BAD_REQUEST naming the first invalid movement
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<?> createAll(@RequestBody List<Movement> movements,
+            @RequestParam(defaultValue = "false") boolean allowDuplicates) {
+        logger.debug("Request to create batch of {} movements", movements.size());
+
+        if (movements.isEmpty() || movements.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(Map.of("error", "A batch must contain between 1 and " + MAX_BATCH_SIZE + " movements"));
+        }
+        // @Valid on the list elements is not applied to a request body, so each movement is checked here
+        for (int i = 0; i < movements.size(); i++) {
+            Movement movement = movements.get(i);
+            if (movement == null) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", "Movement " + i + " is missing"));
+            }
+            Set<ConstraintViolation<Movement>> violations = validator.validate(movement);
+            if (!violations.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", "Movement " + i + ": " + violations.iterator().next().getMessage()));
+            }
+        }
+
+        try {
+            List<Movement> createdMovements = movementService.createAll(movements, allowDuplicates);
+            logger.info("Batch of {} movements created successfully", createdMovements.size());
+
+            return ResponseEntity.status(HttpStatus.CREATED)
+                .header(SKIPPED_DUPLICATES_HEADER, String.valueOf(movements.size() - createdMovements.size()))
+                .body(createdMovements);
+        } catch (RuntimeException e) {
+            logger.error("Failed to create batch of {} movements - Error: {}", movements.size(), e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * Retrieves all bank movements from the system.
      *
      * @return ResponseEntity containing list of all movements
      */
     @GetMapping
-    public ResponseEntity<List<Movement>> getAll() {
-        logger.info("Request to retrieve all movements");
+    public ResponseEntity<List<MovementView>> getAll() {
+        logger.debug("Request to retrieve all movements");
 
-        List<Movement> movements = movementService.getAll();
-        logger.info("Retrieved {} movements from database", movements.size());
+        List<MovementView> movements = movementService.getAll();
+        logger.debug("Retrieved {} movements from database", movements.size());
         logger.debug("Movement list size: {}", movements.size());
 
         return ResponseEntity.status(HttpStatus.OK).body(movements);
@@ -81,14 +157,16 @@ public class MovementController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<Movement> getById(@PathVariable Long id) {
-        logger.info("Request to retrieve movement with ID: {}", id);
+        logger.debug("Request to retrieve movement with ID: {}", id);
 
         try {
             Movement movement = movementService.getById(id);
-            logger.info("Successfully retrieved movement with ID: {} - Amount: {}",
+            logger.debug("Successfully retrieved movement with ID: {} - Amount: {}",
                 id, movement.getAmount());
-            logger.debug("Movement details - Type: {}, Status: {}, Description: {}",
-                movement.getType(), movement.getStatus(), movement.getDescription());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Movement details - Type: {}, Status: {}, Description: {}",
+                    movement.getType(), movement.getStatus(), movement.getDescription());
+            }
 
             return ResponseEntity.status(HttpStatus.OK).body(movement);
         } catch (RuntimeException e) {
@@ -99,17 +177,36 @@ public class MovementController {
 
     /**
      * Retrieves all bank movements for a specific account.
+     * When a page is requested, returns that page newest first and continues into archived
+     * movements once the client pages past the recent ones; X-Has-Next tells whether more follow.
      *
      * @param accountId The unique identifier of the account whose movements to retrieve
+     * @param page Optional zero-based page number; all recent movements are returned when omitted
+     * @param size Page size, capped at 500
      * @return ResponseEntity containing list of account movements or NOT_FOUND if no movements exist
      */
     @GetMapping("/account/{accountId}")
-    public ResponseEntity<List<Movement>> getByAccountId(@PathVariable Long accountId) {
-        logger.info("Request to retrieve movements for account ID: {}", accountId);
+    public ResponseEntity<List<MovementView>> getByAccountId(@PathVariable Long accountId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(defaultValue = "50") int size) {
+        logger.debug("Request to retrieve movements for account ID: {}", accountId);
 
         try {
-            List<Movement> movements = movementService.getByAccountId(accountId);
-            logger.info("Successfully retrieved {} movements for account ID: {}",
+            if (page != null) {
+                Slice<MovementView> slice = movementService.getByAccountId(accountId, Math.max(page, 0),
+                    Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Retrieved page {} with {} movements for account ID: {}",
+                        page, slice.getNumberOfElements(), accountId);
+                }
+
+                return ResponseEntity.status(HttpStatus.OK)
+                    .header(HAS_NEXT_HEADER, String.valueOf(slice.hasNext()))
+                    .body(slice.getContent());
+            }
+
+            List<MovementView> movements = movementService.getByAccountId(accountId);
+            logger.debug("Successfully retrieved {} movements for account ID: {}",
                 movements.size(), accountId);
             logger.debug("Account {} has {} movements", accountId, movements.size());
 
@@ -120,6 +217,78 @@ public class MovementController {
         }
     }
 
+    /**
+     * Searches the movements of a user with any combination of accounts, types, statuses, categories,
+     * amount range, date range and description text. Results are newest first; to get the next page,
+     * pass the date and id of the last movement as afterDate and afterId. X-Has-Next tells whether more follow.
+     *
+     * @param userId The unique identifier of the user whose movements to search
+     * @param criteria Optional filters and the keyset of the previous page
+     * @param size Page size, capped at 500
+     * @return ResponseEntity containing one page of matching movements
+     */
+    @GetMapping("/search/user/{userId}")
+    public ResponseEntity<List<MovementView>> search(@PathVariable Long userId,
+            @ModelAttribute MovementSearchCriteria criteria,
+            @RequestParam(defaultValue = "50") int size) {
+        logger.debug("Request to search movements for user ID: {}", userId);
+
+        Slice<MovementView> slice = movementService.search(userId, criteria, Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        logger.debug("Search returned {} movements for user ID: {}", slice.getNumberOfElements(), userId);
+
+        return ResponseEntity.status(HttpStatus.OK)
+            .header(HAS_NEXT_HEADER, String.valueOf(slice.hasNext()))
+            .body(slice.getContent());
+    }
+
+    /**
+     * Searches the descriptions of a user's movements, best match first.
+     * Every word must match and the last one may be incomplete, so results follow the user's typing.
+     *
+     * @param userId The unique identifier of the user whose movements to search
+     * @param q The search text
+     * @param page Zero-based page number
+     * @param size Page size, capped at 500
+     * @return ResponseEntity containing one page of matching movements
+     */
+    @GetMapping("/search/text/user/{userId}")
+    public ResponseEntity<List<MovementView>> searchByDescription(@PathVariable Long userId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        logger.debug("Request to search movement descriptions for user ID: {}", userId);
+
+        Slice<MovementView> slice = movementService.searchByDescription(userId, q, Math.max(page, 0),
+            Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        logger.debug("Description search returned {} movements for user ID: {}", slice.getNumberOfElements(), userId);
+
+        return ResponseEntity.status(HttpStatus.OK)
+            .header(HAS_NEXT_HEADER, String.valueOf(slice.hasNext()))
+            .body(slice.getContent());
+    }
+
+    /**
+     * Retrieves the monthly totals of archived movements for all accounts of a user.
+     *
+     * @param userId The unique identifier of the user
+     * @param from First month of the range (yyyy-MM)
+     * @param to Last month of the range (yyyy-MM)
+     * @return ResponseEntity containing the rollups ordered by month
+     */
+    @GetMapping("/archive/rollups/user/{userId}")
+    public ResponseEntity<List<MovementMonthlyRollup>> getArchivedRollups(@PathVariable Long userId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request to retrieve archived movement rollups for user ID: {} from {} to {}", userId, from, to);
+        }
+
+        List<MovementMonthlyRollup> rollups = archiveService.getMonthlyRollups(userId, from, to);
+        logger.debug("Retrieved {} archived movement rollups", rollups.size());
+
+        return ResponseEntity.status(HttpStatus.OK).body(rollups);
+    }
+
     /**
      * Updates an existing bank movement with new information.
      *
@@ -129,11 +298,13 @@ public class MovementController {
      */
     @PutMapping("/{id}")
     public ResponseEntity<?> update(@PathVariable Long id, @Valid @RequestBody Movement movement) {
-        logger.info("Request to update movement with ID: {} - New amount: {}", id, movement.getAmount());
+        logger.debug("Request to update movement with ID: {} - New amount: {}", id, movement.getAmount());
 
         try {
-            logger.debug("Updating movement ID: {} with new details - Type: {}, Status: {}",
-                id, movement.getType(), movement.getStatus());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Updating movement ID: {} with new details - Type: {}, Status: {}",
+                    id, movement.getType(), movement.getStatus());
+            }
             Movement updatedMovement = movementService.update(id, movement);
             logger.info("Movement with ID: {} updated successfully", id);
             logger.debug("Updated movement details - Amount: {}, Description: {}",
@@ -159,7 +330,7 @@ public class MovementController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<?> delete(@PathVariable Long id) {
-        logger.info("Request to delete movement with ID: {}", id);
+        logger.debug("Request to delete movement with ID: {}", id);
 
         try {
             logger.debug("Attempting to delete movement with ID: {}", id);
@@ -180,10 +351,10 @@ public class MovementController {
      */
     @GetMapping("/count")
     public ResponseEntity<Map<String, Long>> count() {
-        logger.info("Request to get total movement count");
+        logger.debug("Request to get total movement count");
 
         long count = movementService.count();
-        logger.info("Total movements in system: {}", count);
+        logger.debug("Total movements in system: {}", count);
         logger.debug("Returning movement count: {}", count);
 
         return ResponseEntity.status(HttpStatus.OK).body(Map.of("count", count));
@@ -197,12 +368,14 @@ public class MovementController {
      * @return ResponseEntity containing list of filtered movements
      */
     @GetMapping("/account/{accountId}/type/{type}")
-    public ResponseEntity<List<Movement>> getByAccountIdAndType(@PathVariable Long accountId, @PathVariable MovementType type) {
-        logger.info("Request to retrieve movements for account ID: {} with type: {}", accountId, type);
+    public ResponseEntity<List<MovementView>> getByAccountIdAndType(@PathVariable Long accountId, @PathVariable MovementType type) {
+        logger.debug("Request to retrieve movements for account ID: {} with type: {}", accountId, type);
 
-        List<Movement> movements = movementService.getByAccountIdAndType(accountId, type);
-        logger.info("Retrieved {} movements for account ID: {} with type: {}",
-            movements.size(), accountId, type);
+        List<MovementView> movements = movementService.getByAccountIdAndType(accountId, type);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Retrieved {} movements for account ID: {} with type: {}",
+                movements.size(), accountId, type);
+        }
         logger.debug("Filtered movements count by type {}: {}", type, movements.size());
 
         return ResponseEntity.status(HttpStatus.OK).body(movements);
@@ -216,12 +389,14 @@ public class MovementController {
      * @return ResponseEntity containing list of filtered movements
      */
     @GetMapping("/account/{accountId}/status/{status}")
-    public ResponseEntity<List<Movement>> getByAccountIdAndStatus(@PathVariable Long accountId, @PathVariable MovementStatus status) {
-        logger.info("Request to retrieve movements for account ID: {} with status: {}", accountId, status);
+    public ResponseEntity<List<MovementView>> getByAccountIdAndStatus(@PathVariable Long accountId, @PathVariable MovementStatus status) {
+        logger.debug("Request to retrieve movements for account ID: {} with status: {}", accountId, status);
 
-        List<Movement> movements = movementService.getByAccountIdAndStatus(accountId, status);
-        logger.info("Retrieved {} movements for account ID: {} with status: {}",
-            movements.size(), accountId, status);
+        List<MovementView> movements = movementService.getByAccountIdAndStatus(accountId, status);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Retrieved {} movements for account ID: {} with status: {}",
+                movements.size(), accountId, status);
+        }
         logger.debug("Filtered movements count by status {}: {}", status, movements.size());
 
         return ResponseEntity.status(HttpStatus.OK).body(movements);
@@ -236,20 +411,41 @@ public class MovementController {
      * @return ResponseEntity containing list of movements within the date range
      */
     @GetMapping("/account/{accountId}/date-range")
-    public ResponseEntity<List<Movement>> getByAccountIdAndDateRange(@PathVariable Long accountId,
+    public ResponseEntity<List<MovementView>> getByAccountIdAndDateRange(@PathVariable Long accountId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        logger.info("Request to retrieve movements for account ID: {} between {} and {}",
-            accountId, startDate, endDate);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request to retrieve movements for account ID: {} between {} and {}",
+                accountId, startDate, endDate);
+        }
 
-        List<Movement> movements = movementService.getByAccountIdAndDateRange(accountId, startDate, endDate);
-        logger.info("Retrieved {} movements for account ID: {} in date range {} to {}",
-            movements.size(), accountId, startDate, endDate);
+        List<MovementView> movements = movementService.getByAccountIdAndDateRange(accountId, startDate, endDate);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Retrieved {} movements for account ID: {} in date range {} to {}",
+                movements.size(), accountId, startDate, endDate);
+        }
         logger.debug("Date range filtered movements count: {}", movements.size());
 
         return ResponseEntity.status(HttpStatus.OK).body(movements);
     }
 
+    /**
+     * Reports the movements of an account that are likely duplicates of each other:
+     * same amount and description, dated within a few days.
+     *
+     * @param accountId The unique identifier of the account
+     * @return ResponseEntity containing the groups of likely duplicates, each ordered by date
+     */
+    @GetMapping("/account/{accountId}/duplicates")
+    public ResponseEntity<List<List<MovementView>>> getDuplicateGroups(@PathVariable Long accountId) {
+        logger.debug("Request to report duplicate movements for account ID: {}", accountId);
+
+        List<List<MovementView>> groups = movementService.getDuplicateGroups(accountId);
+        logger.debug("Found {} duplicate groups for account ID: {}", groups.size(), accountId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(groups);
+    }
+
     /**
      * Retrieves the count of movements for a specific account.
      *
@@ -258,10 +454,10 @@ public class MovementController {
      */
     @GetMapping("/account/{accountId}/count")
     public ResponseEntity<Map<String, Long>> countByAccountId(@PathVariable Long accountId) {
-        logger.info("Request to count movements for account ID: {}", accountId);
+        logger.debug("Request to count movements for account ID: {}", accountId);
 
         long count = movementService.countByAccountId(accountId);
-        logger.info("Account ID: {} has {} movements", accountId, count);
+        logger.debug("Account ID: {} has {} movements", accountId, count);
         logger.debug("Returning movement count for account {}: {}", accountId, count);
 
         return ResponseEntity.status(HttpStatus.OK).body(Map.of("count", count));
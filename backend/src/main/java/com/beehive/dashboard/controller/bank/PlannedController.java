@@ -1,5 +1,6 @@
 package com.beehive.dashboard.controller.bank;
 
+import com.beehive.dashboard.dto.bank.PlannedView;
 import com.beehive.dashboard.entity.bank.Planned;
 import com.beehive.dashboard.service.bank.PlannedService;
 import com.beehive.dashboard.types.bank.MovementStatus;
@@ -8,6 +9,7 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -28,6 +30,8 @@ public class PlannedController {
 
     private static final Logger logger = LoggerFactory.getLogger(PlannedController.class);
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     @Autowired
     private PlannedService plannedService;
 
@@ -39,7 +43,7 @@ public class PlannedController {
      */
     @PostMapping
     public ResponseEntity<?> create(@Valid @RequestBody Planned planned) {
-        logger.info("Request to create new planned - Amount: {} for account ID: {}",
+        logger.debug("Request to create new planned - Amount: {} for account ID: {}",
             planned.getAmount(), planned.getAccountId());
 
         try {
@@ -63,11 +67,11 @@ public class PlannedController {
      * @return ResponseEntity containing list of all planned
      */
     @GetMapping
-    public ResponseEntity<List<Planned>> getAll() {
-        logger.info("Request to retrieve all planned");
+    public ResponseEntity<List<PlannedView>> getAll() {
+        logger.debug("Request to retrieve all planned");
 
-        List<Planned> planned = plannedService.getAll();
-        logger.info("Retrieved {} planned from database", planned.size());
+        List<PlannedView> planned = plannedService.getAll();
+        logger.debug("Retrieved {} planned from database", planned.size());
         logger.debug("Planned list size: {}", planned.size());
 
         return ResponseEntity.status(HttpStatus.OK).body(planned);
@@ -81,14 +85,16 @@ public class PlannedController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<Planned> getById(@PathVariable Long id) {
-        logger.info("Request to retrieve planned with ID: {}", id);
+        logger.debug("Request to retrieve planned with ID: {}", id);
 
         try {
             Planned planned = plannedService.getById(id);
-            logger.info("Successfully retrieved planned with ID: {} - Amount: {}",
+            logger.debug("Successfully retrieved planned with ID: {} - Amount: {}",
                 id, planned.getAmount());
-            logger.debug("Planned details - Type: {}, Status: {}, Description: {}",
-                planned.getType(), planned.getStatus(), planned.getDescription());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Planned details - Type: {}, Status: {}, Description: {}",
+                    planned.getType(), planned.getStatus(), planned.getDescription());
+            }
 
             return ResponseEntity.status(HttpStatus.OK).body(planned);
         } catch (RuntimeException e) {
@@ -104,12 +110,12 @@ public class PlannedController {
      * @return ResponseEntity containing list of account planned or NOT_FOUND if no planned exist
      */
     @GetMapping("/account/{accountId}")
-    public ResponseEntity<List<Planned>> getByAccountId(@PathVariable Long accountId) {
-        logger.info("Request to retrieve planned for account ID: {}", accountId);
+    public ResponseEntity<List<PlannedView>> getByAccountId(@PathVariable Long accountId) {
+        logger.debug("Request to retrieve planned for account ID: {}", accountId);
 
         try {
-            List<Planned> planned = plannedService.getByAccountId(accountId);
-            logger.info("Successfully retrieved {} planned for account ID: {}",
+            List<PlannedView> planned = plannedService.getByAccountId(accountId);
+            logger.debug("Successfully retrieved {} planned for account ID: {}",
                 planned.size(), accountId);
             logger.debug("Account {} has {} planned", accountId, planned.size());
 
@@ -129,11 +135,13 @@ public class PlannedController {
      */
     @PutMapping("/{id}")
     public ResponseEntity<?> update(@PathVariable Long id, @Valid @RequestBody Planned planned) {
-        logger.info("Request to update planned with ID: {} - New amount: {}", id, planned.getAmount());
+        logger.debug("Request to update planned with ID: {} - New amount: {}", id, planned.getAmount());
 
         try {
-            logger.debug("Updating planned ID: {} with new details - Type: {}, Status: {}",
-                id, planned.getType(), planned.getStatus());
+            if (logger.isDebugEnabled()) {
+                logger.debug("Updating planned ID: {} with new details - Type: {}, Status: {}",
+                    id, planned.getType(), planned.getStatus());
+            }
             Planned updatedPlanned = plannedService.update(id, planned);
             logger.info("Planned with ID: {} updated successfully", id);
             logger.debug("Updated planned details - Amount: {}, Description: {}",
@@ -159,7 +167,7 @@ public class PlannedController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<?> delete(@PathVariable Long id) {
-        logger.info("Request to delete planned with ID: {}", id);
+        logger.debug("Request to delete planned with ID: {}", id);
 
         try {
             logger.debug("Attempting to delete planned with ID: {}", id);
@@ -180,10 +188,10 @@ public class PlannedController {
      */
     @GetMapping("/count")
     public ResponseEntity<Map<String, Long>> count() {
-        logger.info("Request to get total planned count");
+        logger.debug("Request to get total planned count");
 
         long count = plannedService.count();
-        logger.info("Total planned in system: {}", count);
+        logger.debug("Total planned in system: {}", count);
         logger.debug("Returning planned count: {}", count);
 
         return ResponseEntity.status(HttpStatus.OK).body(Map.of("count", count));
@@ -197,12 +205,14 @@ public class PlannedController {
      * @return ResponseEntity containing list of filtered planned
      */
     @GetMapping("/account/{accountId}/type/{type}")
-    public ResponseEntity<List<Planned>> getByAccountIdAndType(@PathVariable Long accountId, @PathVariable MovementType type) {
-        logger.info("Request to retrieve planned for account ID: {} with type: {}", accountId, type);
+    public ResponseEntity<List<PlannedView>> getByAccountIdAndType(@PathVariable Long accountId, @PathVariable MovementType type) {
+        logger.debug("Request to retrieve planned for account ID: {} with type: {}", accountId, type);
 
-        List<Planned> planned = plannedService.getByAccountIdAndType(accountId, type);
-        logger.info("Retrieved {} planned for account ID: {} with type: {}",
-            planned.size(), accountId, type);
+        List<PlannedView> planned = plannedService.getByAccountIdAndType(accountId, type);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Retrieved {} planned for account ID: {} with type: {}",
+                planned.size(), accountId, type);
+        }
         logger.debug("Filtered planned count by type {}: {}", type, planned.size());
 
         return ResponseEntity.status(HttpStatus.OK).body(planned);
@@ -216,12 +226,14 @@ public class PlannedController {
      * @return ResponseEntity containing list of filtered planned
      */
     @GetMapping("/account/{accountId}/status/{status}")
-    public ResponseEntity<List<Planned>> getByAccountIdAndStatus(@PathVariable Long accountId, @PathVariable MovementStatus status) {
-        logger.info("Request to retrieve planned for account ID: {} with status: {}", accountId, status);
+    public ResponseEntity<List<PlannedView>> getByAccountIdAndStatus(@PathVariable Long accountId, @PathVariable MovementStatus status) {
+        logger.debug("Request to retrieve planned for account ID: {} with status: {}", accountId, status);
 
-        List<Planned> planned = plannedService.getByAccountIdAndStatus(accountId, status);
-        logger.info("Retrieved {} planned for account ID: {} with status: {}",
-            planned.size(), accountId, status);
+        List<PlannedView> planned = plannedService.getByAccountIdAndStatus(accountId, status);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Retrieved {} planned for account ID: {} with status: {}",
+                planned.size(), accountId, status);
+        }
         logger.debug("Filtered planned count by status {}: {}", status, planned.size());
 
         return ResponseEntity.status(HttpStatus.OK).body(planned);
@@ -236,15 +248,19 @@ public class PlannedController {
      * @return ResponseEntity containing list of planned within the date range
      */
     @GetMapping("/account/{accountId}/date-range")
-    public ResponseEntity<List<Planned>> getByAccountIdAndDateRange(@PathVariable Long accountId,
+    public ResponseEntity<List<PlannedView>> getByAccountIdAndDateRange(@PathVariable Long accountId,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
-        logger.info("Request to retrieve planned for account ID: {} between {} and {}",
-            accountId, startDate, endDate);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Request to retrieve planned for account ID: {} between {} and {}",
+                accountId, startDate, endDate);
+        }
 
-        List<Planned> planned = plannedService.getByAccountIdAndDateRange(accountId, startDate, endDate);
-        logger.info("Retrieved {} planned for account ID: {} in date range {} to {}",
-            planned.size(), accountId, startDate, endDate);
+        List<PlannedView> planned = plannedService.getByAccountIdAndDateRange(accountId, startDate, endDate);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Retrieved {} planned for account ID: {} in date range {} to {}",
+                planned.size(), accountId, startDate, endDate);
+        }
         logger.debug("Date range filtered planned count: {}", planned.size());
 
         return ResponseEntity.status(HttpStatus.OK).body(planned);
@@ -258,12 +274,38 @@ public class PlannedController {
      */
     @GetMapping("/account/{accountId}/count")
     public ResponseEntity<Map<String, Long>> countByAccountId(@PathVariable Long accountId) {
-        logger.info("Request to count planned for account ID: {}", accountId);
+        logger.debug("Request to count planned for account ID: {}", accountId);
 
         long count = plannedService.countByAccountId(accountId);
-        logger.info("Account ID: {} has {} planned", accountId, count);
+        logger.debug("Account ID: {} has {} planned", accountId, count);
         logger.debug("Returning planned count for account {}: {}", accountId, count);
 
         return ResponseEntity.status(HttpStatus.OK).body(Map.of("count", count));
     }
+
+    /**
+     * Searches the descriptions of a user's planned movements, best match first.
+     * Every word must match and the last one may be incomplete, so results follow the user's typing.
+     *
+     * @param userId The unique identifier of the user whose planned movements to search
+     * @param q The search text
+     * @param page Zero-based page number
+     * @param size Page size, capped at 500
+     * @return ResponseEntity containing one page of matching planned movements
+     */
+    @GetMapping("/search/text/user/{userId}")
+    public ResponseEntity<List<PlannedView>> searchByDescription(@PathVariable Long userId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        logger.debug("Request to search planned descriptions for user ID: {}", userId);
+
+        Slice<PlannedView> slice = plannedService.searchByDescription(userId, q, Math.max(page, 0),
+            Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        logger.debug("Description search returned {} planned for user ID: {}", slice.getNumberOfElements(), userId);
+
+        return ResponseEntity.status(HttpStatus.OK)
+            .header(MovementController.HAS_NEXT_HEADER, String.valueOf(slice.hasNext()))
+            .body(slice.getContent());
+    }
 }
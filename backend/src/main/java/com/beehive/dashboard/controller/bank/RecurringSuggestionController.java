@@ -0,0 +1,102 @@
+package com.beehive.dashboard.controller.bank;
+
+import com.beehive.dashboard.entity.bank.Planned;
+import com.beehive.dashboard.entity.bank.RecurringSuggestion;
+import com.beehive.dashboard.service.bank.RecurringPaymentService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for recurring payments detected in movement history and suggested as planned movements.
+ */
+@RestController
+@RequestMapping("/v1/bank/planned/suggestions")
+public class RecurringSuggestionController {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurringSuggestionController.class);
+
+    @Autowired
+    private RecurringPaymentService recurringPaymentService;
+
+    /**
+     * Retrieves the recurring payments suggested to a user.
+     *
+     * @param userId The unique identifier of the user
+     * @return ResponseEntity containing the suggestions, soonest next date first
+     */
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<List<RecurringSuggestion>> getSuggestionsByUserId(@PathVariable Long userId) {
+        logger.debug("Request to retrieve recurring payment suggestions for user ID: {}", userId);
+
+        List<RecurringSuggestion> suggestions = recurringPaymentService.getSuggestions(userId);
+        logger.debug("Retrieved {} recurring payment suggestions for user ID: {}", suggestions.size(), userId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(suggestions);
+    }
+
+    /**
+     * Analyzes the history of a user now instead of waiting for the scheduled analysis.
+     *
+     * @param userId The unique identifier of the user
+     * @return ResponseEntity containing the number of recurring series found
+     */
+    @PostMapping("/user/{userId}/analyze")
+    public ResponseEntity<Map<String, Integer>> analyze(@PathVariable Long userId) {
+        logger.debug("Request to analyze recurring payments of user ID: {}", userId);
+
+        int series = recurringPaymentService.analyzeUser(userId);
+        logger.debug("Found {} recurring series for user ID: {}", series, userId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(Map.of("series", series));
+    }
+
+    /**
+     * Accepts a suggestion, creating the planned movement it describes.
+     *
+     * @param id The unique identifier of the suggestion
+     * @return ResponseEntity with the created planned movement or error message if it fails
+     */
+    @PostMapping("/{id}/accept")
+    public ResponseEntity<?> accept(@PathVariable Long id) {
+        logger.debug("Request to accept recurring payment suggestion with ID: {}", id);
+
+        try {
+            Planned planned = recurringPaymentService.accept(id);
+            logger.info("Suggestion with ID: {} accepted as planned movement with ID: {}", id, planned.getId());
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(planned);
+        } catch (ResponseStatusException e) {
+            logger.error("Failed to accept suggestion with ID: {} - Error: {}", id, e.getReason());
+            return ResponseEntity.status(e.getStatusCode()).body(Map.of("error", String.valueOf(e.getReason())));
+        }
+    }
+
+    /**
+     * Dismisses a suggestion so it is no longer offered.
+     *
+     * @param id The unique identifier of the suggestion
+     * @return ResponseEntity with the dismissed suggestion or error message if it fails
+     */
+    @PostMapping("/{id}/dismiss")
+    public ResponseEntity<?> dismiss(@PathVariable Long id) {
+        logger.debug("Request to dismiss recurring payment suggestion with ID: {}", id);
+
+        try {
+            RecurringSuggestion suggestion = recurringPaymentService.dismiss(id);
+            logger.info("Suggestion with ID: {} dismissed", id);
+
+            return ResponseEntity.status(HttpStatus.OK).body(suggestion);
+        } catch (ResponseStatusException e) {
+            logger.error("Failed to dismiss suggestion with ID: {} - Error: {}", id, e.getReason());
+            return ResponseEntity.status(e.getStatusCode()).body(Map.of("error", String.valueOf(e.getReason())));
+        }
+    }
+}
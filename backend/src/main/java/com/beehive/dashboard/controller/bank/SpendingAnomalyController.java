@@ -0,0 +1,68 @@
+package com.beehive.dashboard.controller.bank;
+
+import com.beehive.dashboard.entity.bank.SpendingAnomaly;
+import com.beehive.dashboard.service.bank.SpendingAnomalyService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST controller for expenses flagged as unusually high for their category.
+ */
+@RestController
+@RequestMapping("/v1/bank/anomalies")
+public class SpendingAnomalyController {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpendingAnomalyController.class);
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    @Autowired
+    private SpendingAnomalyService anomalyService;
+
+    /**
+     * Retrieves one page of the flagged movements of a user, most recent first.
+     * Whether another page follows is returned in the X-Has-Next header.
+     *
+     * @param userId The unique identifier of the user
+     * @param page   Zero-based page number
+     * @param size   Number of anomalies per page
+     * @return ResponseEntity containing the anomalies of the page
+     */
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<List<SpendingAnomaly>> getByUserId(@PathVariable Long userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        logger.debug("Request to retrieve spending anomalies for user ID: {}", userId);
+
+        Slice<SpendingAnomaly> slice = anomalyService.getAnomalies(userId, Math.max(page, 0),
+            Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        logger.debug("Retrieved {} spending anomalies for user ID: {}", slice.getNumberOfElements(), userId);
+
+        return ResponseEntity.status(HttpStatus.OK)
+            .header(MovementController.HAS_NEXT_HEADER, String.valueOf(slice.hasNext()))
+            .body(slice.getContent());
+    }
+
+    /**
+     * Rebuilds the spending statistics and anomalies of a user from their movement history.
+     *
+     * @param userId The unique identifier of the user
+     * @return ResponseEntity containing the number of movements flagged
+     */
+    @PostMapping("/rebuild/user/{userId}")
+    public ResponseEntity<Map<String, Integer>> rebuild(@PathVariable Long userId) {
+        logger.debug("Request to rebuild spending statistics for user ID: {}", userId);
+
+        int flagged = anomalyService.rebuild(userId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(Map.of("flagged", flagged));
+    }
+}
@@ -0,0 +1,14 @@
+package com.beehive.dashboard.dto.bank;
+
+/**
+ * Number of movements and planned movements of one account.
+ * Projection of the grouped count query in AccountRepository, one row per account of a user.
+ */
+public interface AccountItemCounts {
+
+    Long getAccountId();
+
+    long getMovementCount();
+
+    long getPlannedCount();
+}
@@ -0,0 +1,70 @@
+package com.beehive.dashboard.dto.bank;
+
+import com.beehive.dashboard.entity.bank.Account;
+
+import java.util.List;
+
+/**
+ * One account of a user with its counts, latest movements and next planned movements,
+ * as shown on the accounts overview.
+ */
+public class AccountOverview {
+
+    private Account account;
+    private long movementCount;
+    private long plannedCount;
+    private List<MovementView> recentMovements;
+    private List<PlannedView> upcomingPlanned;
+
+    public AccountOverview() {
+    }
+
+    public AccountOverview(Account account, long movementCount, long plannedCount,
+                           List<MovementView> recentMovements, List<PlannedView> upcomingPlanned) {
+        this.account = account;
+        this.movementCount = movementCount;
+        this.plannedCount = plannedCount;
+        this.recentMovements = recentMovements;
+        this.upcomingPlanned = upcomingPlanned;
+    }
+
+    public Account getAccount() {
+        return account;
+    }
+
+    public void setAccount(Account account) {
+        this.account = account;
+    }
+
+    public long getMovementCount() {
+        return movementCount;
+    }
+
+    public void setMovementCount(long movementCount) {
+        this.movementCount = movementCount;
+    }
+
+    public long getPlannedCount() {
+        return plannedCount;
+    }
+
+    public void setPlannedCount(long plannedCount) {
+        this.plannedCount = plannedCount;
+    }
+
+    public List<MovementView> getRecentMovements() {
+        return recentMovements;
+    }
+
+    public void setRecentMovements(List<MovementView> recentMovements) {
+        this.recentMovements = recentMovements;
+    }
+
+    public List<PlannedView> getUpcomingPlanned() {
+        return upcomingPlanned;
+    }
+
+    public void setUpcomingPlanned(List<PlannedView> upcomingPlanned) {
+        this.upcomingPlanned = upcomingPlanned;
+    }
+}
@@ -0,0 +1,85 @@
+package com.beehive.dashboard.dto.bank;
+
+/**
+ * DTO representing the spend of one budgeted category in a month against its limit.
+ */
+public class BudgetStatus {
+
+    private Long budgetId;
+    private String category;
+    private double limit;
+    private double spent;
+    private double remaining;
+    private int percentage;
+    private boolean exceeded;
+
+    public BudgetStatus() {
+    }
+
+    public BudgetStatus(Long budgetId, String category, double limit, double spent, double remaining,
+                        int percentage, boolean exceeded) {
+        this.budgetId = budgetId;
+        this.category = category;
+        this.limit = limit;
+        this.spent = spent;
+        this.remaining = remaining;
+        this.percentage = percentage;
+        this.exceeded = exceeded;
+    }
+
+    public Long getBudgetId() {
+        return budgetId;
+    }
+
+    public void setBudgetId(Long budgetId) {
+        this.budgetId = budgetId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public void setLimit(double limit) {
+        this.limit = limit;
+    }
+
+    public double getSpent() {
+        return spent;
+    }
+
+    public void setSpent(double spent) {
+        this.spent = spent;
+    }
+
+    public double getRemaining() {
+        return remaining;
+    }
+
+    public void setRemaining(double remaining) {
+        this.remaining = remaining;
+    }
+
+    public int getPercentage() {
+        return percentage;
+    }
+
+    public void setPercentage(int percentage) {
+        this.percentage = percentage;
+    }
+
+    public boolean isExceeded() {
+        return exceeded;
+    }
+
+    public void setExceeded(boolean exceeded) {
+        this.exceeded = exceeded;
+    }
+}
@@ -1,5 +1,6 @@
 package com.beehive.dashboard.dto.bank;
 
+import java.util.ArrayList;
 import java.util.List;
 
 public class LandingStatistics {
@@ -12,6 +13,7 @@ public class LandingStatistics {
     private int accountCount;
     private List<BalanceTrendPoint> balanceTrend;
     private List<UpcomingPayment> upcomingPayments;
+    private List<BudgetStatus> budgets = new ArrayList<>();
 
     public LandingStatistics() {
     }
@@ -92,4 +94,12 @@ public class LandingStatistics {
     public void setUpcomingPayments(List<UpcomingPayment> upcomingPayments) {
         this.upcomingPayments = upcomingPayments;
     }
+
+    public List<BudgetStatus> getBudgets() {
+        return budgets;
+    }
+
+    public void setBudgets(List<BudgetStatus> budgets) {
+        this.budgets = budgets;
+    }
 }
@@ -0,0 +1,129 @@
+package com.beehive.dashboard.dto.bank;
+
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Filters of the movement search, bound from query parameters. Every filter is optional and
+ * they combine with AND; list filters match any of their values.
+ * Results are ordered newest first; the next page starts after the (afterDate, afterId)
+ * of the last movement of the previous one.
+ */
+public class MovementSearchCriteria {
+
+    private List<Long> accountIds;
+    private List<MovementType> types;
+    private List<MovementStatus> statuses;
+    private List<MovementCategory> categories;
+    private Double minAmount;
+    private Double maxAmount;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate startDate;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate endDate;
+
+    private String text;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate afterDate;
+
+    private Long afterId;
+
+    public MovementSearchCriteria() {
+    }
+
+    public List<Long> getAccountIds() {
+        return accountIds;
+    }
+
+    public void setAccountIds(List<Long> accountIds) {
+        this.accountIds = accountIds;
+    }
+
+    public List<MovementType> getTypes() {
+        return types;
+    }
+
+    public void setTypes(List<MovementType> types) {
+        this.types = types;
+    }
+
+    public List<MovementStatus> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(List<MovementStatus> statuses) {
+        this.statuses = statuses;
+    }
+
+    public List<MovementCategory> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(List<MovementCategory> categories) {
+        this.categories = categories;
+    }
+
+    public Double getMinAmount() {
+        return minAmount;
+    }
+
+    public void setMinAmount(Double minAmount) {
+        this.minAmount = minAmount;
+    }
+
+    public Double getMaxAmount() {
+        return maxAmount;
+    }
+
+    public void setMaxAmount(Double maxAmount) {
+        this.maxAmount = maxAmount;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public LocalDate getAfterDate() {
+        return afterDate;
+    }
+
+    public void setAfterDate(LocalDate afterDate) {
+        this.afterDate = afterDate;
+    }
+
+    public Long getAfterId() {
+        return afterId;
+    }
+
+    public void setAfterId(Long afterId) {
+        this.afterId = afterId;
+    }
+}
@@ -0,0 +1,123 @@
+package com.beehive.dashboard.dto.bank;
+
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.types.bank.Money;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only view of a movement returned by the list endpoints.
+ * Built directly by JPQL constructor expressions, so listing movements never hydrates or snapshots
+ * entities. Serializes to the same JSON as the Movement entity.
+ */
+public class MovementView {
+
+    private Long id;
+    private Long accountId;
+    private Long userId;
+    private MovementCategory category;
+    private MovementType type;
+    private double amount;
+    private String description;
+    private LocalDate date;
+    private MovementStatus status;
+
+    public MovementView() {
+    }
+
+    public MovementView(Long id, Long accountId, Long userId, MovementCategory category, MovementType type,
+                        long amountCents, String description, LocalDate date, MovementStatus status) {
+        this.id = id;
+        this.accountId = accountId;
+        this.userId = userId;
+        this.category = category;
+        this.type = type;
+        this.amount = Money.toDouble(amountCents);
+        this.description = description;
+        this.date = date;
+        this.status = status;
+    }
+
+    /**
+     * Creates a view of an already loaded movement, for queries that cannot use a constructor expression.
+     */
+    public static MovementView of(Movement movement) {
+        return new MovementView(movement.getId(), movement.getAccountId(), movement.getUserId(), movement.getCategory(),
+                movement.getType(), movement.getAmountCents(), movement.getDescription(), movement.getDate(), movement.getStatus());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public MovementCategory getCategory() {
+        return category;
+    }
+
+    public void setCategory(MovementCategory category) {
+        this.category = category;
+    }
+
+    public MovementType getType() {
+        return type;
+    }
+
+    public void setType(MovementType type) {
+        this.type = type;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(double amount) {
+        this.amount = amount;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public MovementStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(MovementStatus status) {
+        this.status = status;
+    }
+}
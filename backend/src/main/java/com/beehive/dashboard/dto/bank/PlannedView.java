@@ -0,0 +1,155 @@
+package com.beehive.dashboard.dto.bank;
+
+import com.beehive.dashboard.entity.bank.Planned;
+import com.beehive.dashboard.types.bank.Money;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementRecurrence;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only view of a planned movement returned by the list endpoints.
+ * Built directly by JPQL constructor expressions and serializes to the same JSON as the Planned entity.
+ */
+public class PlannedView {
+
+    private Long id;
+    private Long accountId;
+    private Long userId;
+    private MovementCategory category;
+    private MovementType type;
+    private double amount;
+    private String description;
+    private MovementRecurrence recurrence;
+    private String cron;
+    private LocalDate nextExecution;
+    private LocalDate endDate;
+    private MovementStatus status;
+
+    public PlannedView() {
+    }
+
+    public PlannedView(Long id, Long accountId, Long userId, MovementCategory category, MovementType type,
+                       long amountCents, String description, MovementRecurrence recurrence, String cron,
+                       LocalDate nextExecution, LocalDate endDate, MovementStatus status) {
+        this.id = id;
+        this.accountId = accountId;
+        this.userId = userId;
+        this.category = category;
+        this.type = type;
+        this.amount = Money.toDouble(amountCents);
+        this.description = description;
+        this.recurrence = recurrence;
+        this.cron = cron;
+        this.nextExecution = nextExecution;
+        this.endDate = endDate;
+        this.status = status;
+    }
+
+    /**
+     * Creates a view of an already loaded planned movement, for queries that cannot use a constructor expression.
+     */
+    public static PlannedView of(Planned planned) {
+        return new PlannedView(planned.getId(), planned.getAccountId(), planned.getUserId(), planned.getCategory(),
+                planned.getType(), planned.getAmountCents(), planned.getDescription(), planned.getRecurrence(),
+                planned.getCron(), planned.getNextExecution(), planned.getEndDate(), planned.getStatus());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public MovementCategory getCategory() {
+        return category;
+    }
+
+    public void setCategory(MovementCategory category) {
+        this.category = category;
+    }
+
+    public MovementType getType() {
+        return type;
+    }
+
+    public void setType(MovementType type) {
+        this.type = type;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public void setAmount(double amount) {
+        this.amount = amount;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public MovementRecurrence getRecurrence() {
+        return recurrence;
+    }
+
+    public void setRecurrence(MovementRecurrence recurrence) {
+        this.recurrence = recurrence;
+    }
+
+    public String getCron() {
+        return cron;
+    }
+
+    public void setCron(String cron) {
+        this.cron = cron;
+    }
+
+    public LocalDate getNextExecution() {
+        return nextExecution;
+    }
+
+    public void setNextExecution(LocalDate nextExecution) {
+        this.nextExecution = nextExecution;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public MovementStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(MovementStatus status) {
+        this.status = status;
+    }
+}
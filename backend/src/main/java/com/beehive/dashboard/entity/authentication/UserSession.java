@@ -8,7 +8,11 @@ import java.time.LocalDateTime;
  * Tracks user login sessions with device and browser information.
  */
 @Entity
-@Table(name = "user_sessions")
+@Table(name = "user_sessions", indexes = {
+        @Index(name = "idx_user_sessions_expires_at", columnList = "expires_at"),
+        @Index(name = "idx_user_sessions_active_last_active", columnList = "is_active, last_active_at"),
+        @Index(name = "idx_user_sessions_user_active_last_active", columnList = "user_id, is_active, last_active_at")
+})
 public class UserSession {
 
     @Id
@@ -59,73 +63,6 @@ public class UserSession {
         this.userId = userId;
         this.userAgent = userAgent;
         this.ipAddress = ipAddress;
-        parseUserAgent(userAgent);
-    }
-
-    /**
-     * Parses the user agent string to extract device, browser, and OS information.
-     */
-    private void parseUserAgent(String userAgent) {
-        if (userAgent == null || userAgent.isEmpty()) {
-            this.deviceType = "Unknown";
-            this.browser = "Unknown";
-            this.os = "Unknown";
-            return;
-        }
-
-        // Parse device type
-        if (userAgent.contains("Mobile") || userAgent.contains("Android") || userAgent.contains("iPhone") || userAgent.contains("iPad")) {
-            this.deviceType = userAgent.contains("iPad") ? "Tablet" : "Mobile";
-        } else {
-            this.deviceType = "Desktop";
-        }
-
-        // Parse browser
-        if (userAgent.contains("Edg/")) {
-            this.browser = "Edge " + extractVersion(userAgent, "Edg/");
-        } else if (userAgent.contains("Chrome/") && !userAgent.contains("Edg/")) {
-            this.browser = "Chrome " + extractVersion(userAgent, "Chrome/");
-        } else if (userAgent.contains("Safari/") && !userAgent.contains("Chrome/")) {
-            this.browser = "Safari " + extractVersion(userAgent, "Version/");
-        } else if (userAgent.contains("Firefox/")) {
-            this.browser = "Firefox " + extractVersion(userAgent, "Firefox/");
-        } else {
-            this.browser = "Unknown";
-        }
-
-        // Parse OS
-        if (userAgent.contains("Windows NT 10")) {
-            this.os = "Windows 10/11";
-        } else if (userAgent.contains("Windows NT")) {
-            this.os = "Windows";
-        } else if (userAgent.contains("Mac OS X")) {
-            this.os = "macOS";
-        } else if (userAgent.contains("Linux")) {
-            this.os = "Linux";
-        } else if (userAgent.contains("iPhone") || userAgent.contains("iPad")) {
-            this.os = "iOS";
-        } else if (userAgent.contains("Android")) {
-            this.os = "Android";
-        } else {
-            this.os = "Unknown";
-        }
-    }
-
-    private String extractVersion(String userAgent, String prefix) {
-        try {
-            int start = userAgent.indexOf(prefix) + prefix.length();
-            int end = start;
-            while (end < userAgent.length() && (Character.isDigit(userAgent.charAt(end)) || userAgent.charAt(end) == '.')) {
-                end++;
-            }
-            String version = userAgent.substring(start, end);
-            if (version.contains(".")) {
-                return version.substring(0, version.indexOf("."));
-            }
-            return version;
-        } catch (Exception e) {
-            return "";
-        }
     }
 
     public Long getId() {
@@ -1,6 +1,8 @@
 package com.beehive.dashboard.entity.bank;
 
 import com.beehive.dashboard.types.bank.AccountType;
+import com.beehive.dashboard.types.bank.Money;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -16,7 +18,9 @@ import jakarta.validation.constraints.Size;
  * - Standard constructors and accessors
  */
 @Entity
-@Table(name="bank_account")
+@Table(name="bank_account", indexes = {
+        @Index(name = "idx_bank_account_user_id", columnList = "user_id")
+})
 public class Account {
     /**
      * Unique identifier for the account (primary key).
@@ -49,11 +53,18 @@ public class Account {
     private String iban;
 
     /**
-     * Current balance of the account.
-     * Must not be null.
+     * Current balance of the account in cents.
+     * Exposed to clients as the decimal {@code balance} property.
+     */
+    @JsonIgnore
+    private long balanceCents;
+
+    /**
+     * Whether a balance was given, so an update without one keeps the current balance.
      */
-    @NotNull(message = "Balance is required")
-    private Double balance;
+    @Transient
+    @JsonIgnore
+    private boolean balanceSet;
 
     /**
      * Type of the account (e.g., CHECKING, SAVINGS).
@@ -78,14 +89,15 @@ public class Account {
      * @param userId the user ID associated with the account
      * @param accountName the name of the account
      * @param iban the IBAN of the account
-     * @param balance the initial balance
+     * @param balanceCents the initial balance in cents
      * @param type the account type
      */
-    public Account(Long userId, String accountName, String iban, Double balance, AccountType type, Long priority) {
+    public Account(Long userId, String accountName, String iban, long balanceCents, AccountType type, Long priority) {
         this.userId = userId;
         this.accountName = accountName;
         this.iban = iban;
-        this.balance = balance;
+        this.balanceCents = balanceCents;
+        this.balanceSet = true;
         this.type = type;
         this.priority = priority;
     }
@@ -155,19 +167,47 @@ public class Account {
     }
 
     /**
-     * Gets the current balance of the account.
+     * Gets the current balance of the account in cents.
+     * @return the balance in cents
+     */
+    public long getBalanceCents() {
+        return balanceCents;
+    }
+
+    /**
+     * Sets the current balance of the account in cents.
+     * @param balanceCents the balance in cents to set
+     */
+    public void setBalanceCents(long balanceCents) {
+        this.balanceCents = balanceCents;
+        this.balanceSet = true;
+    }
+
+    /**
+     * Tells whether a balance was given, through the constructor or a setter.
+     * @return true if the balance was set, false if it was missing from the request
+     */
+    public boolean isBalanceSet() {
+        return balanceSet;
+    }
+
+    /**
+     * Gets the decimal balance of the account, as exposed in JSON.
      * @return the balance
      */
-    public Double getBalance() {
-        return balance;
+    public double getBalance() {
+        return Money.toDouble(balanceCents);
     }
 
     /**
-     * Sets the current balance of the account.
+     * Sets the decimal balance of the account, rounded to the nearest cent.
+     * A missing balance opens a new account at zero and leaves the balance of an updated account unchanged.
      * @param balance the balance to set
      */
     public void setBalance(Double balance) {
-        this.balance = balance;
+        if (balance != null) {
+            setBalanceCents(Money.toCents(balance));
+        }
     }
 
     /**
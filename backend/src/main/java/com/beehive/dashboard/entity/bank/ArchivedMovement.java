@@ -0,0 +1,106 @@
+package com.beehive.dashboard.entity.bank;
+
+import com.beehive.dashboard.dto.bank.MovementView;
+import com.beehive.dashboard.types.bank.Money;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing a movement moved to cold storage by the archival job.
+ * Rows are written by SQL in MovementArchiveService and never modified by the application.
+ */
+@Entity
+@Immutable
+@Table(name = "bank_movements_archive", indexes = {
+        @Index(name = "idx_bank_movements_archive_account_date", columnList = "account_id, date")
+})
+public class ArchivedMovement {
+
+    @Id
+    private Long id;
+
+    private Long accountId;
+
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    private MovementCategory category;
+
+    @Enumerated(EnumType.STRING)
+    private MovementType type;
+
+    @JsonIgnore
+    private long amountCents;
+
+    private String description;
+
+    private LocalDate date;
+
+    @Enumerated(EnumType.STRING)
+    private MovementStatus status;
+
+    private LocalDateTime archivedAt;
+
+    public ArchivedMovement() {
+    }
+
+    /**
+     * Converts the archived row into the same view as hot movements, so archived history is
+     * returned through the same API.
+     * @return a view with the archived values
+     */
+    public MovementView toView() {
+        return new MovementView(id, accountId, userId, category, type, amountCents, description, date, status);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public MovementCategory getCategory() {
+        return category;
+    }
+
+    public MovementType getType() {
+        return type;
+    }
+
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    public double getAmount() {
+        return Money.toDouble(amountCents);
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public MovementStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,88 @@
+package com.beehive.dashboard.entity.bank;
+
+import com.beehive.dashboard.types.bank.Money;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Entity representing the monthly spending limit of a user for one category.
+ * Spend against it is read from the category totals maintained by BudgetService.
+ */
+@Entity
+@Table(name = "bank_budgets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bank_budgets_user_category", columnNames = {"user_id", "category"}))
+public class Budget {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "User is required")
+    @Column(nullable = false)
+    private Long userId;
+
+    @NotNull(message = "Category is required")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MovementCategory category;
+
+    @JsonIgnore
+    @Positive(message = "Limit must be positive")
+    @Column(nullable = false)
+    private long limitCents;
+
+    public Budget() {
+    }
+
+    public Budget(Long userId, MovementCategory category, long limitCents) {
+        this.userId = userId;
+        this.category = category;
+        this.limitCents = limitCents;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public MovementCategory getCategory() {
+        return category;
+    }
+
+    public void setCategory(MovementCategory category) {
+        this.category = category;
+    }
+
+    public long getLimitCents() {
+        return limitCents;
+    }
+
+    public void setLimitCents(long limitCents) {
+        this.limitCents = limitCents;
+    }
+
+    /**
+     * Gets the decimal monthly limit, as exposed in JSON.
+     */
+    public double getLimit() {
+        return Money.toDouble(limitCents);
+    }
+
+    /**
+     * Sets the decimal monthly limit, rounded to the nearest cent.
+     * A missing limit is stored as zero and rejected by validation.
+     */
+    public void setLimit(Double limit) {
+        this.limitCents = limit != null ? Money.toCents(limit) : 0;
+    }
+}
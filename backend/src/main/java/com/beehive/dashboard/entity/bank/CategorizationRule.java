@@ -0,0 +1,179 @@
+package com.beehive.dashboard.entity.bank;
+
+import com.beehive.dashboard.types.bank.Money;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Entity representing a user-defined categorization rule.
+ * A movement of the user whose description contains the keyword (ignoring case) gets the rule's category,
+ * provided it also matches the optional account and amount bounds. When several rules match,
+ * the one with the lowest priority wins, then the oldest.
+ */
+@Entity
+@Table(name = "bank_categorization_rules", indexes = {
+        @Index(name = "idx_bank_categorization_rules_user_id", columnList = "user_id")
+})
+public class CategorizationRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull(message = "User is required")
+    @Column(nullable = false)
+    private Long userId;
+
+    @NotBlank(message = "Keyword is required")
+    @Size(max = 100, message = "Keyword must be at most 100 characters")
+    @Column(nullable = false, length = 100)
+    private String keyword;
+
+    @NotNull(message = "Category is required")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MovementCategory category;
+
+    /**
+     * Account the rule is restricted to, or null for all accounts of the user.
+     */
+    private Long accountId;
+
+    /**
+     * Smallest matching amount in cents, inclusive, or null for no lower bound.
+     */
+    @JsonIgnore
+    private Long minAmountCents;
+
+    /**
+     * Largest matching amount in cents, inclusive, or null for no upper bound.
+     */
+    @JsonIgnore
+    private Long maxAmountCents;
+
+    @Column(nullable = false)
+    private int priority;
+
+    public CategorizationRule() {
+    }
+
+    public CategorizationRule(Long userId, String keyword, MovementCategory category, Long accountId,
+                              Long minAmountCents, Long maxAmountCents, int priority) {
+        this.userId = userId;
+        this.keyword = keyword;
+        this.category = category;
+        this.accountId = accountId;
+        this.minAmountCents = minAmountCents;
+        this.maxAmountCents = maxAmountCents;
+        this.priority = priority;
+    }
+
+    /**
+     * Checks the account and amount bounds of the rule; the keyword is matched by the caller.
+     *
+     * @param accountId the account of the movement
+     * @param amountCents the amount of the movement in cents
+     * @return true if the movement is within the bounds of the rule
+     */
+    public boolean appliesTo(Long accountId, long amountCents) {
+        return (this.accountId == null || this.accountId.equals(accountId))
+                && (minAmountCents == null || amountCents >= minAmountCents)
+                && (maxAmountCents == null || amountCents <= maxAmountCents);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public void setKeyword(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public MovementCategory getCategory() {
+        return category;
+    }
+
+    public void setCategory(MovementCategory category) {
+        this.category = category;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public void setAccountId(Long accountId) {
+        this.accountId = accountId;
+    }
+
+    public Long getMinAmountCents() {
+        return minAmountCents;
+    }
+
+    public void setMinAmountCents(Long minAmountCents) {
+        this.minAmountCents = minAmountCents;
+    }
+
+    public Long getMaxAmountCents() {
+        return maxAmountCents;
+    }
+
+    public void setMaxAmountCents(Long maxAmountCents) {
+        this.maxAmountCents = maxAmountCents;
+    }
+
+    /**
+     * Gets the decimal lower amount bound, as exposed in JSON.
+     */
+    public Double getMinAmount() {
+        return minAmountCents != null ? Money.toDouble(minAmountCents) : null;
+    }
+
+    /**
+     * Sets the decimal lower amount bound, rounded to the nearest cent.
+     */
+    public void setMinAmount(Double minAmount) {
+        this.minAmountCents = minAmount != null ? Money.toCents(minAmount) : null;
+    }
+
+    /**
+     * Gets the decimal upper amount bound, as exposed in JSON.
+     */
+    public Double getMaxAmount() {
+        return maxAmountCents != null ? Money.toDouble(maxAmountCents) : null;
+    }
+
+    /**
+     * Sets the decimal upper amount bound, rounded to the nearest cent.
+     */
+    public void setMaxAmount(Double maxAmount) {
+        this.maxAmountCents = maxAmount != null ? Money.toCents(maxAmount) : null;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public void setPriority(int priority) {
+        this.priority = priority;
+    }
+}
@@ -1,8 +1,12 @@
 package com.beehive.dashboard.entity.bank;
 
+import com.beehive.dashboard.types.bank.Money;
 import com.beehive.dashboard.types.bank.MovementCategory;
 import com.beehive.dashboard.types.bank.MovementStatus;
 import com.beehive.dashboard.types.bank.MovementType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -22,7 +26,10 @@ import java.time.LocalDate;
  * - Standard constructors and accessors
  */
 @Entity
-@Table(name = "bank_movements")
+@Table(name = "bank_movements", indexes = {
+        @Index(name = "idx_bank_movements_account_date", columnList = "account_id, date"),
+        @Index(name = "idx_bank_movements_user_date", columnList = "user_id, date")
+})
 public class Movement {
     /**
      * Unique identifier for the movement (primary key).
@@ -38,6 +45,14 @@ public class Movement {
     @NotNull(message = "Account is required")
     private Long accountId;
 
+    /**
+     * Owner of the account, copied from the account by the service layer so per-user
+     * date-range queries are a single index range scan. Not accepted from clients.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(nullable = false)
+    private Long userId;
+
     /**
      * Category of the movement (e.g., FOOD, UTILITIES).
      */
@@ -53,12 +68,12 @@ public class Movement {
     private MovementType type;
 
     /**
-     * Amount of the movement (must be positive).
-     * Must not be null.
+     * Amount of the movement in cents (must be positive).
+     * Exposed to clients as the decimal {@code amount} property.
      */
-    @NotNull(message = "Amount is required")
+    @JsonIgnore
     @Positive(message = "Amount must be positive")
-    private Double amount;
+    private long amountCents;
 
     /**
      * Description of the movement.
@@ -83,6 +98,15 @@ public class Movement {
     @Enumerated(EnumType.STRING)
     private MovementStatus status;
 
+    /**
+     * Warning set when the movement was created although it looks like a duplicate: the ID of the
+     * existing movement it repeats, or 0 for an earlier movement of the same batch. Not stored.
+     */
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long duplicateOf;
+
     /**
      * Default constructor for Movement.
      */
@@ -94,16 +118,16 @@ public class Movement {
      * @param accountId the account ID associated with the movement
      * @param category the category of the movement
      * @param type the type of the movement
-     * @param amount the amount of the movement
+     * @param amountCents the amount of the movement in cents
      * @param description the description of the movement
      * @param date the date of the movement
      * @param status the status of the movement
      */
-    public Movement(Long accountId, MovementCategory category, MovementType type, Double amount, String description, LocalDate date, MovementStatus status) {
+    public Movement(Long accountId, MovementCategory category, MovementType type, long amountCents, String description, LocalDate date, MovementStatus status) {
         this.accountId = accountId;
         this.category = category;
         this.type = type;
-        this.amount = amount;
+        this.amountCents = amountCents;
         this.description = description;
         this.date = date;
         this.status = status;
@@ -133,6 +157,22 @@ public class Movement {
         return accountId;
     }
 
+    /**
+     * Gets the ID of the user owning the movement's account.
+     * @return the user ID
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    /**
+     * Sets the ID of the user owning the movement's account.
+     * @param userId the user ID to set
+     */
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
     /**
      * Sets the account ID associated with this movement.
      * @param accountId the account ID to set
@@ -174,19 +214,36 @@ public class Movement {
     }
 
     /**
-     * Gets the amount of the movement.
+     * Gets the amount of the movement in cents.
+     * @return the movement amount in cents
+     */
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    /**
+     * Sets the amount of the movement in cents.
+     * @param amountCents the movement amount in cents to set
+     */
+    public void setAmountCents(long amountCents) {
+        this.amountCents = amountCents;
+    }
+
+    /**
+     * Gets the decimal amount of the movement, as exposed in JSON.
      * @return the movement amount
      */
-    public Double getAmount() {
-        return amount;
+    public double getAmount() {
+        return Money.toDouble(amountCents);
     }
 
     /**
-     * Sets the amount of the movement.
+     * Sets the decimal amount of the movement, rounded to the nearest cent.
+     * A missing amount is stored as zero and rejected by validation.
      * @param amount the movement amount to set
      */
     public void setAmount(Double amount) {
-        this.amount = amount;
+        this.amountCents = amount != null ? Money.toCents(amount) : 0;
     }
 
     /**
@@ -236,4 +293,20 @@ public class Movement {
     public void setStatus(MovementStatus status) {
         this.status = status;
     }
+
+    /**
+     * Gets the movement this one likely duplicates, when it was created anyway.
+     * @return the ID of the duplicated movement, or null
+     */
+    public Long getDuplicateOf() {
+        return duplicateOf;
+    }
+
+    /**
+     * Sets the movement this one likely duplicates.
+     * @param duplicateOf the ID of the duplicated movement, or null
+     */
+    public void setDuplicateOf(Long duplicateOf) {
+        this.duplicateOf = duplicateOf;
+    }
 }
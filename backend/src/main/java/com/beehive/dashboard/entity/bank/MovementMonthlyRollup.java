@@ -0,0 +1,84 @@
+package com.beehive.dashboard.entity.bank;
+
+import com.beehive.dashboard.types.bank.Money;
+import com.beehive.dashboard.types.bank.MovementType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+/**
+ * Entity class representing the monthly total of archived movements for one account, type and category.
+ * Maintained by MovementArchiveService in the same statement that archives the movements.
+ * Uncategorized movements are rolled up under the category "NONE".
+ */
+@Entity
+@Immutable
+@Table(name = "bank_movement_monthly_rollups", indexes = {
+        @Index(name = "idx_bank_movement_monthly_rollups_user_month", columnList = "user_id, month")
+})
+public class MovementMonthlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long userId;
+
+    private Long accountId;
+
+    /**
+     * First day of the month the totals belong to.
+     */
+    private LocalDate month;
+
+    @Enumerated(EnumType.STRING)
+    private MovementType type;
+
+    private String category;
+
+    @JsonIgnore
+    private long totalAmountCents;
+
+    private Long movementCount;
+
+    public MovementMonthlyRollup() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public LocalDate getMonth() {
+        return month;
+    }
+
+    public MovementType getType() {
+        return type;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public long getTotalAmountCents() {
+        return totalAmountCents;
+    }
+
+    public double getTotalAmount() {
+        return Money.toDouble(totalAmountCents);
+    }
+
+    public Long getMovementCount() {
+        return movementCount;
+    }
+}
@@ -1,9 +1,12 @@
 package com.beehive.dashboard.entity.bank;
 
+import com.beehive.dashboard.types.bank.Money;
 import com.beehive.dashboard.types.bank.MovementCategory;
 import com.beehive.dashboard.types.bank.MovementRecurrence;
 import com.beehive.dashboard.types.bank.MovementStatus;
 import com.beehive.dashboard.types.bank.MovementType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -13,7 +16,10 @@ import jakarta.validation.constraints.Size;
 import java.time.LocalDate;
 
 @Entity
-@Table(name="bank_planned")
+@Table(name="bank_planned", indexes = {
+        @Index(name = "idx_bank_planned_account_next_execution", columnList = "account_id, next_execution"),
+        @Index(name = "idx_bank_planned_user_next_execution", columnList = "user_id, next_execution")
+})
 public class Planned {
     /**
      * Unique identifier for the planned movement (primary key).
@@ -29,6 +35,14 @@ public class Planned {
     @NotNull(message = "Account is required")
     private Long accountId;
 
+    /**
+     * Owner of the account, copied from the account by the service layer so per-user
+     * date-range queries are a single index range scan. Not accepted from clients.
+     */
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(nullable = false)
+    private Long userId;
+
     /**
      * Category of the planned movement (e.g., FOOD, UTILITIES).
      */
@@ -44,12 +58,12 @@ public class Planned {
     private MovementType type;
 
     /**
-     * Amount of the planned movement (must be positive).
-     * Must not be null.
+     * Amount of the planned movement in cents (must be positive).
+     * Exposed to clients as the decimal {@code amount} property.
      */
-    @NotNull(message = "Amount is required")
+    @JsonIgnore
     @Positive(message = "Amount must be positive")
-    private Double amount;
+    private long amountCents;
 
     /**
      * Description of the planned movement.
@@ -94,12 +108,12 @@ public class Planned {
     public Planned() {
     }
 
-    public Planned(Long accountId, MovementCategory category, MovementType type, Double amount, String description,
+    public Planned(Long accountId, MovementCategory category, MovementType type, long amountCents, String description,
                    MovementRecurrence recurrence, String cron, LocalDate nextExecution, LocalDate endDate, MovementStatus status) {
         this.accountId = accountId;
         this.category = category;
         this.type = type;
-        this.amount = amount;
+        this.amountCents = amountCents;
         this.description = description;
         this.recurrence = recurrence;
         this.cron = cron;
@@ -124,6 +138,14 @@ public class Planned {
         this.accountId = accountId;
     }
 
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
     public MovementCategory getCategory() {
         return category;
     }
@@ -140,12 +162,20 @@ public class Planned {
         this.type = type;
     }
 
-    public Double getAmount() {
-        return amount;
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    public void setAmountCents(long amountCents) {
+        this.amountCents = amountCents;
+    }
+
+    public double getAmount() {
+        return Money.toDouble(amountCents);
     }
 
     public void setAmount(Double amount) {
-        this.amount = amount;
+        this.amountCents = amount != null ? Money.toCents(amount) : 0;
     }
 
     public String getDescription() {
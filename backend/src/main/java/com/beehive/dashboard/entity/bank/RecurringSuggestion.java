@@ -0,0 +1,191 @@
+package com.beehive.dashboard.entity.bank;
+
+import com.beehive.dashboard.types.bank.Money;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementRecurrence;
+import com.beehive.dashboard.types.bank.MovementType;
+import com.beehive.dashboard.types.bank.SuggestionStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a recurring payment detected in the movement history of an account,
+ * suggested to the user as a planned movement. Maintained by RecurringPaymentService.
+ */
+@Entity
+@Table(name = "bank_recurring_suggestions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bank_recurring_suggestions", columnNames = {"account_id", "pattern_key"}),
+        indexes = @Index(name = "idx_bank_recurring_suggestions_user_status", columnList = "user_id, status"))
+public class RecurringSuggestion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long accountId;
+
+    /**
+     * Type, amount and normalized description identifying the series within the account.
+     */
+    @JsonIgnore
+    @Column(nullable = false, length = 400)
+    private String patternKey;
+
+    /**
+     * Description of the most recent movement of the series.
+     */
+    @Column(nullable = false)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    private MovementCategory category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MovementType type;
+
+    @JsonIgnore
+    private long amountCents;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private MovementRecurrence recurrence;
+
+    /**
+     * Number of movements of the series in the analyzed period.
+     */
+    private int occurrences;
+
+    @Column(nullable = false)
+    private LocalDate lastDate;
+
+    @Column(nullable = false)
+    private LocalDate nextDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SuggestionStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public RecurringSuggestion() {
+    }
+
+    public RecurringSuggestion(Long userId, Long accountId, String patternKey) {
+        this.userId = userId;
+        this.accountId = accountId;
+        this.patternKey = patternKey;
+        this.status = SuggestionStatus.SUGGESTED;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public String getPatternKey() {
+        return patternKey;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public MovementCategory getCategory() {
+        return category;
+    }
+
+    public void setCategory(MovementCategory category) {
+        this.category = category;
+    }
+
+    public MovementType getType() {
+        return type;
+    }
+
+    public void setType(MovementType type) {
+        this.type = type;
+    }
+
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    public void setAmountCents(long amountCents) {
+        this.amountCents = amountCents;
+    }
+
+    /**
+     * Gets the decimal amount of the series, as exposed in JSON.
+     */
+    public double getAmount() {
+        return Money.toDouble(amountCents);
+    }
+
+    public MovementRecurrence getRecurrence() {
+        return recurrence;
+    }
+
+    public void setRecurrence(MovementRecurrence recurrence) {
+        this.recurrence = recurrence;
+    }
+
+    public int getOccurrences() {
+        return occurrences;
+    }
+
+    public void setOccurrences(int occurrences) {
+        this.occurrences = occurrences;
+    }
+
+    public LocalDate getLastDate() {
+        return lastDate;
+    }
+
+    public void setLastDate(LocalDate lastDate) {
+        this.lastDate = lastDate;
+    }
+
+    public LocalDate getNextDate() {
+        return nextDate;
+    }
+
+    public void setNextDate(LocalDate nextDate) {
+        this.nextDate = nextDate;
+    }
+
+    public SuggestionStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(SuggestionStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,109 @@
+package com.beehive.dashboard.entity.bank;
+
+import com.beehive.dashboard.types.bank.Money;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing an expense flagged as unusually high for its category.
+ * Written by SpendingAnomalyService when the movement is created or the detector is rebuilt.
+ * Uncategorized movements are flagged under the category "NONE".
+ */
+@Entity
+@Immutable
+@Table(name = "bank_spending_anomalies",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bank_spending_anomalies_movement", columnNames = "movement_id"),
+        indexes = @Index(name = "idx_bank_spending_anomalies_user_date", columnList = "user_id, movement_date, id"))
+public class SpendingAnomaly {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long userId;
+
+    private Long movementId;
+
+    private LocalDate movementDate;
+
+    private Long accountId;
+
+    private String category;
+
+    private String description;
+
+    @JsonIgnore
+    private long amountCents;
+
+    /**
+     * Typical amount of the category when the movement was flagged.
+     */
+    @JsonIgnore
+    private long expectedCents;
+
+    /**
+     * How many deviations above the typical amount the movement was.
+     */
+    private double score;
+
+    private LocalDateTime detectedAt;
+
+    public SpendingAnomaly() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getMovementId() {
+        return movementId;
+    }
+
+    public LocalDate getMovementDate() {
+        return movementDate;
+    }
+
+    public Long getAccountId() {
+        return accountId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public long getAmountCents() {
+        return amountCents;
+    }
+
+    public double getAmount() {
+        return Money.toDouble(amountCents);
+    }
+
+    public long getExpectedCents() {
+        return expectedCents;
+    }
+
+    public double getExpectedAmount() {
+        return Money.toDouble(expectedCents);
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public LocalDateTime getDetectedAt() {
+        return detectedAt;
+    }
+}
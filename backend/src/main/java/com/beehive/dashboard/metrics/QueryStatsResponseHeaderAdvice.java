@@ -0,0 +1,48 @@
+package com.beehive.dashboard.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+/**
+ * Adds the request's query statistics as {@code X-Query-*} response headers.
+ * Headers are written just before the body, after the controller has finished its queries.
+ * Enabled only in the {@code debug} profile through {@code metrics.query-tracing.headers}.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "metrics.query-tracing.headers", havingValue = "true")
+public class QueryStatsResponseHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-Query-Count";
+    public static final String ROWS_HEADER = "X-Query-Rows";
+    public static final String JDBC_TIME_HEADER = "X-Query-Time-Ms";
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType, @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+            headers.set(ROWS_HEADER, String.valueOf(stats.getRows()));
+            headers.set(JDBC_TIME_HEADER, String.format(Locale.ROOT, "%.2f", stats.getJdbcNanos() / 1_000_000.0));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,64 @@
+package com.beehive.dashboard.metrics;
+
+/**
+ * Per-request JDBC counters: statements executed, rows read and time spent in the driver.
+ * A context is bound to the request thread by {@link RequestQueryStatsFilter}; statements run
+ * outside a request (scheduled jobs, startup) are not counted.
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long jdbcNanos;
+
+    private RequestQueryStats() {
+    }
+
+    /**
+     * Binds a fresh context to the current thread.
+     *
+     * @return the new context
+     */
+    public static RequestQueryStats begin() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Unbinds the context from the current thread.
+     */
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the context bound to the current thread, or null outside a request
+     */
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    void addStatements(int count, long elapsedNanos) {
+        statements += count;
+        jdbcNanos += elapsedNanos;
+    }
+
+    void addRow() {
+        rows++;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+}
@@ -0,0 +1,105 @@
+package com.beehive.dashboard.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter that binds a {@link RequestQueryStats} context to every HTTP request and, once the
+ * request completes, records statements, rows and JDBC time per endpoint.
+ * Runs ahead of Spring Security so queries made while authenticating are counted as well.
+ * Requests issuing more statements than the configured threshold are logged as likely N+1 patterns.
+ * Meters are registered once per endpoint and then reused.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "metrics.query-tracing.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestQueryStatsFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestQueryStatsFilter.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${metrics.query-tracing.warn-statements:15}")
+    private int warnStatements;
+
+    private final ConcurrentHashMap<String, EndpointMeters> meters = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestQueryStats.end();
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        EndpointMeters endpoint = meters.computeIfAbsent(method + " " + uri,
+                key -> new EndpointMeters(meterRegistry, method, uri));
+        endpoint.statements.record(stats.getStatements());
+        endpoint.rows.record(stats.getRows());
+        endpoint.jdbc.record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() > warnStatements) {
+            logger.warn("{} {} executed {} SQL statements ({} rows, {} ms in JDBC)", method, uri,
+                    stats.getStatements(), stats.getRows(), TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()));
+        }
+    }
+
+    /**
+     * The meters of one endpoint, by method and URI pattern.
+     */
+    private static class EndpointMeters {
+
+        private final DistributionSummary statements;
+        private final DistributionSummary rows;
+        private final Timer jdbc;
+
+        EndpointMeters(MeterRegistry meterRegistry, String method, String uri) {
+            statements = DistributionSummary.builder("beehive.request.statements")
+                    .description("SQL statements executed per HTTP request")
+                    .tags("method", method, "uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            rows = DistributionSummary.builder("beehive.request.rows")
+                    .description("Result set rows read per HTTP request")
+                    .baseUnit("rows")
+                    .tags("method", method, "uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            jdbc = Timer.builder("beehive.request.jdbc")
+                    .description("Time spent executing SQL per HTTP request")
+                    .tags("method", method, "uri", uri)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
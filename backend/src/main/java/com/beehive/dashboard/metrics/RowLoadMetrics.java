@@ -0,0 +1,58 @@
+package com.beehive.dashboard.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how many rows each service operation loads from the database.
+ * The distribution per operation shows how heavy requests are; the optional per-user counter
+ * shows which users drive that load. Per-user tagging is off by default and only suitable while
+ * the number of users is small, since every user id becomes its own time series.
+ * Meters are registered once per operation (and user) and then reused.
+ */
+@Component
+public class RowLoadMetrics {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${metrics.rows-loaded.tag-user:false}")
+    private boolean tagUser;
+
+    private final ConcurrentHashMap<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    private final ConcurrentHashMap<String, Counter> userCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Records the rows loaded by one operation.
+     *
+     * @param operation Short operation name, e.g. "analytics"
+     * @param userId    User the rows were loaded for, may be null
+     * @param rows      Number of rows loaded
+     */
+    public void record(String operation, Long userId, int rows) {
+        summaries.computeIfAbsent(operation, key -> DistributionSummary.builder("beehive.rows.loaded")
+                .description("Rows loaded from the database per operation")
+                .baseUnit("rows")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry))
+                .record(rows);
+
+        if (tagUser && userId != null) {
+            userCounters.computeIfAbsent(operation + ":" + userId, key -> Counter.builder("beehive.rows.loaded.by.user")
+                    .description("Total rows loaded from the database per user")
+                    .baseUnit("rows")
+                    .tag("operation", operation)
+                    .tag("user", userId.toString())
+                    .register(meterRegistry))
+                    .increment(rows);
+        }
+    }
+}
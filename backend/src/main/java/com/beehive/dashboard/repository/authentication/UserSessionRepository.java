@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -47,11 +48,17 @@ public interface UserSessionRepository extends JpaRepository<UserSession, Long>
     void deactivateAllSessionsForUser(@Param("userId") Long userId);
 
     /**
-     * Deactivate expired sessions.
+     * Deactivate up to {@code batchSize} expired sessions in its own transaction.
+     * Rows already locked by the login path are skipped and picked up by a later batch.
+     *
+     * @return number of sessions deactivated
      */
     @Modifying
-    @Query("UPDATE UserSession s SET s.isActive = false WHERE s.expiresAt < :now AND s.isActive = true")
-    void deactivateExpiredSessions(@Param("now") LocalDateTime now);
+    @Transactional
+    @Query(value = "UPDATE user_sessions SET is_active = false WHERE id IN " +
+                   "(SELECT id FROM user_sessions WHERE expires_at < :now AND is_active = true " +
+                   "LIMIT :batchSize FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deactivateExpiredSessionsBatch(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
 
     /**
      * Count active sessions for a user.
@@ -59,9 +66,14 @@ public interface UserSessionRepository extends JpaRepository<UserSession, Long>
     long countByUserIdAndIsActiveTrue(Long userId);
 
     /**
-     * Delete old inactive sessions (cleanup).
+     * Delete up to {@code batchSize} old inactive sessions in its own transaction.
+     *
+     * @return number of sessions deleted
      */
     @Modifying
-    @Query("DELETE FROM UserSession s WHERE s.isActive = false AND s.lastActiveAt < :cutoffDate")
-    void deleteOldInactiveSessions(@Param("cutoffDate") LocalDateTime cutoffDate);
-}
+    @Transactional
+    @Query(value = "DELETE FROM user_sessions WHERE id IN " +
+                   "(SELECT id FROM user_sessions WHERE is_active = false AND last_active_at < :cutoffDate " +
+                   "LIMIT :batchSize FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int deleteOldInactiveSessionsBatch(@Param("cutoffDate") LocalDateTime cutoffDate, @Param("batchSize") int batchSize);
+}
\ No newline at end of file
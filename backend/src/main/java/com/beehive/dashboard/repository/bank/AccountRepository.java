@@ -1,7 +1,10 @@
 package com.beehive.dashboard.repository.bank;
 
+import com.beehive.dashboard.dto.bank.AccountItemCounts;
 import com.beehive.dashboard.entity.bank.Account;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -31,4 +34,21 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
      * @return true if an account exists with the given IBAN, false otherwise
      */
     boolean existsByIban(String iban);
+
+    /**
+     * Counts the movements and planned movements of every account of a user in one query.
+     * Both tables are grouped on their (user_id, ...) index, so the cost does not grow with
+     * the number of accounts. Accounts without movements or planned are included with zero.
+     *
+     * @param userId the user ID whose accounts to count
+     * @return one {@link AccountItemCounts} per account, ordered by account priority
+     */
+    @Query(value = "SELECT a.id AS accountId, COALESCE(m.cnt, 0) AS movementCount, COALESCE(p.cnt, 0) AS plannedCount " +
+                   "FROM bank_account a " +
+                   "LEFT JOIN (SELECT account_id, count(*) AS cnt FROM bank_movements WHERE user_id = :userId GROUP BY account_id) m " +
+                   "ON m.account_id = a.id " +
+                   "LEFT JOIN (SELECT account_id, count(*) AS cnt FROM bank_planned WHERE user_id = :userId GROUP BY account_id) p " +
+                   "ON p.account_id = a.id " +
+                   "WHERE a.user_id = :userId ORDER BY a.priority, a.id", nativeQuery = true)
+    List<AccountItemCounts> countItemsByUserId(@Param("userId") Long userId);
 }
\ No newline at end of file
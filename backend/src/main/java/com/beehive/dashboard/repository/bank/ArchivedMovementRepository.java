@@ -0,0 +1,66 @@
+package com.beehive.dashboard.repository.bank;
+
+import com.beehive.dashboard.entity.bank.ArchivedMovement;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for reading {@link ArchivedMovement} entities.
+ * The archive is written by the archival job; this repository pages and counts it, and keeps it with
+ * its account when the account changes owner or is deleted.
+ */
+@Repository
+public interface ArchivedMovementRepository extends JpaRepository<ArchivedMovement, Long> {
+
+    /**
+     * Finds a slice of the archived movements of an account, newest first.
+     * Takes a raw offset rather than a page number because the archive continues
+     * the hot movements, so its first row is usually in the middle of a client page.
+     *
+     * @param accountId the account ID to search for
+     * @param offset the number of archived rows to skip
+     * @param limit the maximum number of rows to return
+     * @return a list of {@link ArchivedMovement} entities ordered by date and ID descending
+     */
+    @Query(value = "SELECT * FROM bank_movements_archive WHERE account_id = :accountId " +
+                   "ORDER BY date DESC, id DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<ArchivedMovement> findSliceByAccountId(@Param("accountId") Long accountId,
+                                                @Param("offset") long offset,
+                                                @Param("limit") int limit);
+
+    /**
+     * Counts the archived movements of an account.
+     *
+     * @param accountId the account ID to count for
+     * @return the number of archived movements
+     */
+    long countByAccountId(Long accountId);
+
+    /**
+     * Re-assigns the owner of all archived movements of an account.
+     * Used when an account is moved to another user.
+     *
+     * @param accountId the account whose archived movements to update
+     * @param userId the new owner
+     * @return the number of updated archived movements
+     */
+    @Modifying
+    @Query("UPDATE ArchivedMovement m SET m.userId = :userId WHERE m.accountId = :accountId")
+    int updateUserIdByAccountId(@Param("accountId") Long accountId, @Param("userId") Long userId);
+
+    /**
+     * Deletes all archived movements of an account.
+     * Used when the account itself is deleted.
+     *
+     * @param accountId the account whose archived movements to delete
+     * @return the number of deleted archived movements
+     */
+    @Modifying
+    @Query("DELETE FROM ArchivedMovement m WHERE m.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
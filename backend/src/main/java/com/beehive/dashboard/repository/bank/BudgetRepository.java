@@ -0,0 +1,32 @@
+package com.beehive.dashboard.repository.bank;
+
+import com.beehive.dashboard.entity.bank.Budget;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link Budget} entities.
+ */
+@Repository
+public interface BudgetRepository extends JpaRepository<Budget, Long> {
+
+    /**
+     * Finds the budgets of a user, in category order.
+     *
+     * @param userId the user ID whose budgets to retrieve
+     * @return a list of {@link Budget} entities
+     */
+    List<Budget> findByUserIdOrderByCategory(Long userId);
+
+    /**
+     * Checks whether a user already has a budget for a category.
+     *
+     * @param userId the user ID to check
+     * @param category the category to check
+     * @return true if the budget exists
+     */
+    boolean existsByUserIdAndCategory(Long userId, MovementCategory category);
+}
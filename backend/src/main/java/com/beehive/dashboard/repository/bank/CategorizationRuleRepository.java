@@ -0,0 +1,22 @@
+package com.beehive.dashboard.repository.bank;
+
+import com.beehive.dashboard.entity.bank.CategorizationRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link CategorizationRule} entities.
+ */
+@Repository
+public interface CategorizationRuleRepository extends JpaRepository<CategorizationRule, Long> {
+
+    /**
+     * Finds all categorization rules of a user, in the order they take precedence.
+     *
+     * @param userId the user ID whose rules to retrieve
+     * @return a list of {@link CategorizationRule} entities ordered by priority and ID
+     */
+    List<CategorizationRule> findByUserIdOrderByPriorityAscIdAsc(Long userId);
+}
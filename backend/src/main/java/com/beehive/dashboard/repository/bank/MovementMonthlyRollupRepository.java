@@ -0,0 +1,53 @@
+package com.beehive.dashboard.repository.bank;
+
+import com.beehive.dashboard.entity.bank.MovementMonthlyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for reading {@link MovementMonthlyRollup} entities.
+ * Rollups are maintained by the archival job together with the archive itself; here they only follow
+ * their account when it changes owner or is deleted.
+ */
+@Repository
+public interface MovementMonthlyRollupRepository extends JpaRepository<MovementMonthlyRollup, Long> {
+
+    /**
+     * Finds the monthly totals of all accounts of a user within a range of months.
+     *
+     * @param userId the user ID to search for
+     * @param startMonth the first day of the first month (inclusive)
+     * @param endMonth the first day of the last month (inclusive)
+     * @return a list of {@link MovementMonthlyRollup} entities ordered by month
+     */
+    List<MovementMonthlyRollup> findByUserIdAndMonthBetweenOrderByMonth(Long userId, LocalDate startMonth, LocalDate endMonth);
+
+    /**
+     * Re-assigns the owner of all monthly rollups of an account.
+     * Used when an account is moved to another user.
+     *
+     * @param accountId the account whose monthly rollups to update
+     * @param userId the new owner
+     * @return the number of updated monthly rollups
+     */
+    @Modifying
+    @Query("UPDATE MovementMonthlyRollup r SET r.userId = :userId WHERE r.accountId = :accountId")
+    int updateUserIdByAccountId(@Param("accountId") Long accountId, @Param("userId") Long userId);
+
+    /**
+     * Deletes all monthly rollups of an account.
+     * Used when the account itself is deleted.
+     *
+     * @param accountId the account whose monthly rollups to delete
+     * @return the number of deleted monthly rollups
+     */
+    @Modifying
+    @Query("DELETE FROM MovementMonthlyRollup r WHERE r.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
@@ -1,10 +1,16 @@
 package com.beehive.dashboard.repository.bank;
 
+import com.beehive.dashboard.dto.bank.MovementView;
 import com.beehive.dashboard.entity.bank.Movement;
 import com.beehive.dashboard.types.bank.MovementStatus;
 import com.beehive.dashboard.types.bank.MovementType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -14,39 +20,48 @@ import java.util.List;
 /**
  * Repository interface for managing {@link Movement} entities.
  * Provides methods for querying movements by account, type, status, and date range.
- * Extends {@link JpaRepository} to inherit standard CRUD operations.
+ * Extends {@link JpaRepository} to inherit standard CRUD operations, and {@link JpaSpecificationExecutor}
+ * for searches combining {@link MovementSpecifications}.
  *
  * Typical usage includes transaction history retrieval, filtering by type or status,
  * and date-based queries for account movements.
  */
 @Repository
-public interface MovementRepository extends JpaRepository<Movement, Long> {
+public interface MovementRepository extends JpaRepository<Movement, Long>, JpaSpecificationExecutor<Movement> {
 
     /**
-     * Finds all movements associated with a specific account ID.
+     * Select clause building {@link MovementView} projections, shared by the list queries.
+     */
+    String VIEW_SELECT = "SELECT new com.beehive.dashboard.dto.bank.MovementView(m.id, m.accountId, m.userId, " +
+                         "m.category, m.type, m.amountCents, m.description, m.date, m.status) FROM Movement m ";
+
+    /**
+     * Finds all movements as read-only views.
      *
-     * @param accountId the account ID to search for
-     * @return a list of {@link Movement} entities belonging to the account
+     * @return a list of {@link MovementView} projections of every movement
      */
-    List<Movement> findByAccountId(Long accountId);
+    @Query(VIEW_SELECT)
+    List<MovementView> findAllViews();
 
     /**
      * Finds all movements of a specific type for a given account ID.
      *
      * @param accountId the account ID to search for
      * @param type the movement type to filter by
-     * @return a list of {@link Movement} entities matching the type and account
+     * @return a list of {@link MovementView} projections matching the type and account
      */
-    List<Movement> findByAccountIdAndType(Long accountId, MovementType type);
+    @Query(VIEW_SELECT + "WHERE m.accountId = :accountId AND m.type = :type")
+    List<MovementView> findViewsByAccountIdAndType(@Param("accountId") Long accountId, @Param("type") MovementType type);
 
     /**
      * Finds all movements with a specific status for a given account ID.
      *
      * @param accountId the account ID to search for
      * @param status the movement status to filter by
-     * @return a list of {@link Movement} entities matching the status and account
+     * @return a list of {@link MovementView} projections matching the status and account
      */
-    List<Movement> findByAccountIdAndStatus(Long accountId, MovementStatus status);
+    @Query(VIEW_SELECT + "WHERE m.accountId = :accountId AND m.status = :status")
+    List<MovementView> findViewsByAccountIdAndStatus(@Param("accountId") Long accountId, @Param("status") MovementStatus status);
 
     /**
      * Finds all movements for a given account ID within a specific date range.
@@ -54,17 +69,80 @@ public interface MovementRepository extends JpaRepository<Movement, Long> {
      * @param accountId the account ID to search for
      * @param startDate the start date of the range (inclusive)
      * @param endDate the end date of the range (inclusive)
-     * @return a list of {@link Movement} entities within the date range for the account
+     * @return a list of {@link MovementView} projections within the date range for the account
      */
-    List<Movement> findByAccountIdAndDateBetween(Long accountId, LocalDate startDate, LocalDate endDate);
+    @Query(VIEW_SELECT + "WHERE m.accountId = :accountId AND m.date BETWEEN :startDate AND :endDate")
+    List<MovementView> findViewsByAccountIdAndDateBetween(@Param("accountId") Long accountId,
+                                                          @Param("startDate") LocalDate startDate,
+                                                          @Param("endDate") LocalDate endDate);
 
     /**
      * Finds all movements for a given account ID, ordered by date descending.
      *
      * @param accountId the account ID to search for
-     * @return a list of {@link Movement} entities ordered by date descending
+     * @return a list of {@link MovementView} projections ordered by date descending
+     */
+    @Query(VIEW_SELECT + "WHERE m.accountId = :accountId ORDER BY m.date DESC")
+    List<MovementView> findViewsByAccountIdOrderByDateDesc(@Param("accountId") Long accountId);
+
+    /**
+     * Finds a slice of the movements of an account, newest first.
+     *
+     * @param accountId the account ID to search for
+     * @param offset the number of rows to skip
+     * @param limit the maximum number of rows to return
+     * @return a list of {@link Movement} entities ordered by date and ID descending
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT * FROM bank_movements WHERE account_id = :accountId " +
+                   "ORDER BY date DESC, id DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Movement> findSliceByAccountId(@Param("accountId") Long accountId,
+                                        @Param("offset") long offset,
+                                        @Param("limit") int limit);
+
+    /**
+     * Finds a slice of the movements of a user whose description matches a full-text query,
+     * best match first, then newest first. The expression must stay identical to the
+     * description search index for the index to be used.
+     *
+     * @param userId the user ID whose movements to search
+     * @param query the {@code tsquery} in the 'simple' configuration
+     * @param offset the number of rows to skip
+     * @param limit the maximum number of rows to return
+     * @return a list of {@link Movement} entities ordered by rank, date and ID descending
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT * FROM bank_movements WHERE user_id = :userId " +
+                   "AND to_tsvector('simple', description) @@ to_tsquery('simple', :query) " +
+                   "ORDER BY ts_rank(to_tsvector('simple', description), to_tsquery('simple', :query)) DESC, " +
+                   "date DESC, id DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Movement> searchByDescription(@Param("userId") Long userId,
+                                       @Param("query") String query,
+                                       @Param("offset") long offset,
+                                       @Param("limit") int limit);
+
+    /**
+     * Finds the most recent movements of every account of a user, at most {@code limit} per account.
+     * Each account is read with its own (account_id, date) index range, newest first, so the cost
+     * depends on the number of accounts and the limit, not on the length of their history.
+     *
+     * @param userId the user ID whose accounts to search
+     * @param limit the maximum number of movements per account
+     * @return a list of {@link Movement} entities grouped by account in account ID order, newest first within each account
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT m.* FROM bank_account a CROSS JOIN LATERAL (" +
+                   "SELECT * FROM bank_movements WHERE account_id = a.id ORDER BY date DESC, id DESC LIMIT :limit) m " +
+                   "WHERE a.user_id = :userId ORDER BY a.id, m.date DESC, m.id DESC", nativeQuery = true)
+    List<Movement> findLatestPerAccountByUserId(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * Counts the movements of an account.
+     *
+     * @param accountId the account ID to count for
+     * @return the number of movements of the account
      */
-    List<Movement> findByAccountIdOrderByDateDesc(Long accountId);
+    long countByAccountId(Long accountId);
 
     /**
      * Finds all movements for all accounts belonging to a user within a specific date range.
@@ -74,10 +152,33 @@ public interface MovementRepository extends JpaRepository<Movement, Long> {
      * @param endDate the end date of the range (inclusive)
      * @return a list of {@link Movement} entities within the date range for all user accounts
      */
-    @Query("SELECT m FROM Movement m WHERE m.accountId IN " +
-           "(SELECT a.id FROM Account a WHERE a.userId = :userId) " +
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT m FROM Movement m WHERE m.userId = :userId " +
            "AND m.date BETWEEN :startDate AND :endDate")
     List<Movement> getAllUsersMovementsByGivenDate(@Param("userId") Long userId, 
                                                      @Param("startDate") LocalDate startDate, 
                                                      @Param("endDate") LocalDate endDate);
-}
\ No newline at end of file
+
+    /**
+     * Re-assigns the denormalized owner of all movements of an account.
+     * Used when an account is moved to another user.
+     *
+     * @param accountId the account whose movements to update
+     * @param userId the new owner
+     * @return the number of updated movements
+     */
+    @Modifying
+    @Query("UPDATE Movement m SET m.userId = :userId WHERE m.accountId = :accountId")
+    int updateUserIdByAccountId(@Param("accountId") Long accountId, @Param("userId") Long userId);
+
+    /**
+     * Deletes all movements of an account.
+     * Used when the account itself is deleted.
+     *
+     * @param accountId the account whose movements to delete
+     * @return the number of deleted movements
+     */
+    @Modifying
+    @Query("DELETE FROM Movement m WHERE m.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
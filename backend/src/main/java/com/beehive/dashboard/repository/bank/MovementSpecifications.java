@@ -0,0 +1,146 @@
+package com.beehive.dashboard.repository.bank;
+
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * {@link Specification} building blocks for {@link Movement} searches through
+ * {@link MovementRepository}. Each method returns a single predicate; callers combine them
+ * with {@link Specification#and}, so any combination compiles into one SQL query.
+ */
+public final class MovementSpecifications {
+
+    /**
+     * Order matching the keyset predicate of {@link #before(LocalDate, Long)}, newest first.
+     */
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("date"), Sort.Order.desc("id"));
+
+    private MovementSpecifications() {
+    }
+
+    /**
+     * Movements of all accounts of a user. Backed by the (user_id, date) index.
+     *
+     * @param userId the user ID
+     * @return the specification
+     */
+    public static Specification<Movement> ofUser(Long userId) {
+        return (root, query, cb) -> cb.equal(root.get("userId"), userId);
+    }
+
+    /**
+     * Movements of any of the given accounts. Backed by the (account_id, date) index.
+     *
+     * @param accountIds the account IDs
+     * @return the specification
+     */
+    public static Specification<Movement> accountIn(Collection<Long> accountIds) {
+        return (root, query, cb) -> root.get("accountId").in(accountIds);
+    }
+
+    /**
+     * Movements of any of the given types.
+     *
+     * @param types the movement types
+     * @return the specification
+     */
+    public static Specification<Movement> typeIn(Collection<MovementType> types) {
+        return (root, query, cb) -> root.get("type").in(types);
+    }
+
+    /**
+     * Movements in any of the given statuses.
+     *
+     * @param statuses the movement statuses
+     * @return the specification
+     */
+    public static Specification<Movement> statusIn(Collection<MovementStatus> statuses) {
+        return (root, query, cb) -> root.get("status").in(statuses);
+    }
+
+    /**
+     * Movements in any of the given categories.
+     *
+     * @param categories the movement categories
+     * @return the specification
+     */
+    public static Specification<Movement> categoryIn(Collection<MovementCategory> categories) {
+        return (root, query, cb) -> root.get("category").in(categories);
+    }
+
+    /**
+     * Movements with an amount of at least the given cents.
+     *
+     * @param minCents the smallest amount in cents, inclusive
+     * @return the specification
+     */
+    public static Specification<Movement> amountAtLeast(long minCents) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("amountCents"), minCents);
+    }
+
+    /**
+     * Movements with an amount of at most the given cents.
+     *
+     * @param maxCents the largest amount in cents, inclusive
+     * @return the specification
+     */
+    public static Specification<Movement> amountAtMost(long maxCents) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("amountCents"), maxCents);
+    }
+
+    /**
+     * Movements dated on or after the given date.
+     *
+     * @param startDate the first date, inclusive
+     * @return the specification
+     */
+    public static Specification<Movement> dateFrom(LocalDate startDate) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("date"), startDate);
+    }
+
+    /**
+     * Movements dated on or before the given date.
+     *
+     * @param endDate the last date, inclusive
+     * @return the specification
+     */
+    public static Specification<Movement> dateTo(LocalDate endDate) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("date"), endDate);
+    }
+
+    /**
+     * Movements whose description contains the given text, ignoring case.
+     * LIKE wildcards in the text are matched literally.
+     *
+     * @param text the text to look for
+     * @return the specification
+     */
+    public static Specification<Movement> descriptionContains(String text) {
+        String pattern = "%" + text.toLowerCase()
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("description")), pattern, '\\');
+    }
+
+    /**
+     * Movements after the given one in {@link #NEWEST_FIRST} order: older, or on the same date with a lower id.
+     * Lets the next page continue from the index position of the previous one instead of skipping rows.
+     *
+     * @param date the date of the last movement of the previous page
+     * @param id the id of the last movement of the previous page
+     * @return the specification
+     */
+    public static Specification<Movement> before(LocalDate date, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("date"), date),
+                cb.and(cb.equal(root.get("date"), date), cb.lessThan(root.get("id"), id)));
+    }
+}
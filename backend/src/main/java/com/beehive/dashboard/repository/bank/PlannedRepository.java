@@ -1,10 +1,15 @@
 package com.beehive.dashboard.repository.bank;
 
+import com.beehive.dashboard.dto.bank.PlannedView;
 import com.beehive.dashboard.entity.bank.Planned;
 import com.beehive.dashboard.types.bank.MovementStatus;
 import com.beehive.dashboard.types.bank.MovementType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -23,30 +28,47 @@ import java.util.List;
 public interface PlannedRepository extends JpaRepository<Planned, Long> {
 
     /**
-     * Finds all planned associated with a specific account ID.
+     * Select clause building {@link PlannedView} projections, shared by the list queries.
+     */
+    String VIEW_SELECT = "SELECT new com.beehive.dashboard.dto.bank.PlannedView(p.id, p.accountId, p.userId, " +
+                         "p.category, p.type, p.amountCents, p.description, p.recurrence, p.cron, p.nextExecution, " +
+                         "p.endDate, p.status) FROM Planned p ";
+
+    /**
+     * Counts the planned movements of an account.
      *
-     * @param accountId the account ID to search for
-     * @return a list of {@link Planned} entities belonging to the account
+     * @param accountId the account ID to count for
+     * @return the number of planned movements of the account
      */
-    List<Planned> findByAccountId(Long accountId);
+    long countByAccountId(Long accountId);
+
+    /**
+     * Finds all planned as read-only views.
+     *
+     * @return a list of {@link PlannedView} projections of every planned
+     */
+    @Query(VIEW_SELECT)
+    List<PlannedView> findAllViews();
 
     /**
      * Finds all planned of a specific type for a given account ID.
      *
      * @param accountId the account ID to search for
      * @param type the planned type to filter by
-     * @return a list of {@link Planned} entities matching the type and account
+     * @return a list of {@link PlannedView} projections matching the type and account
      */
-    List<Planned> findByAccountIdAndType(Long accountId, MovementType type);
+    @Query(VIEW_SELECT + "WHERE p.accountId = :accountId AND p.type = :type")
+    List<PlannedView> findViewsByAccountIdAndType(@Param("accountId") Long accountId, @Param("type") MovementType type);
 
     /**
      * Finds all planned with a specific status for a given account ID.
      *
      * @param accountId the account ID to search for
      * @param status the planned status to filter by
-     * @return a list of {@link Planned} entities matching the status and account
+     * @return a list of {@link PlannedView} projections matching the status and account
      */
-    List<Planned> findByAccountIdAndStatus(Long accountId, MovementStatus status);
+    @Query(VIEW_SELECT + "WHERE p.accountId = :accountId AND p.status = :status")
+    List<PlannedView> findViewsByAccountIdAndStatus(@Param("accountId") Long accountId, @Param("status") MovementStatus status);
 
     /**
      * Finds all planned for a given account ID within a specific date range.
@@ -54,17 +76,59 @@ public interface PlannedRepository extends JpaRepository<Planned, Long> {
      * @param accountId the account ID to search for
      * @param startDate the start date of the range (inclusive)
      * @param endDate the end date of the range (inclusive)
-     * @return a list of {@link Planned} entities within the date range for the account
+     * @return a list of {@link PlannedView} projections within the date range for the account
      */
-    List<Planned> findByAccountIdAndNextExecutionBetween(Long accountId, LocalDate startDate, LocalDate endDate);
+    @Query(VIEW_SELECT + "WHERE p.accountId = :accountId AND p.nextExecution BETWEEN :startDate AND :endDate")
+    List<PlannedView> findViewsByAccountIdAndNextExecutionBetween(@Param("accountId") Long accountId,
+                                                                  @Param("startDate") LocalDate startDate,
+                                                                  @Param("endDate") LocalDate endDate);
 
     /**
      * Finds all planned for a given account ID, ordered by date descending.
      *
      * @param accountId the account ID to search for
-     * @return a list of {@link Planned} entities ordered by date descending
+     * @return a list of {@link PlannedView} projections ordered by date descending
+     */
+    @Query(VIEW_SELECT + "WHERE p.accountId = :accountId ORDER BY p.nextExecution DESC")
+    List<PlannedView> findViewsByAccountIdOrderByNextExecutionDesc(@Param("accountId") Long accountId);
+
+    /**
+     * Finds a slice of the planned movements of a user whose description matches a full-text query,
+     * best match first, then soonest first. The expression must stay identical to the
+     * description search index for the index to be used.
+     *
+     * @param userId the user ID whose planned movements to search
+     * @param query the {@code tsquery} in the 'simple' configuration
+     * @param offset the number of rows to skip
+     * @param limit the maximum number of rows to return
+     * @return a list of {@link Planned} entities ordered by rank, next execution and ID
      */
-    List<Planned> findByAccountIdOrderByNextExecutionDesc(Long accountId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT * FROM bank_planned WHERE user_id = :userId " +
+                   "AND to_tsvector('simple', description) @@ to_tsquery('simple', :query) " +
+                   "ORDER BY ts_rank(to_tsvector('simple', description), to_tsquery('simple', :query)) DESC, " +
+                   "next_execution, id LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Planned> searchByDescription(@Param("userId") Long userId,
+                                      @Param("query") String query,
+                                      @Param("offset") long offset,
+                                      @Param("limit") int limit);
+
+    /**
+     * Finds the next planned movements of every account of a user, at most {@code limit} per account.
+     * Each account is read with its own (account_id, next_execution) index range.
+     *
+     * @param userId the user ID whose accounts to search
+     * @param fromDate the first execution date to include
+     * @param limit the maximum number of planned movements per account
+     * @return a list of {@link Planned} entities grouped by account in account ID order, soonest first within each account
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query(value = "SELECT p.* FROM bank_account a CROSS JOIN LATERAL (" +
+                   "SELECT * FROM bank_planned WHERE account_id = a.id AND next_execution >= :fromDate " +
+                   "AND status NOT IN ('CANCELLED', 'FAILED') ORDER BY next_execution, id LIMIT :limit) p " +
+                   "WHERE a.user_id = :userId ORDER BY a.id, p.next_execution, p.id", nativeQuery = true)
+    List<Planned> findNextPerAccountByUserId(@Param("userId") Long userId, @Param("fromDate") LocalDate fromDate,
+                                             @Param("limit") int limit);
 
     /**
      * Finds all planned movements for all accounts belonging to a user within a specific date range.
@@ -74,9 +138,32 @@ public interface PlannedRepository extends JpaRepository<Planned, Long> {
      * @param endDate the end date of the range (inclusive)
      * @return a list of {@link Planned} entities within the date range for all user accounts
      */
-    @Query("SELECT p FROM Planned p WHERE p.accountId IN " +
-           "(SELECT a.id FROM Account a WHERE a.userId = :userId) " +
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT p FROM Planned p WHERE p.userId = :userId " +
            "AND p.nextExecution BETWEEN :startDate AND :endDate")
     List<Planned> getAllUsersPlannedMovementsByGivenDate(@Param("userId") Long userId, @Param("startDate") LocalDate startDate, 
                                                            @Param("endDate") LocalDate endDate);
-}
\ No newline at end of file
+
+    /**
+     * Re-assigns the denormalized owner of all planned movements of an account.
+     * Used when an account is moved to another user.
+     *
+     * @param accountId the account whose planned movements to update
+     * @param userId the new owner
+     * @return the number of updated planned movements
+     */
+    @Modifying
+    @Query("UPDATE Planned p SET p.userId = :userId WHERE p.accountId = :accountId")
+    int updateUserIdByAccountId(@Param("accountId") Long accountId, @Param("userId") Long userId);
+
+    /**
+     * Deletes all planned movements of an account.
+     * Used when the account itself is deleted.
+     *
+     * @param accountId the account whose planned movements to delete
+     * @return the number of deleted planned movements
+     */
+    @Modifying
+    @Query("DELETE FROM Planned p WHERE p.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,58 @@
+package com.beehive.dashboard.repository.bank;
+
+import com.beehive.dashboard.entity.bank.RecurringSuggestion;
+import com.beehive.dashboard.types.bank.SuggestionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link RecurringSuggestion} entities.
+ */
+@Repository
+public interface RecurringSuggestionRepository extends JpaRepository<RecurringSuggestion, Long> {
+
+    /**
+     * Finds every suggestion of a user, whatever its status.
+     *
+     * @param userId the user ID whose suggestions to retrieve
+     * @return a list of {@link RecurringSuggestion} entities
+     */
+    List<RecurringSuggestion> findByUserId(Long userId);
+
+    /**
+     * Finds the suggestions of a user in a given status, soonest next date first.
+     *
+     * @param userId the user ID whose suggestions to retrieve
+     * @param status the status to filter by
+     * @return a list of {@link RecurringSuggestion} entities ordered by next date
+     */
+    List<RecurringSuggestion> findByUserIdAndStatusOrderByNextDate(Long userId, SuggestionStatus status);
+
+    /**
+     * Re-assigns the owner of all recurring suggestions of an account.
+     * Used when an account is moved to another user.
+     *
+     * @param accountId the account whose recurring suggestions to update
+     * @param userId the new owner
+     * @return the number of updated recurring suggestions
+     */
+    @Modifying
+    @Query("UPDATE RecurringSuggestion s SET s.userId = :userId WHERE s.accountId = :accountId")
+    int updateUserIdByAccountId(@Param("accountId") Long accountId, @Param("userId") Long userId);
+
+    /**
+     * Deletes all recurring suggestions of an account.
+     * Used when the account itself is deleted.
+     *
+     * @param accountId the account whose recurring suggestions to delete
+     * @return the number of deleted recurring suggestions
+     */
+    @Modifying
+    @Query("DELETE FROM RecurringSuggestion s WHERE s.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
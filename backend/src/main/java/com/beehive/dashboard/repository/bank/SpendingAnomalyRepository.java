@@ -0,0 +1,37 @@
+package com.beehive.dashboard.repository.bank;
+
+import com.beehive.dashboard.entity.bank.SpendingAnomaly;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for reading {@link SpendingAnomaly} entities.
+ * Anomalies are written by the detector with plain SQL as movements are created.
+ */
+@Repository
+public interface SpendingAnomalyRepository extends JpaRepository<SpendingAnomaly, Long> {
+
+    /**
+     * Finds one page of the anomalies of a user, most recent movement first.
+     *
+     * @param userId the user ID whose anomalies to retrieve
+     * @param pageable the page to retrieve
+     * @return a {@link Slice} of {@link SpendingAnomaly} entities
+     */
+    Slice<SpendingAnomaly> findByUserIdOrderByMovementDateDescIdDesc(Long userId, Pageable pageable);
+
+    /**
+     * Deletes the anomaly flagged for a movement, if any.
+     *
+     * @param movementId the ID of the movement
+     * @return the number of anomalies deleted
+     */
+    @Modifying
+    @Query("DELETE FROM SpendingAnomaly a WHERE a.movementId = :movementId")
+    int deleteByMovementId(@Param("movementId") Long movementId);
+}
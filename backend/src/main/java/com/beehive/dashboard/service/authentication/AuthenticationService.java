@@ -39,7 +39,7 @@ public class AuthenticationService {
      * @throws RuntimeException if username or email already exists
      */
     public String register(User user) {
-        logger.info("Starting user registration process for username: {}", user.getUsername());
+        logger.debug("Starting user registration process for username: {}", user.getUsername());
 
         if (userRepository.existsByUsername(user.getUsername())) {
             logger.warn("Registration failed - Username already exists: {}", user.getUsername());
@@ -56,11 +56,11 @@ public class AuthenticationService {
 
         logger.debug("Saving user to database: {}", user.getUsername());
         User savedUser = userRepository.save(user);
-        logger.info("User successfully saved to database with ID: {} for username: {}", savedUser.getId(), savedUser.getUsername());
+        logger.debug("User successfully saved to database with ID: {} for username: {}", savedUser.getId(), savedUser.getUsername());
 
         logger.debug("Generating JWT token for registered user: {}", savedUser.getUsername());
         String token = jwtService.generateToken(savedUser);
-        logger.info("Registration completed successfully for user: {}", savedUser.getUsername());
+        logger.debug("Registration completed successfully for user: {}", savedUser.getUsername());
 
         return token;
     }
@@ -74,12 +74,12 @@ public class AuthenticationService {
      * @throws RuntimeException if authentication fails or user is not found
      */
     public String authenticate(String username, String password) {
-        logger.info("Starting authentication process for username: {}", username);
+        logger.debug("Starting authentication process for username: {}", username);
 
         try {
             logger.debug("Attempting authentication with Spring Security for username: {}", username);
             authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(username, password));
-            logger.info("Authentication successful for username: {}", username);
+            logger.debug("Authentication successful for username: {}", username);
         } catch (Exception e) {
             logger.error("Authentication failed for username: {} - Error: {}", username, e.getMessage());
             throw e;
@@ -94,7 +94,7 @@ public class AuthenticationService {
 
         logger.debug("Generating JWT token for authenticated user: {}", username);
         String token = jwtService.generateToken(user);
-        logger.info("Authentication process completed successfully for user: {}", username);
+        logger.debug("Authentication process completed successfully for user: {}", username);
 
         return token;
     }
@@ -120,7 +120,7 @@ public class AuthenticationService {
                     return new RuntimeException("User not found");
                 });
 
-            logger.info("Successfully retrieved current user: {}", username);
+            logger.debug("Successfully retrieved current user: {}", username);
             return user;
         } catch (Exception e) {
             logger.error("Failed to get current user from token - Error: {}", e.getMessage());
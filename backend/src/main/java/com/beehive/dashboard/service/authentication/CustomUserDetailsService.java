@@ -30,7 +30,7 @@ public class CustomUserDetailsService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        logger.info("Loading user details for username: {}", username);
+        logger.debug("Loading user details for username: {}", username);
 
         try {
             logger.debug("Searching database for user with username: {}", username);
@@ -40,7 +40,7 @@ public class CustomUserDetailsService implements UserDetailsService {
                     return new UsernameNotFoundException("User not found: " + username);
                 });
 
-            logger.info("Successfully loaded user details for username: {}", username);
+            logger.debug("Successfully loaded user details for username: {}", username);
             logger.debug("User found with authorities: {}", userDetails.getAuthorities());
 
             return userDetails;
@@ -3,6 +3,7 @@ package com.beehive.dashboard.service.authentication;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -78,10 +79,10 @@ public class JwtService {
      * @return Generated JWT token string
      */
     public String generateToken(UserDetails userDetails) {
-        logger.info("Generating JWT token for user: {}", userDetails.getUsername());
+        logger.debug("Generating JWT token for user: {}", userDetails.getUsername());
 
         String token = generateToken(new HashMap<>(), userDetails);
-        logger.info("JWT token generated successfully for user: {}", userDetails.getUsername());
+        logger.debug("JWT token generated successfully for user: {}", userDetails.getUsername());
         logger.debug("Token generation completed for user: {}", userDetails.getUsername());
 
         return token;
@@ -95,12 +96,12 @@ public class JwtService {
      * @return Generated JWT token string
      */
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
-        logger.info("Generating JWT token with extra claims for user: {}", userDetails.getUsername());
+        logger.debug("Generating JWT token with extra claims for user: {}", userDetails.getUsername());
         logger.debug("Extra claims count: {}, Expiration: {} ms", extraClaims.size(), jwtExpiration);
 
         try {
             String token = buildToken(extraClaims, userDetails, jwtExpiration);
-            logger.info("JWT token with extra claims generated successfully for user: {}", userDetails.getUsername());
+            logger.debug("JWT token with extra claims generated successfully for user: {}", userDetails.getUsername());
             return token;
         } catch (Exception e) {
             logger.error("Failed to generate JWT token for user: {} - Error: {}", userDetails.getUsername(), e.getMessage());
@@ -148,6 +149,7 @@ public class JwtService {
      * @param userDetails UserDetails to validate against
      * @return True if token is valid and belongs to the user, false otherwise
      */
+    @Timed(value = "beehive.jwt.validate", description = "JWT token validation", histogram = true)
     public boolean isTokenValid(String token, UserDetails userDetails) {
         logger.debug("Validating JWT token for user: {}", userDetails.getUsername());
 
@@ -157,11 +159,13 @@ public class JwtService {
             boolean isNotExpired = !isTokenExpired(token);
             boolean isValid = isUsernameMatch && isNotExpired;
 
-            logger.debug("Token validation results - Username match: {}, Not expired: {}, Valid: {}",
-                isUsernameMatch, isNotExpired, isValid);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Token validation results - Username match: {}, Not expired: {}, Valid: {}",
+                    isUsernameMatch, isNotExpired, isValid);
+            }
 
             if (isValid) {
-                logger.info("JWT token validation successful for user: {}", userDetails.getUsername());
+                logger.debug("JWT token validation successful for user: {}", userDetails.getUsername());
             } else {
                 logger.warn("JWT token validation failed for user: {} - Username match: {}, Not expired: {}",
                     userDetails.getUsername(), isUsernameMatch, isNotExpired);
@@ -188,8 +192,10 @@ public class JwtService {
             Date now = new Date();
             boolean isExpired = expiration.before(now);
 
-            logger.debug("Token expiration check - Expires: {}, Now: {}, Is expired: {}",
-                expiration, now, isExpired);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Token expiration check - Expires: {}, Now: {}, Is expired: {}",
+                    expiration, now, isExpired);
+            }
 
             if (isExpired) {
                 logger.warn("JWT token is expired - Expiration: {}", expiration);
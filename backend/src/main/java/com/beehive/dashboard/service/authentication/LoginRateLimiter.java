@@ -0,0 +1,247 @@
+package com.beehive.dashboard.service.authentication;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory sliding-window rate limiter for the login and registration endpoints.
+ * Keeps one counter per client IP for every attempt and one per username for failed attempts only,
+ * each made of per-second buckets updated with a single CAS, so brute-force attempts are rejected
+ * before they cost a BCrypt verification. A successful login clears the failures of its username.
+ * Each map holds at most max-tracked-keys counters; a new IP beyond that is rejected until idle
+ * counters are evicted, and state is only allocated for an attempt that passed the IP limit.
+ */
+@Service
+public class LoginRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginRateLimiter.class);
+
+    private final ConcurrentHashMap<String, SlidingWindowCounter> loginFailuresByUsername = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, SlidingWindowCounter> loginByIp = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, SlidingWindowCounter> registerByIp = new ConcurrentHashMap<>();
+
+    private final LongAdder loginRejectedByUsername = new LongAdder();
+    private final LongAdder loginRejectedByIp = new LongAdder();
+    private final LongAdder registerRejectedByIp = new LongAdder();
+
+    @Value("${security.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${security.rate-limit.window-seconds:60}")
+    private int windowSeconds;
+
+    @Value("${security.rate-limit.login.per-username:10}")
+    private int loginPerUsername;
+
+    @Value("${security.rate-limit.login.per-ip:30}")
+    private int loginPerIp;
+
+    @Value("${security.rate-limit.register.per-ip:5}")
+    private int registerPerIp;
+
+    @Value("${security.rate-limit.max-tracked-keys:100000}")
+    private int maxTrackedKeys;
+
+    /**
+     * Records a login attempt against the per-IP limit and checks the recent failures of the username.
+     * The username is only looked up, its failures are recorded by {@link #recordLoginFailure(String)}.
+     *
+     * @param username  Username being logged into
+     * @param ipAddress Client IP address
+     * @return true if the attempt is allowed, false if it must be rejected
+     */
+    public boolean tryAcquireLogin(String username, String ipAddress) {
+        if (!enabled) {
+            return true;
+        }
+
+        long now = currentSecond();
+        SlidingWindowCounter ipCounter = counter(loginByIp, normalize(ipAddress));
+        long ipAttempts = ipCounter != null ? ipCounter.incrementAndSum(now) : Long.MAX_VALUE;
+        if (ipAttempts > loginPerIp) {
+            loginRejectedByIp.increment();
+            logger.warn("Login rate limit exceeded for IP: {} - {} attempts in {}s", ipAddress,
+                    ipCounter != null ? ipAttempts : "untracked", windowSeconds);
+            return false;
+        }
+
+        SlidingWindowCounter failures = loginFailuresByUsername.get(normalize(username));
+        long usernameFailures = failures != null ? failures.sum(now) : 0;
+        if (usernameFailures >= loginPerUsername) {
+            loginRejectedByUsername.increment();
+            logger.warn("Login rate limit exceeded for username: {} - {} failures in {}s", username, usernameFailures, windowSeconds);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Records a failed login for the per-username limit. When the map is full the failure is not
+     * tracked, leaving the per-IP limit in place.
+     *
+     * @param username Username whose login failed
+     */
+    public void recordLoginFailure(String username) {
+        if (!enabled) {
+            return;
+        }
+
+        SlidingWindowCounter failures = counter(loginFailuresByUsername, normalize(username));
+        if (failures != null) {
+            failures.incrementAndSum(currentSecond());
+        }
+    }
+
+    /**
+     * Clears the failures of a username after a successful login.
+     *
+     * @param username Username that logged in
+     */
+    public void recordLoginSuccess(String username) {
+        loginFailuresByUsername.remove(normalize(username));
+    }
+
+    /**
+     * Records a registration attempt and checks it against the per-IP limit.
+     *
+     * @param ipAddress Client IP address
+     * @return true if the attempt is allowed, false if it must be rejected
+     */
+    public boolean tryAcquireRegister(String ipAddress) {
+        if (!enabled) {
+            return true;
+        }
+
+        SlidingWindowCounter ipCounter = counter(registerByIp, normalize(ipAddress));
+        long ipAttempts = ipCounter != null ? ipCounter.incrementAndSum(currentSecond()) : Long.MAX_VALUE;
+        if (ipAttempts > registerPerIp) {
+            registerRejectedByIp.increment();
+            logger.warn("Registration rate limit exceeded for IP: {} - {} attempts in {}s", ipAddress,
+                    ipCounter != null ? ipAttempts : "untracked", windowSeconds);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the window length in seconds, used as the Retry-After hint for rejected clients
+     */
+    public int getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    public long getLoginRejectedByUsername() {
+        return loginRejectedByUsername.sum();
+    }
+
+    public long getLoginRejectedByIp() {
+        return loginRejectedByIp.sum();
+    }
+
+    public long getRegisterRejectedByIp() {
+        return registerRejectedByIp.sum();
+    }
+
+    /**
+     * Scheduled task dropping counters that saw no attempt during the last window.
+     * Runs every minute so the maps only hold recently active usernames and IPs.
+     */
+    @Scheduled(fixedRate = 60000)
+    public void evictIdleCounters() {
+        long now = currentSecond();
+        int before = loginFailuresByUsername.size() + loginByIp.size() + registerByIp.size();
+
+        loginFailuresByUsername.values().removeIf(counter -> counter.isIdle(now));
+        loginByIp.values().removeIf(counter -> counter.isIdle(now));
+        registerByIp.values().removeIf(counter -> counter.isIdle(now));
+
+        int after = loginFailuresByUsername.size() + loginByIp.size() + registerByIp.size();
+        if (before != after) {
+            logger.debug("Evicted {} idle rate limit counters, {} remaining", before - after, after);
+        }
+    }
+
+    /**
+     * Gets the counter of a key, creating it only while the map is below max-tracked-keys.
+     *
+     * @return the counter, or null if the key is new and the map is full
+     */
+    private SlidingWindowCounter counter(ConcurrentHashMap<String, SlidingWindowCounter> counters, String key) {
+        SlidingWindowCounter counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        if (counters.size() >= maxTrackedKeys) {
+            logger.debug("Rate limit counters full ({}), not tracking key", counters.size());
+            return null;
+        }
+        return counters.computeIfAbsent(key, k -> new SlidingWindowCounter(windowSeconds));
+    }
+
+    private static String normalize(String key) {
+        return key == null ? "" : key.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long currentSecond() {
+        return System.currentTimeMillis() / 1000;
+    }
+
+    /**
+     * Lock-free sliding-window counter with one bucket per second.
+     * Each bucket packs the epoch second it belongs to and its count into one long,
+     * so a stale bucket is reset and incremented with a single compare-and-set.
+     */
+    static final class SlidingWindowCounter {
+
+        private static final int COUNT_BITS = 24;
+        private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+        private final AtomicLongArray buckets;
+        private final int windowSeconds;
+
+        SlidingWindowCounter(int windowSeconds) {
+            this.windowSeconds = windowSeconds;
+            this.buckets = new AtomicLongArray(windowSeconds);
+        }
+
+        /**
+         * Adds one attempt in the bucket for {@code now} and returns the total within the window.
+         */
+        long incrementAndSum(long now) {
+            int index = (int) (now % windowSeconds);
+            while (true) {
+                long current = buckets.get(index);
+                long updated = (current >>> COUNT_BITS) == now
+                        ? Math.min(current + 1, (now << COUNT_BITS) | COUNT_MASK)
+                        : (now << COUNT_BITS) | 1;
+                if (buckets.compareAndSet(index, current, updated)) {
+                    break;
+                }
+            }
+            return sum(now);
+        }
+
+        long sum(long now) {
+            long total = 0;
+            for (int i = 0; i < windowSeconds; i++) {
+                long bucket = buckets.get(i);
+                if (now - (bucket >>> COUNT_BITS) < windowSeconds) {
+                    total += bucket & COUNT_MASK;
+                }
+            }
+            return total;
+        }
+
+        boolean isIdle(long now) {
+            return sum(now) == 0;
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.IntSupplier;
 import java.util.stream.Collectors;
 
 /**
@@ -26,21 +27,37 @@ public class SessionService {
     @Autowired
     private UserSessionRepository sessionRepository;
 
+    @Autowired
+    private UserAgentParser userAgentParser;
+
     @Value("${jwt.expiration:1209600000}") // Default 14 days in milliseconds
     private long sessionExpirationMs;
 
+    @Value("${session.cleanup.batch-size:500}")
+    private int cleanupBatchSize;
+
+    @Value("${session.cleanup.pause-ms:200}")
+    private long cleanupPauseMs;
+
+    @Value("${session.cleanup.retention-days:30}")
+    private long cleanupRetentionDays;
+
     /**
      * Creates a new session for a user.
      */
     @Transactional
     public UserSession createSession(Long userId, String token, String userAgent, String ipAddress) {
-        logger.info("Creating new session for user: {}", userId);
+        logger.debug("Creating new session for user: {}", userId);
 
         UserSession session = new UserSession(token, userId, userAgent, ipAddress);
+        UserAgentParser.ParsedUserAgent parsedUserAgent = userAgentParser.parse(userAgent);
+        session.setDeviceType(parsedUserAgent.getDeviceType());
+        session.setBrowser(parsedUserAgent.getBrowser());
+        session.setOs(parsedUserAgent.getOs());
         session.setExpiresAt(LocalDateTime.now().plusSeconds(sessionExpirationMs / 1000));
 
         UserSession savedSession = sessionRepository.save(session);
-        logger.info("Session created successfully for user: {}, session ID: {}", userId, savedSession.getId());
+        logger.debug("Session created successfully for user: {}, session ID: {}", userId, savedSession.getId());
 
         return savedSession;
     }
@@ -78,14 +95,14 @@ public class SessionService {
      */
     @Transactional
     public boolean revokeSession(Long sessionId, Long userId) {
-        logger.info("Revoking session {} for user {}", sessionId, userId);
+        logger.debug("Revoking session {} for user {}", sessionId, userId);
 
         return sessionRepository.findById(sessionId)
                 .filter(session -> session.getUserId().equals(userId))
                 .map(session -> {
                     session.setActive(false);
                     sessionRepository.save(session);
-                    logger.info("Session {} revoked successfully", sessionId);
+                    logger.debug("Session {} revoked successfully", sessionId);
                     return true;
                 }).orElse(false);
     }
@@ -95,7 +112,7 @@ public class SessionService {
      */
     @Transactional
     public void revokeAllOtherSessions(Long userId, String currentToken) {
-        logger.info("Revoking all other sessions for user: {}", userId);
+        logger.debug("Revoking all other sessions for user: {}", userId);
         sessionRepository.deactivateAllSessionsExceptCurrent(userId, currentToken);
     }
 
@@ -104,7 +121,7 @@ public class SessionService {
      */
     @Transactional
     public void revokeAllSessions(Long userId) {
-        logger.info("Revoking all sessions for user: {}", userId);
+        logger.debug("Revoking all sessions for user: {}", userId);
         sessionRepository.deactivateAllSessionsForUser(userId);
     }
 
@@ -118,17 +135,49 @@ public class SessionService {
 
     /**
      * Scheduled task to clean up expired sessions.
-     * Runs every hour.
+     * Runs every hour, deactivating and deleting rows in bounded chunks so no single
+     * transaction holds locks on user_sessions for long.
      */
     @Scheduled(fixedRate = 3600000)
-    @Transactional
     public void cleanupExpiredSessions() {
         logger.info("Running scheduled cleanup of expired sessions");
-        sessionRepository.deactivateExpiredSessions(LocalDateTime.now());
-        
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(30);
-        sessionRepository.deleteOldInactiveSessions(cutoffDate);
-        logger.info("Expired sessions cleanup completed");
+        long startedAt = System.nanoTime();
+
+        LocalDateTime now = LocalDateTime.now();
+        int deactivated = runInChunks(() -> sessionRepository.deactivateExpiredSessionsBatch(now, cleanupBatchSize));
+
+        LocalDateTime cutoffDate = now.minusDays(cleanupRetentionDays);
+        int deleted = runInChunks(() -> sessionRepository.deleteOldInactiveSessionsBatch(cutoffDate, cleanupBatchSize));
+
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        logger.info("Expired sessions cleanup completed - Deactivated: {}, Deleted: {}, Duration: {} ms",
+                deactivated, deleted, durationMs);
+    }
+
+    /**
+     * Repeats a chunked statement until it affects fewer rows than the batch size,
+     * pausing between chunks to let request traffic through.
+     *
+     * @return total number of rows affected
+     */
+    private int runInChunks(IntSupplier chunk) {
+        int total = 0;
+        int affected;
+        do {
+            affected = chunk.getAsInt();
+            total += affected;
+
+            if (affected == cleanupBatchSize && cleanupPauseMs > 0) {
+                try {
+                    Thread.sleep(cleanupPauseMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    logger.warn("Session cleanup interrupted after {} rows", total);
+                    break;
+                }
+            }
+        } while (affected == cleanupBatchSize);
+        return total;
     }
 
     /**
@@ -0,0 +1,173 @@
+package com.beehive.dashboard.service.authentication;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Parses user agent strings into device type, browser and OS for session display.
+ * The set of distinct user agents is tiny compared to login volume, so parsed results
+ * are kept in a bounded LRU cache keyed by the raw user agent string.
+ */
+@Component
+public class UserAgentParser {
+
+    private static final ParsedUserAgent UNKNOWN = new ParsedUserAgent("Unknown", "Unknown", "Unknown");
+
+    /**
+     * Browser rules, evaluated in order. The first rule whose token is present wins,
+     * so more specific engines (Edge, Chrome) must come before the ones they embed (Safari).
+     */
+    private static final BrowserRule[] BROWSER_RULES = {
+            new BrowserRule("Edg/", "Edge", "Edg/"),
+            new BrowserRule("Chrome/", "Chrome", "Chrome/"),
+            new BrowserRule("Safari/", "Safari", "Version/"),
+            new BrowserRule("Firefox/", "Firefox", "Firefox/")
+    };
+
+    /**
+     * OS rules, evaluated in order. Desktop platforms are checked first because
+     * iOS user agents also contain "Mac OS X".
+     */
+    private static final String[][] OS_RULES = {
+            {"Windows NT 10", "Windows 10/11"},
+            {"Windows NT", "Windows"},
+            {"Mac OS X", "macOS"},
+            {"Linux", "Linux"},
+            {"iPhone", "iOS"},
+            {"iPad", "iOS"},
+            {"Android", "Android"}
+    };
+
+    private static final String[] MOBILE_TOKENS = {"Mobile", "Android", "iPhone", "iPad"};
+
+    private final Map<String, ParsedUserAgent> cache;
+
+    public UserAgentParser(@Value("${session.user-agent-cache-size:1024}") int cacheSize) {
+        this.cache = new LinkedHashMap<>(Math.min(cacheSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ParsedUserAgent> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Parses a user agent string, serving repeated values from the cache.
+     *
+     * @param userAgent Raw User-Agent header, may be null
+     * @return Parsed device type, browser and OS
+     */
+    public ParsedUserAgent parse(String userAgent) {
+        if (userAgent == null || userAgent.isEmpty()) {
+            return UNKNOWN;
+        }
+
+        synchronized (cache) {
+            ParsedUserAgent cached = cache.get(userAgent);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        ParsedUserAgent parsed = parseUncached(userAgent);
+        synchronized (cache) {
+            cache.put(userAgent, parsed);
+        }
+        return parsed;
+    }
+
+    /**
+     * Parses a user agent string against the rule tables without consulting the cache.
+     */
+    ParsedUserAgent parseUncached(String userAgent) {
+        return new ParsedUserAgent(parseDeviceType(userAgent), parseBrowser(userAgent), parseOs(userAgent));
+    }
+
+    private String parseDeviceType(String userAgent) {
+        for (String token : MOBILE_TOKENS) {
+            if (userAgent.contains(token)) {
+                return userAgent.contains("iPad") ? "Tablet" : "Mobile";
+            }
+        }
+        return "Desktop";
+    }
+
+    private String parseBrowser(String userAgent) {
+        for (BrowserRule rule : BROWSER_RULES) {
+            if (userAgent.contains(rule.token)) {
+                return rule.name + " " + extractMajorVersion(userAgent, rule.versionPrefix);
+            }
+        }
+        return "Unknown";
+    }
+
+    private String parseOs(String userAgent) {
+        for (String[] rule : OS_RULES) {
+            if (userAgent.contains(rule[0])) {
+                return rule[1];
+            }
+        }
+        return "Unknown";
+    }
+
+    /**
+     * Extracts the major version number following the given prefix, or an empty string if absent.
+     */
+    private String extractMajorVersion(String userAgent, String prefix) {
+        int index = userAgent.indexOf(prefix);
+        if (index < 0) {
+            return "";
+        }
+        int start = index + prefix.length();
+        int end = start;
+        while (end < userAgent.length() && Character.isDigit(userAgent.charAt(end))) {
+            end++;
+        }
+        return userAgent.substring(start, end);
+    }
+
+    /**
+     * Browser matching rule: the token to look for, the display name and the version prefix.
+     */
+    private static class BrowserRule {
+        final String token;
+        final String name;
+        final String versionPrefix;
+
+        BrowserRule(String token, String name, String versionPrefix) {
+            this.token = token;
+            this.name = name;
+            this.versionPrefix = versionPrefix;
+        }
+    }
+
+    /**
+     * Immutable result of parsing a user agent string.
+     */
+    public static final class ParsedUserAgent {
+        private final String deviceType;
+        private final String browser;
+        private final String os;
+
+        public ParsedUserAgent(String deviceType, String browser, String os) {
+            this.deviceType = deviceType;
+            this.browser = browser;
+            this.os = os;
+        }
+
+        public String getDeviceType() {
+            return deviceType;
+        }
+
+        public String getBrowser() {
+            return browser;
+        }
+
+        public String getOs() {
+            return os;
+        }
+    }
+}
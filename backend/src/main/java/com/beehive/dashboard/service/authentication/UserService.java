@@ -33,7 +33,7 @@ public class UserService {
      * @throws ResponseStatusException with NOT_FOUND status if account doesn't exist
      */
     public UserResponse getById(Long id) {
-        logger.info("Retrieving user with ID: {}", id);
+        logger.debug("Retrieving user with ID: {}", id);
 
         logger.debug("Searching database for account ID: {}", id);
         User user = userRepository.findById(id).orElseThrow(() -> {
@@ -45,7 +45,7 @@ public class UserService {
         UserResponse userResponse = new UserResponse(user.getId(), user.getUsername(), user.getEmail(),
                 user.getFirstName(), user.getLastName(), user.getRole().name());
 
-        logger.info("Successfully retrieved user with ID: {}", id);
+        logger.debug("Successfully retrieved user with ID: {}", id);
         logger.debug("User details - Name: {} {}", user.getFirstName(), user.getLastName());
 
         return userResponse;
@@ -57,12 +57,12 @@ public class UserService {
      * @return List of all User entities in the system
      */
     public List<UserResponse> getAll() {
-        logger.info("Retrieving all users from database");
+        logger.debug("Retrieving all users from database");
 
         List<UserResponse> users = userRepository.findAll().stream().map(user -> new UserResponse(
                 user.getId(), user.getUsername(), user.getEmail(), user.getFirstName(), user.getLastName(), user.getRole().name()
         )).collect(Collectors.toList());
-        logger.info("Successfully retrieved {} accounts", users.size());
+        logger.debug("Successfully retrieved {} accounts", users.size());
 
         return users;
     }
@@ -2,7 +2,9 @@ package com.beehive.dashboard.service.bank;
 
 import com.beehive.dashboard.entity.bank.Account;
 import com.beehive.dashboard.repository.bank.AccountRepository;
+import com.beehive.dashboard.types.bank.Money;
 import com.beehive.dashboard.types.bank.MovementType;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,20 +28,23 @@ public class AccountBalanceService {
      * Apply a transaction to an account balance.
      * 
      * @param accountId Account to update
-     * @param amount Transaction amount
+     * @param amountCents Transaction amount in cents
      * @param type Transaction type (INCOME/EXPENSE)
      * @return Updated account
      */
-    public Account applyTransaction(Long accountId, Double amount, MovementType type) {
-        logger.debug("Applying {} transaction of {} to account {}", type, amount, accountId);
+    @Timed(value = "beehive.balance.update", extraTags = {"operation", "apply"}, histogram = true)
+    public Account applyTransaction(Long accountId, long amountCents, MovementType type) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Applying {} transaction of {} cents to account {}", type, amountCents, accountId);
+        }
         
         Account account = getAccount(accountId);
         
         if (type == MovementType.EXPENSE) {
-            validateSufficientFunds(account, amount);
-            account.setBalance(account.getBalance() - amount);
+            validateSufficientFunds(account, amountCents);
+            account.setBalanceCents(account.getBalanceCents() - amountCents);
         } else {
-            account.setBalance(account.getBalance() + amount);
+            account.setBalanceCents(account.getBalanceCents() + amountCents);
         }
         
         return accountRepository.save(account);
@@ -49,22 +54,25 @@ public class AccountBalanceService {
      * Reverse a transaction from an account balance.
      * 
      * @param accountId Account to update
-     * @param amount Transaction amount
+     * @param amountCents Transaction amount in cents
      * @param type Original transaction type
      * @return Updated account
      */
-    public Account reverseTransaction(Long accountId, Double amount, MovementType type) {
-        logger.debug("Reversing {} transaction of {} from account {}", type, amount, accountId);
+    @Timed(value = "beehive.balance.update", extraTags = {"operation", "reverse"}, histogram = true)
+    public Account reverseTransaction(Long accountId, long amountCents, MovementType type) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Reversing {} transaction of {} cents from account {}", type, amountCents, accountId);
+        }
         
         Account account = getAccount(accountId);
         
         if (type == MovementType.EXPENSE) {
             // Reverse expense: add money back
-            account.setBalance(account.getBalance() + amount);
+            account.setBalanceCents(account.getBalanceCents() + amountCents);
         } else {
             // Reverse income: remove money
-            validateSufficientFunds(account, amount);
-            account.setBalance(account.getBalance() - amount);
+            validateSufficientFunds(account, amountCents);
+            account.setBalanceCents(account.getBalanceCents() - amountCents);
         }
         
         return accountRepository.save(account);
@@ -74,17 +82,20 @@ public class AccountBalanceService {
      * Update account balance with rollback and reapplication.
      * 
      * @param accountId Account to update
-     * @param oldAmount Original amount
+     * @param oldAmountCents Original amount in cents
      * @param oldType Original type
-     * @param newAmount New amount
+     * @param newAmountCents New amount in cents
      * @param newType New type
      * @return Updated account
      */
-    public Account updateTransaction(Long accountId, Double oldAmount, MovementType oldType, Double newAmount, MovementType newType) {
-        logger.debug("Updating transaction on account {} from {}/{} to {}/{}", accountId, oldAmount, oldType, newAmount, newType);
+    @Timed(value = "beehive.balance.update", extraTags = {"operation", "update"}, histogram = true)
+    public Account updateTransaction(Long accountId, long oldAmountCents, MovementType oldType, long newAmountCents, MovementType newType) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Updating transaction on account {} from {}/{} to {}/{}", accountId, oldAmountCents, oldType, newAmountCents, newType);
+        }
         
-        Account account = reverseTransaction(accountId, oldAmount, oldType);
-        return applyTransaction(account.getId(), newAmount, newType);
+        Account account = reverseTransaction(accountId, oldAmountCents, oldType);
+        return applyTransaction(account.getId(), newAmountCents, newType);
     }
 
     /**
@@ -102,9 +113,10 @@ public class AccountBalanceService {
     /**
      * Validate account has sufficient funds.
      */
-    private void validateSufficientFunds(Account account, Double amount) {
-        if (account.getBalance() < amount) {
-            logger.warn("Insufficient funds on account {} - Balance: {}, Required: {}",  account.getId(), account.getBalance(), amount);
+    private void validateSufficientFunds(Account account, long amountCents) {
+        if (account.getBalanceCents() < amountCents) {
+            logger.warn("Insufficient funds on account {} - Balance: {}, Required: {}",  account.getId(),
+                account.getBalance(), Money.toDouble(amountCents));
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Insufficient funds on the account");
         }
     }
@@ -1,16 +1,35 @@
 package com.beehive.dashboard.service.bank;
 
+import com.beehive.dashboard.dto.bank.AccountItemCounts;
+import com.beehive.dashboard.dto.bank.AccountOverview;
 import com.beehive.dashboard.dto.bank.LandingStatistics;
+import com.beehive.dashboard.dto.bank.MovementView;
+import com.beehive.dashboard.dto.bank.PlannedView;
 import com.beehive.dashboard.entity.bank.Account;
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.entity.bank.Planned;
 import com.beehive.dashboard.repository.bank.AccountRepository;
+import com.beehive.dashboard.repository.bank.ArchivedMovementRepository;
+import com.beehive.dashboard.repository.bank.MovementMonthlyRollupRepository;
+import com.beehive.dashboard.repository.bank.MovementRepository;
+import com.beehive.dashboard.repository.bank.PlannedRepository;
+import com.beehive.dashboard.repository.bank.RecurringSuggestionRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 
 /**
  * Service class for managing bank account business logic.
@@ -23,25 +42,50 @@ public class AccountService {
     
     private static final Logger logger = LoggerFactory.getLogger(AccountService.class);
 
+    private static final Comparator<Account> OVERVIEW_ORDER = Comparator
+            .comparing(Account::getPriority, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Account::getId);
+
     @Autowired
     private AccountRepository accountRepository;
 
+    @Autowired
+    private MovementRepository movementRepository;
+
+    @Autowired
+    private PlannedRepository plannedRepository;
+
+    @Autowired
+    private ArchivedMovementRepository archivedMovementRepository;
+
+    @Autowired
+    private MovementMonthlyRollupRepository rollupRepository;
+
+    @Autowired
+    private RecurringSuggestionRepository suggestionRepository;
+
     @Autowired
     private BankValidationService validationService;
 
     @Autowired
     private BankStatisticsService statisticsService;
 
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private SpendingAnomalyService anomalyService;
+
     /**
      * Creates a new bank account after validating IBAN uniqueness.
      */
     public Account create(Account account) {
-        logger.info("Creating new account with IBAN: {} for user ID: {}", account.getIban(), account.getUserId());
+        logger.debug("Creating new account with IBAN: {} for user ID: {}", account.getIban(), account.getUserId());
 
         validationService.validateIbanUnique(account.getIban());
 
         Account savedAccount = accountRepository.save(account);
-        logger.info("Account created successfully with ID: {} and IBAN: {}",
+        logger.debug("Account created successfully with ID: {} and IBAN: {}",
             savedAccount.getId(), savedAccount.getIban());
 
         return savedAccount;
@@ -50,13 +94,14 @@ public class AccountService {
     /**
      * Retrieves all bank accounts from the database, sorted by priority.
      */
+    @Transactional(readOnly = true)
     public List<Account> getAll() {
-        logger.info("Retrieving all accounts from database");
+        logger.debug("Retrieving all accounts from database");
 
         List<Account> accounts = accountRepository.findAll().
                 stream().
                 sorted((a, b) -> Math.toIntExact(a.getPriority() - b.getPriority())).toList();
-        logger.info("Successfully retrieved {} accounts", accounts.size());
+        logger.debug("Successfully retrieved {} accounts", accounts.size());
 
         return accounts;
     }
@@ -64,8 +109,9 @@ public class AccountService {
     /**
      * Retrieves a specific bank account by its unique identifier.
      */
+    @Transactional(readOnly = true)
     public Account getById(Long id) {
-        logger.info("Retrieving account with ID: {}", id);
+        logger.debug("Retrieving account with ID: {}", id);
 
         Account account = accountRepository.findById(id).orElseThrow(() -> {
             logger.error("Account not found with ID: {}", id);
@@ -73,15 +119,16 @@ public class AccountService {
                     "Account not found with the provided id: " + id);
         });
 
-        logger.info("Successfully retrieved account with ID: {} - IBAN: {}", id, account.getIban());
+        logger.debug("Successfully retrieved account with ID: {} - IBAN: {}", id, account.getIban());
         return account;
     }
 
     /**
      * Retrieves all bank accounts belonging to a specific user.
      */
+    @Transactional(readOnly = true)
     public List<Account> getByUserId(Long userId) {
-        logger.info("Retrieving accounts for user ID: {}", userId);
+        logger.debug("Retrieving accounts for user ID: {}", userId);
 
         List<Account> accounts = accountRepository.findByUserId(userId).stream().toList();
 
@@ -90,62 +137,160 @@ public class AccountService {
             throw new ResponseStatusException(HttpStatus.NOT_FOUND, "There are no accounts for user: " + userId);
         }
 
-        logger.info("Successfully retrieved {} accounts for user ID: {}", accounts.size(), userId);
+        logger.debug("Successfully retrieved {} accounts for user ID: {}", accounts.size(), userId);
         return accounts;
     }
 
     /**
      * Updates an existing bank account with new information.
+     * Moving the account to another user also re-assigns its movements, archive, planned movements and
+     * recurring suggestions, and rebuilds the budget totals and spending statistics of both users.
+     * The balance is kept when the details do not carry one.
      */
+    @Transactional
     public Account update(Long id, Account accountDetails) {
-        logger.info("Updating account with ID: {} - New IBAN: {}", id, accountDetails.getIban());
+        logger.debug("Updating account with ID: {} - New IBAN: {}", id, accountDetails.getIban());
 
         Account account = getById(id);
 
         validationService.validateIbanUniqueForUpdate(id, accountDetails.getIban(), account.getIban());
 
+        Long previousUserId = account.getUserId();
+        Long userId = accountDetails.getUserId();
+        if (!previousUserId.equals(userId)) {
+            int movements = movementRepository.updateUserIdByAccountId(id, userId);
+            int archived = archivedMovementRepository.updateUserIdByAccountId(id, userId);
+            rollupRepository.updateUserIdByAccountId(id, userId);
+            int planned = plannedRepository.updateUserIdByAccountId(id, userId);
+            // Series are detected per account, so the suggestions carry over unchanged, accepted and dismissed ones included
+            int suggestions = suggestionRepository.updateUserIdByAccountId(id, userId);
+            logger.info("Account {} moved from user {} to user {} - re-assigned {} movements, {} archived, {} planned and {} suggestions",
+                    id, previousUserId, userId, movements, archived, planned, suggestions);
+
+            // Both users in ID order, the order in which concurrent writers lock them
+            for (Long affectedUserId : new TreeSet<>(List.of(previousUserId, userId))) {
+                budgetService.rebuildTotals(affectedUserId);
+                anomalyService.rebuild(affectedUserId);
+            }
+        }
+
         account.setAccountName(accountDetails.getAccountName());
         account.setIban(accountDetails.getIban());
-        account.setBalance(accountDetails.getBalance());
+        if (accountDetails.isBalanceSet()) {
+            account.setBalanceCents(accountDetails.getBalanceCents());
+        }
         account.setUserId(accountDetails.getUserId());
         account.setType(accountDetails.getType());
         account.setPriority(accountDetails.getPriority());
 
         Account updatedAccount = accountRepository.save(account);
-        logger.info("Account with ID: {} updated successfully - New IBAN: {}", id, updatedAccount.getIban());
+        logger.debug("Account with ID: {} updated successfully - New IBAN: {}", id, updatedAccount.getIban());
 
         return updatedAccount;
     }
 
     /**
-     * Deletes a bank account from the system.
+     * Deletes a bank account from the system together with its movements, archive, planned movements
+     * and recurring suggestions, and rebuilds the budget totals and spending statistics of its owner,
+     * which count movements by user rather than through the account.
      */
+    @Transactional
     public void delete(Long id) {
-        logger.info("Deleting account with ID: {}", id);
+        logger.debug("Deleting account with ID: {}", id);
 
         Account account = getById(id);
+        int movements = movementRepository.deleteByAccountId(id);
+        int archived = archivedMovementRepository.deleteByAccountId(id);
+        rollupRepository.deleteByAccountId(id);
+        int planned = plannedRepository.deleteByAccountId(id);
+        int suggestions = suggestionRepository.deleteByAccountId(id);
         accountRepository.delete(account);
-        logger.info("Account with ID: {} deleted successfully", id);
+
+        budgetService.rebuildTotals(account.getUserId());
+        anomalyService.rebuild(account.getUserId());
+        logger.info("Account {} of user {} deleted - with {} movements, {} archived, {} planned and {} suggestions",
+                id, account.getUserId(), movements, archived, planned, suggestions);
     }
 
     /**
      * Retrieves the total count of bank accounts in the system.
      */
+    @Transactional(readOnly = true)
     public long count() {
-        logger.info("Counting total number of accounts in database");
+        logger.debug("Counting total number of accounts in database");
         long totalAccounts = accountRepository.count();
-        logger.info("Total accounts count: {}", totalAccounts);
+        logger.debug("Total accounts count: {}", totalAccounts);
         return totalAccounts;
     }
 
+    /**
+     * Retrieves the movement and planned counts of all accounts of a user with one grouped query.
+     */
+    @Transactional(readOnly = true)
+    public List<AccountItemCounts> getItemCountsByUserId(Long userId) {
+        logger.debug("Counting movements and planned for accounts of user ID: {}", userId);
+        return accountRepository.countItemsByUserId(userId);
+    }
+
+    /**
+     * Builds the overview of all accounts of a user: counts, latest movements and next planned movements.
+     * Uses four queries regardless of the number of accounts; the per-account rows are grouped in memory.
+     */
+    @Transactional(readOnly = true)
+    public List<AccountOverview> getOverviewByUserId(Long userId, int movementLimit, int plannedLimit) {
+        logger.debug("Building account overview for user ID: {}", userId);
+
+        List<Account> accounts = accountRepository.findByUserId(userId);
+        if (accounts.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, AccountItemCounts> counts = new HashMap<>();
+        for (AccountItemCounts itemCounts : accountRepository.countItemsByUserId(userId)) {
+            counts.put(itemCounts.getAccountId(), itemCounts);
+        }
+
+        Map<Long, List<MovementView>> movements = new HashMap<>();
+        if (movementLimit > 0) {
+            for (Movement movement : movementRepository.findLatestPerAccountByUserId(userId, movementLimit)) {
+                movements.computeIfAbsent(movement.getAccountId(), id -> new ArrayList<>(movementLimit))
+                        .add(MovementView.of(movement));
+            }
+        }
+
+        Map<Long, List<PlannedView>> planned = new HashMap<>();
+        if (plannedLimit > 0) {
+            for (Planned item : plannedRepository.findNextPerAccountByUserId(userId, LocalDate.now(), plannedLimit)) {
+                planned.computeIfAbsent(item.getAccountId(), id -> new ArrayList<>(plannedLimit))
+                        .add(PlannedView.of(item));
+            }
+        }
+
+        List<AccountOverview> overview = new ArrayList<>(accounts.size());
+        for (Account account : accounts.stream().sorted(OVERVIEW_ORDER).toList()) {
+            AccountItemCounts itemCounts = counts.get(account.getId());
+            overview.add(new AccountOverview(account,
+                    itemCounts != null ? itemCounts.getMovementCount() : 0,
+                    itemCounts != null ? itemCounts.getPlannedCount() : 0,
+                    movements.getOrDefault(account.getId(), List.of()),
+                    planned.getOrDefault(account.getId(), List.of())));
+        }
+
+        logger.debug("Built overview of {} accounts for user ID: {}", overview.size(), userId);
+        return overview;
+    }
+
     /**
      * Calculate landing statistics for a user.
-     * Delegates to BankStatisticsService.
+     * Delegates to BankStatisticsService; the current month's budget status comes from BudgetService.
      */
+    @Transactional(readOnly = true)
     public LandingStatistics landingStatistics(Long userId) {
-        logger.info("Calculating landing statistics for user ID: {}", userId);
+        logger.debug("Calculating landing statistics for user ID: {}", userId);
         
         List<Account> accounts = accountRepository.findByUserId(userId);
-        return statisticsService.calculateLandingStatistics(userId, accounts);
+        LandingStatistics statistics = statisticsService.calculateLandingStatistics(userId, accounts);
+        statistics.setBudgets(budgetService.getStatus(userId, YearMonth.now()));
+        return statistics;
     }
 }
\ No newline at end of file
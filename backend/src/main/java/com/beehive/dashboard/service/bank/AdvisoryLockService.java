@@ -0,0 +1,48 @@
+package com.beehive.dashboard.service.bank;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+
+/**
+ * Service taking PostgreSQL advisory locks held until the end of the current transaction.
+ * Each caller locks its keys within a namespace of its own, the first key of the two-key form,
+ * so locks of different kinds never collide.
+ */
+@Service
+public class AdvisoryLockService {
+
+    // Keys are passed sorted and locked in array order, so concurrent writers take them in the same order
+    private static final String LOCK_SQL =
+            "SELECT pg_advisory_xact_lock(?, k) FROM unnest(?::int[]) WITH ORDINALITY AS l(k, ord) ORDER BY ord";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Locks the given keys of a namespace until the end of the current transaction.
+     * Must run inside the transaction whose writes the locks protect.
+     *
+     * @param namespace First key of the locks, telling apart the kind of thing locked
+     * @param keys      Keys to lock, in any order and possibly repeated
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lock(int namespace, Collection<Integer> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Integer[] sorted = keys.stream().distinct().sorted().toArray(Integer[]::new);
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(LOCK_SQL);
+            statement.setInt(1, namespace);
+            statement.setArray(2, connection.createArrayOf("integer", sorted));
+            return statement;
+        }, rs -> {
+        });
+    }
+}
@@ -4,10 +4,13 @@ import com.beehive.dashboard.dto.bank.AnalyticsStatistics;
 import com.beehive.dashboard.dto.bank.CategoryBreakdown;
 import com.beehive.dashboard.dto.bank.ChartDataPoint;
 import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.metrics.RowLoadMetrics;
 import com.beehive.dashboard.repository.bank.MovementRepository;
+import com.beehive.dashboard.types.bank.Money;
 import com.beehive.dashboard.types.bank.MovementCategory;
 import com.beehive.dashboard.types.bank.MovementStatus;
 import com.beehive.dashboard.types.bank.MovementType;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,8 +18,10 @@ import org.springframework.stereotype.Service;
 
 import java.time.*;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -27,10 +32,15 @@ import java.util.stream.Collectors;
 public class AnalyticsService {
     
     private static final Logger logger = LoggerFactory.getLogger(AnalyticsService.class);
+
+    private static final MovementCategory[] CATEGORIES = MovementCategory.values();
     
     @Autowired
     private MovementRepository movementRepository;
 
+    @Autowired
+    private RowLoadMetrics rowLoadMetrics;
+
     /**
      * Calculate comprehensive analytics statistics based on time filter.
      * 
@@ -38,8 +48,9 @@ public class AnalyticsService {
      * @param timeFilter Time period filter: "day", "week", "month", or "year"
      * @return AnalyticsStatistics containing all analytics data
      */
+    @Timed(value = "beehive.analytics.calculate", description = "Analytics calculation", histogram = true)
     public AnalyticsStatistics calculateAnalytics(Long userId, String timeFilter) {
-        logger.info("Calculating analytics for user ID: {} with filter: {}", userId, timeFilter);
+        logger.debug("Calculating analytics for user ID: {} with filter: {}", userId, timeFilter);
 
         LocalDate now = LocalDate.now();
         
@@ -52,22 +63,22 @@ public class AnalyticsService {
             userId, currentRange.start, currentRange.end);
         List<Movement> previousMovements = movementRepository.getAllUsersMovementsByGivenDate(
             userId, previousRange.start, previousRange.end);
+        rowLoadMetrics.record("analytics", userId, currentMovements.size() + previousMovements.size());
         
         // Filter confirmed movements
         List<Movement> currentConfirmed = filterConfirmedMovements(currentMovements);
         List<Movement> previousConfirmed = filterConfirmedMovements(previousMovements);
         
-        // Calculate totals
-        double totalIncome = calculateIncome(currentConfirmed);
-        double totalExpenses = calculateExpenses(currentConfirmed);
-        double netBalance = totalIncome - totalExpenses;
+        // Calculate totals in cents
+        long totalIncomeCents = calculateIncome(currentConfirmed);
+        long totalExpensesCents = calculateExpenses(currentConfirmed);
         
-        double previousIncome = calculateIncome(previousConfirmed);
-        double previousExpenses = calculateExpenses(previousConfirmed);
+        long previousIncomeCents = calculateIncome(previousConfirmed);
+        long previousExpensesCents = calculateExpenses(previousConfirmed);
         
         // Calculate percentage changes
-        double incomeChange = calculatePercentageChange(previousIncome, totalIncome);
-        double expenseChange = calculatePercentageChange(previousExpenses, totalExpenses);
+        double incomeChange = calculatePercentageChange(previousIncomeCents, totalIncomeCents);
+        double expenseChange = calculatePercentageChange(previousExpensesCents, totalExpensesCents);
         
         // Generate chart data
         List<ChartDataPoint> chartData = generateChartData(currentConfirmed, currentRange, timeFilter);
@@ -75,8 +86,14 @@ public class AnalyticsService {
         // Generate category breakdown
         List<CategoryBreakdown> categoryBreakdown = generateCategoryBreakdown(currentConfirmed);
         
-        logger.info("Analytics calculated - Income: {}, Expenses: {}, Change: {}%/{}%", 
-                   totalIncome, totalExpenses, incomeChange, expenseChange);
+        double totalIncome = Money.toDouble(totalIncomeCents);
+        double totalExpenses = Money.toDouble(totalExpensesCents);
+        double netBalance = Money.toDouble(totalIncomeCents - totalExpensesCents);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Analytics calculated - Income: {}, Expenses: {}, Change: {}%/{}%", 
+                       totalIncome, totalExpenses, incomeChange, expenseChange);
+        }
         
         return new AnalyticsStatistics(
             totalIncome,
@@ -155,33 +172,39 @@ public class AnalyticsService {
     }
     
     /**
-     * Calculate total income from movements.
+     * Calculate total income from movements, in cents.
      */
-    private double calculateIncome(List<Movement> movements) {
-        return movements.stream()
-            .filter(m -> MovementType.INCOME.equals(m.getType()))
-            .mapToDouble(Movement::getAmount)
-            .sum();
+    private long calculateIncome(List<Movement> movements) {
+        long total = 0;
+        for (Movement m : movements) {
+            if (MovementType.INCOME.equals(m.getType())) {
+                total += m.getAmountCents();
+            }
+        }
+        return total;
     }
     
     /**
-     * Calculate total expenses from movements.
+     * Calculate total expenses from movements, in cents.
      */
-    private double calculateExpenses(List<Movement> movements) {
-        return movements.stream()
-            .filter(m -> MovementType.EXPENSE.equals(m.getType()))
-            .mapToDouble(m -> Math.abs(m.getAmount()))
-            .sum();
+    private long calculateExpenses(List<Movement> movements) {
+        long total = 0;
+        for (Movement m : movements) {
+            if (MovementType.EXPENSE.equals(m.getType())) {
+                total += Math.abs(m.getAmountCents());
+            }
+        }
+        return total;
     }
     
     /**
      * Calculate percentage change between two values.
      */
-    private double calculatePercentageChange(double oldValue, double newValue) {
+    private double calculatePercentageChange(long oldValue, long newValue) {
         if (oldValue == 0) {
             return newValue > 0 ? 100.0 : 0.0;
         }
-        return ((newValue - oldValue) / oldValue) * 100.0;
+        return ((double) (newValue - oldValue) / oldValue) * 100.0;
     }
     
     /**
@@ -204,180 +227,122 @@ public class AnalyticsService {
     
     /**
      * Generate chart data for day view (6-hour intervals).
+     * Movements carry a date only, so they all fall into the first interval.
      */
     private List<ChartDataPoint> generateDayChartData(List<Movement> movements, DateRange range) {
-        List<ChartDataPoint> chartData = new ArrayList<>();
         String[] labels = {"00h", "06h", "12h", "18h", "24h"};
-        
-        for (int i = 0; i < 5; i++) {
-            int hourStart = i * 6;
-            int hourEnd = (i + 1) * 6;
-            
-            double income = movements.stream()
-                .filter(m -> MovementType.INCOME.equals(m.getType()))
-                .filter(m -> {
-                    LocalTime time = m.getDate().atStartOfDay().toLocalTime();
-                    int hour = time.getHour();
-                    return hour >= hourStart && hour < hourEnd;
-                })
-                .mapToDouble(Movement::getAmount)
-                .sum();
-            
-            double expense = movements.stream()
-                .filter(m -> MovementType.EXPENSE.equals(m.getType()))
-                .filter(m -> {
-                    LocalTime time = m.getDate().atStartOfDay().toLocalTime();
-                    int hour = time.getHour();
-                    return hour >= hourStart && hour < hourEnd;
-                })
-                .mapToDouble(m -> Math.abs(m.getAmount()))
-                .sum();
-            
-            chartData.add(new ChartDataPoint(labels[i], income, expense));
-        }
-        
-        return chartData;
+        return buildChartData(movements, labels, m -> 0);
     }
     
     /**
      * Generate chart data for week view (daily breakdown).
      */
     private List<ChartDataPoint> generateWeekChartData(List<Movement> movements, DateRange range) {
-        List<ChartDataPoint> chartData = new ArrayList<>();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEE");
+        int days = (int) ChronoUnit.DAYS.between(range.start, range.end) + 1;
         
-        for (LocalDate date = range.start; !date.isAfter(range.end); date = date.plusDays(1)) {
-            LocalDate currentDate = date;
-            
-            double income = movements.stream()
-                .filter(m -> MovementType.INCOME.equals(m.getType()))
-                .filter(m -> m.getDate().isEqual(currentDate))
-                .mapToDouble(Movement::getAmount)
-                .sum();
-            
-            double expense = movements.stream()
-                .filter(m -> MovementType.EXPENSE.equals(m.getType()))
-                .filter(m -> m.getDate().isEqual(currentDate))
-                .mapToDouble(m -> Math.abs(m.getAmount()))
-                .sum();
-            
-            chartData.add(new ChartDataPoint(date.format(formatter), income, expense));
+        String[] labels = new String[days];
+        for (int i = 0; i < days; i++) {
+            labels[i] = range.start.plusDays(i).format(formatter);
         }
-        
-        return chartData;
+        return buildChartData(movements, labels, m -> (int) ChronoUnit.DAYS.between(range.start, m.getDate()));
     }
     
     /**
      * Generate chart data for month view (weekly breakdown).
      */
     private List<ChartDataPoint> generateMonthChartData(List<Movement> movements, DateRange range) {
-        List<ChartDataPoint> chartData = new ArrayList<>();
+        int weeks = (int) (ChronoUnit.DAYS.between(range.start, range.end) / 7) + 1;
         
-        LocalDate weekStart = range.start;
-        int weekNumber = 1;
-        
-        while (!weekStart.isAfter(range.end)) {
-            LocalDate weekEnd = weekStart.plusDays(6);
-            if (weekEnd.isAfter(range.end)) {
-                weekEnd = range.end;
-            }
-            
-            LocalDate finalWeekStart = weekStart;
-            LocalDate finalWeekEnd = weekEnd;
-            
-            double income = movements.stream()
-                .filter(m -> MovementType.INCOME.equals(m.getType()))
-                .filter(m -> !m.getDate().isBefore(finalWeekStart) && !m.getDate().isAfter(finalWeekEnd))
-                .mapToDouble(Movement::getAmount)
-                .sum();
-            
-            double expense = movements.stream()
-                .filter(m -> MovementType.EXPENSE.equals(m.getType()))
-                .filter(m -> !m.getDate().isBefore(finalWeekStart) && !m.getDate().isAfter(finalWeekEnd))
-                .mapToDouble(m -> Math.abs(m.getAmount()))
-                .sum();
-            
-            chartData.add(new ChartDataPoint("W" + weekNumber, income, expense));
-            
-            weekStart = weekStart.plusWeeks(1);
-            weekNumber++;
+        String[] labels = new String[weeks];
+        for (int i = 0; i < weeks; i++) {
+            labels[i] = "W" + (i + 1);
         }
-        
-        return chartData;
+        return buildChartData(movements, labels, m -> {
+            long day = ChronoUnit.DAYS.between(range.start, m.getDate());
+            return day < 0 ? -1 : (int) (day / 7);
+        });
     }
     
     /**
      * Generate chart data for year view (monthly breakdown).
      */
     private List<ChartDataPoint> generateYearChartData(List<Movement> movements, DateRange range) {
-        List<ChartDataPoint> chartData = new ArrayList<>();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM");
+        YearMonth first = YearMonth.from(range.start);
+        int months = (int) ChronoUnit.MONTHS.between(first, YearMonth.from(range.end)) + 1;
         
-        LocalDate monthStart = range.start;
+        String[] labels = new String[months];
+        for (int i = 0; i < months; i++) {
+            labels[i] = first.plusMonths(i).format(formatter);
+        }
+        return buildChartData(movements, labels, m -> (int) ChronoUnit.MONTHS.between(first, YearMonth.from(m.getDate())));
+    }
+    
+    /**
+     * Sum income and expenses per chart bucket in a single pass with primitive cent accumulators.
+     * Movements whose bucket falls outside the labels are ignored.
+     */
+    private List<ChartDataPoint> buildChartData(List<Movement> movements, String[] labels, ToIntFunction<Movement> bucketOf) {
+        long[] incomeCents = new long[labels.length];
+        long[] expenseCents = new long[labels.length];
         
-        while (!monthStart.isAfter(range.end)) {
-            LocalDate monthEnd = monthStart.withDayOfMonth(monthStart.lengthOfMonth());
-            if (monthEnd.isAfter(range.end)) {
-                monthEnd = range.end;
+        for (Movement m : movements) {
+            int bucket = bucketOf.applyAsInt(m);
+            if (bucket < 0 || bucket >= labels.length) {
+                continue;
+            }
+            if (MovementType.INCOME.equals(m.getType())) {
+                incomeCents[bucket] += m.getAmountCents();
+            } else if (MovementType.EXPENSE.equals(m.getType())) {
+                expenseCents[bucket] += Math.abs(m.getAmountCents());
             }
-            
-            LocalDate finalMonthStart = monthStart;
-            LocalDate finalMonthEnd = monthEnd;
-            
-            double income = movements.stream()
-                .filter(m -> MovementType.INCOME.equals(m.getType()))
-                .filter(m -> !m.getDate().isBefore(finalMonthStart) && !m.getDate().isAfter(finalMonthEnd))
-                .mapToDouble(Movement::getAmount)
-                .sum();
-            
-            double expense = movements.stream()
-                .filter(m -> MovementType.EXPENSE.equals(m.getType()))
-                .filter(m -> !m.getDate().isBefore(finalMonthStart) && !m.getDate().isAfter(finalMonthEnd))
-                .mapToDouble(m -> Math.abs(m.getAmount()))
-                .sum();
-            
-            chartData.add(new ChartDataPoint(monthStart.format(formatter), income, expense));
-            
-            monthStart = monthStart.plusMonths(1);
         }
         
+        List<ChartDataPoint> chartData = new ArrayList<>(labels.length);
+        for (int i = 0; i < labels.length; i++) {
+            chartData.add(new ChartDataPoint(labels[i], Money.toDouble(incomeCents[i]), Money.toDouble(expenseCents[i])));
+        }
         return chartData;
     }
     
     /**
      * Generate category breakdown for expenses.
+     * Uncategorized expenses count towards the total but get no entry of their own.
      */
     private List<CategoryBreakdown> generateCategoryBreakdown(List<Movement> movements) {
-        List<Movement> expenses = movements.stream()
-            .filter(m -> MovementType.EXPENSE.equals(m.getType()))
-            .collect(Collectors.toList());
+        long[] categoryCents = new long[CATEGORIES.length];
+        long totalExpensesCents = 0;
         
-        double totalExpenses = expenses.stream()
-            .mapToDouble(m -> Math.abs(m.getAmount()))
-            .sum();
+        for (Movement m : movements) {
+            if (!MovementType.EXPENSE.equals(m.getType())) {
+                continue;
+            }
+            long amountCents = Math.abs(m.getAmountCents());
+            totalExpensesCents += amountCents;
+            if (m.getCategory() != null) {
+                categoryCents[m.getCategory().ordinal()] += amountCents;
+            }
+        }
         
-        if (totalExpenses == 0) {
+        if (totalExpensesCents == 0) {
             return new ArrayList<>();
         }
         
-        // Group by category and sum amounts
-        Map<MovementCategory, Double> categoryTotals = expenses.stream()
-            .collect(Collectors.groupingBy(
-                Movement::getCategory,
-                Collectors.summingDouble(m -> Math.abs(m.getAmount()))
-            ));
-        
         // Convert to CategoryBreakdown and sort by amount
-        return categoryTotals.entrySet().stream()
-            .map(entry -> {
-                String categoryName = formatCategoryName(entry.getKey());
-                double amount = entry.getValue();
-                int percentage = (int) Math.round((amount / totalExpenses) * 100);
-                return new CategoryBreakdown(categoryName, entry.getKey().toString(), amount, percentage);
-            })
-            .sorted((a, b) -> Double.compare(b.getAmount(), a.getAmount()))
-            .limit(6)
-            .collect(Collectors.toList());
+        List<CategoryBreakdown> breakdown = new ArrayList<>();
+        for (MovementCategory category : CATEGORIES) {
+            long amountCents = categoryCents[category.ordinal()];
+            if (amountCents == 0) {
+                continue;
+            }
+            int percentage = (int) Math.round((double) amountCents / totalExpensesCents * 100);
+            breakdown.add(new CategoryBreakdown(formatCategoryName(category), category.toString(),
+                Money.toDouble(amountCents), percentage));
+        }
+        breakdown.sort((a, b) -> Double.compare(b.getAmount(), a.getAmount()));
+        
+        return breakdown.size() > 6 ? new ArrayList<>(breakdown.subList(0, 6)) : breakdown;
     }
     
     /**
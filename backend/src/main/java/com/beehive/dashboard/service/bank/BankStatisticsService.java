@@ -6,10 +6,13 @@ import com.beehive.dashboard.dto.bank.UpcomingPayment;
 import com.beehive.dashboard.entity.bank.Account;
 import com.beehive.dashboard.entity.bank.Movement;
 import com.beehive.dashboard.entity.bank.Planned;
+import com.beehive.dashboard.metrics.RowLoadMetrics;
 import com.beehive.dashboard.repository.bank.MovementRepository;
 import com.beehive.dashboard.repository.bank.PlannedRepository;
+import com.beehive.dashboard.types.bank.Money;
 import com.beehive.dashboard.types.bank.MovementStatus;
 import com.beehive.dashboard.types.bank.MovementType;
+import io.micrometer.core.annotation.Timed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,11 +39,15 @@ public class BankStatisticsService {
     @Autowired
     private PlannedRepository plannedRepository;
 
+    @Autowired
+    private RowLoadMetrics rowLoadMetrics;
+
     /**
      * Calculate comprehensive landing statistics for a user.
      */
+    @Timed(value = "beehive.statistics.landing", description = "Landing statistics calculation", histogram = true)
     public LandingStatistics calculateLandingStatistics(Long userId, List<Account> accounts) {
-        logger.info("Calculating landing statistics for user ID: {}", userId);
+        logger.debug("Calculating landing statistics for user ID: {}", userId);
 
         if (accounts.isEmpty()) {
             logger.warn("No accounts found for user ID: {}", userId);
@@ -48,91 +55,101 @@ public class BankStatisticsService {
         }
 
         int accountCount = accounts.size();
-        double accountBalance = accounts.stream().mapToDouble(Account::getBalance).sum();
+        long accountBalanceCents = 0;
+        for (Account account : accounts) {
+            accountBalanceCents += account.getBalanceCents();
+        }
 
         LocalDate now = LocalDate.now();
         LocalDate monthStart = now.withDayOfMonth(1);
         LocalDate monthEnd = now.withDayOfMonth(now.lengthOfMonth());
 
-        double income = calculateMonthlyIncome(userId, monthStart, monthEnd);
-        double expenses = calculateMonthlyExpenses(userId, monthStart, monthEnd);
-        double expectedImpact = calculateExpectedImpact(userId, monthStart, monthEnd);
+        long incomeCents = calculateMonthlyIncome(userId, monthStart, monthEnd);
+        long expensesCents = calculateMonthlyExpenses(userId, monthStart, monthEnd);
+        long expectedImpactCents = calculateExpectedImpact(userId, monthStart, monthEnd);
 
         // Calculate available balance: current balance - future movements - planned movements
-        double availableBalance = calculateAvailableBalance(userId, accountBalance, now, monthEnd);
+        long availableBalanceCents = calculateAvailableBalance(userId, accountBalanceCents, now, monthEnd);
 
-        List<BalanceTrendPoint> balanceTrend = calculateBalanceTrend(userId, accountBalance);
+        List<BalanceTrendPoint> balanceTrend = calculateBalanceTrend(userId, accountBalanceCents);
         List<UpcomingPayment> upcomingPayments = getUpcomingPayments(userId, now);
 
-        logger.info("Landing statistics calculated - Balance: {}, Available: {}, Income: {}, Expenses: {}", 
-                   accountBalance, availableBalance, income, expenses);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Landing statistics calculated - Balance: {}, Available: {}, Income: {}, Expenses: {} (cents)", 
+                       accountBalanceCents, availableBalanceCents, incomeCents, expensesCents);
+        }
 
-        return new LandingStatistics(accountBalance, availableBalance, income, expenses, expectedImpact, accountCount, balanceTrend, upcomingPayments);
+        return new LandingStatistics(Money.toDouble(accountBalanceCents), Money.toDouble(availableBalanceCents),
+                Money.toDouble(incomeCents), Money.toDouble(expensesCents), Money.toDouble(expectedImpactCents),
+                accountCount, balanceTrend, upcomingPayments);
     }
 
     /**
-     * Calculate monthly income for a user.
+     * Calculate monthly income for a user, in cents.
      */
-    public double calculateMonthlyIncome(Long userId, LocalDate startDate, LocalDate endDate) {
-        List<Movement> movements = movementRepository.getAllUsersMovementsByGivenDate(userId, startDate, endDate);
+    public long calculateMonthlyIncome(Long userId, LocalDate startDate, LocalDate endDate) {
+        List<Movement> movements = loadMovements(userId, startDate, endDate);
         
         return movements.stream()
                 .filter(m -> MovementType.INCOME.equals(m.getType()) && MovementStatus.CONFIRMED.equals(m.getStatus()))
-                .mapToDouble(Movement::getAmount)
+                .mapToLong(Movement::getAmountCents)
                 .sum();
     }
 
     /**
-     * Calculate monthly expenses for a user.
+     * Calculate monthly expenses for a user, in cents.
      */
-    public double calculateMonthlyExpenses(Long userId, LocalDate startDate, LocalDate endDate) {
-        List<Movement> movements = movementRepository.getAllUsersMovementsByGivenDate(userId, startDate, LocalDate.now());
+    public long calculateMonthlyExpenses(Long userId, LocalDate startDate, LocalDate endDate) {
+        List<Movement> movements = loadMovements(userId, startDate, LocalDate.now());
         
         return movements.stream()
                 .filter(m -> MovementType.EXPENSE.equals(m.getType()) && MovementStatus.CONFIRMED.equals(m.getStatus()))
-                .mapToDouble(Movement::getAmount)
+                .mapToLong(Movement::getAmountCents)
                 .sum();
     }
 
     /**
-     * Calculate expected impact from planned transactions.
+     * Calculate expected impact from planned transactions, in cents.
      */
-    public double calculateExpectedImpact(Long userId, LocalDate startDate, LocalDate endDate) {
-        List<Planned> planned = plannedRepository.getAllUsersPlannedMovementsByGivenDate(userId, startDate, endDate);
+    public long calculateExpectedImpact(Long userId, LocalDate startDate, LocalDate endDate) {
+        List<Planned> planned = loadPlanned(userId, startDate, endDate);
 
         LocalDate now = LocalDate.now();
         LocalDate startDatePlusDate = now.plusDays(1);
 
-        List<Movement> movements = movementRepository.getAllUsersMovementsByGivenDate(userId, startDatePlusDate, endDate);
+        List<Movement> movements = loadMovements(userId, startDatePlusDate, endDate);
         
-        double amountPlanned = planned.stream()
+        long amountPlanned = planned.stream()
                         .filter(p -> !MovementStatus.CANCELLED.equals(p.getStatus()) && !MovementStatus.FAILED.equals(p.getStatus()))
-                        .mapToDouble(p -> MovementType.INCOME.equals(p.getType()) ? p.getAmount() : -p.getAmount())
+                        .mapToLong(p -> MovementType.INCOME.equals(p.getType()) ? p.getAmountCents() : -p.getAmountCents())
                         .sum();
 
-        double amountMovements = movements.stream()
+        long amountMovements = movements.stream()
                     .filter(m -> !MovementStatus.CANCELLED.equals(m.getStatus()) && !MovementStatus.FAILED.equals(m.getStatus()))
-                    .mapToDouble(m -> MovementType.INCOME.equals(m.getType()) ? m.getAmount() : -m.getAmount())
+                    .mapToLong(m -> MovementType.INCOME.equals(m.getType()) ? m.getAmountCents() : -m.getAmountCents())
                     .sum();
 
-        logger.info("Start Date {} -> Plus+1 {} -> End Date {}", startDate, endDate, startDatePlusDate);
-        logger.info("Calculating expected impact: {} (Planned), {} (Future Movements)", amountPlanned, amountMovements);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Start Date {} -> Plus+1 {} -> End Date {}", startDate, endDate, startDatePlusDate);
+        }
+        logger.debug("Calculating expected impact: {} (Planned), {} (Future Movements)", amountPlanned, amountMovements);
 
         return amountPlanned+amountMovements;
     }
 
     /**
      * Calculate balance trend over a 29-day period (14 days past, today, 14 days future).
+     * The current balance is given in cents.
      */
-    public List<BalanceTrendPoint> calculateBalanceTrend(Long userId, double currentBalance) {
+    public List<BalanceTrendPoint> calculateBalanceTrend(Long userId, long currentBalanceCents) {
         logger.debug("Calculating balance trend for user ID: {}", userId);
 
         LocalDate now = LocalDate.now();
         LocalDate startDate = now.minusDays(14);
         LocalDate endDate = now.plusDays(14);
 
-        List<Movement> allMovements = movementRepository.getAllUsersMovementsByGivenDate(userId, startDate, endDate);
-        List<Planned> allPlanned = plannedRepository.getAllUsersPlannedMovementsByGivenDate(userId, startDate, endDate);
+        List<Movement> allMovements = loadMovements(userId, startDate, endDate);
+        List<Planned> allPlanned = loadPlanned(userId, startDate, endDate);
 
         List<Movement> confirmedMovements = allMovements.stream()
                 .filter(m -> MovementStatus.CONFIRMED.equals(m.getStatus()))
@@ -154,9 +171,9 @@ public class BankStatisticsService {
             boolean isToday = date.isEqual(now);
             boolean isFuture = date.isAfter(now);
 
-            double dayBalance = calculateBalanceForDate(date, now, currentBalance, 
+            double dayBalance = Money.toDouble(calculateBalanceForDate(date, now, currentBalanceCents,
                                                        confirmedMovements, activePlanned, 
-                                                       isToday, isFuture);
+                                                       isToday, isFuture));
 
             BalanceTrendPoint point = new BalanceTrendPoint(
                     dateLabel,
@@ -175,31 +192,31 @@ public class BankStatisticsService {
     }
 
     /**
-     * Calculate balance for a specific date.
+     * Calculate balance for a specific date, in cents.
      */
-    private double calculateBalanceForDate(LocalDate date, LocalDate now, double currentBalance,
-                                          List<Movement> movements, List<Planned> planned,
-                                          boolean isToday, boolean isFuture) {
-        double dayBalance = currentBalance;
+    private long calculateBalanceForDate(LocalDate date, LocalDate now, long currentBalanceCents,
+                                        List<Movement> movements, List<Planned> planned,
+                                        boolean isToday, boolean isFuture) {
+        long dayBalance = currentBalanceCents;
 
         if (!isFuture && !isToday) {
             // Calculate past balance by removing movements between date and now
             for (Movement m : movements) {
                 if (m.getDate().isAfter(date) && !m.getDate().isAfter(now)) {
-                    dayBalance += getBalanceImpact(m.getAmount(), m.getType(), true);
+                    dayBalance += getBalanceImpact(m.getAmountCents(), m.getType(), true);
                 }
             }
         } else if (isFuture) {
             // Calculate future balance by adding movements and planned between now and date
             for (Movement m : movements) {
                 if (m.getDate().isAfter(now) && !m.getDate().isAfter(date)) {
-                    dayBalance += getBalanceImpact(m.getAmount(), m.getType(), false);
+                    dayBalance += getBalanceImpact(m.getAmountCents(), m.getType(), false);
                 }
             }
 
             for (Planned p : planned) {
                 if (p.getNextExecution().isAfter(now) && !p.getNextExecution().isAfter(date)) {
-                    dayBalance += getBalanceImpact(p.getAmount(), p.getType(), false);
+                    dayBalance += getBalanceImpact(p.getAmountCents(), p.getType(), false);
                 }
             }
         }
@@ -210,7 +227,7 @@ public class BankStatisticsService {
     /**
      * Calculate balance impact based on transaction type and direction.
      */
-    private double getBalanceImpact(double amount, MovementType type, boolean reverse) {
+    private long getBalanceImpact(long amount, MovementType type, boolean reverse) {
         if (type == MovementType.INCOME) {
             return reverse ? -amount : amount;
         } else {
@@ -225,7 +242,7 @@ public class BankStatisticsService {
         logger.debug("Fetching upcoming payments for user ID: {}", userId);
 
         LocalDate futureDate = now.plusDays(30);
-        List<Planned> upcomingPlanned = plannedRepository.getAllUsersPlannedMovementsByGivenDate(userId, now, futureDate);
+        List<Planned> upcomingPlanned = loadPlanned(userId, now, futureDate);
 
         List<UpcomingPayment> payments = upcomingPlanned.stream()
                 .filter(p -> !MovementStatus.CANCELLED.equals(p.getStatus()) 
@@ -249,33 +266,53 @@ public class BankStatisticsService {
 
     /**
      * Calculate available balance by subtracting future movements and planned transactions.
-     * Available balance = current balance - future confirmed movements - active planned movements
+     * Available balance = current balance - future confirmed movements - active planned movements, in cents
      */
-    private double calculateAvailableBalance(Long userId, double currentBalance, LocalDate startDate, LocalDate endDate) {
+    private long calculateAvailableBalance(Long userId, long currentBalance, LocalDate startDate, LocalDate endDate) {
         logger.debug("Calculating available balance for user ID: {}", userId);
 
         LocalDate tomorrow = startDate.plusDays(1);
-        List<Movement> futureMovements = movementRepository.getAllUsersMovementsByGivenDate(userId, tomorrow, endDate);
+        List<Movement> futureMovements = loadMovements(userId, tomorrow, endDate);
         
-        double futureMovementsImpact = futureMovements.stream()
+        long futureMovementsImpact = futureMovements.stream()
                 .filter(m -> MovementStatus.CONFIRMED.equals(m.getStatus()))
-                .mapToDouble(m -> MovementType.INCOME.equals(m.getType()) ? m.getAmount() : -m.getAmount())
+                .mapToLong(m -> MovementType.INCOME.equals(m.getType()) ? m.getAmountCents() : -m.getAmountCents())
                 .sum();
 
-        List<Planned> plannedMovements = plannedRepository.getAllUsersPlannedMovementsByGivenDate(userId, startDate, endDate);
+        List<Planned> plannedMovements = loadPlanned(userId, startDate, endDate);
         
-        double plannedImpact = plannedMovements.stream()
+        long plannedImpact = plannedMovements.stream()
                 .filter(p -> !MovementStatus.CANCELLED.equals(p.getStatus()) 
                           && !MovementStatus.FAILED.equals(p.getStatus()))
                 .filter(p -> p.getNextExecution().isAfter(startDate))
-                .mapToDouble(p -> MovementType.INCOME.equals(p.getType()) ? p.getAmount() : -p.getAmount())
+                .mapToLong(p -> MovementType.INCOME.equals(p.getType()) ? p.getAmountCents() : -p.getAmountCents())
                 .sum();
 
-        double availableBalance = currentBalance - futureMovementsImpact - plannedImpact;
+        long availableBalance = currentBalance - futureMovementsImpact - plannedImpact;
 
-        logger.debug("Available balance calculation - Current: {}, Future movements: {}, Planned: {}, Available: {}", 
-                    currentBalance, futureMovementsImpact, plannedImpact, availableBalance);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Available balance calculation - Current: {}, Future movements: {}, Planned: {}, Available: {}", 
+                        currentBalance, futureMovementsImpact, plannedImpact, availableBalance);
+        }
 
         return availableBalance;
     }
+
+    /**
+     * Load a user's movements in a date range and record the row count.
+     */
+    private List<Movement> loadMovements(Long userId, LocalDate startDate, LocalDate endDate) {
+        List<Movement> movements = movementRepository.getAllUsersMovementsByGivenDate(userId, startDate, endDate);
+        rowLoadMetrics.record("statistics.movements", userId, movements.size());
+        return movements;
+    }
+
+    /**
+     * Load a user's planned movements in a date range and record the row count.
+     */
+    private List<Planned> loadPlanned(Long userId, LocalDate startDate, LocalDate endDate) {
+        List<Planned> planned = plannedRepository.getAllUsersPlannedMovementsByGivenDate(userId, startDate, endDate);
+        rowLoadMetrics.record("statistics.planned", userId, planned.size());
+        return planned;
+    }
 }
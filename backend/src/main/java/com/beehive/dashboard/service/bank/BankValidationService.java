@@ -64,7 +64,9 @@ public class BankValidationService {
      * @throws ResponseStatusException if IBAN already exists for another account
      */
     public void validateIbanUniqueForUpdate(Long accountId, String newIban, String currentIban) {
-        logger.debug("Validating IBAN change for account {}: {} -> {}", accountId, currentIban, newIban);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Validating IBAN change for account {}: {} -> {}", accountId, currentIban, newIban);
+        }
         
         if (!currentIban.equals(newIban) && accountRepository.existsByIban(newIban)) {
             logger.warn("IBAN already exists during update: {}", newIban);
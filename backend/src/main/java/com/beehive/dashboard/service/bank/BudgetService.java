@@ -0,0 +1,266 @@
+package com.beehive.dashboard.service.bank;
+
+import com.beehive.dashboard.dto.bank.BudgetStatus;
+import com.beehive.dashboard.entity.bank.Budget;
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.repository.bank.BudgetRepository;
+import com.beehive.dashboard.types.bank.Money;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * Service managing monthly category budgets and the spend totals they are compared with.
+ * Confirmed, categorized expenses are added to a total per user, month and category whenever a movement
+ * is created, updated or deleted, so the status of every budget is read from a handful of rows.
+ * Every change to the totals of a user holds an advisory lock on the user until commit, so a rebuild
+ * never interleaves with the deltas of a concurrent write.
+ */
+@Service
+public class BudgetService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BudgetService.class);
+
+    /**
+     * First key of the advisory locks taken on users, so they never collide with other advisory locks.
+     */
+    static final int LOCK_NAMESPACE = 0x746F_7473;
+
+    private static final String ADD_TOTALS_SQL =
+            "INSERT INTO bank_category_month_totals AS t (user_id, month, category, spent_cents, movement_count) " +
+            "VALUES (?, ?, ?, ?, ?) ON CONFLICT (user_id, month, category) DO UPDATE SET " +
+            "spent_cents = t.spent_cents + excluded.spent_cents, movement_count = t.movement_count + excluded.movement_count";
+
+    private static final String MONTH_TOTALS_SQL =
+            "SELECT category, spent_cents FROM bank_category_month_totals WHERE user_id = ? AND month = ?";
+
+    // Archived months are read from their rollups, which hold the same confirmed expenses
+    private static final String REBUILD_TOTALS_SQL =
+            "INSERT INTO bank_category_month_totals (user_id, month, category, spent_cents, movement_count) " +
+            "SELECT ?, month, category, sum(spent_cents), sum(movement_count) FROM (" +
+            "SELECT date_trunc('month', date)::date AS month, category, amount_cents AS spent_cents, 1 AS movement_count " +
+            "FROM bank_movements WHERE user_id = ? AND type = 'EXPENSE' AND status = 'CONFIRMED' AND category IS NOT NULL " +
+            "UNION ALL SELECT month, category, total_amount_cents, movement_count FROM bank_movement_monthly_rollups " +
+            "WHERE user_id = ? AND type = 'EXPENSE' AND category <> 'NONE') expenses " +
+            "GROUP BY month, category";
+
+    @Autowired
+    private BudgetRepository budgetRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AdvisoryLockService lockService;
+
+    /**
+     * Creates a budget; a user has at most one per category.
+     */
+    public Budget createBudget(Budget budget) {
+        logger.debug("Creating budget for user ID: {} - Category: {}", budget.getUserId(), budget.getCategory());
+
+        if (budgetRepository.existsByUserIdAndCategory(budget.getUserId(), budget.getCategory())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
+                    "A budget already exists for category " + budget.getCategory());
+        }
+
+        Budget savedBudget = budgetRepository.save(budget);
+        logger.debug("Budget created successfully with ID: {}", savedBudget.getId());
+
+        return savedBudget;
+    }
+
+    /**
+     * Retrieves the budgets of a user, in category order.
+     */
+    @Transactional(readOnly = true)
+    public List<Budget> getBudgetsByUserId(Long userId) {
+        logger.debug("Retrieving budgets for user ID: {}", userId);
+        return budgetRepository.findByUserIdOrderByCategory(userId);
+    }
+
+    /**
+     * Changes the monthly limit of a budget.
+     */
+    @Transactional
+    public Budget updateLimit(Long id, long limitCents) {
+        logger.debug("Updating limit of budget with ID: {}", id);
+
+        if (limitCents <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Limit must be positive");
+        }
+        Budget budget = getBudget(id);
+        budget.setLimitCents(limitCents);
+        return budget;
+    }
+
+    /**
+     * Deletes a budget.
+     */
+    public void deleteBudget(Long id) {
+        logger.debug("Deleting budget with ID: {}", id);
+        budgetRepository.delete(getBudget(id));
+    }
+
+    /**
+     * Compares the spend of each budgeted category in a month with its limit.
+     * Reads the budgets and the month's totals of the user, whatever the number of movements.
+     */
+    @Transactional(readOnly = true)
+    public List<BudgetStatus> getStatus(Long userId, YearMonth month) {
+        logger.debug("Retrieving budget status for user ID: {} - Month: {}", userId, month);
+
+        List<Budget> budgets = budgetRepository.findByUserIdOrderByCategory(userId);
+        if (budgets.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<String, Long> spentByCategory = new HashMap<>();
+        jdbcTemplate.query(MONTH_TOTALS_SQL, rs -> {
+            spentByCategory.put(rs.getString("category"), rs.getLong("spent_cents"));
+        }, userId, month.atDay(1));
+
+        List<BudgetStatus> statuses = new ArrayList<>(budgets.size());
+        for (Budget budget : budgets) {
+            long limitCents = budget.getLimitCents();
+            long spentCents = spentByCategory.getOrDefault(budget.getCategory().name(), 0L);
+            int percentage = limitCents > 0 ? (int) Math.round((double) spentCents / limitCents * 100) : 0;
+            statuses.add(new BudgetStatus(budget.getId(), budget.getCategory().name(), Money.toDouble(limitCents),
+                    Money.toDouble(spentCents), Money.toDouble(limitCents - spentCents), percentage, spentCents > limitCents));
+        }
+        return statuses;
+    }
+
+    /**
+     * Adds newly created movements to the totals.
+     */
+    @Transactional
+    public void recordCreated(Collection<Movement> movements) {
+        Map<String, Spend> deltas = new TreeMap<>();
+        for (Movement movement : movements) {
+            Spend.merge(deltas, Spend.of(movement), 1);
+        }
+        applyDeltas(deltas);
+    }
+
+    /**
+     * Moves the spend of an updated movement from what it counted before to what it counts now.
+     *
+     * @param before What the movement counted before the update, from {@link Spend#of(Movement)}
+     * @param after The updated movement
+     */
+    @Transactional
+    public void recordUpdated(Spend before, Movement after) {
+        Map<String, Spend> deltas = new TreeMap<>();
+        Spend.merge(deltas, before, -1);
+        Spend.merge(deltas, Spend.of(after), 1);
+        applyDeltas(deltas);
+    }
+
+    /**
+     * Removes a deleted movement from the totals.
+     */
+    @Transactional
+    public void recordDeleted(Movement movement) {
+        Map<String, Spend> deltas = new TreeMap<>();
+        Spend.merge(deltas, Spend.of(movement), -1);
+        applyDeltas(deltas);
+    }
+
+    /**
+     * Recomputes the totals of a user from their movements, after changes made to many movements
+     * at once such as re-categorization.
+     */
+    @Transactional
+    public void rebuildTotals(Long userId) {
+        lockUsers(List.of(userId));
+        jdbcTemplate.update("DELETE FROM bank_category_month_totals WHERE user_id = ?", userId);
+        int rows = jdbcTemplate.update(REBUILD_TOTALS_SQL, userId, userId, userId);
+        logger.debug("Rebuilt {} category totals for user ID: {}", rows, userId);
+    }
+
+    /**
+     * Adds the deltas in key order, so concurrent writers lock the rows in the same order.
+     */
+    private void applyDeltas(Map<String, Spend> deltas) {
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        Set<Long> userIds = new HashSet<>();
+        for (Spend delta : deltas.values()) {
+            if (delta.cents != 0 || delta.count != 0) {
+                rows.add(new Object[]{delta.userId, delta.month, delta.category, delta.cents, delta.count});
+                userIds.add(delta.userId);
+            }
+        }
+        if (!rows.isEmpty()) {
+            lockUsers(userIds);
+            jdbcTemplate.batchUpdate(ADD_TOTALS_SQL, rows);
+        }
+    }
+
+    /**
+     * Takes the advisory locks of the users until the end of the transaction.
+     */
+    private void lockUsers(Collection<Long> userIds) {
+        lockService.lock(LOCK_NAMESPACE, userIds.stream().map(userId -> userId.hashCode()).toList());
+    }
+
+    private Budget getBudget(Long id) {
+        return budgetRepository.findById(id).orElseThrow(() ->
+                new ResponseStatusException(HttpStatus.NOT_FOUND, "Budget not found with the provided id: " + id));
+    }
+
+    /**
+     * What a movement adds to the totals: its amount in the month and category of its date,
+     * counted once. Also used to sum the deltas of several movements of the same total.
+     */
+    public static final class Spend {
+
+        final Long userId;
+        final LocalDate month;
+        final String category;
+        long cents;
+        long count;
+
+        private Spend(Long userId, LocalDate month, String category, long cents, long count) {
+            this.userId = userId;
+            this.month = month;
+            this.category = category;
+            this.cents = cents;
+            this.count = count;
+        }
+
+        /**
+         * @return What the movement counts in the totals, or null if it is not a confirmed, categorized expense
+         */
+        public static Spend of(Movement movement) {
+            if (!MovementType.EXPENSE.equals(movement.getType())
+                    || !MovementStatus.CONFIRMED.equals(movement.getStatus())
+                    || movement.getCategory() == null) {
+                return null;
+            }
+            return new Spend(movement.getUserId(), movement.getDate().withDayOfMonth(1),
+                    movement.getCategory().name(), movement.getAmountCents(), 1);
+        }
+
+        static void merge(Map<String, Spend> deltas, Spend spend, int sign) {
+            if (spend == null) {
+                return;
+            }
+            Spend delta = deltas.computeIfAbsent(spend.userId + "/" + spend.month + "/" + spend.category,
+                    key -> new Spend(spend.userId, spend.month, spend.category, 0, 0));
+            delta.cents += sign * spend.cents;
+            delta.count += sign * spend.count;
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.beehive.dashboard.service.bank;
+
+import com.beehive.dashboard.entity.bank.Account;
+import com.beehive.dashboard.entity.bank.CategorizationRule;
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.repository.bank.CategorizationRuleRepository;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service assigning categories to movements from user-defined keyword rules.
+ * The rules of a user are compiled into one {@link KeywordAutomaton} and cached until they change,
+ * so categorizing a movement is a single scan of its description regardless of the number of rules.
+ * At most {@code bank.categorization.cache-size} users have their rules cached at a time.
+ */
+@Service
+public class CategorizationService implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(CategorizationService.class);
+
+    private static final String FIRST_PAGE_SQL =
+            "SELECT id, account_id, amount_cents, description, date, category FROM bank_movements " +
+            "WHERE user_id = ? ORDER BY date, id LIMIT ?";
+
+    // Keyset continuation; date >= ? keeps the (user_id, date) index range, the OR only filters its first day
+    private static final String NEXT_PAGE_SQL =
+            "SELECT id, account_id, amount_cents, description, date, category FROM bank_movements " +
+            "WHERE user_id = ? AND date >= ? AND (date > ? OR id > ?) ORDER BY date, id LIMIT ?";
+
+    // The date lets PostgreSQL prune the update to a single partition
+    private static final String UPDATE_CATEGORY_SQL =
+            "UPDATE bank_movements SET category = ? WHERE id = ? AND date = ?";
+
+    @Autowired
+    private CategorizationRuleRepository ruleRepository;
+
+    @Autowired
+    private BankValidationService validationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private BudgetService budgetService;
+
+    @Autowired
+    private SpendingAnomalyService anomalyService;
+
+    @Value("${bank.categorization.batch-size:2000}")
+    private int batchSize;
+
+    @Value("${bank.categorization.threads:4}")
+    private int threads;
+
+    @Value("${bank.categorization.cache-size:10000}")
+    private int cacheSize;
+
+    private final Map<Long, CompiledRules> compiledRules = new ConcurrentHashMap<>();
+
+    // Bumped when the rules of a user change, so rules loaded before the change are not cached after it
+    private final Map<Long, Long> ruleVersions = new ConcurrentHashMap<>();
+
+    // Users with a re-categorization queued or running, so each user has at most one at a time
+    private final Set<Long> recategorizing = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService executor;
+
+    // Runs whole re-categorizations one after another; their pages go to the executor
+    private ExecutorService coordinator;
+
+    @Override
+    public void afterPropertiesSet() {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        executor = Executors.newFixedThreadPool(Math.max(threads, 1), runnable -> {
+            Thread thread = new Thread(runnable, "recategorize-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "recategorize-coordinator");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        coordinator.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Creates a categorization rule after checking its account belongs to the same user.
+     * The compiled rules of the user are dropped once the rule is committed.
+     */
+    @Transactional
+    public CategorizationRule createRule(CategorizationRule rule) {
+        logger.debug("Creating categorization rule for user ID: {} - Keyword: {}", rule.getUserId(), rule.getKeyword());
+
+        if (rule.getAccountId() != null) {
+            Account account = validationService.validateAccountExists(rule.getAccountId());
+            if (!account.getUserId().equals(rule.getUserId())) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Account does not belong to the user of the rule");
+            }
+        }
+        if (rule.getMinAmountCents() != null && rule.getMaxAmountCents() != null
+                && rule.getMinAmountCents() > rule.getMaxAmountCents()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minAmount must not be greater than maxAmount");
+        }
+        rule.setKeyword(rule.getKeyword().strip());
+
+        CategorizationRule savedRule = ruleRepository.save(rule);
+        forgetRulesAfterCommit(savedRule.getUserId());
+        logger.debug("Categorization rule created successfully with ID: {}", savedRule.getId());
+
+        return savedRule;
+    }
+
+    /**
+     * Retrieves the categorization rules of a user in the order they take precedence.
+     */
+    @Transactional(readOnly = true)
+    public List<CategorizationRule> getRulesByUserId(Long userId) {
+        logger.debug("Retrieving categorization rules for user ID: {}", userId);
+        return ruleRepository.findByUserIdOrderByPriorityAscIdAsc(userId);
+    }
+
+    /**
+     * Deletes a categorization rule.
+     * The compiled rules of the user are dropped once the deletion is committed.
+     */
+    @Transactional
+    public void deleteRule(Long id) {
+        logger.debug("Deleting categorization rule with ID: {}", id);
+
+        CategorizationRule rule = ruleRepository.findById(id).orElseThrow(() ->
+                new ResponseStatusException(HttpStatus.NOT_FOUND, "Categorization rule not found with the provided id: " + id));
+        ruleRepository.delete(rule);
+        forgetRulesAfterCommit(rule.getUserId());
+    }
+
+    /**
+     * Assigns a category to a movement without one, from the rules of its user.
+     * The user ID of the movement must already be set.
+     */
+    public void applyRules(Movement movement) {
+        if (movement.getCategory() != null || movement.getDescription() == null) {
+            return;
+        }
+        MovementCategory category = rulesOf(movement.getUserId())
+                .categorize(movement.getAccountId(), movement.getAmountCents(), movement.getDescription());
+        if (category != null) {
+            movement.setCategory(category);
+            logger.debug("Movement categorized as {} by rule", category);
+        }
+    }
+
+    /**
+     * Queues a re-categorization of a user's history, see {@link #recategorize(Long, boolean)}.
+     * Re-categorizations run one at a time in the background; failures are logged.
+     *
+     * @param userId User whose movements to re-categorize
+     * @param overwrite Whether to replace categories that are already set, or only fill missing ones
+     * @return false if a re-categorization of the user is already queued or running
+     */
+    public boolean recategorizeAsync(Long userId, boolean overwrite) {
+        if (!recategorizing.add(userId)) {
+            return false;
+        }
+        try {
+            coordinator.execute(() -> {
+                try {
+                    recategorize(userId, overwrite);
+                } catch (RuntimeException e) {
+                    logger.error("Background re-categorization failed for user ID: {} - Error: {}", userId, e.getMessage(), e);
+                } finally {
+                    recategorizing.remove(userId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            recategorizing.remove(userId);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Re-categorization is shutting down");
+        }
+        return true;
+    }
+
+    /**
+     * Re-applies the rules of a user to the movements in their history.
+     * The history is read in keyset pages; matching and updating each page runs on the
+     * re-categorization pool, one transaction per page, with a bounded number of pages in flight.
+     * Budget totals of the user are rebuilt afterwards when any category changed.
+     *
+     * @param userId User whose movements to re-categorize
+     * @param overwrite Whether to replace categories that are already set, or only fill missing ones
+     * @return Number of movements whose category changed
+     */
+    public long recategorize(Long userId, boolean overwrite) {
+        CompiledRules rules = rulesOf(userId);
+        if (rules.isEmpty()) {
+            logger.debug("No categorization rules for user ID: {}", userId);
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        Semaphore inFlight = new Semaphore(Math.max(threads, 1) * 2);
+        List<Future<Integer>> pages = new ArrayList<>();
+        try {
+            List<MovementRow> page = jdbcTemplate.query(FIRST_PAGE_SQL, MovementRow.MAPPER, userId, batchSize);
+            while (!page.isEmpty()) {
+                inFlight.acquire();
+                List<MovementRow> current = page;
+                pages.add(executor.submit(() -> {
+                    try {
+                        return recategorizePage(rules, current, overwrite);
+                    } finally {
+                        inFlight.release();
+                    }
+                }));
+
+                if (page.size() < batchSize) {
+                    break;
+                }
+                MovementRow last = page.get(page.size() - 1);
+                page = jdbcTemplate.query(NEXT_PAGE_SQL, MovementRow.MAPPER,
+                        userId, last.date, last.date, last.id, batchSize);
+            }
+
+            long updated = 0;
+            for (Future<Integer> future : pages) {
+                updated += future.get();
+            }
+
+            if (updated > 0) {
+                budgetService.rebuildTotals(userId);
+                anomalyService.rebuild(userId);
+            }
+
+            long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+            logger.info("Re-categorization completed - User: {}, Updated: {}, Pages: {}, Duration: {} ms",
+                    userId, updated, pages.size(), durationMs);
+            return updated;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pages.forEach(future -> future.cancel(true));
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Re-categorization interrupted");
+        } catch (ExecutionException e) {
+            pages.forEach(future -> future.cancel(true));
+            logger.error("Re-categorization failed for user ID: {} - Error: {}", userId, e.getCause().getMessage());
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Re-categorization failed", e.getCause());
+        }
+    }
+
+    /**
+     * Matches one page of movements and writes the changed categories in one transaction.
+     *
+     * @return Number of movements whose category changed
+     */
+    private int recategorizePage(CompiledRules rules, List<MovementRow> page, boolean overwrite) {
+        List<Object[]> updates = new ArrayList<>();
+        for (MovementRow row : page) {
+            if (row.category != null && !overwrite) {
+                continue;
+            }
+            MovementCategory category = rules.categorize(row.accountId, row.amountCents, row.description);
+            if (category != null && !category.name().equals(row.category)) {
+                updates.add(new Object[]{category.name(), row.id, row.date});
+            }
+        }
+        if (!updates.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(UPDATE_CATEGORY_SQL, updates));
+        }
+        return updates.size();
+    }
+
+    /**
+     * Drops the compiled rules of a user once the current transaction commits, so they are loaded
+     * again with the change. Dropping them earlier would let a concurrent load cache the old rules.
+     */
+    private void forgetRulesAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            forgetRules(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                forgetRules(userId);
+            }
+        });
+    }
+
+    private void forgetRules(Long userId) {
+        // Within the lock of the user's entry, so a load in rulesOf either sees the new version or is dropped here
+        compiledRules.compute(userId, (id, rules) -> {
+            ruleVersions.merge(id, 1L, Long::sum);
+            return null;
+        });
+    }
+
+    /**
+     * Gets the compiled rules of a user, loading them on a miss.
+     * Loaded rules are only cached when the rules of the user did not change while they were loaded.
+     */
+    private CompiledRules rulesOf(Long userId) {
+        CompiledRules rules = compiledRules.get(userId);
+        if (rules != null) {
+            return rules;
+        }
+        // Makes room by dropping an arbitrary user; their rules are compiled again on their next movement
+        if (compiledRules.size() >= cacheSize) {
+            Iterator<Long> cached = compiledRules.keySet().iterator();
+            if (cached.hasNext()) {
+                cached.next();
+                cached.remove();
+            }
+        }
+        long version = ruleVersions.getOrDefault(userId, 0L);
+        CompiledRules loaded = CompiledRules.compile(ruleRepository.findByUserIdOrderByPriorityAscIdAsc(userId));
+        CompiledRules cached = compiledRules.compute(userId, (id, current) -> {
+            if (current != null) {
+                return current;
+            }
+            return ruleVersions.getOrDefault(id, 0L) == version ? loaded : null;
+        });
+        return cached != null ? cached : loaded;
+    }
+
+    /**
+     * The rules of one user with their keywords compiled into an automaton.
+     * Rules are kept in precedence order, so the lowest matching index wins.
+     */
+    static final class CompiledRules {
+
+        private final List<CategorizationRule> rules;
+        private final KeywordAutomaton automaton;
+
+        private CompiledRules(List<CategorizationRule> rules, KeywordAutomaton automaton) {
+            this.rules = rules;
+            this.automaton = automaton;
+        }
+
+        static CompiledRules compile(List<CategorizationRule> rules) {
+            List<String> keywords = new ArrayList<>(rules.size());
+            for (CategorizationRule rule : rules) {
+                keywords.add(rule.getKeyword());
+            }
+            return new CompiledRules(List.copyOf(rules), KeywordAutomaton.build(keywords));
+        }
+
+        boolean isEmpty() {
+            return rules.isEmpty();
+        }
+
+        MovementCategory categorize(Long accountId, long amountCents, String description) {
+            if (rules.isEmpty() || description == null) {
+                return null;
+            }
+            int[] best = {Integer.MAX_VALUE};
+            automaton.forEachMatch(description, index -> {
+                if (index < best[0] && rules.get(index).appliesTo(accountId, amountCents)) {
+                    best[0] = index;
+                }
+            });
+            return best[0] != Integer.MAX_VALUE ? rules.get(best[0]).getCategory() : null;
+        }
+    }
+
+    /**
+     * The columns of a movement needed to categorize it.
+     */
+    private static final class MovementRow {
+
+        static final RowMapper<MovementRow> MAPPER = (rs, rowNum) -> new MovementRow(
+                rs.getLong("id"),
+                rs.getLong("account_id"),
+                rs.getLong("amount_cents"),
+                rs.getString("description"),
+                rs.getObject("date", LocalDate.class),
+                rs.getString("category"));
+
+        final long id;
+        final Long accountId;
+        final long amountCents;
+        final String description;
+        final LocalDate date;
+        final String category;
+
+        MovementRow(long id, Long accountId, long amountCents, String description, LocalDate date, String category) {
+            this.id = id;
+            this.accountId = accountId;
+            this.amountCents = amountCents;
+            this.description = description;
+            this.date = date;
+            this.category = category;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.beehive.dashboard.service.bank;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.IntConsumer;
+
+/**
+ * Aho-Corasick automaton finding every occurrence of a fixed set of keywords in a text, ignoring case.
+ * A scan is linear in the length of the text plus the number of matches, however many keywords there are.
+ * Immutable once built, so one instance can be shared between threads.
+ */
+final class KeywordAutomaton {
+
+    private static final int ROOT = 0;
+
+    private final Map<Character, Integer>[] transitions;
+    private final int[] failure;
+    // Keyword indexes ending at each state, including those reached through failure links, ascending
+    private final int[][] matches;
+
+    private KeywordAutomaton(Map<Character, Integer>[] transitions, int[] failure, int[][] matches) {
+        this.transitions = transitions;
+        this.failure = failure;
+        this.matches = matches;
+    }
+
+    /**
+     * Builds the automaton for the given keywords. A keyword is identified by its index in the list;
+     * blank keywords never match.
+     *
+     * @param keywords the keywords to look for
+     * @return the automaton
+     */
+    @SuppressWarnings("unchecked")
+    static KeywordAutomaton build(List<String> keywords) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        trie.add(new HashMap<>());
+        ends.add(new ArrayList<>());
+
+        for (int index = 0; index < keywords.size(); index++) {
+            String keyword = keywords.get(index);
+            if (keyword == null || keyword.isBlank()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = Character.toLowerCase(keyword.charAt(i));
+                Integer next = trie.get(state).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new HashMap<>());
+                    ends.add(new ArrayList<>());
+                    trie.get(state).put(c, next);
+                }
+                state = next;
+            }
+            ends.get(state).add(index);
+        }
+
+        // Breadth-first, so the failure target of a state is complete before the state itself
+        int[] failure = new int[trie.size()];
+        int[][] matches = new int[trie.size()][];
+        matches[ROOT] = new int[0];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : trie.get(ROOT).values()) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.remove();
+            matches[state] = merge(ends.get(state), matches[failure[state]]);
+            for (Map.Entry<Character, Integer> edge : trie.get(state).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure[state];
+                while (fallback != ROOT && !trie.get(fallback).containsKey(edge.getKey())) {
+                    fallback = failure[fallback];
+                }
+                Integer target = trie.get(fallback).get(edge.getKey());
+                failure[child] = target != null && target != child ? target : ROOT;
+                queue.add(child);
+            }
+        }
+
+        return new KeywordAutomaton(trie.toArray(new Map[0]), failure, matches);
+    }
+
+    /**
+     * Reports the index of every keyword occurring in the text, once per occurrence.
+     * Keywords ending at the same position are reported in ascending index order.
+     *
+     * @param text the text to scan
+     * @param consumer receives the keyword indexes
+     */
+    void forEachMatch(CharSequence text, IntConsumer consumer) {
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = Character.toLowerCase(text.charAt(i));
+            Integer next = transitions[state].get(c);
+            while (next == null && state != ROOT) {
+                state = failure[state];
+                next = transitions[state].get(c);
+            }
+            state = next != null ? next : ROOT;
+            for (int index : matches[state]) {
+                consumer.accept(index);
+            }
+        }
+    }
+
+    private static int[] merge(List<Integer> own, int[] inherited) {
+        if (own.isEmpty()) {
+            return inherited;
+        }
+        int[] merged = Arrays.copyOf(inherited, inherited.length + own.size());
+        for (int i = 0; i < own.size(); i++) {
+            merged[inherited.length + i] = own.get(i);
+        }
+        Arrays.sort(merged);
+        return merged;
+    }
+}
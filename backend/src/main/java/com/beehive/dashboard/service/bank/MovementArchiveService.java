@@ -0,0 +1,152 @@
+package com.beehive.dashboard.service.bank;
+
+import com.beehive.dashboard.entity.bank.MovementMonthlyRollup;
+import com.beehive.dashboard.repository.bank.MovementMonthlyRollupRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Service moving old confirmed movements out of {@code bank_movements} into {@code bank_movements_archive}.
+ * Each archived chunk is added to {@code bank_movement_monthly_rollups} in the same statement, so
+ * long-range totals stay available without reading the archive. Movements that are not confirmed
+ * stay in the hot table regardless of age.
+ */
+@Service
+public class MovementArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovementArchiveService.class);
+
+    /**
+     * Analytics compare up to the previous year, so the last 24 months must stay hot.
+     */
+    static final int MIN_ARCHIVE_AFTER_MONTHS = 25;
+
+    // Moves one chunk of a month in a single statement: the DELETE feeds both the archive insert
+    // and the rollup upsert, so a crash can never leave a movement in both or neither place.
+    private static final String ARCHIVE_CHUNK_SQL =
+            "WITH moved AS (" +
+            "  DELETE FROM bank_movements WHERE (id, date) IN (" +
+            "    SELECT id, date FROM bank_movements WHERE date >= ? AND date < ? AND status = 'CONFIRMED' " +
+            "    LIMIT ? FOR UPDATE SKIP LOCKED) " +
+            "  RETURNING id, account_id, user_id, category, type, amount_cents, description, date, status" +
+            "), archived AS (" +
+            "  INSERT INTO bank_movements_archive (id, account_id, user_id, category, type, amount_cents, description, date, status) " +
+            "  SELECT id, account_id, user_id, category, type, amount_cents, description, date, status FROM moved" +
+            "), rolled_up AS (" +
+            "  INSERT INTO bank_movement_monthly_rollups AS r (user_id, account_id, month, type, category, total_amount_cents, movement_count) " +
+            "  SELECT max(user_id), account_id, ?, type, coalesce(category, 'NONE'), sum(amount_cents), count(*) FROM moved " +
+            "  GROUP BY account_id, type, coalesce(category, 'NONE') " +
+            "  ON CONFLICT (account_id, month, type, category) DO UPDATE SET " +
+            "    total_amount_cents = r.total_amount_cents + excluded.total_amount_cents, " +
+            "    movement_count = r.movement_count + excluded.movement_count" +
+            ") " +
+            "SELECT count(*) FROM moved";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MovementMonthlyRollupRepository rollupRepository;
+
+    @Value("${bank.movements.archive.enabled:false}")
+    private boolean archiveEnabled;
+
+    @Value("${bank.movements.archive.after-months:36}")
+    private int archiveAfterMonths;
+
+    @Value("${bank.movements.archive.batch-size:5000}")
+    private int archiveBatchSize;
+
+    @Value("${bank.movements.archive.pause-ms:200}")
+    private long archivePauseMs;
+
+    /**
+     * Scheduled task archiving confirmed movements older than the configured age.
+     * Runs after the partition job, oldest month first, in bounded chunks.
+     */
+    @Scheduled(cron = "${bank.movements.archive.cron:0 0 4 * * *}")
+    public void archiveOldMovements() {
+        if (!archiveEnabled) {
+            return;
+        }
+        archiveBefore(YearMonth.now().minusMonths(Math.max(archiveAfterMonths, MIN_ARCHIVE_AFTER_MONTHS)));
+    }
+
+    /**
+     * Archive every confirmed movement dated before the given month.
+     *
+     * @param cutoff First month to keep in the hot table
+     * @return Number of archived movements
+     */
+    public long archiveBefore(YearMonth cutoff) {
+        LocalDate oldest = jdbcTemplate.queryForObject(
+                "SELECT min(date) FROM bank_movements WHERE date < ? AND status = 'CONFIRMED'",
+                LocalDate.class, cutoff.atDay(1));
+        if (oldest == null) {
+            logger.debug("No movements to archive before {}", cutoff);
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        long total = 0;
+        for (YearMonth month = YearMonth.from(oldest); month.isBefore(cutoff); month = month.plusMonths(1)) {
+            total += archiveMonth(month);
+            if (Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        logger.info("Movement archival completed - Archived: {}, Before: {}, Duration: {} ms", total, cutoff, durationMs);
+        return total;
+    }
+
+    /**
+     * Retrieve the monthly totals of archived movements for all accounts of a user.
+     */
+    public List<MovementMonthlyRollup> getMonthlyRollups(Long userId, YearMonth from, YearMonth to) {
+        logger.debug("Retrieving movement rollups for user ID: {} from {} to {}", userId, from, to);
+        return rollupRepository.findByUserIdAndMonthBetweenOrderByMonth(userId, from.atDay(1), to.atDay(1));
+    }
+
+    /**
+     * Archives one month in chunks, pausing between chunks to let request traffic through.
+     *
+     * @return Number of archived movements
+     */
+    private long archiveMonth(YearMonth month) {
+        LocalDate start = month.atDay(1);
+        LocalDate end = month.plusMonths(1).atDay(1);
+        long total = 0;
+        long archived;
+        do {
+            Long moved = jdbcTemplate.queryForObject(ARCHIVE_CHUNK_SQL, Long.class, start, end, archiveBatchSize, start);
+            archived = moved != null ? moved : 0;
+            total += archived;
+
+            if (archived == archiveBatchSize && archivePauseMs > 0) {
+                try {
+                    Thread.sleep(archivePauseMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    logger.warn("Movement archival interrupted in {} after {} rows", month, total);
+                    break;
+                }
+            }
+        } while (archived == archiveBatchSize);
+
+        if (total > 0) {
+            logger.debug("Archived {} movements from {}", total, month);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,277 @@
+package com.beehive.dashboard.service.bank;
+
+import com.beehive.dashboard.dto.bank.MovementView;
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Service detecting likely duplicate movements: same account and amount, the same description once case,
+ * spaces and punctuation are ignored, and dates within a few days of each other.
+ * The database side is served by the hash index on the fingerprint expression, one probe per movement.
+ * A movement without a description has no fingerprint and is never a duplicate, in SQL and in memory alike.
+ */
+@Service
+public class MovementDuplicateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovementDuplicateService.class);
+
+    /**
+     * Fingerprint of a bank_movements row; must stay identical to the expression of idx_bank_movements_fingerprint.
+     */
+    private static final String FINGERPRINT =
+            "hashtextextended(m.account_id::text || ':' || m.amount_cents::text || ':' || " +
+            "regexp_replace(lower(m.description), '[^[:alnum:]]+', '', 'g'), 0)";
+
+    private static final String CANDIDATE_FINGERPRINT =
+            "hashtextextended(c.account_id::text || ':' || c.amount_cents::text || ':' || " +
+            "regexp_replace(lower(c.description), '[^[:alnum:]]+', '', 'g'), 0)";
+
+    // One round trip for a whole batch: each candidate probes the index for a match within the window
+    private static final String FIND_EXISTING_SQL =
+            "SELECT c.ord, (SELECT m.id FROM bank_movements m WHERE " + FINGERPRINT + " = " + CANDIDATE_FINGERPRINT +
+            "  AND m.date BETWEEN c.date - ? AND c.date + ? LIMIT 1) AS duplicate_of " +
+            "FROM unnest(?::bigint[], ?::bigint[], ?::text[], ?::date[]) WITH ORDINALITY " +
+            "  AS c(account_id, amount_cents, description, date, ord)";
+
+    // Rows of an account whose previous or next movement with the same fingerprint is within the window
+    private static final String ACCOUNT_REPORT_SQL =
+            "SELECT * FROM (" +
+            "  SELECT m.*, " + FINGERPRINT + " AS fingerprint, " +
+            "    m.date - lag(m.date) OVER w AS since_previous, lead(m.date) OVER w - m.date AS until_next " +
+            "  FROM bank_movements m WHERE m.account_id = ? " +
+            "  WINDOW w AS (PARTITION BY " + FINGERPRINT + " ORDER BY m.date, m.id)" +
+            ") f WHERE since_previous <= ? OR until_next <= ? ORDER BY fingerprint, date, id";
+
+    /**
+     * First key of the advisory locks taken on fingerprints, so they never collide with other advisory locks.
+     */
+    static final int LOCK_NAMESPACE = 0x6475_7073;
+
+    private static final Pattern NOT_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AdvisoryLockService lockService;
+
+    @Value("${bank.movements.duplicates.window-days:3}")
+    private int windowDays;
+
+    /**
+     * Locks the fingerprints of the given movements until the end of the current transaction.
+     * Taken before {@link #findDuplicates(List)} and held while the movements are inserted, so two
+     * concurrent writers of the same movement cannot both find no duplicate and both insert it.
+     * Must run inside the transaction that inserts the movements.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void lockFingerprints(List<Movement> movements) {
+        // Hash collisions only make unrelated writers wait for each other
+        List<Integer> keys = new ArrayList<>(movements.size());
+        for (Movement movement : movements) {
+            String fingerprint = fingerprintText(movement);
+            if (fingerprint != null) {
+                keys.add(fingerprint.hashCode());
+            }
+        }
+        lockService.lock(LOCK_NAMESPACE, keys);
+    }
+
+    /**
+     * Finds an existing movement the given one is likely a duplicate of.
+     *
+     * @return ID of the existing movement, or null when there is none
+     */
+    @Transactional(readOnly = true)
+    public Long findDuplicateOf(Movement movement) {
+        Duplicate duplicate = findDuplicates(List.of(movement)).get(0);
+        return duplicate != null ? duplicate.getMovementId() : null;
+    }
+
+    /**
+     * Checks a batch of new movements against the existing ones and against each other.
+     * An existing movement is reported first; otherwise a movement repeating an earlier one of the
+     * same batch is reported with the index of that earlier one, which has no ID yet.
+     *
+     * @return For each movement, the movement it likely duplicates, or null
+     */
+    @Transactional(readOnly = true)
+    public List<Duplicate> findDuplicates(List<Movement> movements) {
+        int size = movements.size();
+        Long[] accountIds = new Long[size];
+        Long[] amounts = new Long[size];
+        String[] descriptions = new String[size];
+        Date[] sqlDates = new Date[size];
+        for (int i = 0; i < size; i++) {
+            Movement movement = movements.get(i);
+            accountIds[i] = movement.getAccountId();
+            amounts[i] = movement.getAmountCents();
+            descriptions[i] = movement.getDescription();
+            sqlDates[i] = Date.valueOf(movement.getDate());
+        }
+
+        List<Duplicate> duplicates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            duplicates.add(null);
+        }
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_EXISTING_SQL);
+            statement.setInt(1, windowDays);
+            statement.setInt(2, windowDays);
+            statement.setArray(3, connection.createArrayOf("bigint", accountIds));
+            statement.setArray(4, connection.createArrayOf("bigint", amounts));
+            statement.setArray(5, connection.createArrayOf("text", descriptions));
+            statement.setArray(6, connection.createArrayOf("date", sqlDates));
+            return statement;
+        }, rs -> {
+            long duplicateOf = rs.getLong("duplicate_of");
+            if (!rs.wasNull()) {
+                duplicates.set(rs.getInt("ord") - 1, Duplicate.existing(duplicateOf));
+            }
+        });
+
+        // Within the batch: the first occurrence is kept, later ones within the window are duplicates
+        Map<String, List<Integer>> seen = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            Movement movement = movements.get(i);
+            String fingerprint = fingerprintText(movement);
+            if (fingerprint == null) {
+                continue;
+            }
+            List<Integer> earlier = seen.computeIfAbsent(fingerprint, key -> new ArrayList<>());
+            if (duplicates.get(i) == null) {
+                for (int index : earlier) {
+                    if (withinWindow(movements.get(index).getDate(), movement.getDate())) {
+                        duplicates.set(i, Duplicate.inBatch(index));
+                        break;
+                    }
+                }
+            }
+            earlier.add(i);
+        }
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Checked {} movements for duplicates - Found: {}, Window: {} days",
+                    size, duplicates.stream().filter(Objects::nonNull).count(), windowDays);
+        }
+        return duplicates;
+    }
+
+    /**
+     * Groups the movements of an account that are likely duplicates of each other, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public List<List<MovementView>> getDuplicateGroups(Long accountId) {
+        logger.debug("Building duplicate report for account ID: {}", accountId);
+
+        List<List<MovementView>> groups = new ArrayList<>();
+        long[] previousFingerprint = {0};
+        LocalDate[] previousDate = {null};
+        jdbcTemplate.query(ACCOUNT_REPORT_SQL, rs -> {
+            long fingerprint = rs.getLong("fingerprint");
+            LocalDate date = rs.getObject("date", LocalDate.class);
+            String category = rs.getString("category");
+            MovementView movement = new MovementView(
+                    rs.getLong("id"),
+                    rs.getLong("account_id"),
+                    rs.getLong("user_id"),
+                    category != null ? MovementCategory.valueOf(category) : null,
+                    MovementType.valueOf(rs.getString("type")),
+                    rs.getLong("amount_cents"),
+                    rs.getString("description"),
+                    date,
+                    MovementStatus.valueOf(rs.getString("status")));
+
+            // Rows of one fingerprint come in date order; a gap wider than the window starts a new group
+            if (groups.isEmpty() || fingerprint != previousFingerprint[0] || !withinWindow(previousDate[0], date)) {
+                groups.add(new ArrayList<>());
+            }
+            groups.get(groups.size() - 1).add(movement);
+            previousFingerprint[0] = fingerprint;
+            previousDate[0] = date;
+        }, accountId, windowDays, windowDays);
+
+        // A row can be flagged for a neighbour that the gap split into another group
+        groups.removeIf(group -> group.size() < 2);
+        logger.debug("Found {} duplicate groups for account ID: {}", groups.size(), accountId);
+        return groups;
+    }
+
+    private boolean withinWindow(LocalDate first, LocalDate second) {
+        return Math.abs(second.toEpochDay() - first.toEpochDay()) <= windowDays;
+    }
+
+    /**
+     * In-memory counterpart of the text hashed by the fingerprint expression, for duplicates inside one batch.
+     *
+     * @return the text, or null without a description, as the SQL expression is then NULL
+     */
+    static String fingerprintText(Movement movement) {
+        if (movement.getDescription() == null) {
+            return null;
+        }
+        String description = NOT_ALPHANUMERIC.matcher(movement.getDescription().toLowerCase(Locale.ROOT)).replaceAll("");
+        return movement.getAccountId() + ":" + movement.getAmountCents() + ":" + description;
+    }
+
+    /**
+     * The movement a new one likely duplicates: an existing movement, or an earlier one of the same batch.
+     */
+    public static final class Duplicate {
+
+        private final Long movementId;
+        private final int batchIndex;
+
+        private Duplicate(Long movementId, int batchIndex) {
+            this.movementId = movementId;
+            this.batchIndex = batchIndex;
+        }
+
+        static Duplicate existing(long movementId) {
+            return new Duplicate(movementId, -1);
+        }
+
+        static Duplicate inBatch(int batchIndex) {
+            return new Duplicate(null, batchIndex);
+        }
+
+        /**
+         * @return ID of the existing movement, or null for one of the same batch
+         */
+        public Long getMovementId() {
+            return movementId;
+        }
+
+        /**
+         * @return Index of the earlier movement of the batch, or -1 for an existing movement
+         */
+        public int getBatchIndex() {
+            return batchIndex;
+        }
+
+        public boolean isInBatch() {
+            return movementId == null;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.beehive.dashboard.service.bank;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Service maintaining the monthly partitions of {@code bank_movements}.
+ * Creates partitions ahead of time on a schedule, creates a missing month on demand before a movement
+ * is written to it, and detaches old months so they can be archived as standalone tables.
+ */
+@Service
+public class MovementPartitionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MovementPartitionService.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("bank_movements_y(\\d{4})m(\\d{2})");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${bank.movements.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${bank.movements.partition.detach-after-months:0}")
+    private int detachAfterMonths;
+
+    private final Set<YearMonth> knownMonths = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Make sure the partition holding the given date exists.
+     * Only the first call for a month reaches the database. Runs outside any caller transaction
+     * so the DDL commits on its own and a failed attempt can be retried.
+     * Creating a partition locks {@code bank_movements} exclusively, so a caller transaction must not
+     * have read it yet: the suspended transaction would hold its lock until the DDL gave up.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void ensurePartitionFor(LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        if (knownMonths.contains(month)) {
+            return;
+        }
+
+        ensurePartitions(month, month);
+        knownMonths.add(month);
+    }
+
+    /**
+     * Create the partitions for the current month and the configured number of months ahead.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${bank.movements.partition.cron:0 30 3 * * *}")
+    public void createFuturePartitions() {
+        YearMonth current = YearMonth.now();
+        int created = ensurePartitions(current, current.plusMonths(monthsAhead));
+        if (created > 0) {
+            logger.info("Created {} bank_movements partitions up to {}", created, current.plusMonths(monthsAhead));
+        }
+
+        if (detachAfterMonths > 0) {
+            detachPartitionsBefore(current.minusMonths(detachAfterMonths));
+        }
+    }
+
+    /**
+     * Detach every partition for months before the given one.
+     *
+     * @param cutoff First month to keep attached
+     * @return Names of the detached tables
+     */
+    public List<String> detachPartitionsBefore(YearMonth cutoff) {
+        List<String> detached = new ArrayList<>();
+        for (String partition : listPartitions()) {
+            Matcher matcher = PARTITION_NAME.matcher(partition);
+            if (matcher.matches()) {
+                YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+                if (month.isBefore(cutoff)) {
+                    detached.add(detachPartition(month));
+                }
+            }
+        }
+        return detached;
+    }
+
+    /**
+     * Detach one month from {@code bank_movements}. The rows stay in a standalone table named
+     * {@code bank_movements_yYYYYmMM_detached}, ready to be dumped and dropped, and are no longer
+     * visible to the application.
+     *
+     * @param month Month to detach
+     * @return Name of the detached table
+     */
+    public String detachPartition(YearMonth month) {
+        String partition = partitionName(month);
+        String detachedName = partition + "_detached";
+
+        // CONCURRENTLY keeps reads and writes on other months running; it cannot run inside a transaction
+        jdbcTemplate.execute("ALTER TABLE bank_movements DETACH PARTITION " + partition + " CONCURRENTLY");
+        jdbcTemplate.execute("ALTER TABLE " + partition + " RENAME TO " + detachedName);
+        knownMonths.remove(month);
+
+        logger.info("Detached bank_movements partition {} as {}", partition, detachedName);
+        return detachedName;
+    }
+
+    /**
+     * List the names of the partitions currently attached to {@code bank_movements}.
+     */
+    public List<String> listPartitions() {
+        return jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                "WHERE i.inhparent = 'bank_movements'::regclass ORDER BY c.relname", String.class);
+    }
+
+    private int ensurePartitions(YearMonth from, YearMonth to) {
+        try {
+            Integer created = jdbcTemplate.queryForObject("SELECT ensure_bank_movements_partitions(?, ?)",
+                    Integer.class, from.atDay(1), to.atEndOfMonth());
+            return created != null ? created : 0;
+        } catch (DataAccessException e) {
+            // Another instance or request may have created the same partition concurrently
+            logger.warn("Creating bank_movements partitions {} to {} failed, retrying once - Error: {}", from, to, e.getMessage());
+            Integer created = jdbcTemplate.queryForObject("SELECT ensure_bank_movements_partitions(?, ?)",
+                    Integer.class, from.atDay(1), to.atEndOfMonth());
+            return created != null ? created : 0;
+        }
+    }
+
+    private static String partitionName(YearMonth month) {
+        return String.format("bank_movements_y%04dm%02d", month.getYear(), month.getMonthValue());
+    }
+}
@@ -1,17 +1,31 @@
 package com.beehive.dashboard.service.bank;
 
+import com.beehive.dashboard.dto.bank.MovementSearchCriteria;
+import com.beehive.dashboard.dto.bank.MovementView;
+import com.beehive.dashboard.entity.bank.Account;
+import com.beehive.dashboard.entity.bank.ArchivedMovement;
 import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.metrics.RowLoadMetrics;
+import com.beehive.dashboard.repository.bank.ArchivedMovementRepository;
 import com.beehive.dashboard.repository.bank.MovementRepository;
+import com.beehive.dashboard.repository.bank.MovementSpecifications;
+import com.beehive.dashboard.types.bank.Money;
 import com.beehive.dashboard.types.bank.MovementStatus;
 import com.beehive.dashboard.types.bank.MovementType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -33,44 +47,155 @@ public class MovementService {
     @Autowired
     private AccountBalanceService balanceService;
 
+    @Autowired
+    private RowLoadMetrics rowLoadMetrics;
+
+    @Autowired
+    private MovementPartitionService partitionService;
+
+    @Autowired
+    private CategorizationService categorizationService;
+
+    @Autowired
+    private MovementDuplicateService duplicateService;
+
+    @Autowired
+    private ArchivedMovementRepository archivedMovementRepository;
+
+    @Autowired
+    private SpendingAnomalyService anomalyService;
+
+    @Autowired
+    private BudgetService budgetService;
+
     /**
      * Creates a new bank movement and updates account balance if confirmed.
+     * A likely duplicate of an existing movement is rejected with 409, so the same transaction entered twice
+     * does not change the balance twice, unless duplicates are allowed; it is then created with
+     * {@code duplicateOf} set as a warning. The fingerprint is locked until commit, so the check holds for the insert.
+     * Expenses are scored against the spending of their category and flagged when unusually high.
      */
-    public Movement create(Movement movement) {
-        logger.info("Creating new movement for account ID: {} - Amount: {}, Type: {}",
-            movement.getAccountId(), movement.getAmount(), movement.getType());
+    @Transactional
+    public Movement create(Movement movement, boolean allowDuplicate) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Creating new movement for account ID: {} - Amount: {}, Type: {}",
+                movement.getAccountId(), movement.getAmount(), movement.getType());
+        }
 
-        // Validate account exists
-        validationService.validateAccountExists(movement.getAccountId());
+        // Before the duplicate check reads bank_movements, see MovementPartitionService#ensurePartitionFor
+        partitionService.ensurePartitionFor(movement.getDate());
+        duplicateService.lockFingerprints(List.of(movement));
+        Long duplicateOf = duplicateService.findDuplicateOf(movement);
+        if (duplicateOf != null) {
+            if (!allowDuplicate) {
+                logger.warn("Rejected likely duplicate of movement {} on account {}", duplicateOf, movement.getAccountId());
+                throw new ResponseStatusException(HttpStatus.CONFLICT,
+                        "Movement is a likely duplicate of movement " + duplicateOf);
+            }
+            logger.warn("Creating likely duplicate of movement {} on account {}", duplicateOf, movement.getAccountId());
+            movement.setDuplicateOf(duplicateOf);
+        }
+
+        prepareForInsert(movement);
+
+        Movement savedMovement = movementRepository.save(movement);
+        logger.debug("Movement created successfully with ID: {}", savedMovement.getId());
+        budgetService.recordCreated(List.of(savedMovement));
+        anomalyService.observeAll(List.of(savedMovement));
+
+        return savedMovement;
+    }
+
+    /**
+     * Creates a batch of bank movements, as imported from a bank statement.
+     * Each movement goes through the same steps as a single create; any failure rolls back the whole batch.
+     * Likely duplicates of existing movements or of earlier ones in the batch are skipped, so re-importing
+     * an overlapping statement only adds the new movements; when duplicates are allowed they are created
+     * with {@code duplicateOf} set to the movement they repeat.
+     *
+     * @return The created movements
+     */
+    @Transactional
+    public List<Movement> createAll(List<Movement> movements, boolean allowDuplicates) {
+        logger.debug("Creating batch of {} movements", movements.size());
+
+        // Before the duplicate check reads bank_movements, see MovementPartitionService#ensurePartitionFor
+        for (Movement movement : movements) {
+            partitionService.ensurePartitionFor(movement.getDate());
+        }
+        duplicateService.lockFingerprints(movements);
+        List<MovementDuplicateService.Duplicate> duplicates = duplicateService.findDuplicates(movements);
+        List<Movement> accepted = new ArrayList<>(movements.size());
+        for (int i = 0; i < movements.size(); i++) {
+            Movement movement = movements.get(i);
+            MovementDuplicateService.Duplicate duplicate = duplicates.get(i);
+            if (duplicate == null) {
+                accepted.add(movement);
+            } else if (allowDuplicates) {
+                movement.setDuplicateOf(duplicate.getMovementId());
+                accepted.add(movement);
+            }
+        }
+
+        for (Movement movement : accepted) {
+            prepareForInsert(movement);
+        }
+
+        List<Movement> savedMovements = movementRepository.saveAll(accepted);
+        if (allowDuplicates) {
+            // Every movement was accepted, so a duplicate of the batch can now point at the ID of the earlier one
+            for (int i = 0; i < savedMovements.size(); i++) {
+                MovementDuplicateService.Duplicate duplicate = duplicates.get(i);
+                if (duplicate != null && duplicate.isInBatch()) {
+                    savedMovements.get(i).setDuplicateOf(savedMovements.get(duplicate.getBatchIndex()).getId());
+                }
+            }
+        }
+        budgetService.recordCreated(savedMovements);
+        anomalyService.observeAll(savedMovements);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Batch of {} movements created successfully, {} duplicates skipped",
+                savedMovements.size(), movements.size() - accepted.size());
+        }
+
+        return savedMovements;
+    }
+
+    /**
+     * Copies the account owner, fills a missing category from the user's rules and applies a confirmed
+     * movement to the account balance.
+     */
+    private void prepareForInsert(Movement movement) {
+        // Validate account exists and copy its owner
+        Account account = validationService.validateAccountExists(movement.getAccountId());
+        movement.setUserId(account.getUserId());
+        categorizationService.applyRules(movement);
 
         // Apply balance change if confirmed
         if (MovementStatus.CONFIRMED.equals(movement.getStatus())) {
             balanceService.applyTransaction(
                 movement.getAccountId(), 
-                movement.getAmount(), 
+                movement.getAmountCents(),
                 movement.getType()
             );
         }
-
-        Movement savedMovement = movementRepository.save(movement);
-        logger.info("Movement created successfully with ID: {}", savedMovement.getId());
-
-        return savedMovement;
     }
 
     /**
      * Retrieves all bank movements from the database.
      */
-    public List<Movement> getAll() {
-        logger.info("Retrieving all movements from database");
-        return movementRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<MovementView> getAll() {
+        logger.debug("Retrieving all movements from database");
+        return movementRepository.findAllViews();
     }
 
     /**
      * Retrieves a specific bank movement by its unique identifier.
      */
+    @Transactional(readOnly = true)
     public Movement getById(Long id) {
-        logger.info("Retrieving movement with ID: {}", id);
+        logger.debug("Retrieving movement with ID: {}", id);
 
         return movementRepository.findById(id).orElseThrow(() -> {
             logger.error("Movement not found with ID: {}", id);
@@ -82,10 +207,12 @@ public class MovementService {
     /**
      * Retrieves all bank movements for a specific account, ordered by date descending.
      */
-    public List<Movement> getByAccountId(Long accountId) {
-        logger.info("Retrieving movements for account ID: {}", accountId);
+    @Transactional(readOnly = true)
+    public List<MovementView> getByAccountId(Long accountId) {
+        logger.debug("Retrieving movements for account ID: {}", accountId);
 
-        List<Movement> movements = movementRepository.findByAccountIdOrderByDateDesc(accountId);
+        List<MovementView> movements = movementRepository.findViewsByAccountIdOrderByDateDesc(accountId);
+        rowLoadMetrics.record("movements.by-account", null, movements.size());
 
         if(movements.isEmpty()) {
             logger.warn("No movements found for account ID: {}", accountId);
@@ -96,16 +223,169 @@ public class MovementService {
         return movements;
     }
 
+    /**
+     * Retrieves one page of the bank movements of an account, newest first.
+     * Pages are served from the hot table; only a page reaching past its last movement
+     * continues into the archive, so recent pages never touch archived history.
+     */
+    @Transactional(readOnly = true)
+    public Slice<MovementView> getByAccountId(Long accountId, int page, int size) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Retrieving movements page {} (size {}) for account ID: {}", page, size, accountId);
+        }
+
+        long offset = (long) page * size;
+        // One extra row tells whether another page follows
+        List<MovementView> movements = new ArrayList<>(size + 1);
+        for (Movement movement : movementRepository.findSliceByAccountId(accountId, offset, size + 1)) {
+            movements.add(MovementView.of(movement));
+        }
+
+        if (movements.size() <= size) {
+            // Past the end of the hot movements: the archive continues where they stop
+            long archiveOffset = movements.isEmpty() ? Math.max(0, offset - movementRepository.countByAccountId(accountId)) : 0;
+            for (ArchivedMovement archived : archivedMovementRepository.findSliceByAccountId(accountId, archiveOffset, size + 1 - movements.size())) {
+                movements.add(archived.toView());
+            }
+        }
+
+        boolean hasNext = movements.size() > size;
+        if (hasNext) {
+            movements.remove(size);
+        }
+        rowLoadMetrics.record("movements.by-account", null, movements.size());
+
+        return new SliceImpl<>(movements, PageRequest.of(page, size), hasNext);
+    }
+
+    /**
+     * Searches the movements of a user with any combination of filters, newest first.
+     * All filters compile into one query; pages continue after the last movement of the previous
+     * page instead of using an offset. Archived movements are not searched.
+     */
+    @Transactional(readOnly = true)
+    public Slice<MovementView> search(Long userId, MovementSearchCriteria criteria, int size) {
+        logger.debug("Searching movements for user ID: {}", userId);
+
+        Specification<Movement> spec = toSpecification(userId, criteria);
+        // One extra row tells whether another page follows
+        List<Movement> found = movementRepository.findBy(spec, query -> query
+                .sortBy(MovementSpecifications.NEWEST_FIRST)
+                .limit(size + 1)
+                .all());
+
+        boolean hasNext = found.size() > size;
+        List<MovementView> movements = new ArrayList<>(Math.min(found.size(), size));
+        for (Movement movement : hasNext ? found.subList(0, size) : found) {
+            movements.add(MovementView.of(movement));
+        }
+        rowLoadMetrics.record("movements.search", userId, movements.size());
+
+        return new SliceImpl<>(movements, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * Searches the descriptions of a user's movements with the full-text index, best match first.
+     * Every word of the text must match, the last one may be incomplete. Archived movements are not searched.
+     */
+    @Transactional(readOnly = true)
+    public Slice<MovementView> searchByDescription(Long userId, String text, int page, int size) {
+        String query = TextSearchQuery.prefixQuery(text);
+        if (query == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search text must contain a letter or digit");
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Searching movement descriptions for user ID: {} - Query: {}, page {}", userId, query, page);
+        }
+
+        // One extra row tells whether another page follows
+        List<MovementView> movements = new ArrayList<>(size + 1);
+        for (Movement movement : movementRepository.searchByDescription(userId, query, (long) page * size, size + 1)) {
+            movements.add(MovementView.of(movement));
+        }
+
+        boolean hasNext = movements.size() > size;
+        if (hasNext) {
+            movements.remove(size);
+        }
+        rowLoadMetrics.record("movements.text-search", userId, movements.size());
+
+        return new SliceImpl<>(movements, PageRequest.of(page, size), hasNext);
+    }
+
+    /**
+     * Groups the movements of an account that are likely duplicates of each other.
+     */
+    public List<List<MovementView>> getDuplicateGroups(Long accountId) {
+        return duplicateService.getDuplicateGroups(accountId);
+    }
+
+    /**
+     * Validates the search criteria and combines the filters that are set.
+     */
+    private Specification<Movement> toSpecification(Long userId, MovementSearchCriteria criteria) {
+        if (criteria.getMinAmount() != null && criteria.getMaxAmount() != null
+                && criteria.getMinAmount() > criteria.getMaxAmount()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "minAmount must not be greater than maxAmount");
+        }
+        if (criteria.getStartDate() != null && criteria.getEndDate() != null
+                && criteria.getStartDate().isAfter(criteria.getEndDate())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "startDate must not be after endDate");
+        }
+        if ((criteria.getAfterDate() == null) != (criteria.getAfterId() == null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "afterDate and afterId must be given together");
+        }
+
+        Specification<Movement> spec = MovementSpecifications.ofUser(userId);
+        if (criteria.getAccountIds() != null && !criteria.getAccountIds().isEmpty()) {
+            spec = spec.and(MovementSpecifications.accountIn(criteria.getAccountIds()));
+        }
+        if (criteria.getTypes() != null && !criteria.getTypes().isEmpty()) {
+            spec = spec.and(MovementSpecifications.typeIn(criteria.getTypes()));
+        }
+        if (criteria.getStatuses() != null && !criteria.getStatuses().isEmpty()) {
+            spec = spec.and(MovementSpecifications.statusIn(criteria.getStatuses()));
+        }
+        if (criteria.getCategories() != null && !criteria.getCategories().isEmpty()) {
+            spec = spec.and(MovementSpecifications.categoryIn(criteria.getCategories()));
+        }
+        if (criteria.getMinAmount() != null) {
+            spec = spec.and(MovementSpecifications.amountAtLeast(Money.toCents(criteria.getMinAmount())));
+        }
+        if (criteria.getMaxAmount() != null) {
+            spec = spec.and(MovementSpecifications.amountAtMost(Money.toCents(criteria.getMaxAmount())));
+        }
+        if (criteria.getStartDate() != null) {
+            spec = spec.and(MovementSpecifications.dateFrom(criteria.getStartDate()));
+        }
+        if (criteria.getEndDate() != null) {
+            spec = spec.and(MovementSpecifications.dateTo(criteria.getEndDate()));
+        }
+        if (criteria.getText() != null && !criteria.getText().isBlank()) {
+            spec = spec.and(MovementSpecifications.descriptionContains(criteria.getText().strip()));
+        }
+        if (criteria.getAfterDate() != null) {
+            spec = spec.and(MovementSpecifications.before(criteria.getAfterDate(), criteria.getAfterId()));
+        }
+        return spec;
+    }
+
     /**
      * Updates an existing bank movement with proper financial rollback.
      */
+    @Transactional
     public Movement update(Long id, Movement movementDetails) {
-        logger.info("Updating movement with ID: {} - New amount: {}", id, movementDetails.getAmount());
+        logger.debug("Updating movement with ID: {} - New amount: {}", id, movementDetails.getAmount());
+
+        // Before reading the movement, see MovementPartitionService#ensurePartitionFor
+        partitionService.ensurePartitionFor(movementDetails.getDate());
 
         Movement movement = getById(id);
-        
+        BudgetService.Spend previousSpend = BudgetService.Spend.of(movement);
+        SpendingAnomalyService.Sample previousSample = SpendingAnomalyService.Sample.of(movement);
+
         // Validate account exists
-        validationService.validateAccountExists(movementDetails.getAccountId());
+        Account account = validationService.validateAccountExists(movementDetails.getAccountId());
 
         // Handle balance changes if status is CONFIRMED (old or new)
         boolean oldConfirmed = MovementStatus.CONFIRMED.equals(movement.getStatus());
@@ -115,38 +395,42 @@ public class MovementService {
             // Both confirmed: rollback old and apply new
             balanceService.updateTransaction(
                 movementDetails.getAccountId(),
-                movement.getAmount(),
+                movement.getAmountCents(),
                 movement.getType(),
-                movementDetails.getAmount(),
+                movementDetails.getAmountCents(),
                 movementDetails.getType()
             );
         } else if (oldConfirmed && !newConfirmed) {
             // Was confirmed, now not: reverse transaction
             balanceService.reverseTransaction(
                 movement.getAccountId(),
-                movement.getAmount(),
+                movement.getAmountCents(),
                 movement.getType()
             );
         } else if (!oldConfirmed && newConfirmed) {
             // Wasn't confirmed, now is: apply transaction
             balanceService.applyTransaction(
                 movementDetails.getAccountId(),
-                movementDetails.getAmount(),
+                movementDetails.getAmountCents(),
                 movementDetails.getType()
             );
         }
 
         // Update movement fields
         movement.setAccountId(movementDetails.getAccountId());
+        movement.setUserId(account.getUserId());
         movement.setCategory(movementDetails.getCategory());
         movement.setDescription(movementDetails.getDescription());
         movement.setDate(movementDetails.getDate());
-        movement.setAmount(movementDetails.getAmount());
+        movement.setAmountCents(movementDetails.getAmountCents());
         movement.setStatus(movementDetails.getStatus());
         movement.setType(movementDetails.getType());
 
-        Movement updatedMovement = movementRepository.save(movement);
-        logger.info("Movement with ID: {} updated successfully", id);
+        // Flushed so the statistics replay reads the updated row
+        Movement updatedMovement = movementRepository.saveAndFlush(movement);
+        budgetService.recordUpdated(previousSpend, updatedMovement);
+        anomalyService.recordUpdated(previousSample, updatedMovement);
+        logger.debug("Movement with ID: {} updated successfully", id);
 
         return updatedMovement;
     }
@@ -154,8 +438,9 @@ public class MovementService {
     /**
      * Deletes a bank movement from the system and reverts account balance changes if confirmed.
      */
+    @Transactional
     public void delete(Long id) {
-        logger.info("Deleting movement with ID: {}", id);
+        logger.debug("Deleting movement with ID: {}", id);
 
         Movement movement = getById(id);
 
@@ -163,52 +448,62 @@ public class MovementService {
         if (MovementStatus.CONFIRMED.equals(movement.getStatus())) {
             balanceService.reverseTransaction(
                 movement.getAccountId(),
-                movement.getAmount(),
+                movement.getAmountCents(),
                 movement.getType()
             );
         }
 
         movementRepository.delete(movement);
-        logger.info("Movement with ID: {} deleted successfully", id);
+        movementRepository.flush();
+        budgetService.recordDeleted(movement);
+        anomalyService.recordDeleted(movement);
+        logger.debug("Movement with ID: {} deleted successfully", id);
     }
 
     /**
      * Retrieves the total count of bank movements in the system.
      */
+    @Transactional(readOnly = true)
     public long count() {
-        logger.info("Counting total number of movements in database");
+        logger.debug("Counting total number of movements in database");
         return movementRepository.count();
     }
 
     /**
      * Retrieves bank movements for a specific account filtered by movement type.
      */
-    public List<Movement> getByAccountIdAndType(Long accountId, MovementType type) {
-        logger.info("Retrieving movements for account ID: {} with type: {}", accountId, type);
-        return movementRepository.findByAccountIdAndType(accountId, type);
+    @Transactional(readOnly = true)
+    public List<MovementView> getByAccountIdAndType(Long accountId, MovementType type) {
+        logger.debug("Retrieving movements for account ID: {} with type: {}", accountId, type);
+        return movementRepository.findViewsByAccountIdAndType(accountId, type);
     }
 
     /**
      * Retrieves bank movements for a specific account filtered by movement status.
      */
-    public List<Movement> getByAccountIdAndStatus(Long accountId, MovementStatus status) {
-        logger.info("Retrieving movements for account ID: {} with status: {}", accountId, status);
-        return movementRepository.findByAccountIdAndStatus(accountId, status);
+    @Transactional(readOnly = true)
+    public List<MovementView> getByAccountIdAndStatus(Long accountId, MovementStatus status) {
+        logger.debug("Retrieving movements for account ID: {} with status: {}", accountId, status);
+        return movementRepository.findViewsByAccountIdAndStatus(accountId, status);
     }
 
     /**
      * Retrieves bank movements for a specific account within a date range.
      */
-    public List<Movement> getByAccountIdAndDateRange(Long accountId, LocalDate startDate, LocalDate endDate) {
-        logger.info("Retrieving movements for account ID: {} between {} and {}", accountId, startDate, endDate);
-        return movementRepository.findByAccountIdAndDateBetween(accountId, startDate, endDate);
+    @Transactional(readOnly = true)
+    public List<MovementView> getByAccountIdAndDateRange(Long accountId, LocalDate startDate, LocalDate endDate) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Retrieving movements for account ID: {} between {} and {}", accountId, startDate, endDate);
+        }
+        return movementRepository.findViewsByAccountIdAndDateBetween(accountId, startDate, endDate);
     }
 
     /**
      * Retrieves the count of movements for a specific account.
      */
+    @Transactional(readOnly = true)
     public long countByAccountId(Long accountId) {
-        logger.info("Counting movements for account ID: {}", accountId);
-        return movementRepository.findByAccountId(accountId).size();
+        logger.debug("Counting movements for account ID: {}", accountId);
+        return movementRepository.countByAccountId(accountId);
     }
 }
@@ -1,17 +1,25 @@
 package com.beehive.dashboard.service.bank;
 
+import com.beehive.dashboard.dto.bank.PlannedView;
+import com.beehive.dashboard.entity.bank.Account;
 import com.beehive.dashboard.entity.bank.Planned;
+import com.beehive.dashboard.metrics.RowLoadMetrics;
 import com.beehive.dashboard.repository.bank.PlannedRepository;
 import com.beehive.dashboard.types.bank.MovementStatus;
 import com.beehive.dashboard.types.bank.MovementType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -30,18 +38,24 @@ public class PlannedService {
     @Autowired
     private BankValidationService validationService;
 
+    @Autowired
+    private RowLoadMetrics rowLoadMetrics;
+
     /**
      * Creates a new bank planned transaction.
      */
     public Planned create(Planned planned) {
-        logger.info("Creating new planned for account ID: {} - Amount: {}, Type: {}",
-            planned.getAccountId(), planned.getAmount(), planned.getType());
+        if (logger.isDebugEnabled()) {
+            logger.debug("Creating new planned for account ID: {} - Amount: {}, Type: {}",
+                planned.getAccountId(), planned.getAmount(), planned.getType());
+        }
 
-        // Validate account exists
-        validationService.validateAccountExists(planned.getAccountId());
+        // Validate account exists and copy its owner
+        Account account = validationService.validateAccountExists(planned.getAccountId());
+        planned.setUserId(account.getUserId());
 
         Planned savedPlanned = plannedRepository.save(planned);
-        logger.info("Planned created successfully with ID: {}", savedPlanned.getId());
+        logger.debug("Planned created successfully with ID: {}", savedPlanned.getId());
 
         return savedPlanned;
     }
@@ -49,16 +63,18 @@ public class PlannedService {
     /**
      * Retrieves all bank planned from the database.
      */
-    public List<Planned> getAll() {
-        logger.info("Retrieving all planned from database");
-        return plannedRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<PlannedView> getAll() {
+        logger.debug("Retrieving all planned from database");
+        return plannedRepository.findAllViews();
     }
 
     /**
      * Retrieves a specific bank planned by its unique identifier.
      */
+    @Transactional(readOnly = true)
     public Planned getById(Long id) {
-        logger.info("Retrieving planned with ID: {}", id);
+        logger.debug("Retrieving planned with ID: {}", id);
 
         return plannedRepository.findById(id).orElseThrow(() -> {
             logger.error("Planned not found with ID: {}", id);
@@ -70,10 +86,11 @@ public class PlannedService {
     /**
      * Retrieves all bank planned for a specific account, ordered by date descending.
      */
-    public List<Planned> getByAccountId(Long accountId) {
-        logger.info("Retrieving planned for account ID: {}", accountId);
+    @Transactional(readOnly = true)
+    public List<PlannedView> getByAccountId(Long accountId) {
+        logger.debug("Retrieving planned for account ID: {}", accountId);
 
-        List<Planned> planned = plannedRepository.findByAccountIdOrderByNextExecutionDesc(accountId);
+        List<PlannedView> planned = plannedRepository.findViewsByAccountIdOrderByNextExecutionDesc(accountId);
 
         if(planned.isEmpty()) {
             logger.warn("No planned found for account ID: {}", accountId);
@@ -88,27 +105,28 @@ public class PlannedService {
      * Updates an existing bank planned transaction.
      */
     public Planned update(Long id, Planned plannedDetails) {
-        logger.info("Updating planned with ID: {} - New amount: {}", id, plannedDetails.getAmount());
+        logger.debug("Updating planned with ID: {} - New amount: {}", id, plannedDetails.getAmount());
 
         Planned planned = getById(id);
         
         // Validate account exists
-        validationService.validateAccountExists(plannedDetails.getAccountId());
+        Account account = validationService.validateAccountExists(plannedDetails.getAccountId());
 
         // Update planned fields
         planned.setAccountId(plannedDetails.getAccountId());
+        planned.setUserId(account.getUserId());
         planned.setCategory(plannedDetails.getCategory());
         planned.setDescription(plannedDetails.getDescription());
         planned.setRecurrence(plannedDetails.getRecurrence());
         planned.setCron(plannedDetails.getCron());
         planned.setNextExecution(plannedDetails.getNextExecution());
         planned.setEndDate(plannedDetails.getEndDate());
-        planned.setAmount(plannedDetails.getAmount());
+        planned.setAmountCents(plannedDetails.getAmountCents());
         planned.setStatus(plannedDetails.getStatus());
         planned.setType(plannedDetails.getType());
 
         Planned updatedPlanned = plannedRepository.save(planned);
-        logger.info("Planned with ID: {} updated successfully", id);
+        logger.debug("Planned with ID: {} updated successfully", id);
 
         return updatedPlanned;
     }
@@ -117,58 +135,97 @@ public class PlannedService {
      * Deletes a bank planned from the system.
      */
     public void delete(Long id) {
-        logger.info("Deleting planned with ID: {}", id);
+        logger.debug("Deleting planned with ID: {}", id);
 
         Planned planned = getById(id);
         plannedRepository.delete(planned);
-        logger.info("Planned with ID: {} deleted successfully", id);
+        logger.debug("Planned with ID: {} deleted successfully", id);
     }
 
     /**
      * Retrieves the total count of bank planned in the system.
      */
+    @Transactional(readOnly = true)
     public long count() {
-        logger.info("Counting total number of planned in database");
+        logger.debug("Counting total number of planned in database");
         return plannedRepository.count();
     }
 
     /**
      * Retrieves bank planned for a specific account filtered by planned type.
      */
-    public List<Planned> getByAccountIdAndType(Long accountId, MovementType type) {
-        logger.info("Retrieving planned for account ID: {} with type: {}", accountId, type);
-        return plannedRepository.findByAccountIdAndType(accountId, type);
+    @Transactional(readOnly = true)
+    public List<PlannedView> getByAccountIdAndType(Long accountId, MovementType type) {
+        logger.debug("Retrieving planned for account ID: {} with type: {}", accountId, type);
+        return plannedRepository.findViewsByAccountIdAndType(accountId, type);
     }
 
     /**
      * Retrieves bank planned for a specific account filtered by planned status.
      */
-    public List<Planned> getByAccountIdAndStatus(Long accountId, MovementStatus status) {
-        logger.info("Retrieving planned for account ID: {} with status: {}", accountId, status);
-        return plannedRepository.findByAccountIdAndStatus(accountId, status);
+    @Transactional(readOnly = true)
+    public List<PlannedView> getByAccountIdAndStatus(Long accountId, MovementStatus status) {
+        logger.debug("Retrieving planned for account ID: {} with status: {}", accountId, status);
+        return plannedRepository.findViewsByAccountIdAndStatus(accountId, status);
     }
 
     /**
      * Retrieves bank planned for a specific account within a date range.
      */
-    public List<Planned> getByAccountIdAndDateRange(Long accountId, LocalDate startDate, LocalDate endDate) {
-        logger.info("Retrieving planned for account ID: {} between {} and {}", accountId, startDate, endDate);
-        return plannedRepository.findByAccountIdAndNextExecutionBetween(accountId, startDate, endDate);
+    @Transactional(readOnly = true)
+    public List<PlannedView> getByAccountIdAndDateRange(Long accountId, LocalDate startDate, LocalDate endDate) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Retrieving planned for account ID: {} between {} and {}", accountId, startDate, endDate);
+        }
+        return plannedRepository.findViewsByAccountIdAndNextExecutionBetween(accountId, startDate, endDate);
     }
 
     /**
      * Retrieves the count of planned for a specific account.
      */
+    @Transactional(readOnly = true)
     public long countByAccountId(Long accountId) {
-        logger.info("Counting planned for account ID: {}", accountId);
-        return plannedRepository.findByAccountId(accountId).size();
+        logger.debug("Counting planned for account ID: {}", accountId);
+        return plannedRepository.countByAccountId(accountId);
+    }
+
+    /**
+     * Searches the descriptions of a user's planned movements with the full-text index, best match first.
+     * Every word of the text must match, the last one may be incomplete.
+     */
+    @Transactional(readOnly = true)
+    public Slice<PlannedView> searchByDescription(Long userId, String text, int page, int size) {
+        String query = TextSearchQuery.prefixQuery(text);
+        if (query == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Search text must contain a letter or digit");
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Searching planned descriptions for user ID: {} - Query: {}, page {}", userId, query, page);
+        }
+
+        // One extra row tells whether another page follows
+        List<PlannedView> planned = new ArrayList<>(size + 1);
+        for (Planned item : plannedRepository.searchByDescription(userId, query, (long) page * size, size + 1)) {
+            planned.add(PlannedView.of(item));
+        }
+
+        boolean hasNext = planned.size() > size;
+        if (hasNext) {
+            planned.remove(size);
+        }
+        rowLoadMetrics.record("planned.text-search", userId, planned.size());
+
+        return new SliceImpl<>(planned, PageRequest.of(page, size), hasNext);
     }
 
     /**
      * Retrieves all planned movements for a user within a date range.
      */
+    @Transactional(readOnly = true)
     public List<Planned> getAllUsersPlannedMovementsBetweenDate(Long userId, LocalDate startDate, LocalDate endDate) {
-        logger.info("Retrieving all planned for user ID: {} between {} and {}", userId, startDate, endDate);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Retrieving all planned for user ID: {} between {} and {}", userId, startDate, endDate);
+        }
         return plannedRepository.getAllUsersPlannedMovementsByGivenDate(userId, startDate, endDate);
     }
 }
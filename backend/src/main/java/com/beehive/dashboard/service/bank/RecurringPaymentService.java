@@ -0,0 +1,423 @@
+package com.beehive.dashboard.service.bank;
+
+import com.beehive.dashboard.entity.bank.Planned;
+import com.beehive.dashboard.entity.bank.RecurringSuggestion;
+import com.beehive.dashboard.repository.bank.RecurringSuggestionRepository;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementRecurrence;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import com.beehive.dashboard.types.bank.SuggestionStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Service detecting recurring payments in movement history and suggesting them as planned movements.
+ * Confirmed movements of an account are grouped by type, amount and description with digits and punctuation
+ * removed; a group whose dates are regularly a week or a month apart, and recent, becomes a suggestion.
+ * The scheduled analysis only revisits users with movements created since the previous run, in parallel
+ * on a bounded pool; users whose analysis failed are kept for a retry by the next run.
+ */
+@Service
+public class RecurringPaymentService implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecurringPaymentService.class);
+
+    /**
+     * Fewest movements that make a series.
+     */
+    static final int MIN_OCCURRENCES = 3;
+
+    private static final String HISTORY_SQL =
+            "SELECT account_id, category, type, amount_cents, description, date FROM bank_movements " +
+            "WHERE user_id = ? AND date >= ? AND status = 'CONFIRMED' ORDER BY date, id";
+
+    private static final String PLANNED_SQL =
+            "SELECT account_id, type, amount_cents, description FROM bank_planned " +
+            "WHERE user_id = ? AND status NOT IN ('CANCELLED', 'FAILED')";
+
+    private static final Pattern NOT_LETTER = Pattern.compile("[^\\p{L}]+");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RecurringSuggestionRepository suggestionRepository;
+
+    @Autowired
+    private PlannedService plannedService;
+
+    @Value("${bank.recurring.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bank.recurring.lookback-months:13}")
+    private int lookbackMonths;
+
+    @Value("${bank.recurring.threads:2}")
+    private int threads;
+
+    private ExecutorService executor;
+
+    @Override
+    public void afterPropertiesSet() {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        executor = Executors.newFixedThreadPool(Math.max(threads, 1), runnable -> {
+            Thread thread = new Thread(runnable, "recurring-analysis-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Scheduled task analyzing the users with movements created since the previous run, and those whose
+     * analysis failed before. The watermark and the users to retry are saved together, so the watermark
+     * only moves past the movements of users that were analyzed successfully or are kept for a retry.
+     * A movement committed late with an id below the watermark is picked up with the user's next movement.
+     */
+    @Scheduled(cron = "${bank.recurring.cron:0 15 * * * *}")
+    public void analyzeNewMovements() {
+        if (!enabled) {
+            return;
+        }
+
+        Long watermark = jdbcTemplate.queryForObject(
+                "SELECT last_movement_id FROM bank_recurring_scan_state WHERE id = 1", Long.class);
+        Long maxId = jdbcTemplate.queryForObject(
+                "SELECT coalesce(max(id), ?) FROM bank_movements WHERE id > ?", Long.class, watermark, watermark);
+        Set<Long> retries = new LinkedHashSet<>(jdbcTemplate.queryForList(
+                "SELECT user_id FROM bank_recurring_scan_retries ORDER BY user_id", Long.class));
+        if (maxId.equals(watermark) && retries.isEmpty()) {
+            logger.debug("No new movements for recurring payment analysis");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        Set<Long> userIds = new LinkedHashSet<>(retries);
+        userIds.addAll(jdbcTemplate.queryForList(
+                "SELECT DISTINCT user_id FROM bank_movements WHERE id > ? AND id <= ?", Long.class, watermark, maxId));
+        Set<Long> failed = analyzeUsers(userIds);
+        if (Thread.currentThread().isInterrupted()) {
+            // Shutting down: the next run starts again from the same watermark
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Object[]> succeeded = new ArrayList<>();
+            for (Long userId : retries) {
+                if (!failed.contains(userId)) {
+                    succeeded.add(new Object[]{userId});
+                }
+            }
+            List<Object[]> toRetry = new ArrayList<>();
+            for (Long userId : failed) {
+                toRetry.add(new Object[]{userId});
+            }
+            if (!succeeded.isEmpty()) {
+                jdbcTemplate.batchUpdate("DELETE FROM bank_recurring_scan_retries WHERE user_id = ?", succeeded);
+            }
+            if (!toRetry.isEmpty()) {
+                jdbcTemplate.batchUpdate("INSERT INTO bank_recurring_scan_retries (user_id) VALUES (?) ON CONFLICT DO NOTHING", toRetry);
+            }
+            jdbcTemplate.update("UPDATE bank_recurring_scan_state SET last_movement_id = ? WHERE id = 1", maxId);
+        });
+
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        logger.info("Recurring payment analysis completed - Users: {}/{}, Retry: {}, Up to movement: {}, Duration: {} ms",
+                userIds.size() - failed.size(), userIds.size(), failed.size(), maxId, durationMs);
+    }
+
+    /**
+     * Analyze several users in parallel on the analysis pool. A failure is logged and does not stop the others.
+     *
+     * @return IDs of the users whose analysis failed, or did not complete because the run was interrupted
+     */
+    public Set<Long> analyzeUsers(Collection<Long> userIds) {
+        Map<Long, Future<Integer>> pending = new LinkedHashMap<>();
+        for (Long userId : userIds) {
+            pending.put(userId, executor.submit(() -> analyzeUser(userId)));
+        }
+
+        Set<Long> failed = new LinkedHashSet<>();
+        boolean interrupted = false;
+        for (Map.Entry<Long, Future<Integer>> entry : pending.entrySet()) {
+            if (interrupted) {
+                failed.add(entry.getKey());
+                continue;
+            }
+            try {
+                entry.getValue().get();
+            } catch (ExecutionException e) {
+                failed.add(entry.getKey());
+                logger.warn("Recurring payment analysis failed for user ID: {} - Error: {}",
+                        entry.getKey(), e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pending.values().forEach(future -> future.cancel(true));
+                failed.add(entry.getKey());
+                interrupted = true;
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Detect the recurring series in the recent history of a user and refresh their suggestions.
+     * Series already covered by a planned movement are skipped; offered suggestions that are no longer
+     * detected are removed, accepted and dismissed ones are kept.
+     *
+     * @return Number of active series found
+     */
+    public int analyzeUser(Long userId) {
+        LocalDate today = LocalDate.now();
+
+        Map<String, Series> series = new LinkedHashMap<>();
+        jdbcTemplate.query(HISTORY_SQL, rs -> {
+            String description = rs.getString("description");
+            MovementType type = MovementType.valueOf(rs.getString("type"));
+            long amountCents = rs.getLong("amount_cents");
+            String patternKey = patternKey(type, amountCents, description);
+            if (patternKey == null) {
+                return;
+            }
+            long accountId = rs.getLong("account_id");
+            String category = rs.getString("category");
+            series.computeIfAbsent(accountId + "/" + patternKey, key -> new Series(accountId, patternKey, type, amountCents))
+                    .add(rs.getObject("date", LocalDate.class), description,
+                            category != null ? MovementCategory.valueOf(category) : null);
+        }, userId, today.minusMonths(lookbackMonths));
+
+        Set<String> planned = new HashSet<>();
+        jdbcTemplate.query(PLANNED_SQL, rs -> {
+            String patternKey = patternKey(MovementType.valueOf(rs.getString("type")),
+                    rs.getLong("amount_cents"), rs.getString("description"));
+            if (patternKey != null) {
+                planned.add(rs.getLong("account_id") + "/" + patternKey);
+            }
+        }, userId);
+
+        Integer active = transactionTemplate.execute(status -> {
+            Map<String, RecurringSuggestion> existing = new HashMap<>();
+            for (RecurringSuggestion suggestion : suggestionRepository.findByUserId(userId)) {
+                existing.put(suggestion.getAccountId() + "/" + suggestion.getPatternKey(), suggestion);
+            }
+
+            int found = 0;
+            for (Map.Entry<String, Series> entry : series.entrySet()) {
+                Series candidate = entry.getValue();
+                MovementRecurrence recurrence = detectRecurrence(candidate.dates);
+                if (recurrence == null || planned.contains(entry.getKey()) || !isActive(candidate.lastDate(), recurrence, today)) {
+                    continue;
+                }
+
+                RecurringSuggestion suggestion = existing.remove(entry.getKey());
+                if (suggestion == null) {
+                    suggestion = new RecurringSuggestion(userId, candidate.accountId, candidate.patternKey);
+                }
+                suggestion.setDescription(candidate.description);
+                suggestion.setCategory(candidate.category);
+                suggestion.setType(candidate.type);
+                suggestion.setAmountCents(candidate.amountCents);
+                suggestion.setRecurrence(recurrence);
+                suggestion.setOccurrences(candidate.dates.size());
+                suggestion.setLastDate(candidate.lastDate());
+                suggestion.setNextDate(nextDate(candidate.lastDate(), recurrence, today));
+                suggestion.setUpdatedAt(LocalDateTime.now());
+                suggestionRepository.save(suggestion);
+                found++;
+            }
+
+            for (RecurringSuggestion stale : existing.values()) {
+                if (stale.getStatus() == SuggestionStatus.SUGGESTED) {
+                    suggestionRepository.delete(stale);
+                }
+            }
+            return found;
+        });
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Analyzed {} series for user ID: {} - Recurring: {}", series.size(), userId, active);
+        }
+        return active != null ? active : 0;
+    }
+
+    /**
+     * Retrieves the recurring payments suggested to a user, soonest next date first.
+     */
+    @Transactional(readOnly = true)
+    public List<RecurringSuggestion> getSuggestions(Long userId) {
+        logger.debug("Retrieving recurring payment suggestions for user ID: {}", userId);
+        return suggestionRepository.findByUserIdAndStatusOrderByNextDate(userId, SuggestionStatus.SUGGESTED);
+    }
+
+    /**
+     * Accept a suggestion, creating the planned movement it describes.
+     */
+    @Transactional
+    public Planned accept(Long id) {
+        RecurringSuggestion suggestion = getSuggestion(id);
+        if (suggestion.getStatus() != SuggestionStatus.SUGGESTED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Suggestion was already " + suggestion.getStatus());
+        }
+
+        Planned planned = plannedService.create(new Planned(suggestion.getAccountId(), suggestion.getCategory(),
+                suggestion.getType(), suggestion.getAmountCents(), suggestion.getDescription(), suggestion.getRecurrence(),
+                cronFor(suggestion.getLastDate(), suggestion.getRecurrence()), suggestion.getNextDate(), null,
+                MovementStatus.PENDING));
+
+        suggestion.setStatus(SuggestionStatus.ACCEPTED);
+        suggestion.setUpdatedAt(LocalDateTime.now());
+        logger.debug("Suggestion {} accepted as planned movement {}", id, planned.getId());
+        return planned;
+    }
+
+    /**
+     * Dismiss a suggestion so it is no longer offered.
+     */
+    @Transactional
+    public RecurringSuggestion dismiss(Long id) {
+        RecurringSuggestion suggestion = getSuggestion(id);
+        suggestion.setStatus(SuggestionStatus.DISMISSED);
+        suggestion.setUpdatedAt(LocalDateTime.now());
+        logger.debug("Suggestion {} dismissed", id);
+        return suggestion;
+    }
+
+    /**
+     * Classify the dates of a series, sorted and distinct. Most gaps must be a week or a month long,
+     * so a single missed or late payment does not hide a series.
+     *
+     * @return The recurrence, or null when the dates are not regular
+     */
+    static MovementRecurrence detectRecurrence(List<LocalDate> dates) {
+        if (dates.size() < MIN_OCCURRENCES) {
+            return null;
+        }
+        int intervals = dates.size() - 1;
+        int weekly = 0;
+        int monthly = 0;
+        for (int i = 1; i < dates.size(); i++) {
+            long days = ChronoUnit.DAYS.between(dates.get(i - 1), dates.get(i));
+            if (days >= 6 && days <= 8) {
+                weekly++;
+            } else if (days >= 26 && days <= 35) {
+                monthly++;
+            }
+        }
+        int required = Math.max(2, (int) Math.ceil(intervals * 0.8));
+        if (weekly >= required) {
+            return MovementRecurrence.WEEKLY;
+        }
+        if (monthly >= required) {
+            return MovementRecurrence.MONTHLY;
+        }
+        return null;
+    }
+
+    /**
+     * A series is active while its last movement is less than two periods old.
+     */
+    static boolean isActive(LocalDate lastDate, MovementRecurrence recurrence, LocalDate today) {
+        int periodDays = recurrence == MovementRecurrence.WEEKLY ? 7 : 31;
+        return !lastDate.isBefore(today.minusDays(2L * periodDays));
+    }
+
+    /**
+     * First expected date on or after today, keeping the weekday or day of month of the last movement.
+     */
+    static LocalDate nextDate(LocalDate lastDate, MovementRecurrence recurrence, LocalDate today) {
+        int periods = 1;
+        LocalDate next = advance(lastDate, recurrence, periods);
+        while (next.isBefore(today)) {
+            next = advance(lastDate, recurrence, ++periods);
+        }
+        return next;
+    }
+
+    private static LocalDate advance(LocalDate date, MovementRecurrence recurrence, int periods) {
+        return recurrence == MovementRecurrence.WEEKLY ? date.plusWeeks(periods) : date.plusMonths(periods);
+    }
+
+    private static String cronFor(LocalDate lastDate, MovementRecurrence recurrence) {
+        return recurrence == MovementRecurrence.WEEKLY
+                ? "0 0 * * " + lastDate.getDayOfWeek().getValue() % 7
+                : "0 0 " + lastDate.getDayOfMonth() + " * *";
+    }
+
+    /**
+     * Identifies a series within an account. Digits are dropped from the description as they are
+     * usually references or dates that change with every payment.
+     *
+     * @return The key, or null when the description has no letters
+     */
+    private static String patternKey(MovementType type, long amountCents, String description) {
+        String normalized = description != null ? NOT_LETTER.matcher(description.toLowerCase(Locale.ROOT)).replaceAll("") : "";
+        return normalized.isEmpty() ? null : type + ":" + amountCents + ":" + normalized;
+    }
+
+    private RecurringSuggestion getSuggestion(Long id) {
+        return suggestionRepository.findById(id).orElseThrow(() ->
+                new ResponseStatusException(HttpStatus.NOT_FOUND, "Suggestion not found with the provided id: " + id));
+    }
+
+    /**
+     * The movements of one account sharing a pattern key, in date order.
+     */
+    private static final class Series {
+
+        final long accountId;
+        final String patternKey;
+        final MovementType type;
+        final long amountCents;
+        final List<LocalDate> dates = new ArrayList<>();
+        String description;
+        MovementCategory category;
+
+        Series(long accountId, String patternKey, MovementType type, long amountCents) {
+            this.accountId = accountId;
+            this.patternKey = patternKey;
+            this.type = type;
+            this.amountCents = amountCents;
+        }
+
+        void add(LocalDate date, String description, MovementCategory category) {
+            if (dates.isEmpty() || !dates.get(dates.size() - 1).equals(date)) {
+                dates.add(date);
+            }
+            this.description = description;
+            if (category != null) {
+                this.category = category;
+            }
+        }
+
+        LocalDate lastDate() {
+            return dates.get(dates.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,396 @@
+package com.beehive.dashboard.service.bank;
+
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.entity.bank.SpendingAnomaly;
+import com.beehive.dashboard.repository.bank.SpendingAnomalyRepository;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Service flagging expenses that are unusually high for their category.
+ * Each user and category keeps running statistics of the log of its amounts: Welford's mean and variance
+ * over the whole history and an exponentially weighted mean and variance of the recent trend. A new expense
+ * is scored against both and updates them in constant time, so history is only read to rebuild the state.
+ * Running averages cannot take back a single value, so an edit or deletion that changes what a movement
+ * counts replays the history of the categories involved.
+ */
+@Service
+public class SpendingAnomalyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SpendingAnomalyService.class);
+
+    /**
+     * Category under which uncategorized movements are tracked.
+     */
+    static final String UNCATEGORIZED = "NONE";
+
+    /**
+     * Lower bound of the deviation on the log scale, about 5%, so a category whose amounts never
+     * changed does not flag every cent above them.
+     */
+    static final double MIN_DEVIATION = 0.05;
+
+    private static final String SELECT_STATS_SQL =
+            "SELECT sample_count, mean, m2, ewma, ewm_variance FROM bank_spending_stats " +
+            "WHERE user_id = ? AND category = ? FOR UPDATE";
+
+    private static final String INSERT_EMPTY_STATS_SQL =
+            "INSERT INTO bank_spending_stats (user_id, category, sample_count, mean, m2, ewma, ewm_variance, updated_at) " +
+            "VALUES (?, ?, 0, 0, 0, 0, 0, now()) ON CONFLICT (user_id, category) DO NOTHING";
+
+    private static final String UPDATE_STATS_SQL =
+            "UPDATE bank_spending_stats SET sample_count = ?, mean = ?, m2 = ?, ewma = ?, ewm_variance = ?, updated_at = now() " +
+            "WHERE user_id = ? AND category = ?";
+
+    private static final String UPSERT_STATS_SQL =
+            "INSERT INTO bank_spending_stats (user_id, category, sample_count, mean, m2, ewma, ewm_variance, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, now()) ON CONFLICT (user_id, category) DO UPDATE SET " +
+            "sample_count = excluded.sample_count, mean = excluded.mean, m2 = excluded.m2, " +
+            "ewma = excluded.ewma, ewm_variance = excluded.ewm_variance, updated_at = excluded.updated_at";
+
+    private static final String INSERT_ANOMALY_SQL =
+            "INSERT INTO bank_spending_anomalies (user_id, movement_id, movement_date, account_id, category, description, " +
+            "amount_cents, expected_cents, score, detected_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, now()) " +
+            "ON CONFLICT (movement_id) DO NOTHING";
+
+    private static final String HISTORY_SQL =
+            "SELECT id, date, account_id, category, description, amount_cents FROM bank_movements " +
+            "WHERE user_id = ? AND type = 'EXPENSE' AND status NOT IN ('CANCELLED', 'FAILED') AND amount_cents > 0 " +
+            "ORDER BY date, id";
+
+    private static final String CATEGORY_HISTORY_SQL =
+            "SELECT id, date, account_id, category, description, amount_cents FROM bank_movements " +
+            "WHERE user_id = ? AND coalesce(category, '" + UNCATEGORIZED + "') = ? AND type = 'EXPENSE' " +
+            "AND status NOT IN ('CANCELLED', 'FAILED') AND amount_cents > 0 ORDER BY date, id";
+
+    // Fields of an edit that do not change the statistics
+    private static final String UPDATE_ANOMALY_MOVEMENT_SQL =
+            "UPDATE bank_spending_anomalies SET movement_date = ?, account_id = ?, description = ? WHERE movement_id = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SpendingAnomalyRepository anomalyRepository;
+
+    @Value("${bank.anomalies.enabled:true}")
+    private boolean enabled;
+
+    @Value("${bank.anomalies.min-samples:10}")
+    private int minSamples;
+
+    @Value("${bank.anomalies.threshold:3.0}")
+    private double threshold;
+
+    @Value("${bank.anomalies.ewma-alpha:0.1}")
+    private double alpha;
+
+    /**
+     * Score new movements and add them to the statistics of their category.
+     * Only expenses that are not cancelled or failed count. Categories are locked in a fixed order,
+     * once per batch, so concurrent batches of the same user wait for each other instead of deadlocking.
+     *
+     * @return Number of movements flagged
+     */
+    @Transactional
+    public int observeAll(List<Movement> movements) {
+        if (!enabled) {
+            return 0;
+        }
+
+        Map<String, List<Movement>> byKey = new TreeMap<>();
+        for (Movement movement : movements) {
+            if (isTracked(movement)) {
+                byKey.computeIfAbsent(movement.getUserId() + "/" + categoryOf(movement), key -> new ArrayList<>()).add(movement);
+            }
+        }
+
+        int flagged = 0;
+        for (List<Movement> group : byKey.values()) {
+            Long userId = group.get(0).getUserId();
+            String category = categoryOf(group.get(0));
+            Stats stats = lockStats(userId, category);
+
+            for (Movement movement : group) {
+                double value = Math.log(movement.getAmountCents());
+                double score = stats.score(value, minSamples);
+                if (score > threshold) {
+                    jdbcTemplate.update(INSERT_ANOMALY_SQL, userId, movement.getId(), movement.getDate(),
+                            movement.getAccountId(), category, movement.getDescription(), movement.getAmountCents(),
+                            stats.expectedCents(), score);
+                    flagged++;
+                    logger.info("Movement {} flagged as unusual {} spend for user ID: {} - Score: {}",
+                            movement.getId(), category, userId, score);
+                }
+                stats.add(value, alpha);
+            }
+
+            jdbcTemplate.update(UPDATE_STATS_SQL, stats.count, stats.mean, stats.m2, stats.ewma, stats.ewmVariance,
+                    userId, category);
+        }
+        return flagged;
+    }
+
+    /**
+     * Rebuild the statistics and anomalies of a user by replaying their expenses in date order.
+     *
+     * @return Number of movements flagged
+     */
+    @Transactional
+    public int rebuild(Long userId) {
+        logger.info("Rebuilding spending statistics for user ID: {}", userId);
+        long startedAt = System.nanoTime();
+
+        // Deleting first also locks the existing statistics against concurrent updates until commit
+        jdbcTemplate.update("DELETE FROM bank_spending_stats WHERE user_id = ?", userId);
+        jdbcTemplate.update("DELETE FROM bank_spending_anomalies WHERE user_id = ?", userId);
+
+        Map<String, Stats> statsByCategory = new HashMap<>();
+        List<Object[]> anomalies = new ArrayList<>();
+        jdbcTemplate.query(HISTORY_SQL, (RowCallbackHandler) rs -> replay(rs, userId, statsByCategory, anomalies), userId);
+        int categories = saveReplay(userId, statsByCategory, anomalies);
+
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        logger.info("Spending statistics rebuilt for user ID: {} - Categories: {}, Anomalies: {}, Duration: {} ms",
+                userId, categories, anomalies.size(), durationMs);
+        return anomalies.size();
+    }
+
+    /**
+     * Brings the statistics and anomalies up to date with an edited movement. When the edit changes
+     * what the movement counts (amount, category, type, status or owner), the categories it left and
+     * joined are replayed; otherwise only its anomaly, if any, is updated. The edit must be flushed.
+     *
+     * @param before What the movement counted before the edit, from {@link Sample#of(Movement)}
+     * @param movement The edited movement
+     */
+    @Transactional
+    public void recordUpdated(Sample before, Movement movement) {
+        if (!enabled) {
+            return;
+        }
+        Sample after = Sample.of(movement);
+        if (Sample.same(before, after)) {
+            jdbcTemplate.update(UPDATE_ANOMALY_MOVEMENT_SQL, movement.getDate(), movement.getAccountId(),
+                    movement.getDescription(), movement.getId());
+            return;
+        }
+        anomalyRepository.deleteByMovementId(movement.getId());
+        rebuildCategories(before, after);
+    }
+
+    /**
+     * Removes a deleted movement from the statistics and anomalies, replaying its category when it
+     * counted. The deletion must be flushed.
+     */
+    @Transactional
+    public void recordDeleted(Movement movement) {
+        anomalyRepository.deleteByMovementId(movement.getId());
+        if (enabled) {
+            rebuildCategories(Sample.of(movement), null);
+        }
+    }
+
+    /**
+     * Replays the categories of the given samples, in the lock order of {@link #observeAll(List)}.
+     */
+    private void rebuildCategories(Sample first, Sample second) {
+        Map<String, Sample> byKey = new TreeMap<>();
+        for (Sample sample : new Sample[]{first, second}) {
+            if (sample != null) {
+                byKey.put(sample.userId + "/" + sample.category, sample);
+            }
+        }
+        for (Sample sample : byKey.values()) {
+            rebuildCategory(sample.userId, sample.category);
+        }
+    }
+
+    private void rebuildCategory(Long userId, String category) {
+        long startedAt = System.nanoTime();
+        lockStats(userId, category);
+        jdbcTemplate.update("DELETE FROM bank_spending_anomalies WHERE user_id = ? AND category = ?", userId, category);
+
+        Map<String, Stats> statsByCategory = new HashMap<>();
+        statsByCategory.put(category, new Stats());
+        List<Object[]> anomalies = new ArrayList<>();
+        jdbcTemplate.query(CATEGORY_HISTORY_SQL, (RowCallbackHandler) rs -> replay(rs, userId, statsByCategory, anomalies),
+                userId, category);
+        saveReplay(userId, statsByCategory, anomalies);
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("Spending statistics of {} rebuilt for user ID: {} - Anomalies: {}, Duration: {} ms",
+                    category, userId, anomalies.size(), (System.nanoTime() - startedAt) / 1_000_000);
+        }
+    }
+
+    /**
+     * Scores one expense of a history replay and adds it to the statistics of its category.
+     */
+    private void replay(ResultSet rs, Long userId, Map<String, Stats> statsByCategory, List<Object[]> anomalies)
+            throws SQLException {
+        String category = rs.getString("category") != null ? rs.getString("category") : UNCATEGORIZED;
+        Stats stats = statsByCategory.computeIfAbsent(category, key -> new Stats());
+        long amountCents = rs.getLong("amount_cents");
+        double value = Math.log(amountCents);
+        double score = stats.score(value, minSamples);
+        if (score > threshold) {
+            anomalies.add(new Object[]{userId, rs.getLong("id"), rs.getObject("date", LocalDate.class),
+                    rs.getLong("account_id"), category, rs.getString("description"), amountCents,
+                    stats.expectedCents(), score});
+        }
+        stats.add(value, alpha);
+    }
+
+    /**
+     * @return Number of categories saved
+     */
+    private int saveReplay(Long userId, Map<String, Stats> statsByCategory, List<Object[]> anomalies) {
+        List<Object[]> rows = new ArrayList<>(statsByCategory.size());
+        statsByCategory.forEach((category, stats) -> rows.add(new Object[]{userId, category, stats.count, stats.mean,
+                stats.m2, stats.ewma, stats.ewmVariance}));
+        jdbcTemplate.batchUpdate(UPSERT_STATS_SQL, rows);
+        jdbcTemplate.batchUpdate(INSERT_ANOMALY_SQL, anomalies);
+        return rows.size();
+    }
+
+    /**
+     * Retrieves one page of the anomalies of a user, most recent movement first.
+     */
+    @Transactional(readOnly = true)
+    public Slice<SpendingAnomaly> getAnomalies(Long userId, int page, int size) {
+        if (logger.isDebugEnabled()) {
+            logger.debug("Retrieving spending anomalies page {} (size {}) for user ID: {}", page, size, userId);
+        }
+        return anomalyRepository.findByUserIdOrderByMovementDateDescIdDesc(userId, PageRequest.of(page, size));
+    }
+
+    private static boolean isTracked(Movement movement) {
+        return MovementType.EXPENSE.equals(movement.getType())
+                && !MovementStatus.CANCELLED.equals(movement.getStatus())
+                && !MovementStatus.FAILED.equals(movement.getStatus())
+                && movement.getAmountCents() > 0;
+    }
+
+    private static String categoryOf(Movement movement) {
+        return movement.getCategory() != null ? movement.getCategory().name() : UNCATEGORIZED;
+    }
+
+    /**
+     * Reads the statistics of a category for update, creating them on first use.
+     */
+    private Stats lockStats(Long userId, String category) {
+        List<Stats> found = jdbcTemplate.query(SELECT_STATS_SQL, (rs, rowNum) -> Stats.of(rs.getLong("sample_count"),
+                rs.getDouble("mean"), rs.getDouble("m2"), rs.getDouble("ewma"), rs.getDouble("ewm_variance")), userId, category);
+        if (found.isEmpty()) {
+            jdbcTemplate.update(INSERT_EMPTY_STATS_SQL, userId, category);
+            found = jdbcTemplate.query(SELECT_STATS_SQL, (rs, rowNum) -> Stats.of(rs.getLong("sample_count"),
+                    rs.getDouble("mean"), rs.getDouble("m2"), rs.getDouble("ewma"), rs.getDouble("ewm_variance")), userId, category);
+        }
+        return found.get(0);
+    }
+
+    /**
+     * What a movement adds to the statistics: its amount, in the category of its user.
+     */
+    public static final class Sample {
+
+        final Long userId;
+        final String category;
+        final long amountCents;
+
+        private Sample(Long userId, String category, long amountCents) {
+            this.userId = userId;
+            this.category = category;
+            this.amountCents = amountCents;
+        }
+
+        /**
+         * @return What the movement counts, or null if it is not a tracked expense
+         */
+        public static Sample of(Movement movement) {
+            return isTracked(movement) ? new Sample(movement.getUserId(), categoryOf(movement), movement.getAmountCents()) : null;
+        }
+
+        static boolean same(Sample first, Sample second) {
+            if (first == null || second == null) {
+                return first == second;
+            }
+            return first.userId.equals(second.userId) && first.category.equals(second.category)
+                    && first.amountCents == second.amountCents;
+        }
+    }
+
+    /**
+     * Running statistics of the log amounts of one category.
+     */
+    static final class Stats {
+
+        long count;
+        double mean;
+        double m2;
+        double ewma;
+        double ewmVariance;
+
+        static Stats of(long count, double mean, double m2, double ewma, double ewmVariance) {
+            Stats stats = new Stats();
+            stats.count = count;
+            stats.mean = mean;
+            stats.m2 = m2;
+            stats.ewma = ewma;
+            stats.ewmVariance = ewmVariance;
+            return stats;
+        }
+
+        /**
+         * Deviations above both the long-run and the recent mean, the smaller of the two, so a value is
+         * only unusual when it stands out from the whole history and from the current trend.
+         *
+         * @return The score, or 0 while there are fewer than minSamples values
+         */
+        double score(double value, int minSamples) {
+            if (count < Math.max(minSamples, 2)) {
+                return 0;
+            }
+            double longRun = (value - mean) / Math.max(Math.sqrt(m2 / (count - 1)), MIN_DEVIATION);
+            double recent = (value - ewma) / Math.max(Math.sqrt(ewmVariance), MIN_DEVIATION);
+            return Math.min(longRun, recent);
+        }
+
+        void add(double value, double alpha) {
+            count++;
+            double delta = value - mean;
+            mean += delta / count;
+            m2 += delta * (value - mean);
+
+            if (count == 1) {
+                ewma = value;
+                ewmVariance = 0;
+            } else {
+                double diff = value - ewma;
+                double increment = alpha * diff;
+                ewma += increment;
+                ewmVariance = (1 - alpha) * (ewmVariance + diff * increment);
+            }
+        }
+
+        long expectedCents() {
+            return Math.round(Math.exp(ewma));
+        }
+    }
+}
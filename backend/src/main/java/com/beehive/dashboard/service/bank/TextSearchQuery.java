@@ -0,0 +1,47 @@
+package com.beehive.dashboard.service.bank;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns free text typed by a user into a PostgreSQL {@code tsquery} for the description search.
+ * Only letters, digits and the separators the text search parser keeps inside numbers, hosts and
+ * hyphenated words are kept, so no tsquery operator can be injected. {@code to_tsquery} runs each
+ * word through the same parser as the index, so "12.50" stays one token and "12,50" becomes the
+ * phrase of its parts, as in the indexed description. Every word must match and the last characters
+ * typed may be the start of a longer word.
+ */
+final class TextSearchQuery {
+
+    // Separators only count between letters or digits, so a word never starts or ends with one
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+(?:[.,@/_-][\\p{L}\\p{N}]+)*");
+
+    /**
+     * Words beyond this are ignored, to bound the cost of a query.
+     */
+    static final int MAX_WORDS = 8;
+
+    private TextSearchQuery() {
+    }
+
+    /**
+     * Builds a prefix tsquery matching every word of the text, e.g. {@code "coffee sho"}
+     * becomes {@code "coffee:* & sho:*"} and {@code "fee 12.50"} becomes {@code "fee:* & 12.50:*"}.
+     *
+     * @param text the text typed by the user
+     * @return the tsquery, or null when the text contains no words
+     */
+    static String prefixQuery(String text) {
+        if (text == null) {
+            return null;
+        }
+        List<String> terms = new ArrayList<>();
+        Matcher matcher = WORD.matcher(text.toLowerCase());
+        while (matcher.find() && terms.size() < MAX_WORDS) {
+            terms.add(matcher.group() + ":*");
+        }
+        return terms.isEmpty() ? null : String.join(" & ", terms);
+    }
+}
@@ -0,0 +1,63 @@
+package com.beehive.dashboard.types.bank;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversions between money amounts and the minor units (cents) they are stored and summed in.
+ * Amounts are kept as primitive {@code long} cents everywhere inside the application, so sums are exact
+ * and independent of ordering. Decimal values only exist at the edges: the JSON API and DTOs.
+ */
+public final class Money {
+
+    /**
+     * Number of decimal places of a minor unit.
+     */
+    public static final int SCALE = 2;
+
+    private Money() {
+    }
+
+    /**
+     * Converts a decimal amount to cents, rounding half up to the nearest cent.
+     * Goes through the shortest decimal representation of the double, so 1.005 becomes 101, not 100.
+     *
+     * @param amount the decimal amount
+     * @return the amount in cents
+     * @throws ArithmeticException if the amount does not fit in a long
+     */
+    public static long toCents(double amount) {
+        return toCents(BigDecimal.valueOf(amount));
+    }
+
+    /**
+     * Converts a decimal amount to cents, rounding half up to the nearest cent.
+     *
+     * @param amount the decimal amount
+     * @return the amount in cents
+     * @throws ArithmeticException if the amount does not fit in a long
+     */
+    public static long toCents(BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Converts cents to the nearest double, for DTOs and JSON.
+     *
+     * @param cents the amount in cents
+     * @return the decimal amount
+     */
+    public static double toDouble(long cents) {
+        return cents / 100.0;
+    }
+
+    /**
+     * Converts cents to an exact decimal amount.
+     *
+     * @param cents the amount in cents
+     * @return the decimal amount with two decimal places
+     */
+    public static BigDecimal toDecimal(long cents) {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+}
@@ -0,0 +1,11 @@
+package com.beehive.dashboard.types.bank;
+
+/**
+ * Enum representing what the user did with a recurring payment suggestion.
+ * Accepted and dismissed suggestions keep being updated by the analyzer but are no longer offered.
+ */
+public enum SuggestionStatus {
+    SUGGESTED,
+    ACCEPTED,
+    DISMISSED
+}
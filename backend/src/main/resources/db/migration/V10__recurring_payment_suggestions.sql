@@ -0,0 +1,29 @@
+-- Recurring payments detected in movement history, suggested to the user as planned movements.
+-- pattern_key identifies a series within an account: type, amount and normalized description.
+CREATE TABLE IF NOT EXISTS bank_recurring_suggestions (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id      BIGINT       NOT NULL,
+    account_id   BIGINT       NOT NULL,
+    pattern_key  VARCHAR(400) NOT NULL,
+    description  VARCHAR(255) NOT NULL,
+    category     VARCHAR(255),
+    type         VARCHAR(255) NOT NULL,
+    amount_cents BIGINT       NOT NULL,
+    recurrence   VARCHAR(255) NOT NULL,
+    occurrences  INTEGER      NOT NULL,
+    last_date    DATE         NOT NULL,
+    next_date    DATE         NOT NULL,
+    status       VARCHAR(255) NOT NULL,
+    updated_at   TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_bank_recurring_suggestions UNIQUE (account_id, pattern_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_bank_recurring_suggestions_user_status ON bank_recurring_suggestions (user_id, status);
+
+-- Highest movement id already analyzed; only users with movements above it are analyzed again
+CREATE TABLE IF NOT EXISTS bank_recurring_scan_state (
+    id               INTEGER PRIMARY KEY,
+    last_movement_id BIGINT NOT NULL
+);
+
+INSERT INTO bank_recurring_scan_state (id, last_movement_id) VALUES (1, 0) ON CONFLICT (id) DO NOTHING;
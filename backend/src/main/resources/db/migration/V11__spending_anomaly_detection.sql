@@ -0,0 +1,33 @@
+-- Running statistics of expense amounts per user and category, updated with every new movement so
+-- an unusual amount can be flagged without reading history. Amounts are tracked on a log scale:
+-- sample_count, mean and m2 are Welford's accumulators, ewma and ewm_variance the recent trend.
+-- Uncategorized movements are tracked under 'NONE'.
+CREATE TABLE IF NOT EXISTS bank_spending_stats (
+    user_id      BIGINT           NOT NULL,
+    category     VARCHAR(255)     NOT NULL,
+    sample_count BIGINT           NOT NULL,
+    mean         DOUBLE PRECISION NOT NULL,
+    m2           DOUBLE PRECISION NOT NULL,
+    ewma         DOUBLE PRECISION NOT NULL,
+    ewm_variance DOUBLE PRECISION NOT NULL,
+    updated_at   TIMESTAMP(6)     NOT NULL,
+    PRIMARY KEY (user_id, category)
+);
+
+-- Movements flagged as unusually high for their category, with the amount that was expected.
+CREATE TABLE IF NOT EXISTS bank_spending_anomalies (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id        BIGINT           NOT NULL,
+    movement_id    BIGINT           NOT NULL,
+    movement_date  DATE             NOT NULL,
+    account_id     BIGINT           NOT NULL,
+    category       VARCHAR(255)     NOT NULL,
+    description    VARCHAR(255),
+    amount_cents   BIGINT           NOT NULL,
+    expected_cents BIGINT           NOT NULL,
+    score          DOUBLE PRECISION NOT NULL,
+    detected_at    TIMESTAMP(6)     NOT NULL,
+    CONSTRAINT uk_bank_spending_anomalies_movement UNIQUE (movement_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_bank_spending_anomalies_user_date ON bank_spending_anomalies (user_id, movement_date, id);
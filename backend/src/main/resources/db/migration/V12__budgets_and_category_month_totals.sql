@@ -0,0 +1,32 @@
+-- Monthly spending limit of a user for one category.
+CREATE TABLE IF NOT EXISTS bank_budgets (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id     BIGINT       NOT NULL,
+    category    VARCHAR(255) NOT NULL,
+    limit_cents BIGINT       NOT NULL,
+    CONSTRAINT uk_bank_budgets_user_category UNIQUE (user_id, category)
+);
+
+-- Confirmed expenses per user, month and category, adjusted by every movement write so the spend of
+-- the current month is read from a few rows instead of summed from movements. Uncategorized expenses
+-- are not tracked; archived months keep the totals they had when archived.
+CREATE TABLE IF NOT EXISTS bank_category_month_totals (
+    user_id        BIGINT       NOT NULL,
+    month          DATE         NOT NULL,
+    category       VARCHAR(255) NOT NULL,
+    spent_cents    BIGINT       NOT NULL,
+    movement_count BIGINT       NOT NULL,
+    PRIMARY KEY (user_id, month, category)
+);
+
+INSERT INTO bank_category_month_totals (user_id, month, category, spent_cents, movement_count)
+SELECT user_id, date_trunc('month', date)::date, category, sum(amount_cents), count(*)
+FROM (
+    SELECT user_id, date, category, amount_cents FROM bank_movements
+    WHERE type = 'EXPENSE' AND status = 'CONFIRMED' AND category IS NOT NULL
+    UNION ALL
+    SELECT user_id, date, category, amount_cents FROM bank_movements_archive
+    WHERE type = 'EXPENSE' AND status = 'CONFIRMED' AND category IS NOT NULL
+) expenses
+GROUP BY 1, 2, 3
+ON CONFLICT (user_id, month, category) DO NOTHING;
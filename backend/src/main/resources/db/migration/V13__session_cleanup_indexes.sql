@@ -0,0 +1,5 @@
+-- Indexes for the chunked session cleanup (UserSessionRepository expired/inactive lookups).
+-- Databases baselined at V1 never ran the baseline script, so they are created here.
+-- IF NOT EXISTS keeps the script safe where an index was created by hand or by an earlier V1.
+CREATE INDEX IF NOT EXISTS idx_user_sessions_expires_at ON user_sessions (expires_at);
+CREATE INDEX IF NOT EXISTS idx_user_sessions_active_last_active ON user_sessions (is_active, last_active_at);
@@ -0,0 +1,5 @@
+-- Users whose recurring payment analysis failed. The scan watermark moves past their movements anyway,
+-- so they are listed here and analyzed again by every run until an analysis succeeds.
+CREATE TABLE IF NOT EXISTS bank_recurring_scan_retries (
+    user_id BIGINT PRIMARY KEY
+);
@@ -0,0 +1,5 @@
+-- Creating a partition takes an ACCESS EXCLUSIVE lock on bank_movements. The application creates missing
+-- months on a separate connection; if a transaction that already read bank_movements were waiting on it,
+-- neither would ever finish and PostgreSQL's deadlock detector cannot see the cycle. The timeout turns such
+-- a wait, or one behind a long report, into an error instead of a request that hangs.
+ALTER FUNCTION ensure_bank_movements_partitions(DATE, DATE) SET lock_timeout = '5s';
@@ -0,0 +1,60 @@
+-- Until now deleting an account left its rows behind, and the per-user queries, totals and statistics kept
+-- counting them. Rows of accounts that no longer exist are moved, unchanged, to quarantine tables for the
+-- operator to restore or drop, like V3 did; rows derived from them are deleted and the category totals of
+-- the users concerned are recomputed. The application now deletes them together with the account.
+
+CREATE TEMPORARY TABLE deleted_account_users ON COMMIT DROP AS
+    SELECT DISTINCT user_id FROM (
+        SELECT m.user_id FROM bank_movements m
+        WHERE NOT EXISTS (SELECT 1 FROM bank_account a WHERE a.id = m.account_id)
+        UNION ALL
+        SELECT r.user_id FROM bank_movement_monthly_rollups r
+        WHERE NOT EXISTS (SELECT 1 FROM bank_account a WHERE a.id = r.account_id)
+    ) users;
+
+CREATE TABLE IF NOT EXISTS bank_deleted_account_movements AS
+    SELECT m.*, now() AS quarantined_at FROM bank_movements m
+    WHERE NOT EXISTS (SELECT 1 FROM bank_account a WHERE a.id = m.account_id);
+CREATE TABLE IF NOT EXISTS bank_deleted_account_movements_archive AS
+    SELECT m.*, now() AS quarantined_at FROM bank_movements_archive m
+    WHERE NOT EXISTS (SELECT 1 FROM bank_account a WHERE a.id = m.account_id);
+CREATE TABLE IF NOT EXISTS bank_deleted_account_planned AS
+    SELECT p.*, now() AS quarantined_at FROM bank_planned p
+    WHERE NOT EXISTS (SELECT 1 FROM bank_account a WHERE a.id = p.account_id);
+
+DELETE FROM bank_movements m WHERE m.id IN (SELECT id FROM bank_deleted_account_movements)
+    AND NOT EXISTS (SELECT 1 FROM bank_account a WHERE a.id = m.account_id);
+DELETE FROM bank_movements_archive m WHERE m.id IN (SELECT id FROM bank_deleted_account_movements_archive)
+    AND NOT EXISTS (SELECT 1 FROM bank_account a WHERE a.id = m.account_id);
+DELETE FROM bank_planned p WHERE p.id IN (SELECT id FROM bank_deleted_account_planned)
+    AND NOT EXISTS (SELECT 1 FROM bank_account a WHERE a.id = p.account_id);
+
+DELETE FROM bank_movement_monthly_rollups r WHERE NOT EXISTS (SELECT 1 FROM bank_account a WHERE a.id = r.account_id);
+DELETE FROM bank_recurring_suggestions s WHERE NOT EXISTS (SELECT 1 FROM bank_account a WHERE a.id = s.account_id);
+DELETE FROM bank_spending_anomalies s WHERE NOT EXISTS (SELECT 1 FROM bank_account a WHERE a.id = s.account_id);
+
+-- Same sources as BudgetService.rebuildTotals: live movements and the rollups of archived months
+DELETE FROM bank_category_month_totals WHERE user_id IN (SELECT user_id FROM deleted_account_users);
+INSERT INTO bank_category_month_totals (user_id, month, category, spent_cents, movement_count)
+SELECT user_id, month, category, sum(spent_cents), sum(movement_count)
+FROM (
+    SELECT user_id, date_trunc('month', date)::date AS month, category, amount_cents AS spent_cents, 1 AS movement_count
+    FROM bank_movements
+    WHERE type = 'EXPENSE' AND status = 'CONFIRMED' AND category IS NOT NULL
+      AND user_id IN (SELECT user_id FROM deleted_account_users)
+    UNION ALL
+    SELECT user_id, month, category, total_amount_cents, movement_count FROM bank_movement_monthly_rollups
+    WHERE type = 'EXPENSE' AND category <> 'NONE' AND user_id IN (SELECT user_id FROM deleted_account_users)
+) expenses
+GROUP BY user_id, month, category;
+
+-- Spending statistics are running averages that only the application can replay
+DO $$
+DECLARE
+    users TEXT := (SELECT string_agg(user_id::text, ', ' ORDER BY user_id) FROM deleted_account_users);
+BEGIN
+    IF users IS NOT NULL THEN
+        RAISE WARNING 'Quarantined rows of deleted accounts of users %; rebuild their spending statistics with POST /v1/bank/anomalies/rebuild/user/{userId}',
+            users;
+    END IF;
+END $$;
@@ -0,0 +1,69 @@
+-- Baseline schema, equivalent to what spring.jpa.hibernate.ddl-auto=update generated before migrations
+-- were introduced. Existing databases are baselined at version 1 (spring.flyway.baseline-on-migrate)
+-- and skip this script; new databases are created from it.
+
+CREATE TABLE IF NOT EXISTS users (
+    id                         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username                   VARCHAR(255) NOT NULL UNIQUE,
+    email                      VARCHAR(255) NOT NULL UNIQUE,
+    password                   VARCHAR(255) NOT NULL,
+    first_name                 VARCHAR(255) NOT NULL,
+    last_name                  VARCHAR(255) NOT NULL,
+    role                       VARCHAR(255) NOT NULL,
+    updated_at                 TIMESTAMP(6),
+    created_at                 TIMESTAMP(6) NOT NULL,
+    is_enabled                 BOOLEAN      NOT NULL,
+    is_account_non_expired     BOOLEAN      NOT NULL,
+    is_account_non_locked      BOOLEAN      NOT NULL,
+    is_credentials_non_expired BOOLEAN      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS user_sessions (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    session_token  VARCHAR(255) NOT NULL UNIQUE,
+    user_id        BIGINT       NOT NULL,
+    user_agent     VARCHAR(512),
+    ip_address     VARCHAR(45),
+    device_type    VARCHAR(50),
+    browser        VARCHAR(100),
+    os             VARCHAR(100),
+    created_at     TIMESTAMP(6) NOT NULL,
+    last_active_at TIMESTAMP(6) NOT NULL,
+    expires_at     TIMESTAMP(6) NOT NULL,
+    is_active      BOOLEAN      NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS bank_account (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id      BIGINT           NOT NULL,
+    account_name VARCHAR(75),
+    iban         VARCHAR(25),
+    balance      DOUBLE PRECISION NOT NULL,
+    type         VARCHAR(255),
+    priority     BIGINT
+);
+
+CREATE TABLE IF NOT EXISTS bank_movements (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_id  BIGINT           NOT NULL,
+    category    VARCHAR(255),
+    type        VARCHAR(255)     NOT NULL,
+    amount      DOUBLE PRECISION NOT NULL,
+    description VARCHAR(255),
+    date        DATE             NOT NULL,
+    status      VARCHAR(255)     NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS bank_planned (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_id     BIGINT           NOT NULL,
+    category       VARCHAR(255),
+    type           VARCHAR(255)     NOT NULL,
+    amount         DOUBLE PRECISION NOT NULL,
+    description    VARCHAR(255),
+    recurrence     VARCHAR(255)     NOT NULL,
+    cron           VARCHAR(255),
+    next_execution DATE,
+    end_date       DATE,
+    status         VARCHAR(255)     NOT NULL
+);
@@ -0,0 +1,17 @@
+-- Composite indexes for the repository queries on the request hot paths.
+-- IF NOT EXISTS keeps the script safe on databases where an index was created by hand.
+
+-- MovementRepository: findByAccountId*, findByAccountIdAndDateBetween, findByAccountIdOrderByDateDesc,
+-- and the per-account range scans behind getAllUsersMovementsByGivenDate
+CREATE INDEX IF NOT EXISTS idx_bank_movements_account_date ON bank_movements (account_id, date);
+
+-- PlannedRepository: findByAccountIdAndNextExecutionBetween, findByAccountIdOrderByNextExecutionDesc,
+-- getAllUsersPlannedMovementsByGivenDate
+CREATE INDEX IF NOT EXISTS idx_bank_planned_account_next_execution ON bank_planned (account_id, next_execution);
+
+-- AccountRepository.findByUserId and the account sub-select of the per-user movement/planned queries
+CREATE INDEX IF NOT EXISTS idx_bank_account_user_id ON bank_account (user_id);
+
+-- UserSessionRepository: findByUserIdAndIsActiveTrueOrderByLastActiveAtDesc, countByUserIdAndIsActiveTrue,
+-- deactivateAllSessions*
+CREATE INDEX IF NOT EXISTS idx_user_sessions_user_active_last_active ON user_sessions (user_id, is_active, last_active_at);
@@ -0,0 +1,37 @@
+-- Copy the account owner onto movements and planned movements so the per-user date-range queries
+-- behind landing and analytics are a single (user_id, date) index range instead of an IN-subquery
+-- over bank_account. The services keep the column in sync on create/update and when an account
+-- changes owner.
+
+ALTER TABLE bank_movements ADD COLUMN IF NOT EXISTS user_id BIGINT;
+ALTER TABLE bank_planned ADD COLUMN IF NOT EXISTS user_id BIGINT;
+
+UPDATE bank_movements m SET user_id = a.user_id FROM bank_account a WHERE a.id = m.account_id AND m.user_id IS NULL;
+UPDATE bank_planned p SET user_id = a.user_id FROM bank_account a WHERE a.id = p.account_id AND p.user_id IS NULL;
+
+-- Rows pointing at accounts that no longer exist cannot be attributed to anyone. They are moved,
+-- unchanged, to quarantine tables for the operator to restore or drop; nothing is deleted outright.
+CREATE TABLE IF NOT EXISTS bank_movements_orphaned AS
+    SELECT m.*, now() AS quarantined_at FROM bank_movements m WHERE m.user_id IS NULL;
+CREATE TABLE IF NOT EXISTS bank_planned_orphaned AS
+    SELECT p.*, now() AS quarantined_at FROM bank_planned p WHERE p.user_id IS NULL;
+
+DO $$
+DECLARE
+    orphaned_movements BIGINT := (SELECT count(*) FROM bank_movements WHERE user_id IS NULL);
+    orphaned_planned   BIGINT := (SELECT count(*) FROM bank_planned WHERE user_id IS NULL);
+BEGIN
+    IF orphaned_movements + orphaned_planned > 0 THEN
+        RAISE WARNING 'Moved % movements and % planned movements of deleted accounts to bank_movements_orphaned and bank_planned_orphaned',
+            orphaned_movements, orphaned_planned;
+    END IF;
+END $$;
+
+DELETE FROM bank_movements m WHERE m.user_id IS NULL AND m.id IN (SELECT id FROM bank_movements_orphaned);
+DELETE FROM bank_planned p WHERE p.user_id IS NULL AND p.id IN (SELECT id FROM bank_planned_orphaned);
+
+ALTER TABLE bank_movements ALTER COLUMN user_id SET NOT NULL;
+ALTER TABLE bank_planned ALTER COLUMN user_id SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_bank_movements_user_date ON bank_movements (user_id, date);
+CREATE INDEX IF NOT EXISTS idx_bank_planned_user_next_execution ON bank_planned (user_id, next_execution);
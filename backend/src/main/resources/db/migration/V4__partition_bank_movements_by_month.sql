@@ -0,0 +1,74 @@
+-- Turn bank_movements into a table partitioned by month on "date", so date-range queries only touch
+-- the partitions (and partition indexes) covering the requested range, and old months can be detached
+-- for archival without a bulk DELETE.
+--
+-- Partitions are named bank_movements_yYYYYmMM and created by ensure_bank_movements_partitions(),
+-- which the application calls for future months on a schedule and on demand when a movement is
+-- written for a month that has no partition yet. There is deliberately no DEFAULT partition: rows in
+-- it would block creating the matching monthly partition later.
+--
+-- The primary key must include the partition key, hence (id, date). Identity columns cannot be
+-- used on the partitioned parent across all supported PostgreSQL versions, so ids come from a plain
+-- sequence default, which Hibernate's IDENTITY strategy reads back the same way.
+
+ALTER TABLE bank_movements RENAME TO bank_movements_legacy;
+DROP INDEX IF EXISTS idx_bank_movements_account_date;
+DROP INDEX IF EXISTS idx_bank_movements_user_date;
+
+CREATE TABLE bank_movements (
+    id          BIGINT           NOT NULL,
+    account_id  BIGINT           NOT NULL,
+    user_id     BIGINT           NOT NULL,
+    category    VARCHAR(255),
+    type        VARCHAR(255)     NOT NULL,
+    amount      DOUBLE PRECISION NOT NULL,
+    description VARCHAR(255),
+    date        DATE             NOT NULL,
+    status      VARCHAR(255)     NOT NULL,
+    PRIMARY KEY (id, date)
+) PARTITION BY RANGE (date);
+
+CREATE OR REPLACE FUNCTION ensure_bank_movements_partitions(from_date DATE, to_date DATE)
+    RETURNS INTEGER
+    LANGUAGE plpgsql
+AS
+$$
+DECLARE
+    month_start    DATE    := date_trunc('month', from_date)::DATE;
+    partition_name TEXT;
+    created        INTEGER := 0;
+BEGIN
+    WHILE month_start <= to_date
+        LOOP
+            partition_name := 'bank_movements_y' || to_char(month_start, 'YYYY') || 'm' || to_char(month_start, 'MM');
+            IF to_regclass(partition_name) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I PARTITION OF bank_movements FOR VALUES FROM (%L) TO (%L)',
+                               partition_name, month_start, (month_start + INTERVAL '1 month')::DATE);
+                created := created + 1;
+            END IF;
+            month_start := (month_start + INTERVAL '1 month')::DATE;
+        END LOOP;
+    RETURN created;
+END;
+$$;
+
+SELECT ensure_bank_movements_partitions(
+               COALESCE((SELECT MIN(date) FROM bank_movements_legacy), CURRENT_DATE),
+               GREATEST(COALESCE((SELECT MAX(date) FROM bank_movements_legacy), CURRENT_DATE),
+                        (CURRENT_DATE + INTERVAL '3 months')::DATE));
+
+INSERT INTO bank_movements (id, account_id, user_id, category, type, amount, description, date, status)
+SELECT id, account_id, user_id, category, type, amount, description, date, status
+FROM bank_movements_legacy;
+
+DROP TABLE bank_movements_legacy;
+
+CREATE SEQUENCE bank_movements_id_seq OWNED BY bank_movements.id;
+SELECT setval('bank_movements_id_seq', COALESCE((SELECT MAX(id) FROM bank_movements), 0) + 1, false);
+ALTER TABLE bank_movements ALTER COLUMN id SET DEFAULT nextval('bank_movements_id_seq');
+
+-- Created on the parent, so every current and future partition gets its own copy
+CREATE INDEX idx_bank_movements_account_date ON bank_movements (account_id, date);
+CREATE INDEX idx_bank_movements_user_date ON bank_movements (user_id, date);
+
+ANALYZE bank_movements;
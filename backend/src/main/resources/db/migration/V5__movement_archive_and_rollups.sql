@@ -0,0 +1,35 @@
+-- Cold storage for confirmed movements older than bank.movements.archive.after-months.
+-- The archive is a narrow heap table with only the index needed to page an account's history;
+-- PostgreSQL has no native row compression, so keeping it out of the hot table's indexes and cache
+-- is what keeps the hot path small.
+
+CREATE TABLE IF NOT EXISTS bank_movements_archive (
+    id          BIGINT           NOT NULL PRIMARY KEY,
+    account_id  BIGINT           NOT NULL,
+    user_id     BIGINT           NOT NULL,
+    category    VARCHAR(255),
+    type        VARCHAR(255)     NOT NULL,
+    amount      DOUBLE PRECISION NOT NULL,
+    description VARCHAR(255),
+    date        DATE             NOT NULL,
+    status      VARCHAR(255)     NOT NULL,
+    archived_at TIMESTAMP(6)     NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_bank_movements_archive_account_date ON bank_movements_archive (account_id, date);
+
+-- Monthly totals of archived movements per account, type and category, so long-range totals
+-- remain available without reading the archive. Uncategorized movements roll up under 'NONE'.
+CREATE TABLE IF NOT EXISTS bank_movement_monthly_rollups (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id        BIGINT           NOT NULL,
+    account_id     BIGINT           NOT NULL,
+    month          DATE             NOT NULL,
+    type           VARCHAR(255)     NOT NULL,
+    category       VARCHAR(255)     NOT NULL,
+    total_amount   DOUBLE PRECISION NOT NULL,
+    movement_count BIGINT           NOT NULL,
+    CONSTRAINT uk_bank_movement_monthly_rollups UNIQUE (account_id, month, type, category)
+);
+
+CREATE INDEX IF NOT EXISTS idx_bank_movement_monthly_rollups_user_month ON bank_movement_monthly_rollups (user_id, month);
@@ -0,0 +1,19 @@
+-- Store money as integer cents instead of DOUBLE PRECISION so sums are exact. The application
+-- converts to decimals only at the JSON edge. Going through numeric keeps the shortest decimal
+-- form of each double, so 1.005 becomes 101 cents exactly as Money.toCents does.
+
+ALTER TABLE bank_account ALTER COLUMN balance TYPE BIGINT USING round(balance::numeric * 100)::bigint;
+ALTER TABLE bank_account RENAME COLUMN balance TO balance_cents;
+
+-- On the partitioned parent this rewrites every monthly partition
+ALTER TABLE bank_movements ALTER COLUMN amount TYPE BIGINT USING round(amount::numeric * 100)::bigint;
+ALTER TABLE bank_movements RENAME COLUMN amount TO amount_cents;
+
+ALTER TABLE bank_planned ALTER COLUMN amount TYPE BIGINT USING round(amount::numeric * 100)::bigint;
+ALTER TABLE bank_planned RENAME COLUMN amount TO amount_cents;
+
+ALTER TABLE bank_movements_archive ALTER COLUMN amount TYPE BIGINT USING round(amount::numeric * 100)::bigint;
+ALTER TABLE bank_movements_archive RENAME COLUMN amount TO amount_cents;
+
+ALTER TABLE bank_movement_monthly_rollups ALTER COLUMN total_amount TYPE BIGINT USING round(total_amount::numeric * 100)::bigint;
+ALTER TABLE bank_movement_monthly_rollups RENAME COLUMN total_amount TO total_amount_cents;
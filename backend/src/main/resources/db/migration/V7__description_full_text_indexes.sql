@@ -0,0 +1,12 @@
+-- Full-text indexes for the description search of movements and planned movements.
+-- Expression indexes instead of a stored tsvector column, so existing rows are not rewritten; the search
+-- queries must use the exact same expression to be served by them.
+-- The 'simple' configuration lowercases without stemming or stop words: descriptions are mostly merchant
+-- names and references in any language, and prefix queries cover partial words.
+
+-- Created on the partitioned parent, so every partition gets its own copy, including future ones
+CREATE INDEX IF NOT EXISTS idx_bank_movements_description_search
+    ON bank_movements USING gin (to_tsvector('simple', description));
+
+CREATE INDEX IF NOT EXISTS idx_bank_planned_description_search
+    ON bank_planned USING gin (to_tsvector('simple', description));
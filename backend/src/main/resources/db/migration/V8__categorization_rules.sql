@@ -0,0 +1,14 @@
+-- User-defined rules assigning a category to movements whose description contains a keyword.
+-- Optional account and amount bounds narrow a rule; when several rules match, the lowest priority wins.
+CREATE TABLE IF NOT EXISTS bank_categorization_rules (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id          BIGINT       NOT NULL,
+    keyword          VARCHAR(100) NOT NULL,
+    category         VARCHAR(255) NOT NULL,
+    account_id       BIGINT,
+    min_amount_cents BIGINT,
+    max_amount_cents BIGINT,
+    priority         INTEGER      NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_bank_categorization_rules_user_id ON bank_categorization_rules (user_id);
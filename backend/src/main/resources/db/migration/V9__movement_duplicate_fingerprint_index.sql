@@ -0,0 +1,8 @@
+-- Hash index on the duplicate fingerprint of a movement: account, amount and description with case,
+-- spaces and punctuation removed. Likely duplicates are looked up by fingerprint equality plus a date window,
+-- so the check costs one index probe per movement. An expression index needs no new column and no rewrite;
+-- MovementDuplicateService must use the exact same expression for the index to be used.
+CREATE INDEX IF NOT EXISTS idx_bank_movements_fingerprint ON bank_movements USING hash (
+    hashtextextended(account_id::text || ':' || amount_cents::text || ':' ||
+                     regexp_replace(lower(description), '[^[:alnum:]]+', '', 'g'), 0)
+);
@@ -0,0 +1,82 @@
+package com.beehive.dashboard;
+
+import com.beehive.dashboard.entity.bank.Account;
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.repository.bank.AccountRepository;
+import com.beehive.dashboard.repository.bank.MovementRepository;
+import com.beehive.dashboard.types.bank.AccountType;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+
+/**
+ * Base of the JPA tests that run against the Flyway schema on a throwaway PostgreSQL.
+ * Each test class gets its own container; every test starts with the partitions of 2024 in place
+ * and helpers to save accounts and movements. Skipped when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class AbstractPostgresTest {
+
+	@Container
+	private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", postgres::getJdbcUrl);
+		registry.add("spring.datasource.username", postgres::getUsername);
+		registry.add("spring.datasource.password", postgres::getPassword);
+	}
+
+	@Autowired
+	protected AccountRepository accountRepository;
+
+	@Autowired
+	protected MovementRepository movementRepository;
+
+	@Autowired
+	protected JdbcTemplate jdbcTemplate;
+
+	private int accounts;
+
+	@BeforeEach
+	void createPartitions() {
+		jdbcTemplate.execute("SELECT ensure_bank_movements_partitions(DATE '2024-01-01', DATE '2024-12-31')");
+	}
+
+	/**
+	 * Saves an account of the user, with an IBAN unique within the test.
+	 */
+	protected Account saveAccount(long userId, String name, AccountType type) {
+		accounts++;
+		return accountRepository.save(new Account(userId, name, String.format("ES%023d", accounts), 0, type, (long) accounts));
+	}
+
+	/**
+	 * Builds a movement of the account without saving it, owned like a created movement would be.
+	 */
+	protected static Movement movement(Account account, LocalDate date, MovementType type, MovementCategory category,
+									   long amountCents, String description, MovementStatus status) {
+		Movement movement = new Movement(account.getId(), category, type, amountCents, description, date, status);
+		movement.setUserId(account.getUserId());
+		return movement;
+	}
+
+	protected Movement saveMovement(Account account, LocalDate date, MovementType type, MovementCategory category,
+									long amountCents, String description, MovementStatus status) {
+		return movementRepository.saveAndFlush(movement(account, date, type, category, amountCents, description, status));
+	}
+}
@@ -0,0 +1,27 @@
+package com.beehive.dashboard.entity.bank;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountTest {
+
+	@Test
+	void missingBalanceIsZeroAndNotSet() {
+		Account account = new Account();
+		account.setBalance(null);
+
+		assertThat(account.getBalanceCents()).isZero();
+		assertThat(account.isBalanceSet()).isFalse();
+	}
+
+	@Test
+	void decimalBalanceIsStoredInCents() {
+		Account account = new Account();
+		account.setBalance(1234.565);
+
+		assertThat(account.getBalanceCents()).isEqualTo(123457);
+		assertThat(account.getBalance()).isEqualTo(1234.57);
+		assertThat(account.isBalanceSet()).isTrue();
+	}
+}
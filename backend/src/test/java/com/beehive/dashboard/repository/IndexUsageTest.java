@@ -0,0 +1,197 @@
+package com.beehive.dashboard.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Applies the Flyway migrations to a throwaway PostgreSQL and checks with EXPLAIN that the
+ * hot-path repository queries are served by the composite indexes.
+ * Sequential scans are disabled so the assertion is about whether an index can serve the query,
+ * not about the planner's choice for a particular table size.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class IndexUsageTest {
+
+	@Container
+	private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+	private static Connection connection;
+
+	@BeforeAll
+	static void migrateAndSeed() throws SQLException {
+		Flyway.configure()
+				.dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+				.load()
+				.migrate();
+
+		connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("SELECT ensure_bank_movements_partitions(DATE '2024-01-01', DATE '2025-12-31')");
+			statement.execute("INSERT INTO bank_account (user_id, account_name, iban, balance_cents, type, priority) " +
+					"SELECT u % 50 + 1, 'Account ' || u, lpad(u::text, 25, '0'), 100000, 'CURRENT', 1 " +
+					"FROM generate_series(1, 150) u");
+			statement.execute("INSERT INTO bank_movements (account_id, user_id, category, type, amount_cents, description, date, status) " +
+					"SELECT i % 150 + 1, (i % 150 + 1) % 50 + 1, 'GROCERIES', 'EXPENSE', 1000, 'Movement ' || i, DATE '2024-01-01' + (i % 730), 'CONFIRMED' " +
+					"FROM generate_series(1, 50000) i");
+			statement.execute("INSERT INTO bank_planned (account_id, user_id, category, type, amount_cents, description, recurrence, cron, next_execution, status) " +
+					"SELECT i % 150 + 1, (i % 150 + 1) % 50 + 1, 'RENT', 'EXPENSE', 50000, 'Planned ' || i, 'MONTHLY', '0 0 1 * *', DATE '2024-01-01' + (i % 730), 'PENDING' " +
+					"FROM generate_series(1, 5000) i");
+			statement.execute("INSERT INTO user_sessions (session_token, user_id, created_at, last_active_at, expires_at, is_active) " +
+					"SELECT 'token-' || i, i % 50 + 1, now(), now() - (i || ' minutes')::interval, now() + interval '1 day', i % 3 = 0 " +
+					"FROM generate_series(1, 5000) i");
+			statement.execute("ANALYZE");
+			statement.execute("SET enable_seqscan = off");
+		}
+	}
+
+	@AfterAll
+	static void close() throws SQLException {
+		if (connection != null) {
+			connection.close();
+		}
+	}
+
+	@Test
+	void usersMovementsByDateUsesUserDateIndex() throws SQLException {
+		String plan = explain("SELECT m.* FROM bank_movements m WHERE m.user_id = 7 " +
+				"AND m.date BETWEEN DATE '2024-03-01' AND DATE '2024-03-31'");
+
+		// Partitions carry their own copy of the parent index, named after the partition
+		assertThat(plan).contains("bank_movements_y2024m03_user_id_date_idx");
+	}
+
+	@Test
+	void usersMovementsByDatePrunesToMonthPartitions() throws SQLException {
+		String plan = explain("SELECT m.* FROM bank_movements m WHERE m.user_id = 7 " +
+				"AND m.date BETWEEN DATE '2024-03-10' AND DATE '2024-04-20'");
+
+		assertThat(plan).contains("bank_movements_y2024m03").contains("bank_movements_y2024m04")
+				.doesNotContain("bank_movements_y2024m02").doesNotContain("bank_movements_y2024m05");
+	}
+
+	@Test
+	void movementsByAccountOrderedByDateUsesAccountDateIndex() throws SQLException {
+		String plan = explain("SELECT * FROM bank_movements WHERE account_id = 42 ORDER BY date DESC");
+
+		assertThat(plan).contains("_account_id_date_idx");
+	}
+
+	@Test
+	void movementCountByAccountUsesAccountDateIndex() throws SQLException {
+		String plan = explain("SELECT count(*) FROM bank_movements WHERE account_id = 42");
+
+		assertThat(plan).contains("_account_id_date_idx");
+	}
+
+	@Test
+	void usersPlannedByDateUsesUserNextExecutionIndex() throws SQLException {
+		String plan = explain("SELECT p.* FROM bank_planned p WHERE p.user_id = 7 " +
+				"AND p.next_execution BETWEEN DATE '2024-03-01' AND DATE '2024-03-31'");
+
+		assertThat(plan).contains("idx_bank_planned_user_next_execution");
+	}
+
+	@Test
+	void plannedByAccountAndDateRangeUsesAccountNextExecutionIndex() throws SQLException {
+		String plan = explain("SELECT * FROM bank_planned WHERE account_id = 42 " +
+				"AND next_execution BETWEEN DATE '2024-03-01' AND DATE '2024-03-31'");
+
+		assertThat(plan).contains("idx_bank_planned_account_next_execution");
+	}
+
+	@Test
+	void movementDescriptionSearchUsesFullTextIndex() throws SQLException {
+		String plan = explain("SELECT * FROM bank_movements " +
+				"WHERE to_tsvector('simple', description) @@ to_tsquery('simple', 'movement:* & 1234:*')");
+
+		// Partition copies of the expression index get generated names; it is the only index matching this predicate
+		assertThat(plan).contains("Bitmap Index Scan").doesNotContain("Seq Scan");
+	}
+
+	@Test
+	void plannedDescriptionSearchUsesFullTextIndex() throws SQLException {
+		String plan = explain("SELECT * FROM bank_planned " +
+				"WHERE to_tsvector('simple', description) @@ to_tsquery('simple', 'planned:* & 1234:*')");
+
+		assertThat(plan).contains("idx_bank_planned_description_search");
+	}
+
+	@Test
+	void movementFingerprintLookupUsesHashIndex() throws SQLException {
+		String plan = explain("SELECT id FROM bank_movements m WHERE " +
+				"hashtextextended(m.account_id::text || ':' || m.amount_cents::text || ':' || " +
+				"regexp_replace(lower(m.description), '[^[:alnum:]]+', '', 'g'), 0) = hashtextextended('42:1000:movement42', 0) " +
+				"AND m.date BETWEEN DATE '2024-03-01' AND DATE '2024-03-07'");
+
+		// Partition copies of the expression index get generated names; it is the only index matching this predicate
+		assertThat(plan).contains("Index Scan").contains("bank_movements_y2024m03").doesNotContain("Seq Scan");
+	}
+
+	@Test
+	void anomaliesByUserUseUserDateIndex() throws SQLException {
+		String plan = explain("SELECT * FROM bank_spending_anomalies WHERE user_id = 7 " +
+				"ORDER BY movement_date DESC, id DESC LIMIT 51");
+
+		assertThat(plan).contains("idx_bank_spending_anomalies_user_date");
+	}
+
+	@Test
+	void monthTotalsByUserUsePrimaryKey() throws SQLException {
+		String plan = explain("SELECT category, spent_cents FROM bank_category_month_totals " +
+				"WHERE user_id = 7 AND month = DATE '2024-03-01'");
+
+		assertThat(plan).contains("bank_category_month_totals_pkey");
+	}
+
+	@Test
+	void accountsByUserUsesUserIdIndex() throws SQLException {
+		String plan = explain("SELECT * FROM bank_account WHERE user_id = 7");
+
+		assertThat(plan).contains("idx_bank_account_user_id");
+	}
+
+	@Test
+	void activeSessionsByUserUsesUserActiveLastActiveIndex() throws SQLException {
+		String plan = explain("SELECT * FROM user_sessions WHERE user_id = 7 AND is_active = true ORDER BY last_active_at DESC");
+
+		assertThat(plan).contains("idx_user_sessions_user_active_last_active");
+	}
+
+	@Test
+	void expiredSessionsLookupUsesExpiresAtIndex() throws SQLException {
+		String plan = explain("SELECT id FROM user_sessions WHERE expires_at < now()");
+
+		assertThat(plan).contains("idx_user_sessions_expires_at");
+	}
+
+	@Test
+	void inactiveSessionsCleanupUsesActiveLastActiveIndex() throws SQLException {
+		String plan = explain("SELECT id FROM user_sessions WHERE is_active = false AND last_active_at < now() - interval '30 days'");
+
+		assertThat(plan).contains("idx_user_sessions_active_last_active");
+	}
+
+	private static String explain(String sql) throws SQLException {
+		StringBuilder plan = new StringBuilder();
+		try (Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+			while (resultSet.next()) {
+				plan.append(resultSet.getString(1)).append('\n');
+			}
+		}
+		return plan.toString();
+	}
+}
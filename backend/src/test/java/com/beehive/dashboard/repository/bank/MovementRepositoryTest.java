@@ -0,0 +1,83 @@
+package com.beehive.dashboard.repository.bank;
+
+import com.beehive.dashboard.AbstractPostgresTest;
+import com.beehive.dashboard.entity.bank.Account;
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.entity.bank.Planned;
+import com.beehive.dashboard.types.bank.AccountType;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementRecurrence;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the per-account LATERAL queries against the Flyway schema on a throwaway PostgreSQL and checks
+ * the order of the combined result, which the callers rely on.
+ */
+class MovementRepositoryTest extends AbstractPostgresTest {
+
+	@Autowired
+	private PlannedRepository plannedRepository;
+
+	private Account first;
+	private Account second;
+
+	@BeforeEach
+	void setUp() {
+		first = saveAccount(7L, "Checking", AccountType.CURRENT);
+		second = saveAccount(7L, "Savings", AccountType.SAVINGS);
+		saveAccount(8L, "Other", AccountType.CURRENT);
+	}
+
+	@Test
+	void latestPerAccountIsOrderedByAccountThenNewestFirst() {
+		// Saved out of order, and with ties on the date, so only the ORDER BY can produce the expected order
+		Movement secondOld = saveMovement(second, LocalDate.of(2024, 1, 10));
+		Movement firstTieA = saveMovement(first, LocalDate.of(2024, 3, 5));
+		Movement firstOld = saveMovement(first, LocalDate.of(2024, 1, 5));
+		Movement secondNew = saveMovement(second, LocalDate.of(2024, 4, 1));
+		Movement firstTieB = saveMovement(first, LocalDate.of(2024, 3, 5));
+
+		List<Movement> latest = movementRepository.findLatestPerAccountByUserId(7L, 2);
+
+		assertThat(latest).extracting(Movement::getId).containsExactly(
+				firstTieB.getId(), firstTieA.getId(), secondNew.getId(), secondOld.getId());
+		assertThat(latest).extracting(Movement::getId).doesNotContain(firstOld.getId());
+	}
+
+	@Test
+	void nextPerAccountIsOrderedByAccountThenSoonestFirst() {
+		LocalDate from = LocalDate.of(2024, 6, 1);
+		Planned secondSoon = savePlanned(second, LocalDate.of(2024, 6, 2), MovementStatus.PENDING);
+		Planned firstLater = savePlanned(first, LocalDate.of(2024, 7, 1), MovementStatus.PENDING);
+		Planned firstTieA = savePlanned(first, LocalDate.of(2024, 6, 15), MovementStatus.PENDING);
+		Planned firstTieB = savePlanned(first, LocalDate.of(2024, 6, 15), MovementStatus.PENDING);
+		savePlanned(first, LocalDate.of(2024, 6, 10), MovementStatus.CANCELLED);
+		savePlanned(first, LocalDate.of(2024, 5, 31), MovementStatus.PENDING);
+
+		List<Planned> next = plannedRepository.findNextPerAccountByUserId(7L, from, 2);
+
+		assertThat(next).extracting(Planned::getId).containsExactly(
+				firstTieA.getId(), firstTieB.getId(), secondSoon.getId());
+		assertThat(next).extracting(Planned::getId).doesNotContain(firstLater.getId());
+	}
+
+	private Movement saveMovement(Account account, LocalDate date) {
+		return saveMovement(account, date, MovementType.EXPENSE, MovementCategory.GROCERIES, 1000, "Movement", MovementStatus.CONFIRMED);
+	}
+
+	private Planned savePlanned(Account account, LocalDate nextExecution, MovementStatus status) {
+		Planned planned = new Planned(account.getId(), MovementCategory.RENT, MovementType.EXPENSE, 50000, "Rent",
+				MovementRecurrence.MONTHLY, "0 0 1 * *", nextExecution, null, status);
+		planned.setUserId(account.getUserId());
+		return plannedRepository.save(planned);
+	}
+}
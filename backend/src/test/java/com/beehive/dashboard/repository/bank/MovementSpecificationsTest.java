@@ -0,0 +1,138 @@
+package com.beehive.dashboard.repository.bank;
+
+import com.beehive.dashboard.AbstractPostgresTest;
+import com.beehive.dashboard.entity.bank.Account;
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.types.bank.AccountType;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the movement search specifications against the Flyway schema on a throwaway PostgreSQL:
+ * keyset paging through rows that share a date, literal LIKE wildcards and combined filters.
+ */
+class MovementSpecificationsTest extends AbstractPostgresTest {
+
+	private Account checking;
+	private Account savings;
+
+	@BeforeEach
+	void setUp() {
+		checking = saveAccount(7L, "Checking", AccountType.CURRENT);
+		savings = saveAccount(7L, "Savings", AccountType.SAVINGS);
+		Account other = saveAccount(8L, "Other", AccountType.CURRENT);
+		save(other, LocalDate.of(2024, 3, 1), MovementType.EXPENSE, MovementCategory.GROCERIES, 1000, "Other user", MovementStatus.CONFIRMED);
+	}
+
+	@Test
+	void keysetPagesVisitEveryMovementOnceAcrossDateTies() {
+		List<Long> expected = new ArrayList<>();
+		for (int day = 1; day <= 3; day++) {
+			for (int i = 0; i < 3; i++) {
+				expected.add(save(i % 2 == 0 ? checking : savings, LocalDate.of(2024, 3, day), MovementType.EXPENSE,
+						MovementCategory.GROCERIES, 1000, "Movement " + day + "/" + i, MovementStatus.CONFIRMED).getId());
+			}
+		}
+		List<Movement> all = new ArrayList<>(movementRepository.findAll(MovementSpecifications.ofUser(7L)));
+		all.sort(Comparator.comparing(Movement::getDate).thenComparing(Movement::getId).reversed());
+
+		List<Long> paged = new ArrayList<>();
+		Movement last = null;
+		do {
+			Specification<Movement> spec = MovementSpecifications.ofUser(7L);
+			if (last != null) {
+				spec = spec.and(MovementSpecifications.before(last.getDate(), last.getId()));
+			}
+			// Page size 2 so page boundaries fall between movements of the same date
+			List<Movement> page = movementRepository.findBy(spec, query -> query
+					.sortBy(MovementSpecifications.NEWEST_FIRST).limit(2).all());
+			page.forEach(movement -> paged.add(movement.getId()));
+			last = page.isEmpty() ? null : page.get(page.size() - 1);
+		} while (last != null);
+
+		assertThat(paged).hasSize(expected.size()).doesNotHaveDuplicates()
+				.containsExactlyElementsOf(all.stream().map(Movement::getId).toList());
+	}
+
+	@Test
+	void beforeIncludesOlderDatesAndLowerIdsOnTheSameDate() {
+		Movement older = save(checking, LocalDate.of(2024, 3, 1), MovementType.EXPENSE, MovementCategory.GROCERIES, 1000, "Older", MovementStatus.CONFIRMED);
+		Movement sameDayLower = save(checking, LocalDate.of(2024, 3, 2), MovementType.EXPENSE, MovementCategory.GROCERIES, 1000, "Lower", MovementStatus.CONFIRMED);
+		Movement cursor = save(checking, LocalDate.of(2024, 3, 2), MovementType.EXPENSE, MovementCategory.GROCERIES, 1000, "Cursor", MovementStatus.CONFIRMED);
+		save(checking, LocalDate.of(2024, 3, 2), MovementType.EXPENSE, MovementCategory.GROCERIES, 1000, "Higher", MovementStatus.CONFIRMED);
+		save(checking, LocalDate.of(2024, 3, 3), MovementType.EXPENSE, MovementCategory.GROCERIES, 1000, "Newer", MovementStatus.CONFIRMED);
+
+		List<Movement> found = movementRepository.findAll(MovementSpecifications.ofUser(7L)
+				.and(MovementSpecifications.before(cursor.getDate(), cursor.getId())), MovementSpecifications.NEWEST_FIRST);
+
+		assertThat(found).extracting(Movement::getId).containsExactly(sameDayLower.getId(), older.getId());
+	}
+
+	@Test
+	void descriptionContainsIgnoresCaseAndMatchesWildcardsLiterally() {
+		Movement percent = save(checking, LocalDate.of(2024, 3, 1), MovementType.EXPENSE, MovementCategory.SHOPPING, 1000, "Sale 50% OFF", MovementStatus.CONFIRMED);
+		Movement underscore = save(checking, LocalDate.of(2024, 3, 1), MovementType.EXPENSE, MovementCategory.SHOPPING, 1000, "ref_123 payment", MovementStatus.CONFIRMED);
+		save(checking, LocalDate.of(2024, 3, 1), MovementType.EXPENSE, MovementCategory.SHOPPING, 1000, "Sale 500 off", MovementStatus.CONFIRMED);
+		save(checking, LocalDate.of(2024, 3, 1), MovementType.EXPENSE, MovementCategory.SHOPPING, 1000, "refX123 payment", MovementStatus.CONFIRMED);
+
+		assertThat(ids(MovementSpecifications.descriptionContains("50% off"))).containsExactly(percent.getId());
+		assertThat(ids(MovementSpecifications.descriptionContains("REF_1"))).containsExactly(underscore.getId());
+		assertThat(ids(MovementSpecifications.descriptionContains("sale"))).hasSize(2);
+	}
+
+	@Test
+	void combinedFiltersAllApply() {
+		Movement match = save(savings, LocalDate.of(2024, 3, 15), MovementType.EXPENSE, MovementCategory.RESTAURANTS, 2500, "Dinner", MovementStatus.CONFIRMED);
+		save(checking, LocalDate.of(2024, 3, 15), MovementType.EXPENSE, MovementCategory.RESTAURANTS, 2500, "Dinner", MovementStatus.CONFIRMED);
+		save(savings, LocalDate.of(2024, 3, 15), MovementType.INCOME, MovementCategory.RESTAURANTS, 2500, "Dinner", MovementStatus.CONFIRMED);
+		save(savings, LocalDate.of(2024, 3, 15), MovementType.EXPENSE, MovementCategory.GROCERIES, 2500, "Dinner", MovementStatus.CONFIRMED);
+		save(savings, LocalDate.of(2024, 3, 15), MovementType.EXPENSE, MovementCategory.RESTAURANTS, 2500, "Dinner", MovementStatus.PENDING);
+		save(savings, LocalDate.of(2024, 3, 15), MovementType.EXPENSE, MovementCategory.RESTAURANTS, 999, "Dinner", MovementStatus.CONFIRMED);
+		save(savings, LocalDate.of(2024, 3, 15), MovementType.EXPENSE, MovementCategory.RESTAURANTS, 5001, "Dinner", MovementStatus.CONFIRMED);
+		save(savings, LocalDate.of(2024, 2, 29), MovementType.EXPENSE, MovementCategory.RESTAURANTS, 2500, "Dinner", MovementStatus.CONFIRMED);
+		save(savings, LocalDate.of(2024, 4, 1), MovementType.EXPENSE, MovementCategory.RESTAURANTS, 2500, "Dinner", MovementStatus.CONFIRMED);
+		save(savings, LocalDate.of(2024, 3, 15), MovementType.EXPENSE, MovementCategory.RESTAURANTS, 2500, "Lunch", MovementStatus.CONFIRMED);
+
+		Specification<Movement> spec = MovementSpecifications.ofUser(7L)
+				.and(MovementSpecifications.accountIn(Set.of(savings.getId())))
+				.and(MovementSpecifications.typeIn(Set.of(MovementType.EXPENSE)))
+				.and(MovementSpecifications.categoryIn(Set.of(MovementCategory.RESTAURANTS)))
+				.and(MovementSpecifications.statusIn(Set.of(MovementStatus.CONFIRMED)))
+				.and(MovementSpecifications.amountAtLeast(1000))
+				.and(MovementSpecifications.amountAtMost(5000))
+				.and(MovementSpecifications.dateFrom(LocalDate.of(2024, 3, 1)))
+				.and(MovementSpecifications.dateTo(LocalDate.of(2024, 3, 31)))
+				.and(MovementSpecifications.descriptionContains("dinner"));
+
+		assertThat(movementRepository.findAll(spec)).extracting(Movement::getId).containsExactly(match.getId());
+	}
+
+	@Test
+	void ofUserExcludesOtherUsers() {
+		save(checking, LocalDate.of(2024, 3, 1), MovementType.EXPENSE, MovementCategory.GROCERIES, 1000, "Mine", MovementStatus.CONFIRMED);
+
+		assertThat(movementRepository.findAll(MovementSpecifications.ofUser(7L)))
+				.extracting(Movement::getUserId).containsOnly(7L);
+	}
+
+	private List<Long> ids(Specification<Movement> spec) {
+		return movementRepository.findAll(MovementSpecifications.ofUser(7L).and(spec)).stream().map(Movement::getId).toList();
+	}
+
+	private Movement save(Account account, LocalDate date, MovementType type, MovementCategory category, long amountCents,
+						  String description, MovementStatus status) {
+		return saveMovement(account, date, type, category, amountCents, description, status);
+	}
+}
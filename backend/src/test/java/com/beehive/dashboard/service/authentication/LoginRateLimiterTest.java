@@ -0,0 +1,65 @@
+package com.beehive.dashboard.service.authentication;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginRateLimiterTest {
+
+	private LoginRateLimiter limiter;
+
+	@BeforeEach
+	void setUp() {
+		limiter = new LoginRateLimiter();
+		ReflectionTestUtils.setField(limiter, "enabled", true);
+		ReflectionTestUtils.setField(limiter, "windowSeconds", 60);
+		ReflectionTestUtils.setField(limiter, "loginPerUsername", 3);
+		ReflectionTestUtils.setField(limiter, "loginPerIp", 100);
+		ReflectionTestUtils.setField(limiter, "registerPerIp", 5);
+		ReflectionTestUtils.setField(limiter, "maxTrackedKeys", 2);
+	}
+
+	@Test
+	void successfulLoginsDoNotCountAgainstUsername() {
+		for (int i = 0; i < 10; i++) {
+			assertThat(limiter.tryAcquireLogin("alice", "10.0.0.1")).isTrue();
+			limiter.recordLoginSuccess("alice");
+		}
+	}
+
+	@Test
+	void failedLoginsLockUsernameUntilSuccessClearsThem() {
+		for (int i = 0; i < 3; i++) {
+			assertThat(limiter.tryAcquireLogin("Alice", "10.0.0.1")).isTrue();
+			limiter.recordLoginFailure("Alice");
+		}
+
+		assertThat(limiter.tryAcquireLogin("alice", "10.0.0.2")).isFalse();
+
+		limiter.recordLoginSuccess("alice");
+		assertThat(limiter.tryAcquireLogin("alice", "10.0.0.2")).isTrue();
+	}
+
+	@Test
+	void newIpsBeyondCapacityAreRejectedWithoutTrackingUsername() {
+		assertThat(limiter.tryAcquireLogin("a", "10.0.0.1")).isTrue();
+		assertThat(limiter.tryAcquireLogin("b", "10.0.0.2")).isTrue();
+
+		assertThat(limiter.tryAcquireLogin("c", "10.0.0.3")).isFalse();
+		assertThat(limiter.tryAcquireLogin("a", "10.0.0.1")).isTrue();
+		assertThat(limiter.getLoginRejectedByIp()).isEqualTo(1);
+	}
+
+	@Test
+	void failuresBeyondCapacityAreNotTracked() {
+		limiter.recordLoginFailure("a");
+		limiter.recordLoginFailure("b");
+		for (int i = 0; i < 5; i++) {
+			limiter.recordLoginFailure("c");
+		}
+
+		assertThat(limiter.tryAcquireLogin("c", "10.0.0.1")).isTrue();
+	}
+}
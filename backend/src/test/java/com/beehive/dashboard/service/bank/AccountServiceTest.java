@@ -0,0 +1,76 @@
+package com.beehive.dashboard.service.bank;
+
+import com.beehive.dashboard.AbstractPostgresTest;
+import com.beehive.dashboard.entity.bank.Account;
+import com.beehive.dashboard.types.bank.AccountType;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the rows and per-user totals of an account follow it when it is deleted or moved to
+ * another user, on the Flyway schema of a throwaway PostgreSQL.
+ */
+@Import({AccountService.class, BankValidationService.class, BudgetService.class, SpendingAnomalyService.class,
+		AdvisoryLockService.class})
+class AccountServiceTest extends AbstractPostgresTest {
+
+	private static final LocalDate MARCH = LocalDate.of(2024, 3, 10);
+
+	@Autowired
+	private AccountService accountService;
+
+	@MockitoBean
+	private BankStatisticsService statisticsService;
+
+	private Account checking;
+	private Account savings;
+
+	@BeforeEach
+	void setUp() {
+		checking = saveAccount(7L, "Checking", AccountType.CURRENT);
+		savings = saveAccount(7L, "Savings", AccountType.SAVINGS);
+		saveMovement(checking, MARCH, MovementType.EXPENSE, MovementCategory.FUEL, 4_000, "Fuel", MovementStatus.CONFIRMED);
+		saveMovement(savings, MARCH, MovementType.EXPENSE, MovementCategory.FUEL, 1_000, "Fuel", MovementStatus.CONFIRMED);
+		jdbcTemplate.update("INSERT INTO bank_category_month_totals (user_id, month, category, spent_cents, movement_count) " +
+				"VALUES (7, DATE '2024-03-01', 'FUEL', 5000, 2)");
+	}
+
+	@Test
+	void deletingAnAccountRemovesItsMovementsFromTheOwnersTotals() {
+		accountService.delete(savings.getId());
+
+		assertThat(count("SELECT count(*) FROM bank_movements WHERE account_id = ?", savings.getId())).isZero();
+		assertThat(spent(7L)).isEqualTo(4_000);
+		assertThat(count("SELECT sum(sample_count) FROM bank_spending_stats WHERE user_id = ?", 7L)).isEqualTo(1);
+	}
+
+	@Test
+	void movingAnAccountMovesItsSpendToTheNewOwner() {
+		Account details = new Account(8L, savings.getAccountName(), savings.getIban(), 0, savings.getType(), savings.getPriority());
+
+		accountService.update(savings.getId(), details);
+
+		assertThat(count("SELECT count(*) FROM bank_movements WHERE account_id = ? AND user_id = 8", savings.getId())).isEqualTo(1);
+		assertThat(spent(7L)).isEqualTo(4_000);
+		assertThat(spent(8L)).isEqualTo(1_000);
+	}
+
+	private long spent(long userId) {
+		return count("SELECT coalesce(sum(spent_cents), 0) FROM bank_category_month_totals WHERE user_id = ?", userId);
+	}
+
+	private long count(String sql, Object arg) {
+		Long value = jdbcTemplate.queryForObject(sql, Long.class, arg);
+		return value != null ? value : 0;
+	}
+}
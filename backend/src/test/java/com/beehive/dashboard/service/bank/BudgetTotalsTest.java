@@ -0,0 +1,137 @@
+package com.beehive.dashboard.service.bank;
+
+import com.beehive.dashboard.AbstractPostgresTest;
+import com.beehive.dashboard.entity.bank.Account;
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.types.bank.AccountType;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that the category totals kept up to date on every write match a rebuild from the movements,
+ * on the Flyway schema of a throwaway PostgreSQL.
+ */
+@Import({BudgetService.class, AdvisoryLockService.class})
+class BudgetTotalsTest extends AbstractPostgresTest {
+
+	private static final LocalDate MARCH = LocalDate.of(2024, 3, 10);
+	private static final LocalDate APRIL = LocalDate.of(2024, 4, 5);
+
+	@Autowired
+	private BudgetService budgetService;
+
+	private Account account;
+
+	@BeforeEach
+	void setUp() {
+		account = saveAccount(7L, "Checking", AccountType.CURRENT);
+	}
+
+	@Test
+	void createdMovementsMatchARebuild() {
+		create(MovementCategory.RENT, MovementType.EXPENSE, 90_000, MARCH, MovementStatus.CONFIRMED);
+		create(MovementCategory.FUEL, MovementType.EXPENSE, 4_550, MARCH, MovementStatus.CONFIRMED);
+		create(MovementCategory.FUEL, MovementType.EXPENSE, 3_100, APRIL, MovementStatus.CONFIRMED);
+		create(MovementCategory.FUEL, MovementType.EXPENSE, 2_000, APRIL, MovementStatus.PENDING);
+		create(MovementCategory.FUEL, MovementType.INCOME, 1_000, APRIL, MovementStatus.CONFIRMED);
+		create(null, MovementType.EXPENSE, 700, APRIL, MovementStatus.CONFIRMED);
+
+		assertThat(totals()).containsOnlyKeys("2024-03-01/RENT", "2024-03-01/FUEL", "2024-04-01/FUEL");
+		assertMatchesRebuild();
+	}
+
+	@Test
+	void updatedMovementsMatchARebuild() {
+		Movement moved = create(MovementCategory.FUEL, MovementType.EXPENSE, 4_550, MARCH, MovementStatus.CONFIRMED);
+		Movement cancelled = create(MovementCategory.RENT, MovementType.EXPENSE, 90_000, MARCH, MovementStatus.CONFIRMED);
+		Movement confirmed = create(MovementCategory.FUEL, MovementType.EXPENSE, 2_000, APRIL, MovementStatus.PENDING);
+		create(MovementCategory.FUEL, MovementType.EXPENSE, 3_100, APRIL, MovementStatus.CONFIRMED);
+
+		update(moved, movement -> {
+			movement.setCategory(MovementCategory.UBER);
+			movement.setDate(APRIL);
+			movement.setAmountCents(5_000);
+		});
+		update(cancelled, movement -> movement.setStatus(MovementStatus.CANCELLED));
+		update(confirmed, movement -> movement.setStatus(MovementStatus.CONFIRMED));
+
+		assertThat(totals()).containsEntry("2024-04-01/FUEL", "5100/2").containsEntry("2024-04-01/UBER", "5000/1");
+		assertMatchesRebuild();
+	}
+
+	@Test
+	void deletedMovementsMatchARebuild() {
+		Movement deleted = create(MovementCategory.FUEL, MovementType.EXPENSE, 4_550, MARCH, MovementStatus.CONFIRMED);
+		Movement pending = create(MovementCategory.FUEL, MovementType.EXPENSE, 2_000, MARCH, MovementStatus.PENDING);
+		create(MovementCategory.FUEL, MovementType.EXPENSE, 3_100, MARCH, MovementStatus.CONFIRMED);
+
+		delete(deleted);
+		delete(pending);
+
+		assertThat(totals()).containsEntry("2024-03-01/FUEL", "3100/1");
+		assertMatchesRebuild();
+	}
+
+	@Test
+	void rebuildHoldsTheUserLockInsideTheWritingTransaction() {
+		budgetService.rebuildTotals(account.getUserId());
+
+		Long held = jdbcTemplate.queryForObject(
+				"SELECT count(*) FROM pg_locks WHERE locktype = 'advisory' AND classid = ?::oid AND pid = pg_backend_pid()",
+				Long.class, BudgetService.LOCK_NAMESPACE);
+		assertThat(held).isEqualTo(1L);
+	}
+
+	private void assertMatchesRebuild() {
+		Map<String, String> incremental = totals();
+
+		budgetService.rebuildTotals(account.getUserId());
+
+		assertThat(incremental).isEqualTo(totals());
+	}
+
+	/**
+	 * Totals of the user by month and category, as "cents/count". Totals emptied by updates and
+	 * deletes are left at zero and a rebuild does not create them, so they are skipped.
+	 */
+	private Map<String, String> totals() {
+		Map<String, String> totals = new TreeMap<>();
+		jdbcTemplate.query("SELECT month, category, spent_cents, movement_count FROM bank_category_month_totals " +
+				"WHERE user_id = ? AND movement_count <> 0", rs -> {
+			totals.put(rs.getObject("month", LocalDate.class) + "/" + rs.getString("category"),
+					rs.getLong("spent_cents") + "/" + rs.getLong("movement_count"));
+		}, account.getUserId());
+		return totals;
+	}
+
+	private Movement create(MovementCategory category, MovementType type, long amountCents, LocalDate date, MovementStatus status) {
+		Movement saved = saveMovement(account, date, type, category, amountCents, "Movement", status);
+		budgetService.recordCreated(List.of(saved));
+		return saved;
+	}
+
+	private void update(Movement movement, Consumer<Movement> change) {
+		BudgetService.Spend before = BudgetService.Spend.of(movement);
+		change.accept(movement);
+		budgetService.recordUpdated(before, movementRepository.saveAndFlush(movement));
+	}
+
+	private void delete(Movement movement) {
+		movementRepository.delete(movement);
+		movementRepository.flush();
+		budgetService.recordDeleted(movement);
+	}
+}
@@ -0,0 +1,105 @@
+package com.beehive.dashboard.service.bank;
+
+import com.beehive.dashboard.entity.bank.CategorizationRule;
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.repository.bank.CategorizationRuleRepository;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CategorizationServiceTest {
+
+	@Test
+	void firstRuleInPrecedenceOrderWinsOverLongerOrEarlierMatches() {
+		CategorizationService.CompiledRules rules = CategorizationService.CompiledRules.compile(List.of(
+				rule("uber", MovementCategory.UBER),
+				rule("uber eats", MovementCategory.FAST_FOOD),
+				rule("payment", MovementCategory.OTHER)));
+
+		// "payment" occurs first and "uber eats" is the longest match, but "uber" takes precedence
+		assertThat(rules.categorize(1L, 1000, "Payment UBER EATS")).isEqualTo(MovementCategory.UBER);
+	}
+
+	@Test
+	void overlappingKeywordsFallBackToTheNextRuleThatApplies() {
+		CategorizationRule cheapUber = rule("uber", MovementCategory.UBER);
+		cheapUber.setMaxAmountCents(2000L);
+		CategorizationService.CompiledRules rules = CategorizationService.CompiledRules.compile(List.of(
+				cheapUber, rule("uber eats", MovementCategory.FAST_FOOD)));
+
+		assertThat(rules.categorize(1L, 1500, "uber eats")).isEqualTo(MovementCategory.UBER);
+		assertThat(rules.categorize(1L, 2500, "uber eats")).isEqualTo(MovementCategory.FAST_FOOD);
+		assertThat(rules.categorize(1L, 2500, "uber trip")).isNull();
+	}
+
+	@Test
+	void keywordsMatchIgnoringCase() {
+		CategorizationService.CompiledRules rules = CategorizationService.CompiledRules.compile(List.of(
+				rule("Mercadona", MovementCategory.GROCERIES)));
+
+		assertThat(rules.categorize(1L, 1000, "COMPRA MERCADONA 123")).isEqualTo(MovementCategory.GROCERIES);
+		assertThat(rules.categorize(1L, 1000, "compra mercadona")).isEqualTo(MovementCategory.GROCERIES);
+	}
+
+	@Test
+	void accountRulesOnlyApplyToTheirAccount() {
+		CategorizationRule savingsOnly = rule("transfer", MovementCategory.TRANSFER);
+		savingsOnly.setAccountId(2L);
+		CategorizationService.CompiledRules rules = CategorizationService.CompiledRules.compile(List.of(savingsOnly));
+
+		assertThat(rules.categorize(2L, 1000, "Transfer in")).isEqualTo(MovementCategory.TRANSFER);
+		assertThat(rules.categorize(1L, 1000, "Transfer in")).isNull();
+	}
+
+	@Test
+	void noRulesOrNoDescriptionGiveNoCategory() {
+		assertThat(CategorizationService.CompiledRules.compile(List.of()).isEmpty()).isTrue();
+		assertThat(CategorizationService.CompiledRules.compile(List.of(rule("rent", MovementCategory.RENT)))
+				.categorize(1L, 1000, null)).isNull();
+	}
+
+	@Test
+	void rulesLoadedBeforeADeletionAreNotCachedAfterIt() {
+		CategorizationRule rent = rule("rent", MovementCategory.RENT);
+		rent.setId(1L);
+		CategorizationRuleRepository repository = mock(CategorizationRuleRepository.class);
+		CategorizationService service = new CategorizationService();
+		ReflectionTestUtils.setField(service, "ruleRepository", repository);
+		ReflectionTestUtils.setField(service, "cacheSize", 10);
+		when(repository.findById(1L)).thenReturn(Optional.of(rent));
+		// The rule is deleted while the first load is still compiling what it read
+		when(repository.findByUserIdOrderByPriorityAscIdAsc(7L)).thenAnswer(invocation -> {
+			service.deleteRule(1L);
+			return List.of(rent);
+		}).thenReturn(List.of());
+
+		Movement first = movement("Rent March");
+		service.applyRules(first);
+		Movement second = movement("Rent April");
+		service.applyRules(second);
+
+		assertThat(first.getCategory()).isEqualTo(MovementCategory.RENT);
+		assertThat(second.getCategory()).isNull();
+	}
+
+	private static Movement movement(String description) {
+		Movement movement = new Movement(1L, null, MovementType.EXPENSE, 1000, description, LocalDate.of(2024, 3, 1),
+				MovementStatus.CONFIRMED);
+		movement.setUserId(7L);
+		return movement;
+	}
+
+	private static CategorizationRule rule(String keyword, MovementCategory category) {
+		return new CategorizationRule(7L, keyword, category, null, null, null, 0);
+	}
+}
@@ -0,0 +1,67 @@
+package com.beehive.dashboard.service.bank;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordAutomatonTest {
+
+	@Test
+	void reportsEveryOccurrenceOfEveryKeyword() {
+		KeywordAutomaton automaton = KeywordAutomaton.build(List.of("cafe", "bar"));
+
+		assertThat(matches(automaton, "bar cafe bar")).containsExactly(1, 0, 1);
+	}
+
+	@Test
+	void overlappingKeywordsAreAllReported() {
+		// "she" ends inside "shers" and "he" ends at the same position as "she"; "hers" is only found through a failure link
+		KeywordAutomaton automaton = KeywordAutomaton.build(List.of("he", "she", "his", "hers"));
+
+		assertThat(matches(automaton, "ushers")).containsExactly(0, 1, 3);
+	}
+
+	@Test
+	void keywordsEndingTogetherAreReportedInIndexOrder() {
+		KeywordAutomaton automaton = KeywordAutomaton.build(List.of("market", "supermarket", "ket"));
+
+		assertThat(matches(automaton, "supermarket")).containsExactly(0, 1, 2);
+	}
+
+	@Test
+	void matchingIgnoresCase() {
+		KeywordAutomaton automaton = KeywordAutomaton.build(List.of("NetFlix"));
+
+		assertThat(matches(automaton, "NETFLIX.COM monthly")).containsExactly(0);
+		assertThat(matches(automaton, "netflix")).containsExactly(0);
+	}
+
+	@Test
+	void duplicateKeywordsKeepTheirOwnIndexes() {
+		KeywordAutomaton automaton = KeywordAutomaton.build(List.of("uber", "UBER"));
+
+		assertThat(matches(automaton, "Uber trip")).containsExactly(0, 1);
+	}
+
+	@Test
+	void blankKeywordsNeverMatch() {
+		KeywordAutomaton automaton = KeywordAutomaton.build(Arrays.asList("", null, "  ", "rent"));
+
+		assertThat(matches(automaton, "  rent  ")).containsExactly(3);
+	}
+
+	@Test
+	void noKeywordsMatchNothing() {
+		assertThat(matches(KeywordAutomaton.build(List.of()), "anything")).isEmpty();
+	}
+
+	private static List<Integer> matches(KeywordAutomaton automaton, String text) {
+		List<Integer> found = new ArrayList<>();
+		automaton.forEachMatch(text, found::add);
+		return found;
+	}
+}
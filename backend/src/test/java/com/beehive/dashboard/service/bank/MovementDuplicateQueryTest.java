@@ -0,0 +1,88 @@
+package com.beehive.dashboard.service.bank;
+
+import com.beehive.dashboard.AbstractPostgresTest;
+import com.beehive.dashboard.entity.bank.Account;
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.types.bank.AccountType;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks duplicate detection against existing movements, through the SQL fingerprint, on the Flyway
+ * schema of a throwaway PostgreSQL.
+ */
+@Import({MovementDuplicateService.class, AdvisoryLockService.class})
+class MovementDuplicateQueryTest extends AbstractPostgresTest {
+
+	private static final LocalDate DAY = LocalDate.of(2024, 3, 10);
+
+	@Autowired
+	private MovementDuplicateService duplicateService;
+
+	private Account account;
+
+	@BeforeEach
+	void setUp() {
+		account = saveAccount(7L, "Checking", AccountType.CURRENT);
+	}
+
+	@Test
+	void sqlFingerprintMatchesLikeTheInMemoryOne() {
+		Movement existing = save("Coffee Shop, #12", DAY);
+
+		assertThat(duplicateService.findDuplicateOf(candidate("COFFEE-SHOP 12", DAY))).isEqualTo(existing.getId());
+		assertThat(duplicateService.findDuplicateOf(candidate("Coffee shop 13", DAY))).isNull();
+	}
+
+	@Test
+	void existingMovementsMatchWithinTheWindowOnly() {
+		Movement existing = save("Rent", DAY);
+
+		// The last two only repeat earlier movements of the batch
+		assertThat(duplicateService.findDuplicates(List.of(
+				candidate("Rent", DAY.plusDays(3)),
+				candidate("Rent", DAY.minusDays(3)),
+				candidate("Rent", DAY.plusDays(4)),
+				candidate("Rent", DAY.minusDays(4)))))
+				.extracting(MovementDuplicateService.Duplicate::getMovementId)
+				.containsExactly(existing.getId(), existing.getId(), null, null);
+	}
+
+	@Test
+	void existingMovementWithoutDescriptionIsNeverADuplicate() {
+		Movement existing = save("Placeholder", DAY);
+		jdbcTemplate.update("UPDATE bank_movements SET description = NULL WHERE id = ?", existing.getId());
+
+		assertThat(duplicateService.findDuplicates(List.of(candidate(null, DAY), candidate("", DAY))))
+				.containsExactly(null, null);
+	}
+
+	@Test
+	void fingerprintsCanBeLockedInsideTheWritingTransaction() {
+		List<Movement> batch = List.of(candidate("Rent", DAY), candidate("rent", DAY), candidate(null, DAY));
+
+		duplicateService.lockFingerprints(batch);
+
+		Long held = jdbcTemplate.queryForObject(
+				"SELECT count(*) FROM pg_locks WHERE locktype = 'advisory' AND classid = ?::oid AND pid = pg_backend_pid()",
+				Long.class, MovementDuplicateService.LOCK_NAMESPACE);
+		assertThat(held).isEqualTo(1L);
+	}
+
+	private Movement save(String description, LocalDate date) {
+		return movementRepository.saveAndFlush(candidate(description, date));
+	}
+
+	private Movement candidate(String description, LocalDate date) {
+		return movement(account, date, MovementType.EXPENSE, null, 1250, description, MovementStatus.CONFIRMED);
+	}
+}
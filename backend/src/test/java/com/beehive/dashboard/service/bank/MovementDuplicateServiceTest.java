@@ -0,0 +1,121 @@
+package com.beehive.dashboard.service.bank;
+
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Checks the in-memory side of duplicate detection, within one batch. The database is mocked
+ * to know no existing movements.
+ */
+class MovementDuplicateServiceTest {
+
+	private static final LocalDate DAY = LocalDate.of(2024, 3, 10);
+
+	private MovementDuplicateService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new MovementDuplicateService();
+		ReflectionTestUtils.setField(service, "jdbcTemplate", mock(JdbcTemplate.class));
+		ReflectionTestUtils.setField(service, "windowDays", 3);
+	}
+
+	@Test
+	void fingerprintIgnoresCaseSpacesAndPunctuation() {
+		assertThat(MovementDuplicateService.fingerprintText(movement(1L, 1250, "Coffee Shop, #12", DAY)))
+				.isEqualTo("1:1250:coffeeshop12")
+				.isEqualTo(MovementDuplicateService.fingerprintText(movement(1L, 1250, "COFFEE-SHOP 12", DAY)));
+	}
+
+	@Test
+	void fingerprintKeepsAccountAndAmountApart() {
+		assertThat(MovementDuplicateService.fingerprintText(movement(1L, 1250, "Coffee", DAY)))
+				.isNotEqualTo(MovementDuplicateService.fingerprintText(movement(2L, 1250, "Coffee", DAY)))
+				.isNotEqualTo(MovementDuplicateService.fingerprintText(movement(1L, 1251, "Coffee", DAY)));
+	}
+
+	@Test
+	void missingDescriptionHasNoFingerprintLikeInSql() {
+		assertThat(MovementDuplicateService.fingerprintText(movement(1L, 1250, null, DAY))).isNull();
+
+		List<Integer> duplicates = batchIndexes(List.of(
+				movement(1L, 1250, null, DAY), movement(1L, 1250, null, DAY)));
+
+		assertThat(duplicates).containsExactly(null, null);
+	}
+
+	@Test
+	void duplicateOfTheBatchHasNoMovementIdYet() {
+		MovementDuplicateService.Duplicate duplicate = service.findDuplicates(List.of(
+				movement(1L, 1250, "Coffee", DAY), movement(1L, 1250, "Coffee", DAY))).get(1);
+
+		assertThat(duplicate.isInBatch()).isTrue();
+		assertThat(duplicate.getMovementId()).isNull();
+		assertThat(duplicate.getBatchIndex()).isZero();
+	}
+
+	@Test
+	void laterMovementOfTheBatchWithinTheWindowIsADuplicate() {
+		List<Integer> duplicates = batchIndexes(List.of(
+				movement(1L, 1250, "Coffee shop", DAY),
+				movement(1L, 1250, "coffee-shop", DAY.plusDays(3)),
+				movement(1L, 1250, "COFFEE SHOP", DAY.minusDays(3))));
+
+		assertThat(duplicates).containsExactly(null, 0, 0);
+	}
+
+	@Test
+	void movementsOutsideTheWindowAreNotDuplicates() {
+		List<Integer> duplicates = batchIndexes(List.of(
+				movement(1L, 1250, "Coffee shop", DAY),
+				movement(1L, 1250, "Coffee shop", DAY.plusDays(4)),
+				movement(1L, 1250, "Coffee shop", DAY.minusDays(4))));
+
+		assertThat(duplicates).containsExactly(null, null, null);
+	}
+
+	@Test
+	void windowIsMeasuredFromEveryEarlierMovementOfTheBatch() {
+		// The third is 8 days after the first but within the window of the second, which is itself not a duplicate
+		List<Integer> duplicates = batchIndexes(List.of(
+				movement(1L, 1250, "Rent", DAY),
+				movement(1L, 1250, "Rent", DAY.plusDays(5)),
+				movement(1L, 1250, "Rent", DAY.plusDays(8))));
+
+		assertThat(duplicates).containsExactly(null, null, 1);
+	}
+
+	@Test
+	void differentAccountsOrAmountsAreNotDuplicates() {
+		List<Integer> duplicates = batchIndexes(List.of(
+				movement(1L, 1250, "Coffee", DAY),
+				movement(2L, 1250, "Coffee", DAY),
+				movement(1L, 1300, "Coffee", DAY)));
+
+		assertThat(duplicates).containsExactly(null, null, null);
+	}
+
+	/**
+	 * For each movement, the index of the earlier movement of the batch it duplicates, or null.
+	 */
+	private List<Integer> batchIndexes(List<Movement> movements) {
+		return service.findDuplicates(movements).stream()
+				.map(duplicate -> duplicate != null ? duplicate.getBatchIndex() : null)
+				.toList();
+	}
+
+	private static Movement movement(Long accountId, long amountCents, String description, LocalDate date) {
+		return new Movement(accountId, null, MovementType.EXPENSE, amountCents, description, date, MovementStatus.CONFIRMED);
+	}
+}
@@ -0,0 +1,102 @@
+package com.beehive.dashboard.service.bank;
+
+import com.beehive.dashboard.AbstractPostgresTest;
+import com.beehive.dashboard.entity.bank.Account;
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.metrics.RowLoadMetrics;
+import com.beehive.dashboard.types.bank.AccountType;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Creates and moves movements through {@link MovementService} into months that have no partition yet.
+ * The partition is created on a connection of its own, so the tests run without a surrounding test
+ * transaction, as requests do, and clean up after themselves.
+ */
+@Import({MovementService.class, MovementPartitionService.class, MovementDuplicateService.class, BudgetService.class,
+		BankValidationService.class, AccountBalanceService.class, AdvisoryLockService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Timeout(60)
+class MovementServicePartitionTest extends AbstractPostgresTest {
+
+	@Autowired
+	private MovementService movementService;
+
+	@MockitoBean
+	private CategorizationService categorizationService;
+
+	@MockitoBean
+	private SpendingAnomalyService anomalyService;
+
+	@MockitoBean
+	private RowLoadMetrics rowLoadMetrics;
+
+	private Account account;
+
+	@BeforeEach
+	void setUp() {
+		account = saveAccount(7L, "Checking", AccountType.CURRENT);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		jdbcTemplate.update("DELETE FROM bank_movements");
+		jdbcTemplate.update("DELETE FROM bank_category_month_totals");
+		jdbcTemplate.update("DELETE FROM bank_account");
+	}
+
+	@Test
+	void createsIntoAMonthWithoutPartition() {
+		LocalDate date = LocalDate.of(2019, 5, 14);
+
+		Movement created = movementService.create(movement(account, date, "Old statement"), false);
+
+		assertThat(partitionExists("bank_movements_y2019m05")).isTrue();
+		assertThat(movementRepository.findById(created.getId())).isPresent();
+	}
+
+	@Test
+	void importsIntoSeveralMonthsWithoutPartition() {
+		List<Movement> created = movementService.createAll(List.of(
+				movement(account, LocalDate.of(2018, 2, 3), "First"),
+				movement(account, LocalDate.of(2018, 3, 3), "Second")), false);
+
+		assertThat(created).hasSize(2);
+		assertThat(partitionExists("bank_movements_y2018m02")).isTrue();
+		assertThat(partitionExists("bank_movements_y2018m03")).isTrue();
+	}
+
+	@Test
+	void movesAMovementIntoAMonthWithoutPartition() {
+		Movement created = movementService.create(movement(account, LocalDate.of(2024, 3, 10), "Misdated"), false);
+
+		Movement updated = movementService.update(created.getId(), movement(account, LocalDate.of(2017, 7, 10), "Misdated"));
+
+		assertThat(partitionExists("bank_movements_y2017m07")).isTrue();
+		assertThat(movementRepository.findById(updated.getId())).get()
+				.extracting(Movement::getDate).isEqualTo(LocalDate.of(2017, 7, 10));
+	}
+
+	private boolean partitionExists(String name) {
+		return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, name));
+	}
+
+	private static Movement movement(Account account, LocalDate date, String description) {
+		return movement(account, date, MovementType.EXPENSE, MovementCategory.GROCERIES, 1250, description, MovementStatus.CONFIRMED);
+	}
+}
@@ -0,0 +1,183 @@
+package com.beehive.dashboard.service.bank;
+
+import com.beehive.dashboard.types.bank.MovementRecurrence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+class RecurringPaymentServiceTest {
+
+	private RecurringPaymentService service;
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate = mock(JdbcTemplate.class);
+		TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+		doAnswer(invocation -> {
+			invocation.<Consumer<Object>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any());
+
+		service = spy(new RecurringPaymentService());
+		ReflectionTestUtils.setField(service, "jdbcTemplate", jdbcTemplate);
+		ReflectionTestUtils.setField(service, "transactionTemplate", transactionTemplate);
+		ReflectionTestUtils.setField(service, "enabled", true);
+		ReflectionTestUtils.setField(service, "threads", 2);
+		service.afterPropertiesSet();
+	}
+
+	@AfterEach
+	void tearDown() {
+		service.destroy();
+	}
+
+	@Test
+	void monthlyPaymentsOnTheSameDayAreMonthly() {
+		assertThat(RecurringPaymentService.detectRecurrence(dates("2024-01-05", "2024-02-05", "2024-03-05", "2024-04-05")))
+				.isEqualTo(MovementRecurrence.MONTHLY);
+	}
+
+	@Test
+	void monthEndPaymentsAreMonthly() {
+		assertThat(RecurringPaymentService.detectRecurrence(dates("2024-01-31", "2024-02-29", "2024-03-31", "2024-04-30")))
+				.isEqualTo(MovementRecurrence.MONTHLY);
+	}
+
+	@Test
+	void weeklyPaymentsWithJitterAreWeekly() {
+		assertThat(RecurringPaymentService.detectRecurrence(dates("2024-03-01", "2024-03-07", "2024-03-15", "2024-03-22", "2024-03-28")))
+				.isEqualTo(MovementRecurrence.WEEKLY);
+	}
+
+	@Test
+	void monthlyPaymentsPaidEarlyOrLateAreMonthly() {
+		// Gaps of 26 and 35 days are still a month
+		assertThat(RecurringPaymentService.detectRecurrence(dates("2024-01-10", "2024-02-05", "2024-03-11", "2024-04-10")))
+				.isEqualTo(MovementRecurrence.MONTHLY);
+	}
+
+	@Test
+	void oneMissedPaymentDoesNotHideASeries() {
+		assertThat(RecurringPaymentService.detectRecurrence(dates("2024-01-05", "2024-02-05", "2024-04-05", "2024-05-05", "2024-06-05", "2024-07-05")))
+				.isEqualTo(MovementRecurrence.MONTHLY);
+	}
+
+	@Test
+	void irregularOrShortSeriesAreNotRecurring() {
+		assertThat(RecurringPaymentService.detectRecurrence(dates("2024-01-05", "2024-02-05"))).isNull();
+		assertThat(RecurringPaymentService.detectRecurrence(dates("2024-01-05", "2024-01-20", "2024-03-01", "2024-03-09"))).isNull();
+		// Weekly and monthly gaps mixed: neither reaches the share required
+		assertThat(RecurringPaymentService.detectRecurrence(dates("2024-01-01", "2024-01-08", "2024-02-08", "2024-02-15", "2024-03-15"))).isNull();
+		// 9 and 20 days are neither a week nor a month
+		assertThat(RecurringPaymentService.detectRecurrence(dates("2024-01-01", "2024-01-10", "2024-01-30", "2024-02-08"))).isNull();
+	}
+
+	@Test
+	void seriesIsActiveForTwoPeriods() {
+		LocalDate today = LocalDate.of(2024, 6, 30);
+
+		assertThat(RecurringPaymentService.isActive(today.minusDays(62), MovementRecurrence.MONTHLY, today)).isTrue();
+		assertThat(RecurringPaymentService.isActive(today.minusDays(63), MovementRecurrence.MONTHLY, today)).isFalse();
+		assertThat(RecurringPaymentService.isActive(today.minusDays(14), MovementRecurrence.WEEKLY, today)).isTrue();
+		assertThat(RecurringPaymentService.isActive(today.minusDays(15), MovementRecurrence.WEEKLY, today)).isFalse();
+	}
+
+	@Test
+	void nextMonthlyDateKeepsTheDayOfMonthOfTheLastPayment() {
+		LocalDate last = LocalDate.of(2024, 1, 31);
+
+		assertThat(RecurringPaymentService.nextDate(last, MovementRecurrence.MONTHLY, LocalDate.of(2024, 2, 10)))
+				.isEqualTo(LocalDate.of(2024, 2, 29));
+		// Counted from the last payment, so a short month does not pull later dates back to the 29th
+		assertThat(RecurringPaymentService.nextDate(last, MovementRecurrence.MONTHLY, LocalDate.of(2024, 3, 1)))
+				.isEqualTo(LocalDate.of(2024, 3, 31));
+	}
+
+	@Test
+	void nextWeeklyDateIsOnOrAfterToday() {
+		LocalDate lastMonday = LocalDate.of(2024, 3, 4);
+
+		assertThat(RecurringPaymentService.nextDate(lastMonday, MovementRecurrence.WEEKLY, LocalDate.of(2024, 3, 11)))
+				.isEqualTo(LocalDate.of(2024, 3, 11));
+		assertThat(RecurringPaymentService.nextDate(lastMonday, MovementRecurrence.WEEKLY, LocalDate.of(2024, 3, 20)))
+				.isEqualTo(LocalDate.of(2024, 3, 25));
+	}
+
+	@Test
+	void failedUsersAreReported() {
+		doReturn(1).when(service).analyzeUser(1L);
+		doThrow(new IllegalStateException("boom")).when(service).analyzeUser(2L);
+
+		assertThat(service.analyzeUsers(List.of(1L, 2L))).containsExactly(2L);
+	}
+
+	@Test
+	void watermarkMovesWhileFailedUsersAreKeptForRetry() {
+		when(jdbcTemplate.queryForObject(startsWith("SELECT last_movement_id"), eq(Long.class))).thenReturn(10L);
+		when(jdbcTemplate.queryForObject(startsWith("SELECT coalesce(max(id)"), eq(Long.class), eq(10L), eq(10L))).thenReturn(20L);
+		when(jdbcTemplate.queryForList(startsWith("SELECT user_id FROM bank_recurring_scan_retries"), eq(Long.class)))
+				.thenReturn(List.of(5L, 6L));
+		when(jdbcTemplate.queryForList(startsWith("SELECT DISTINCT user_id"), eq(Long.class), eq(10L), eq(20L)))
+				.thenReturn(List.of(1L, 2L));
+		doReturn(1).when(service).analyzeUser(any());
+		doThrow(new IllegalStateException("boom")).when(service).analyzeUser(2L);
+		doThrow(new IllegalStateException("boom")).when(service).analyzeUser(6L);
+
+		service.analyzeNewMovements();
+
+		assertThat(batchArgs("DELETE FROM bank_recurring_scan_retries")).containsExactly(5L);
+		assertThat(batchArgs("INSERT INTO bank_recurring_scan_retries")).containsExactlyInAnyOrder(2L, 6L);
+		verify(jdbcTemplate).update(startsWith("UPDATE bank_recurring_scan_state"), eq(20L));
+	}
+
+	@Test
+	void retriesRunEvenWithoutNewMovements() {
+		when(jdbcTemplate.queryForObject(startsWith("SELECT last_movement_id"), eq(Long.class))).thenReturn(10L);
+		when(jdbcTemplate.queryForObject(startsWith("SELECT coalesce(max(id)"), eq(Long.class), eq(10L), eq(10L))).thenReturn(10L);
+		when(jdbcTemplate.queryForList(startsWith("SELECT user_id FROM bank_recurring_scan_retries"), eq(Long.class)))
+				.thenReturn(List.of(5L));
+		when(jdbcTemplate.queryForList(startsWith("SELECT DISTINCT user_id"), eq(Long.class), eq(10L), eq(10L)))
+				.thenReturn(List.of());
+		doReturn(1).when(service).analyzeUser(5L);
+
+		service.analyzeNewMovements();
+
+		assertThat(batchArgs("DELETE FROM bank_recurring_scan_retries")).containsExactly(5L);
+		verify(jdbcTemplate).update(startsWith("UPDATE bank_recurring_scan_state"), eq(10L));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Long> batchArgs(String sqlPrefix) {
+		ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+		verify(jdbcTemplate).batchUpdate(startsWith(sqlPrefix), captor.capture());
+		List<Long> userIds = new ArrayList<>();
+		for (Object[] args : captor.getValue()) {
+			userIds.add((Long) args[0]);
+		}
+		return userIds;
+	}
+
+	private static List<LocalDate> dates(String... values) {
+		List<LocalDate> dates = new ArrayList<>();
+		for (String value : values) {
+			dates.add(LocalDate.parse(value));
+		}
+		return dates;
+	}
+}
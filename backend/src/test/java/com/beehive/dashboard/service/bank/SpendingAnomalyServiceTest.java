@@ -0,0 +1,144 @@
+package com.beehive.dashboard.service.bank;
+
+import com.beehive.dashboard.entity.bank.Movement;
+import com.beehive.dashboard.types.bank.MovementCategory;
+import com.beehive.dashboard.types.bank.MovementStatus;
+import com.beehive.dashboard.types.bank.MovementType;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SpendingAnomalyServiceTest {
+
+	private static final double ALPHA = 0.3;
+
+	@Test
+	void scoresNothingDuringWarmUp() {
+		SpendingAnomalyService.Stats stats = statsOf(1.0, 2.0, 1.0, 2.0);
+
+		assertThat(stats.score(100.0, 5)).isZero();
+
+		stats.add(1.5, ALPHA);
+
+		assertThat(stats.score(100.0, 5)).isPositive();
+	}
+
+	@Test
+	void needsTwoValuesWhateverTheMinimum() {
+		SpendingAnomalyService.Stats stats = statsOf(1.0);
+
+		assertThat(stats.score(100.0, 0)).isZero();
+	}
+
+	@Test
+	void zeroVarianceIsFlooredAtTheMinimumDeviation() {
+		double usual = Math.log(10_000);
+		SpendingAnomalyService.Stats stats = statsOf(usual, usual, usual, usual, usual);
+
+		assertThat(stats.m2).isZero();
+		assertThat(stats.ewmVariance).isZero();
+		// 5% above an amount that never changed is one minimum deviation away, not infinitely far
+		assertThat(stats.score(Math.log(10_500), 5)).isCloseTo(Math.log(1.05) / SpendingAnomalyService.MIN_DEVIATION, within(1e-9));
+		assertThat(stats.score(usual, 5)).isZero();
+	}
+
+	@Test
+	void keepsTheLongRunMeanAndVariance() {
+		SpendingAnomalyService.Stats stats = statsOf(1.0, 2.0, 3.0, 4.0);
+
+		assertThat(stats.count).isEqualTo(4);
+		assertThat(stats.mean).isCloseTo(2.5, within(1e-12));
+		assertThat(stats.m2 / (stats.count - 1)).isCloseTo(5.0 / 3, within(1e-12));
+	}
+
+	@Test
+	void startsTheRecentTrendAtTheFirstValue() {
+		SpendingAnomalyService.Stats stats = statsOf(2.0);
+
+		assertThat(stats.ewma).isEqualTo(2.0);
+		assertThat(stats.ewmVariance).isZero();
+
+		stats.add(4.0, ALPHA);
+
+		assertThat(stats.ewma).isCloseTo(2.0 + ALPHA * 2.0, within(1e-12));
+		assertThat(stats.ewmVariance).isCloseTo((1 - ALPHA) * ALPHA * 4.0, within(1e-12));
+	}
+
+	@Test
+	void recentTrendForgetsOldLevels() {
+		SpendingAnomalyService.Stats stats = new SpendingAnomalyService.Stats();
+		for (int i = 0; i < 20; i++) {
+			stats.add(1.0, ALPHA);
+		}
+		for (int i = 0; i < 20; i++) {
+			stats.add(2.0, ALPHA);
+		}
+
+		// The old level weighs (1 - alpha)^20 in the recent mean, and half in the long-run mean
+		assertThat(stats.ewma).isCloseTo(2.0 - Math.pow(1 - ALPHA, 20), within(1e-9));
+		assertThat(stats.mean).isCloseTo(1.5, within(1e-12));
+		assertThat(stats.ewmVariance).isLessThan(0.01);
+	}
+
+	@Test
+	void valueInLineWithTheRecentTrendIsNotFlagged() {
+		SpendingAnomalyService.Stats stats = new SpendingAnomalyService.Stats();
+		for (int i = 0; i < 20; i++) {
+			stats.add(1.0 + (i % 2) * 0.1, ALPHA);
+		}
+		for (int i = 0; i < 20; i++) {
+			stats.add(2.0 + (i % 2) * 0.1, ALPHA);
+		}
+
+		// Far above the whole history, but the trend has already moved there
+		assertThat((2.1 - stats.mean) / Math.sqrt(stats.m2 / (stats.count - 1))).isGreaterThan(1);
+		assertThat(stats.score(2.1, 5)).isLessThan(1);
+	}
+
+	@Test
+	void sampleIgnoresMovementsThatAreNotTrackedExpenses() {
+		assertThat(SpendingAnomalyService.Sample.of(movement(MovementType.EXPENSE, MovementStatus.CONFIRMED, 1_000))).isNotNull();
+		assertThat(SpendingAnomalyService.Sample.of(movement(MovementType.INCOME, MovementStatus.CONFIRMED, 1_000))).isNull();
+		assertThat(SpendingAnomalyService.Sample.of(movement(MovementType.EXPENSE, MovementStatus.CANCELLED, 1_000))).isNull();
+		assertThat(SpendingAnomalyService.Sample.of(movement(MovementType.EXPENSE, MovementStatus.CONFIRMED, 0))).isNull();
+	}
+
+	@Test
+	void sampleChangesWithAmountCategoryOrStatus() {
+		Movement movement = movement(MovementType.EXPENSE, MovementStatus.CONFIRMED, 1_000);
+		SpendingAnomalyService.Sample before = SpendingAnomalyService.Sample.of(movement);
+
+		movement.setDescription("Renamed");
+		movement.setDate(LocalDate.of(2024, 3, 2));
+		assertThat(SpendingAnomalyService.Sample.same(before, SpendingAnomalyService.Sample.of(movement))).isTrue();
+
+		movement.setAmountCents(2_000);
+		assertThat(SpendingAnomalyService.Sample.same(before, SpendingAnomalyService.Sample.of(movement))).isFalse();
+
+		movement.setAmountCents(1_000);
+		movement.setCategory(MovementCategory.FUEL);
+		assertThat(SpendingAnomalyService.Sample.same(before, SpendingAnomalyService.Sample.of(movement))).isFalse();
+
+		movement.setCategory(null);
+		movement.setStatus(MovementStatus.CANCELLED);
+		assertThat(SpendingAnomalyService.Sample.same(before, SpendingAnomalyService.Sample.of(movement))).isFalse();
+		assertThat(SpendingAnomalyService.Sample.same(null, SpendingAnomalyService.Sample.of(movement))).isTrue();
+	}
+
+	private static SpendingAnomalyService.Stats statsOf(double... values) {
+		SpendingAnomalyService.Stats stats = new SpendingAnomalyService.Stats();
+		for (double value : values) {
+			stats.add(value, ALPHA);
+		}
+		return stats;
+	}
+
+	private static Movement movement(MovementType type, MovementStatus status, long amountCents) {
+		Movement movement = new Movement(1L, MovementCategory.RENT, type, amountCents, "Flat", LocalDate.of(2024, 3, 1), status);
+		movement.setUserId(7L);
+		return movement;
+	}
+}
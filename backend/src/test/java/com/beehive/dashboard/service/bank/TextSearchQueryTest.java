@@ -0,0 +1,47 @@
+package com.beehive.dashboard.service.bank;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextSearchQueryTest {
+
+	@Test
+	void everyWordIsAPrefixTerm() {
+		assertThat(TextSearchQuery.prefixQuery("Coffee  SHO")).isEqualTo("coffee:* & sho:*");
+	}
+
+	@Test
+	void numbersKeepTheirSeparators() {
+		assertThat(TextSearchQuery.prefixQuery("fee 12.50")).isEqualTo("fee:* & 12.50:*");
+		assertThat(TextSearchQuery.prefixQuery("12,50 EUR")).isEqualTo("12,50:* & eur:*");
+	}
+
+	@Test
+	void hostsAndHyphenatedWordsStayWhole() {
+		assertThat(TextSearchQuery.prefixQuery("amazon.com e-mail")).isEqualTo("amazon.com:* & e-mail:*");
+	}
+
+	@Test
+	void separatorsAtWordEdgesAreDropped() {
+		assertThat(TextSearchQuery.prefixQuery("-12.50. ,rent,")).isEqualTo("12.50:* & rent:*");
+	}
+
+	@Test
+	void tsqueryOperatorsAreNeverPassedThrough() {
+		assertThat(TextSearchQuery.prefixQuery("a & !b | (c) <-> d:* 'e'")).isEqualTo("a:* & b:* & c:* & d:* & e:*");
+	}
+
+	@Test
+	void textWithoutWordsGivesNoQuery() {
+		assertThat(TextSearchQuery.prefixQuery(null)).isNull();
+		assertThat(TextSearchQuery.prefixQuery(" .,- ")).isNull();
+	}
+
+	@Test
+	void wordsBeyondTheLimitAreIgnored() {
+		String query = TextSearchQuery.prefixQuery("a b c d e f g h i j");
+
+		assertThat(query.split(" & ")).hasSize(TextSearchQuery.MAX_WORDS);
+	}
+}
@@ -0,0 +1,55 @@
+package com.beehive.dashboard.types.bank;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+	@Test
+	void toCentsRoundsHalfUpOnTheShortestDecimal() {
+		assertThat(Money.toCents(1.005)).isEqualTo(101);
+		assertThat(Money.toCents(1.004)).isEqualTo(100);
+		assertThat(Money.toCents(0.125)).isEqualTo(13);
+		assertThat(Money.toCents(12.5)).isEqualTo(1250);
+	}
+
+	@Test
+	void toCentsRoundsNegativeAmountsAwayFromZero() {
+		assertThat(Money.toCents(-1.005)).isEqualTo(-101);
+		assertThat(Money.toCents(-0.004)).isEqualTo(0);
+	}
+
+	@Test
+	void toCentsIsExactWhereDoubleArithmeticIsNot() {
+		assertThat(0.1 + 0.2).isNotEqualTo(0.3);
+		assertThat(Money.toCents(0.1) + Money.toCents(0.2)).isEqualTo(Money.toCents(0.3));
+		assertThat(Money.toCents(19.99)).isEqualTo(1999);
+	}
+
+	@Test
+	void toCentsFromDecimal() {
+		assertThat(Money.toCents(new BigDecimal("10.015"))).isEqualTo(1002);
+		assertThat(Money.toCents(new BigDecimal("7"))).isEqualTo(700);
+	}
+
+	@Test
+	void toCentsRejectsAmountsBeyondLong() {
+		assertThatThrownBy(() -> Money.toCents(1e18))
+				.isInstanceOf(ArithmeticException.class);
+	}
+
+	@Test
+	void centsRoundTripThroughDoubleAndDecimal() {
+		for (long cents : new long[]{0, 1, -1, 99, 1999, 123456789, -98765}) {
+			assertThat(Money.toCents(Money.toDouble(cents))).isEqualTo(cents);
+			assertThat(Money.toCents(Money.toDecimal(cents))).isEqualTo(cents);
+		}
+		assertThat(Money.toDecimal(5)).isEqualByComparingTo("0.05");
+		assertThat(Money.toDecimal(5).scale()).isEqualTo(Money.SCALE);
+		assertThat(Money.toDouble(-250)).isEqualTo(-2.5);
+	}
+}
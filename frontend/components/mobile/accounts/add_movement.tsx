@@ -212,7 +212,10 @@ export function AddMovementDrawer({ open, onOpenChange, accounts, defaultAccount
         status: status
       }
 
-      const result = await movementApi.create(movementData)
+      const result = await movementApi.createConfirmingDuplicate(movementData, message => window.confirm(`${message}. Create it anyway?`))
+      if (result.status === 409) {
+        return
+      }
       
       if (result.data) {
         setAmount('')
@@ -69,8 +69,12 @@ export function AddTransferDrawer({ open, onOpenChange, accounts, defaultAccount
         status: status
       }
 
-      const expenseResult = await movementApi.create(expenseData)
+      const expenseResult = await movementApi.createConfirmingDuplicate(expenseData, message => window.confirm(`${message}. Create it anyway?`))
       
+      if (expenseResult.status === 409) {
+        setLoading(false)
+        return
+      }
       if (!expenseResult.data) {
         alert('Failed to create transfer expense: ' + expenseResult.error)
         setLoading(false)
@@ -87,7 +91,8 @@ export function AddTransferDrawer({ open, onOpenChange, accounts, defaultAccount
         status: status
       }
 
-      const incomeResult = await movementApi.create(incomeData)
+      // The expense was confirmed already, so its other half is created even if it looks like a duplicate
+      const incomeResult = await movementApi.create(incomeData, true)
       
       if (!incomeResult.data) {
         alert('Failed to create transfer income: ' + incomeResult.error)
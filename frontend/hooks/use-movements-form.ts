@@ -174,7 +174,7 @@ export function useMovementForm(movementId?: number) {
         }
       } else {
         // Create new movement
-        const result = await movementApi.create(movementData)
+        const result = await movementApi.createConfirmingDuplicate(movementData, message => window.confirm(`${message}. Create it anyway?`))
         if (result.error) {
           setError(result.error)
           return false
@@ -24,6 +24,7 @@ export const API_ENDPOINTS = {
     accountsCount: `${API_BASE_URL}/v1/bank/accounts/count`,
     
     movements: `${API_BASE_URL}/v1/bank/movements`,
+    movementsCreate: (allowDuplicate: boolean) => `${API_BASE_URL}/v1/bank/movements?allowDuplicate=${allowDuplicate}`,
     movementById: (id: number) => `${API_BASE_URL}/v1/bank/movements/${id}`,
     movementsByAccount: (accountId: number) => `${API_BASE_URL}/v1/bank/movements/account/${accountId}`,
     movementsCount: `${API_BASE_URL}/v1/bank/movements/count`,
@@ -40,7 +40,7 @@ class ApiService {
 
       return {
         data: response.ok ? data : undefined,
-        error: response.ok ? undefined : data?.message || 'Request failed',
+        error: response.ok ? undefined : data?.message || data?.error || 'Request failed',
         status: response.status,
       }
     } catch (error) {
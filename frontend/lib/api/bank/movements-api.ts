@@ -13,6 +13,7 @@ export interface Movement {
   date: string
   status: MovementStatus
   account?: BankAccount
+  duplicateOf?: number
 }
 
 export interface CreateMovementData {
@@ -35,6 +36,12 @@ export interface UpdateMovementData {
   status: MovementStatus
 }
 
+/**
+ * Likely duplicates of an existing movement are rejected with 409 unless allowDuplicate is set
+ */
+const createMovement = (data: CreateMovementData, allowDuplicate = false) =>
+  apiService.post<Movement>(API_ENDPOINTS.bank.movementsCreate(allowDuplicate), data)
+
 export const movementApi = {
   getAll: () => 
     apiService.get<Movement[]>(API_ENDPOINTS.bank.movements),
@@ -45,8 +52,18 @@ export const movementApi = {
   getByAccountId: (accountId: number) => 
     apiService.get<Movement[]>(API_ENDPOINTS.bank.movementsByAccount(accountId)),
     
-  create: (data: CreateMovementData) => 
-    apiService.post<Movement>(API_ENDPOINTS.bank.movements, data),
+  create: createMovement,
+
+  /**
+   * Creates the movement, asking before creating it anyway when it looks like a duplicate
+   */
+  createConfirmingDuplicate: async (data: CreateMovementData, confirmDuplicate: (message: string) => boolean) => {
+    const result = await createMovement(data)
+    if (result.status === 409 && confirmDuplicate(result.error || 'This movement looks like a duplicate')) {
+      return createMovement(data, true)
+    }
+    return result
+  },
     
   update: (id: number, data: UpdateMovementData) => 
     apiService.put<Movement>(API_ENDPOINTS.bank.movementById(id), data),